@@ -43,6 +43,17 @@ export interface TransactionResponse {
   createdAt: string;
 }
 
+export interface TransactionPageResponse {
+  items: TransactionResponse[];
+  nextCursor: string | null;
+}
+
+export interface TransactionTotalsResponse {
+  currency: string;
+  income: number;
+  expenses: number;
+}
+
 export type TransactionType = 'INCOME' | 'EXPENSE' | 'TRANSFER';
 export type ConfidenceLevel = 'HIGH' | 'MEDIUM' | 'LOW' | 'MANUAL';
 
@@ -3,7 +3,7 @@ import { HttpClient } from '@angular/common/http';
 import { Observable } from 'rxjs';
 import {
   AccountResponse, CreateAccountRequest,
-  TransactionResponse, CreateTransactionRequest, CategorizeTransactionRequest,
+  TransactionResponse, TransactionPageResponse, TransactionTotalsResponse, CreateTransactionRequest, CategorizeTransactionRequest,
   CategoryResponse, CreateCategoryRequest,
   BudgetResponse, CreateBudgetRequest
 } from '../models/models';
@@ -23,8 +23,13 @@ export class ApiService {
     return this.http.post<AccountResponse>(`${this.baseUrl}/accounts`, req);
   }
 
-  getTransactions(): Observable<TransactionResponse[]> {
-    return this.http.get<TransactionResponse[]>(`${this.baseUrl}/transactions`);
+  getTransactions(cursor?: string, limit = 50): Observable<TransactionPageResponse> {
+    const params: Record<string, string> = { limit: String(limit) };
+    if (cursor) params['cursor'] = cursor;
+    return this.http.get<TransactionPageResponse>(`${this.baseUrl}/transactions`, { params });
+  }
+  getTransactionTotals(): Observable<TransactionTotalsResponse[]> {
+    return this.http.get<TransactionTotalsResponse[]>(`${this.baseUrl}/transactions/totals`);
   }
   createTransaction(req: CreateTransactionRequest): Observable<TransactionResponse> {
     return this.http.post<TransactionResponse>(`${this.baseUrl}/transactions`, req);
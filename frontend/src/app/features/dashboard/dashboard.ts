@@ -27,10 +27,11 @@ export class DashboardComponent implements OnInit {
       this.accounts = accounts;
       this.totalBalance = accounts.reduce((sum, a) => sum + a.balance, 0);
     });
-    this.api.getTransactions().subscribe(transactions => {
-      this.transactions = transactions.slice(0, 5);
-      this.totalIncome = transactions.filter(t => t.type === 'INCOME').reduce((sum, t) => sum + t.amount, 0);
-      this.totalExpenses = transactions.filter(t => t.type === 'EXPENSE').reduce((sum, t) => sum + t.amount, 0);
+    this.api.getTransactions(undefined, 5).subscribe(page => this.transactions = page.items);
+    // Totaux de tout l'historique, calculés par le serveur (et non sur une page)
+    this.api.getTransactionTotals().subscribe(totals => {
+      this.totalIncome = totals.reduce((sum, t) => sum + t.income, 0);
+      this.totalExpenses = totals.reduce((sum, t) => sum + t.expenses, 0);
     });
     this.api.getBudgets().subscribe(budgets => this.budgets = budgets);
   }
@@ -13,6 +13,7 @@ import { TransactionResponse, CreateTransactionRequest, TransactionType, Account
 })
 export class TransactionsComponent implements OnInit {
   transactions: TransactionResponse[] = [];
+  nextCursor: string | null = null;
   accounts: AccountResponse[] = [];
   categories: CategoryResponse[] = [];
   showForm = false;
@@ -22,11 +23,16 @@ export class TransactionsComponent implements OnInit {
   ngOnInit(): void { this.loadAll(); }
 
   loadAll(): void {
-    this.api.getTransactions().subscribe(tx => this.transactions = tx.sort((a, b) => b.date.localeCompare(a.date)));
+    this.api.getTransactions().subscribe(page => { this.transactions = page.items; this.nextCursor = page.nextCursor; });
     this.api.getAccounts().subscribe(a => this.accounts = a);
     this.api.getCategories().subscribe(c => this.categories = c);
   }
 
+  loadMore(): void {
+    if (!this.nextCursor) return;
+    this.api.getTransactions(this.nextCursor).subscribe(page => { this.transactions = [...this.transactions, ...page.items]; this.nextCursor = page.nextCursor; });
+  }
+
   toggleForm(): void { this.showForm = !this.showForm; if (!this.showForm) this.resetForm(); }
 
   createTransaction(): void {
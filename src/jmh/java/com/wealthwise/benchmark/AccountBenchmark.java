@@ -0,0 +1,73 @@
+package com.wealthwise.benchmark;
+
+import com.wealthwise.domain.account.model.Account;
+import com.wealthwise.domain.account.model.AccountType;
+import com.wealthwise.domain.shared.Currency;
+import com.wealthwise.domain.shared.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Account.credit/debit, événements compris.
+ *
+ * Chaque opération ajoute un AccountBalanceUpdated à l'agrégat. Comme en
+ * production (le repository vide les événements après save()), on applique
+ * un paquet de EVENTS_PER_SAVE mouvements puis clearEvents() : le coût mesuré
+ * inclut l'accumulation des événements, sans liste qui grossit indéfiniment.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AccountBenchmark {
+
+    private static final int EVENTS_PER_SAVE = 100;
+
+    private Account account;
+    private Money amount;
+
+    @Setup
+    public void setUp() {
+        account = Account.create("Courant", AccountType.CHECKING, Currency.EUR);
+        account.credit(Money.of(1_000_000, Currency.EUR));
+        account.clearEvents();
+        amount = Money.of(12.34, Currency.EUR);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EVENTS_PER_SAVE)
+    public Account credit() {
+        for (int i = 0; i < EVENTS_PER_SAVE; i++) {
+            account.credit(amount);
+        }
+        account.clearEvents();
+        return account;
+    }
+
+    /**
+     * Débit et crédit alternés : le solde reste stable d'une invocation à l'autre.
+     */
+    @Benchmark
+    @OperationsPerInvocation(EVENTS_PER_SAVE)
+    public Account debitThenCredit() {
+        for (int i = 0; i < EVENTS_PER_SAVE / 2; i++) {
+            account.debit(amount);
+            account.credit(amount);
+        }
+        account.clearEvents();
+        return account;
+    }
+}
@@ -0,0 +1,77 @@
+package com.wealthwise.benchmark;
+
+import com.wealthwise.domain.budget.model.Budget;
+import com.wealthwise.domain.budget.model.BudgetId;
+import com.wealthwise.domain.budget.model.BudgetPeriod;
+import com.wealthwise.domain.budget.model.BudgetStatus;
+import com.wealthwise.domain.category.model.CategoryId;
+import com.wealthwise.domain.shared.Currency;
+import com.wealthwise.domain.shared.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Budget.recordExpense et le recalcul de statut (updateStatus) qui le suit.
+ *
+ * - recordThenRelease : cas courant, le budget reste ON_TRACK (pas d'événement)
+ * - crossWarningThreshold : la dépense fait passer le budget à 80 %,
+ *   donc émet un BudgetWarningReached (budget reconstitué à chaque appel)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BudgetBenchmark {
+
+    private Budget budget;
+    private Money expense;
+
+    private BudgetId nearWarningId;
+    private CategoryId categoryId;
+    private BudgetPeriod period;
+    private Money limit;
+    private Money nearWarningSpent;
+    private LocalDateTime createdAt;
+
+    @Setup
+    public void setUp() {
+        categoryId = CategoryId.generate();
+        period = BudgetPeriod.of(YearMonth.of(2025, 1));
+        limit = Money.of(500, Currency.EUR);
+        budget = Budget.create(categoryId, Money.of(1_000_000, Currency.EUR), period);
+        expense = Money.of(12.34, Currency.EUR);
+
+        nearWarningId = BudgetId.generate();
+        nearWarningSpent = Money.of(395, Currency.EUR);
+        createdAt = LocalDateTime.of(2025, 1, 1, 0, 0);
+    }
+
+    @Benchmark
+    public Budget recordThenRelease() {
+        budget.recordExpense(expense);
+        budget.releaseExpense(expense);
+        return budget;
+    }
+
+    @Benchmark
+    public Budget crossWarningThreshold() {
+        Budget nearWarning = Budget.reconstitute(
+                nearWarningId, categoryId, limit, period, nearWarningSpent, BudgetStatus.ON_TRACK, createdAt);
+        nearWarning.recordExpense(expense);
+        return nearWarning;
+    }
+}
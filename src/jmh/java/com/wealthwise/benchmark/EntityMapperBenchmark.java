@@ -0,0 +1,131 @@
+package com.wealthwise.benchmark;
+
+import com.wealthwise.domain.account.model.Account;
+import com.wealthwise.domain.account.model.AccountType;
+import com.wealthwise.domain.account.model.AccountId;
+import com.wealthwise.domain.budget.model.Budget;
+import com.wealthwise.domain.budget.model.BudgetPeriod;
+import com.wealthwise.domain.category.model.Category;
+import com.wealthwise.domain.category.model.CategoryId;
+import com.wealthwise.domain.category.model.CategoryType;
+import com.wealthwise.domain.shared.Currency;
+import com.wealthwise.domain.shared.Money;
+import com.wealthwise.domain.transaction.model.Transaction;
+import com.wealthwise.domain.transaction.model.TransactionType;
+import com.wealthwise.infrastructure.persistence.jpa.entity.AccountEntity;
+import com.wealthwise.infrastructure.persistence.jpa.entity.BudgetEntity;
+import com.wealthwise.infrastructure.persistence.jpa.entity.CategoryEntity;
+import com.wealthwise.infrastructure.persistence.jpa.entity.TransactionEntity;
+import com.wealthwise.infrastructure.persistence.jpa.mapper.AccountMapper;
+import com.wealthwise.infrastructure.persistence.jpa.mapper.BudgetMapper;
+import com.wealthwise.infrastructure.persistence.jpa.mapper.CategoryMapper;
+import com.wealthwise.infrastructure.persistence.jpa.mapper.TransactionMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coût unitaire des mappers entité JPA ↔ domaine, dans les deux sens.
+ *
+ * Les entités "lues en base" ont des montants à l'échelle 4 (NUMERIC(19,4)),
+ * comme celles que renvoie Hibernate. Pour le chargement d'un gros volume,
+ * voir aussi TransactionMapperBenchmark.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EntityMapperBenchmark {
+
+    private Account account;
+    private Budget budget;
+    private Transaction transaction;
+    private Category category;
+
+    private AccountEntity accountEntity;
+    private BudgetEntity budgetEntity;
+    private TransactionEntity transactionEntity;
+    private CategoryEntity categoryEntity;
+
+    @Setup
+    public void setUp() {
+        account = Account.create("Courant", AccountType.CHECKING, Currency.EUR);
+        account.credit(Money.of(2_500, Currency.EUR));
+        account.clearEvents();
+
+        budget = Budget.create(CategoryId.generate(), Money.of(300, Currency.EUR), BudgetPeriod.of(YearMonth.of(2025, 1)));
+        budget.recordExpense(Money.of(123.45, Currency.EUR));
+        budget.clearEvents();
+
+        transaction = Transaction.create(
+                AccountId.generate(), Money.of(42.50, Currency.EUR), "Courses", LocalDate.of(2025, 1, 15), TransactionType.EXPENSE);
+        transaction.clearEvents();
+
+        category = Category.create("Alimentation", CategoryType.EXPENSE, "#2ECC71", "cart");
+
+        accountEntity = AccountMapper.toEntity(account);
+        budgetEntity = BudgetMapper.toEntity(budget);
+        transactionEntity = TransactionMapper.toEntity(transaction);
+        categoryEntity = CategoryMapper.toEntity(category);
+        accountEntity = new AccountEntity(accountEntity.getId(), accountEntity.getName(), accountEntity.getType(),
+                accountEntity.getCurrency(), accountEntity.getBalance().setScale(4), accountEntity.isClosed(),
+                accountEntity.getCreatedAt(), 3L);
+        transactionEntity = new TransactionEntity(transactionEntity.getId(), transactionEntity.getAccountId(),
+                transactionEntity.getAmount().setScale(4), transactionEntity.getCurrency(),
+                transactionEntity.getDescription(), transactionEntity.getDate(), transactionEntity.getType(),
+                null, null, transactionEntity.getCreatedAt());
+    }
+
+    @Benchmark
+    public Account accountToDomain() {
+        return AccountMapper.toDomain(accountEntity);
+    }
+
+    @Benchmark
+    public AccountEntity accountToEntity() {
+        return AccountMapper.toEntity(account);
+    }
+
+    @Benchmark
+    public Budget budgetToDomain() {
+        return BudgetMapper.toDomain(budgetEntity);
+    }
+
+    @Benchmark
+    public BudgetEntity budgetToEntity() {
+        return BudgetMapper.toEntity(budget);
+    }
+
+    @Benchmark
+    public Transaction transactionToDomain() {
+        return TransactionMapper.toDomain(transactionEntity);
+    }
+
+    @Benchmark
+    public TransactionEntity transactionToEntity() {
+        return TransactionMapper.toEntity(transaction);
+    }
+
+    @Benchmark
+    public Category categoryToDomain() {
+        return CategoryMapper.toDomain(categoryEntity);
+    }
+
+    @Benchmark
+    public CategoryEntity categoryToEntity() {
+        return CategoryMapper.toEntity(category);
+    }
+}
@@ -0,0 +1,71 @@
+package com.wealthwise.benchmark;
+
+import com.wealthwise.domain.shared.Currency;
+import com.wealthwise.domain.shared.MinorUnits;
+import com.wealthwise.domain.shared.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Arithmétique de Money (BigDecimal) et de son pendant en centimes (MinorUnits).
+ *
+ * Les opérandes sont des champs non final : le JIT ne peut pas replier le calcul.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoneyBenchmark {
+
+    private double rawAmount;
+    private Money left;
+    private Money right;
+    private MinorUnits leftUnits;
+    private MinorUnits rightUnits;
+
+    @Setup
+    public void setUp() {
+        rawAmount = 42.37;
+        left = Money.of(1_234.56, Currency.EUR);
+        right = Money.of(78.90, Currency.EUR);
+        leftUnits = MinorUnits.of(left);
+        rightUnits = MinorUnits.of(right);
+    }
+
+    @Benchmark
+    public Money moneyAdd() {
+        return left.add(right);
+    }
+
+    @Benchmark
+    public Money moneySubtract() {
+        return left.subtract(right);
+    }
+
+    @Benchmark
+    public Money moneyOfDouble() {
+        return Money.of(rawAmount, Currency.EUR);
+    }
+
+    @Benchmark
+    public MinorUnits minorUnitsAdd() {
+        return leftUnits.add(rightUnits);
+    }
+
+    @Benchmark
+    public MinorUnits minorUnitsSubtract() {
+        return leftUnits.subtract(rightUnits);
+    }
+}
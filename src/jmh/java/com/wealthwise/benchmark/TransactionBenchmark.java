@@ -0,0 +1,49 @@
+package com.wealthwise.benchmark;
+
+import com.wealthwise.domain.account.model.AccountId;
+import com.wealthwise.domain.shared.Currency;
+import com.wealthwise.domain.shared.Money;
+import com.wealthwise.domain.transaction.model.Transaction;
+import com.wealthwise.domain.transaction.model.TransactionType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Transaction.create : validations, génération de l'identifiant et
+ * événement TransactionCreated.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TransactionBenchmark {
+
+    private AccountId accountId;
+    private Money amount;
+    private LocalDate date;
+
+    @Setup
+    public void setUp() {
+        accountId = AccountId.generate();
+        amount = Money.of(42.50, Currency.EUR);
+        date = LocalDate.of(2025, 1, 15);
+    }
+
+    @Benchmark
+    public Transaction create() {
+        return Transaction.create(accountId, amount, "Courses Carrefour", date, TransactionType.EXPENSE);
+    }
+}
@@ -0,0 +1,113 @@
+package com.wealthwise.benchmark;
+
+import com.wealthwise.domain.account.model.AccountId;
+import com.wealthwise.domain.shared.Currency;
+import com.wealthwise.domain.shared.Money;
+import com.wealthwise.domain.transaction.model.Transaction;
+import com.wealthwise.domain.transaction.model.TransactionId;
+import com.wealthwise.domain.transaction.model.TransactionType;
+import com.wealthwise.infrastructure.persistence.jpa.entity.TransactionEntity;
+import com.wealthwise.infrastructure.persistence.jpa.mapper.TransactionMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coût du chargement de N lignes de transactions (entité JPA → domaine).
+ *
+ * - doubleRoundTrip : l'ancien TransactionMapper.toDomain,
+ *   Money.of(entity.getAmount().doubleValue(), ...) soit BigDecimal → double → BigDecimal
+ * - exactBigDecimal : le mapper actuel, Money.of(entity.getAmount(), ...)
+ *
+ * Les montants sont à l'échelle 4, comme les lit Hibernate dans une colonne NUMERIC(19,4).
+ *
+ *   mvn -Pjmh compile exec:exec -Djmh.include=TransactionMapperBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TransactionMapperBenchmark {
+
+    @Param({"1000000"})
+    private int rows;
+
+    private List<TransactionEntity> entities;
+
+    @Setup(Level.Trial)
+    public void loadRows() {
+        Random random = new Random(42);
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 1, 0, 0);
+        UUID accountId = UUID.randomUUID();
+
+        entities = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            long cents = 1 + random.nextInt(10_000_000);
+            entities.add(new TransactionEntity(
+                    UUID.randomUUID(),
+                    accountId,
+                    BigDecimal.valueOf(cents, 2).setScale(4),
+                    Currency.EUR.name(),
+                    "Transaction " + i,
+                    LocalDate.of(2025, 1, 1).plusDays(i % 365),
+                    (i % 3 == 0 ? TransactionType.INCOME : TransactionType.EXPENSE).name(),
+                    null,
+                    null,
+                    createdAt
+            ));
+        }
+    }
+
+    @Benchmark
+    public void doubleRoundTrip(Blackhole blackhole) {
+        for (TransactionEntity entity : entities) {
+            blackhole.consume(legacyToDomain(entity));
+        }
+    }
+
+    @Benchmark
+    public void exactBigDecimal(Blackhole blackhole) {
+        for (TransactionEntity entity : entities) {
+            blackhole.consume(TransactionMapper.toDomain(entity));
+        }
+    }
+
+    /**
+     * Copie de l'ancien TransactionMapper.toDomain (avant le passage en BigDecimal direct).
+     * new Money(BigDecimal.valueOf(double)) est exactement ce que faisait Money.of(double).
+     */
+    private static Transaction legacyToDomain(TransactionEntity entity) {
+        return Transaction.reconstitute(
+                TransactionId.of(entity.getId()),
+                AccountId.of(entity.getAccountId()),
+                new Money(BigDecimal.valueOf(entity.getAmount().doubleValue()), Currency.valueOf(entity.getCurrency())),
+                entity.getDescription(),
+                entity.getDate(),
+                TransactionType.valueOf(entity.getType()),
+                null,
+                null,
+                entity.getCreatedAt()
+        );
+    }
+}
@@ -0,0 +1,178 @@
+package com.wealthwise.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Client HTTP d'un utilisateur simulé : une instance par worker.
+ *
+ * Chaque appel est chronométré et enregistré dans les LoadMetrics de la
+ * phase en cours, sous un nom d'endpoint stable ("POST /api/transactions",
+ * "GET /api/accounts/{id}"...). Une réponse hors 2xx compte comme une erreur.
+ *
+ * Débit limité (loadtest.rate > 0) : les requêtes du worker partent à
+ * intervalle fixe ; la latence est mesurée depuis l'instant où la requête
+ * AURAIT dû partir, pas depuis son envoi effectif. Un serveur qui bloque
+ * se voit donc dans les percentiles, au lieu de ralentir silencieusement
+ * le générateur.
+ */
+public final class ApiClient {
+
+    private final HttpClient http;
+    private final ObjectMapper json;
+    private final String baseUrl;
+    private final AtomicReference<LoadMetrics> metrics;
+    private final long intervalNanos;
+    private long nextSlotNanos;
+
+    public ApiClient(HttpClient http, ObjectMapper json, String baseUrl,
+                     AtomicReference<LoadMetrics> metrics, long expectedIntervalMicros) {
+        this.http = http;
+        this.json = json;
+        this.baseUrl = baseUrl;
+        this.metrics = metrics;
+        this.intervalNanos = TimeUnit.MICROSECONDS.toNanos(expectedIntervalMicros);
+        this.nextSlotNanos = System.nanoTime();
+    }
+
+    // ========== Appels de l'API ==========
+
+    public Optional<String> createAccount(String name) {
+        return post("POST /api/accounts", "/api/accounts",
+                Map.of("name", name, "type", "CHECKING", "currency", "EUR"));
+    }
+
+    public Optional<String> createTransaction(String accountId, double amount, String type, String description) {
+        return post("POST /api/transactions", "/api/transactions", Map.of(
+                "accountId", accountId,
+                "amount", amount,
+                "currency", "EUR",
+                "description", description,
+                "date", LocalDate.now().toString(),
+                "type", type));
+    }
+
+    public void categorize(String transactionId, String categoryId) {
+        send("PUT /api/transactions/{id}/categorize", HttpRequest.newBuilder(
+                        uri("/api/transactions/" + transactionId + "/categorize"))
+                .header("Content-Type", "application/json")
+                .PUT(body(Map.of("categoryId", categoryId, "confidenceLevel", "HIGH"))));
+    }
+
+    public void listTransactions(String accountId) {
+        get("GET /api/transactions", "/api/transactions?limit=50&accountId=" + accountId);
+    }
+
+    public void getAccount(String accountId) {
+        get("GET /api/accounts/{id}", "/api/accounts/" + accountId);
+    }
+
+    public void listAccounts() {
+        get("GET /api/accounts", "/api/accounts");
+    }
+
+    public Optional<String> createCategory(String name, String color) {
+        return post("POST /api/categories", "/api/categories",
+                Map.of("name", name, "type", "EXPENSE", "color", color));
+    }
+
+    public void listCategories() {
+        get("GET /api/categories", "/api/categories");
+    }
+
+    public Optional<String> createBudget(String categoryId, double limit, String month) {
+        return post("POST /api/budgets", "/api/budgets",
+                Map.of("categoryId", categoryId, "limitAmount", limit, "currency", "EUR", "month", month));
+    }
+
+    public void listBudgets() {
+        get("GET /api/budgets", "/api/budgets");
+    }
+
+    // ========== Envoi et mesure ==========
+
+    private Optional<String> post(String endpoint, String path, Map<String, ?> payload) {
+        HttpResponse<String> response = send(endpoint, HttpRequest.newBuilder(uri(path))
+                .header("Content-Type", "application/json")
+                .POST(body(payload)));
+        return idOf(response);
+    }
+
+    private void get(String endpoint, String path) {
+        send(endpoint, HttpRequest.newBuilder(uri(path)).GET());
+    }
+
+    /**
+     * @return la réponse, ou null si la requête n'a pas abouti (connexion refusée, délai dépassé)
+     */
+    private HttpResponse<String> send(String endpoint, HttpRequest.Builder request) {
+        long intendedStart = awaitSlot();
+        HttpResponse<String> response = null;
+        try {
+            response = http.send(request.timeout(Duration.ofSeconds(30)).build(),
+                    HttpResponse.BodyHandlers.ofString());
+        } catch (IOException e) {
+            // Comptée comme erreur ci-dessous
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        long latencyMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intendedStart);
+        boolean success = response != null && response.statusCode() / 100 == 2;
+        metrics.get().record(endpoint, latencyMicros, TimeUnit.NANOSECONDS.toMicros(intervalNanos), success);
+        return response;
+    }
+
+    /**
+     * Attend le prochain créneau du worker (débit limité) et renvoie
+     * l'instant prévu du départ ; sans limite, part tout de suite.
+     */
+    private long awaitSlot() {
+        if (intervalNanos == 0) {
+            return System.nanoTime();
+        }
+        long slot = nextSlotNanos;
+        nextSlotNanos += intervalNanos;
+        long wait = slot - System.nanoTime();
+        if (wait > 0) {
+            LockSupport.parkNanos(wait);
+        }
+        return slot;
+    }
+
+    private Optional<String> idOf(HttpResponse<String> response) {
+        if (response == null || response.statusCode() / 100 != 2) {
+            return Optional.empty();
+        }
+        try {
+            JsonNode id = json.readTree(response.body()).get("id");
+            return id != null ? Optional.of(id.asText()) : Optional.empty();
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    private HttpRequest.BodyPublisher body(Map<String, ?> payload) {
+        try {
+            return HttpRequest.BodyPublishers.ofString(json.writeValueAsString(payload));
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot serialize request body", e);
+        }
+    }
+
+    private URI uri(String path) {
+        return URI.create(baseUrl + path);
+    }
+}
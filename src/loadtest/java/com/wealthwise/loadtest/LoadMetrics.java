@@ -0,0 +1,103 @@
+package com.wealthwise.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latences d'une phase du tir, un histogramme HdrHistogram par endpoint.
+ *
+ * Les latences sont enregistrées en microsecondes (précision 3 chiffres
+ * significatifs, jusqu'à une minute). Quand le débit est limité, chaque valeur
+ * est enregistrée avec l'intervalle attendu entre deux requêtes : une requête
+ * lente compte aussi pour celles qui auraient dû partir pendant qu'elle bloquait
+ * (correction de "coordinated omission").
+ */
+public final class LoadMetrics {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+    private static final int SIGNIFICANT_DIGITS = 3;
+    private static final double MICROS_PER_MILLI = 1000.0;
+
+    /** Trié par nom : le rapport liste les endpoints toujours dans le même ordre. */
+    private final Map<String, EndpointStats> endpoints = new ConcurrentSkipListMap<>();
+
+    public void record(String endpoint, long latencyMicros, long expectedIntervalMicros, boolean success) {
+        EndpointStats stats = endpoints.computeIfAbsent(endpoint, name -> new EndpointStats());
+        stats.latencies.recordValueWithExpectedInterval(
+                Math.min(latencyMicros, HIGHEST_TRACKABLE_MICROS), expectedIntervalMicros);
+        if (!success) {
+            stats.errors.increment();
+        }
+    }
+
+    /**
+     * Tableau récapitulatif : débit et percentiles (ms) par endpoint, puis le total.
+     */
+    public void printSummary(PrintStream out, Duration elapsed) {
+        double seconds = elapsed.toNanos() / 1e9;
+        out.printf("%-42s %9s %9s %9s %9s %9s %9s %7s%n",
+                "Endpoint", "count", "req/s", "p50 ms", "p99 ms", "p999 ms", "max ms", "errors");
+
+        Histogram total = newHistogram();
+        long totalErrors = 0;
+        for (Map.Entry<String, EndpointStats> entry : endpoints.entrySet()) {
+            EndpointStats stats = entry.getValue();
+            total.add(stats.latencies);
+            totalErrors += stats.errors.sum();
+            printRow(out, entry.getKey(), stats.latencies, stats.errors.sum(), seconds);
+        }
+        printRow(out, "TOTAL", total, totalErrors, seconds);
+    }
+
+    /**
+     * Distribution complète de chaque endpoint au format .hgrm (en ms),
+     * lisible par le HdrHistogram plotter pour comparer deux tirs.
+     */
+    public void writeHistograms(Path dir) throws IOException {
+        Files.createDirectories(dir);
+        for (Map.Entry<String, EndpointStats> entry : endpoints.entrySet()) {
+            Path file = dir.resolve(fileName(entry.getKey()));
+            try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+                entry.getValue().latencies.outputPercentileDistribution(out, MICROS_PER_MILLI);
+            }
+        }
+    }
+
+    private static void printRow(PrintStream out, String endpoint, Histogram latencies, long errors, double seconds) {
+        out.printf("%-42s %9d %9.1f %9.2f %9.2f %9.2f %9.2f %7d%n",
+                endpoint,
+                latencies.getTotalCount(),
+                latencies.getTotalCount() / seconds,
+                latencies.getValueAtPercentile(50.0) / MICROS_PER_MILLI,
+                latencies.getValueAtPercentile(99.0) / MICROS_PER_MILLI,
+                latencies.getValueAtPercentile(99.9) / MICROS_PER_MILLI,
+                latencies.getMaxValue() / MICROS_PER_MILLI,
+                errors);
+    }
+
+    /**
+     * "PUT /api/transactions/{id}/categorize" → "PUT_api_transactions_id_categorize.hgrm"
+     */
+    private static String fileName(String endpoint) {
+        return endpoint.replaceAll("[^A-Za-z0-9]+", "_").replaceAll("_$", "") + ".hgrm";
+    }
+
+    private static Histogram newHistogram() {
+        return new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+    }
+
+    private static final class EndpointStats {
+        final Histogram latencies = newHistogram();
+        final LongAdder errors = new LongAdder();
+    }
+}
@@ -0,0 +1,61 @@
+package com.wealthwise.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Paramètres d'un tir de charge, lus dans les propriétés système (-Dloadtest.xxx).
+ *
+ * - loadtest.url              : application déjà démarrée à viser (ex: branchée sur
+ *                               un PostgreSQL local). Absente : l'application est
+ *                               démarrée dans le processus, sur H2 en mémoire.
+ * - loadtest.workers          : nombre d'utilisateurs simulés en parallèle
+ * - loadtest.warmup-seconds   : chauffe (JIT, pools, caches), non mesurée
+ * - loadtest.duration-seconds : durée de la phase mesurée
+ * - loadtest.rate             : débit cible total en requêtes/s (0 = au plus vite)
+ * - loadtest.accounts         : comptes créés avant le tir
+ * - loadtest.report-dir       : dossier des histogrammes HdrHistogram (.hgrm)
+ */
+public record LoadTestConfig(
+        String targetUrl,
+        int workers,
+        Duration warmup,
+        Duration duration,
+        int rate,
+        int accounts,
+        Path reportDir
+) {
+
+    public LoadTestConfig {
+        if (workers <= 0 || accounts <= 0 || rate < 0) {
+            throw new IllegalArgumentException("Workers and accounts must be positive, rate must not be negative");
+        }
+        if (duration.isZero() || duration.isNegative()) {
+            throw new IllegalArgumentException("Load test duration must be positive");
+        }
+    }
+
+    public static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig(
+                System.getProperty("loadtest.url"),
+                Integer.getInteger("loadtest.workers", 16),
+                Duration.ofSeconds(Integer.getInteger("loadtest.warmup-seconds", 15)),
+                Duration.ofSeconds(Integer.getInteger("loadtest.duration-seconds", 60)),
+                Integer.getInteger("loadtest.rate", 0),
+                Integer.getInteger("loadtest.accounts", 200),
+                Path.of(System.getProperty("loadtest.report-dir", "target/loadtest"))
+        );
+    }
+
+    public boolean embedded() {
+        return targetUrl == null || targetUrl.isBlank();
+    }
+
+    /**
+     * Intervalle attendu entre deux requêtes d'un même utilisateur simulé,
+     * en microsecondes (0 si le débit n'est pas limité).
+     */
+    public long expectedIntervalMicros() {
+        return rate == 0 ? 0 : 1_000_000L * workers / rate;
+    }
+}
@@ -0,0 +1,150 @@
+package com.wealthwise.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wealthwise.WealthWiseApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Tir de charge de bout en bout sur l'API REST.
+ *
+ *   mvn -Ploadtest compile exec:java
+ *   mvn -Ploadtest compile exec:java -Dloadtest.workers=32 -Dloadtest.rate=2000
+ *   mvn -Ploadtest compile exec:java -Dloadtest.url=http://localhost:8080
+ *
+ * Déroulé :
+ * 1. Démarrer l'application sur H2 en mémoire, sur un port libre
+ *    (sauf si loadtest.url désigne une instance déjà lancée, ex: sur PostgreSQL)
+ * 2. Créer le jeu de données (catégories, budgets, comptes)
+ * 3. Chauffe : le trafic tourne, les mesures sont jetées
+ * 4. Phase mesurée : latences par endpoint dans des histogrammes HdrHistogram
+ * 5. Rapport : débit et p50/p99/p999 par endpoint, distributions .hgrm dans
+ *    loadtest.report-dir pour comparer avec un tir précédent
+ *
+ * Voir LoadTestConfig pour les paramètres, TrafficMix pour le trafic simulé.
+ */
+public final class LoadTestRunner {
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+
+        ConfigurableApplicationContext application = config.embedded() ? startEmbedded() : null;
+        try {
+            String baseUrl = application != null
+                    ? "http://localhost:" + ((WebServerApplicationContext) application).getWebServer().getPort()
+                    : config.targetUrl();
+            run(config, baseUrl);
+        } finally {
+            if (application != null) {
+                application.close();
+            }
+        }
+    }
+
+    private static void run(LoadTestConfig config, String baseUrl) throws Exception {
+        HttpClient http = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        ObjectMapper json = new ObjectMapper();
+        AtomicReference<LoadMetrics> metrics = new AtomicReference<>(new LoadMetrics());
+        TrafficMix mix = new TrafficMix();
+
+        System.out.printf("Load test against %s: %d workers, rate %s, warmup %ds, duration %ds%n",
+                baseUrl, config.workers(), config.rate() == 0 ? "unbounded" : config.rate() + " req/s",
+                config.warmup().toSeconds(), config.duration().toSeconds());
+
+        mix.seed(new ApiClient(http, json, baseUrl, metrics, 0), config.accounts());
+
+        runPhase(config, config.warmup(), mix, http, json, baseUrl, metrics);
+
+        LoadMetrics measured = new LoadMetrics();
+        metrics.set(measured);
+        Duration elapsed = runPhase(config, config.duration(), mix, http, json, baseUrl, metrics);
+
+        System.out.println();
+        measured.printSummary(System.out, elapsed);
+        measured.writeHistograms(config.reportDir());
+        System.out.println("HdrHistogram distributions written to " + config.reportDir().toAbsolutePath());
+    }
+
+    /**
+     * Fait tourner le trafic pendant la durée donnée.
+     *
+     * @return la durée réelle de la phase (les derniers appels en vol sont attendus)
+     */
+    private static Duration runPhase(LoadTestConfig config, Duration length, TrafficMix mix,
+                                     HttpClient http, ObjectMapper json, String baseUrl,
+                                     AtomicReference<LoadMetrics> metrics) throws Exception {
+        if (length.isZero()) {
+            return Duration.ZERO;
+        }
+        long start = System.nanoTime();
+        long deadline = start + length.toNanos();
+
+        ExecutorService workers = Executors.newFixedThreadPool(config.workers());
+        try {
+            List<Future<?>> running = new ArrayList<>();
+            for (int i = 0; i < config.workers(); i++) {
+                ApiClient client = new ApiClient(http, json, baseUrl, metrics, config.expectedIntervalMicros());
+                running.add(workers.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        mix.next(client);
+                    }
+                }));
+            }
+            for (Future<?> worker : running) {
+                worker.get();
+            }
+        } finally {
+            workers.shutdownNow();
+        }
+        return Duration.ofNanos(System.nanoTime() - start);
+    }
+
+    /**
+     * L'application complète, dans ce processus, sur une base H2 jetable.
+     *
+     * Même base que les tests : H2 en mode PostgreSQL, schéma créé par les
+     * seules migrations Flyway (Hibernate n'y touche pas). Le dialecte est
+     * forcé (application.properties impose celui de PostgreSQL) et les
+     * partitions mensuelles, propres à PostgreSQL, sont désactivées.
+     *
+     * Posées en propriétés système (au-dessus d'application.properties), sauf si
+     * elles sont déjà données en ligne de commande : un -Dspring.datasource.url=...
+     * garde la main (ex: PostgreSQL local).
+     */
+    private static ConfigurableApplicationContext startEmbedded() {
+        Map.of(
+                "server.port", "0",
+                "spring.datasource.url", "jdbc:h2:mem:wealthwise-loadtest;DB_CLOSE_DELAY=-1;MODE=PostgreSQL;"
+                        + "DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;NON_KEYWORDS=MONTH",
+                "spring.datasource.driver-class-name", "org.h2.Driver",
+                "spring.datasource.username", "sa",
+                "spring.datasource.password", "",
+                "spring.jpa.database-platform", "org.hibernate.dialect.H2Dialect",
+                "spring.jpa.hibernate.ddl-auto", "none",
+                "wealthwise.transactions.partitions.enabled", "false",
+                "spring.jpa.show-sql", "false",
+                "logging.level.root", "WARN"
+        ).forEach((key, value) -> {
+            if (System.getProperty(key) == null) {
+                System.setProperty(key, value);
+            }
+        });
+        return new SpringApplicationBuilder(WealthWiseApplication.class).run();
+    }
+}
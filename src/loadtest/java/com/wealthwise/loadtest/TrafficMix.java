@@ -0,0 +1,136 @@
+package com.wealthwise.loadtest;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Le trafic simulé : un jeu de données de départ, puis un tirage pondéré
+ * d'actions proches de l'usage réel de l'application.
+ *
+ * | Part | Action                                                        |
+ * |------|---------------------------------------------------------------|
+ * |  40% | Rafale de 1 à 8 dépenses sur un même compte (paiements carte) |
+ * |   5% | Revenu sur un compte                                          |
+ * |  15% | Catégorisation d'une transaction récente                      |
+ * |  15% | Page de transactions d'un compte                              |
+ * |  10% | Lecture d'un compte                                           |
+ * |   5% | Liste des budgets                                             |
+ * |   5% | Liste des catégories                                          |
+ * |   3% | Liste des comptes                                             |
+ * |   2% | Ouverture d'un compte (création + premier revenu)             |
+ */
+public final class TrafficMix {
+
+    private static final String[] CATEGORIES = {
+            "Alimentation", "Transport", "Logement", "Loisirs",
+            "Santé", "Restaurants", "Abonnements", "Shopping"
+    };
+    private static final String[] MERCHANTS = {
+            "CARREFOUR MARKET", "SNCF CONNECT", "AMAZON EU", "UBER EATS",
+            "PHARMACIE DU CENTRE", "NETFLIX", "TOTALENERGIES", "DECATHLON"
+    };
+    private static final double OPENING_BALANCE = 1_000_000;
+    private static final int MAX_BURST = 8;
+    private static final int RECENT_TRANSACTIONS = 4096;
+
+    private final List<String> accountIds = new CopyOnWriteArrayList<>();
+    private final List<String> categoryIds = new CopyOnWriteArrayList<>();
+
+    /** Tampon circulaire des dernières transactions créées, à catégoriser. */
+    private final AtomicReferenceArray<String> recentTransactions = new AtomicReferenceArray<>(RECENT_TRANSACTIONS);
+    private final AtomicLong recentCursor = new AtomicLong();
+
+    // ========== Jeu de données ==========
+
+    /**
+     * Catégories de dépenses, un budget par catégorie pour le mois courant,
+     * puis les comptes, chacun crédité d'un solde d'ouverture confortable
+     * (les rafales de dépenses ne doivent pas échouer pour fonds insuffisants).
+     */
+    public void seed(ApiClient client, int accounts) {
+        String month = YearMonth.now().toString();
+        for (int i = 0; i < CATEGORIES.length; i++) {
+            client.createCategory(CATEGORIES[i], "#%06X".formatted(0x1F77B4 + i * 0x101010))
+                    .ifPresent(categoryId -> {
+                        categoryIds.add(categoryId);
+                        client.createBudget(categoryId, 5_000, month);
+                    });
+        }
+        for (int i = 0; i < accounts; i++) {
+            openAccount(client, "Compte " + i);
+        }
+        if (accountIds.isEmpty() || categoryIds.isEmpty()) {
+            throw new IllegalStateException("Seeding failed: the application rejected the initial data");
+        }
+    }
+
+    // ========== Tirage d'une action ==========
+
+    public void next(ApiClient client) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String accountId = pick(accountIds, random);
+        int roll = random.nextInt(100);
+
+        if (roll < 40) {
+            spendingBurst(client, accountId, random);
+        } else if (roll < 45) {
+            client.createTransaction(accountId, 1_500 + random.nextInt(2_000), "INCOME", "SALAIRE");
+        } else if (roll < 60) {
+            categorizeRecent(client, random);
+        } else if (roll < 75) {
+            client.listTransactions(accountId);
+        } else if (roll < 85) {
+            client.getAccount(accountId);
+        } else if (roll < 90) {
+            client.listBudgets();
+        } else if (roll < 95) {
+            client.listCategories();
+        } else if (roll < 98) {
+            client.listAccounts();
+        } else {
+            openAccount(client, "Compte " + random.nextInt(1_000_000));
+        }
+    }
+
+    private void spendingBurst(ApiClient client, String accountId, ThreadLocalRandom random) {
+        int burst = 1 + random.nextInt(MAX_BURST);
+        for (int i = 0; i < burst; i++) {
+            double amount = 1 + random.nextInt(5_000) / 100.0;
+            String merchant = MERCHANTS[random.nextInt(MERCHANTS.length)];
+            client.createTransaction(accountId, amount, "EXPENSE", "CB " + merchant)
+                    .ifPresent(this::remember);
+        }
+    }
+
+    private void categorizeRecent(ApiClient client, ThreadLocalRandom random) {
+        long written = recentCursor.get();
+        if (written == 0) {
+            return;
+        }
+        int slot = (int) (random.nextLong(Math.min(written, RECENT_TRANSACTIONS)));
+        String transactionId = recentTransactions.get(slot);
+        if (transactionId != null) {
+            client.categorize(transactionId, pick(categoryIds, random));
+        }
+    }
+
+    private void openAccount(ApiClient client, String name) {
+        client.createAccount(name).ifPresent(accountId -> {
+            client.createTransaction(accountId, OPENING_BALANCE, "INCOME", "SOLDE INITIAL");
+            accountIds.add(accountId);
+        });
+    }
+
+    private void remember(String transactionId) {
+        int slot = (int) (recentCursor.getAndIncrement() % RECENT_TRANSACTIONS);
+        recentTransactions.set(slot, transactionId);
+    }
+
+    private static String pick(List<String> ids, ThreadLocalRandom random) {
+        return ids.get(random.nextInt(ids.size()));
+    }
+}
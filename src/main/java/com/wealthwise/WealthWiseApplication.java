@@ -2,6 +2,7 @@ package com.wealthwise;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * Point d'entrée de l'application WealthWise.
@@ -12,8 +13,12 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
  *   les composants en fonction des dépendances présentes
  * - @ComponentScan : Spring scanne ce package et ses sous-packages
  *   pour trouver les composants (@Service, @Controller, etc.)
+ *
+ * @EnableScheduling active les tâches périodiques (@Scheduled),
+ * comme le relais de l'outbox.
  */
 @SpringBootApplication
+@EnableScheduling
 public class WealthWiseApplication {
 
     public static void main(String[] args) {
@@ -1,6 +1,5 @@
 package com.wealthwise.application.command;
 
-import com.wealthwise.domain.category.model.CategoryId;
 import com.wealthwise.domain.category.port.CategoryRepository;
 import com.wealthwise.domain.transaction.model.Transaction;
 import com.wealthwise.domain.transaction.port.TransactionRepository;
@@ -10,6 +9,8 @@ import com.wealthwise.domain.transaction.port.TransactionRepository;
  *
  * Vérifie que la transaction ET la catégorie existent avant de catégoriser.
  * La logique de catégorisation elle-même est dans le domaine (Transaction.categorize()).
+ * L'événement TransactionCategorized est publié par le repository après la
+ * sauvegarde ; le BudgetProjector s'y abonne pour mettre à jour les budgets.
  */
 public class CategorizeTransactionCommandHandler {
 
@@ -0,0 +1,12 @@
+package com.wealthwise.application.command;
+
+import com.wealthwise.domain.category.model.CategoryId;
+
+/**
+ * Commande pour ajouter une règle "mot-clé du libellé → catégorie".
+ */
+public record CreateCategorizationRuleCommand(
+        String keyword,
+        CategoryId categoryId
+) {
+}
@@ -0,0 +1,55 @@
+package com.wealthwise.application.command;
+
+import com.wealthwise.application.usecase.AutoCategorizationUseCase;
+import com.wealthwise.domain.categorization.model.CategorizationRule;
+import com.wealthwise.domain.categorization.model.CategorizationRuleId;
+import com.wealthwise.domain.categorization.port.CategorizationRuleRepository;
+import com.wealthwise.domain.category.port.CategoryRepository;
+
+/**
+ * Use Case : ajouter une règle de catégorisation automatique.
+ *
+ * Vérifie que la catégorie existe et que le mot-clé (normalisé) n'est pas
+ * déjà pris, puis recompile l'automate de l'AutoCategorizationUseCase :
+ * la règle s'applique dès la transaction suivante.
+ */
+public class CreateCategorizationRuleCommandHandler {
+
+    private final CategorizationRuleRepository ruleRepository;
+    private final CategoryRepository categoryRepository;
+    private final AutoCategorizationUseCase autoCategorization;
+
+    public CreateCategorizationRuleCommandHandler(CategorizationRuleRepository ruleRepository,
+                                                  CategoryRepository categoryRepository,
+                                                  AutoCategorizationUseCase autoCategorization) {
+        this.ruleRepository = ruleRepository;
+        this.categoryRepository = categoryRepository;
+        this.autoCategorization = autoCategorization;
+    }
+
+    public CategorizationRuleId handle(CreateCategorizationRuleCommand command) {
+        // 1. Vérifier que la catégorie existe
+        if (categoryRepository.findById(command.categoryId()).isEmpty()) {
+            throw new IllegalArgumentException(
+                    "Category not found: " + command.categoryId().value()
+            );
+        }
+
+        // 2. Créer la règle (le domaine valide et normalise le mot-clé)
+        CategorizationRule rule = CategorizationRule.create(command.keyword(), command.categoryId());
+
+        // 3. Un mot-clé ne désigne qu'une catégorie
+        boolean duplicate = ruleRepository.findAll().stream()
+                .anyMatch(existing -> existing.getNormalizedKeyword().equals(rule.getNormalizedKeyword()));
+        if (duplicate) {
+            throw new IllegalStateException(
+                    "A categorization rule already exists for keyword: " + rule.getNormalizedKeyword()
+            );
+        }
+
+        // 4. Persister et recompiler l'automate
+        ruleRepository.save(rule);
+        autoCategorization.refresh();
+        return rule.getId();
+    }
+}
@@ -0,0 +1,255 @@
+package com.wealthwise.application.command;
+
+import com.wealthwise.application.command.CreateTransactionsBatchCommandHandler.BatchResult;
+import com.wealthwise.application.command.CreateTransactionsBatchCommandHandler.RowFailure;
+import com.wealthwise.domain.account.model.AccountId;
+import com.wealthwise.domain.shared.ConcurrencyConflictException;
+import com.wealthwise.domain.transaction.model.TransactionId;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Répartit les CreateTransactionCommand sur des "voies" mono-thread,
+ * une voie par compte (hash de l'AccountId modulo le nombre de voies).
+ *
+ *   requêtes ──submit()──▶ voie 0 [file] ──▶ thread 0 ──▶ lot du compte A, lot du compte C...
+ *                        ▶ voie 1 [file] ──▶ thread 1 ──▶ lot du compte B...
+ *
+ * - Un compte est toujours traité par la même voie, donc par un seul thread :
+ *   ses transactions sont appliquées dans l'ordre d'arrivée, et deux écritures
+ *   du même compte ne se croisent jamais en base (pas de conflit de version,
+ *   pas de rejeu).
+ * - Les voies travaillent en parallèle : le débit suit le nombre de cœurs
+ *   tant que les comptes sont répartis sur plusieurs voies.
+ * - Une voie vide sa file par paquets (drainTo) et regroupe les commandes
+ *   d'un même compte : un seul chargement du compte, tous les crédits/débits
+ *   en mémoire, une seule sauvegarde (CreateTransactionsBatchCommandHandler).
+ *   Un compte "chaud" (carte partagée du foyer) paie donc un aller-retour
+ *   en base par paquet, et non par transaction.
+ *
+ * Chaque commande garde son propre résultat : une ligne rejetée par le domaine
+ * (fonds insuffisants...) n'échoue que pour sa requête, exactement comme si
+ * les commandes avaient été traitées une à une dans l'ordre.
+ *
+ * File pleine : submit() bloque (on ralentit les requêtes plutôt que de
+ * perdre des commandes).
+ *
+ * Seul POST /api/transactions passe par les voies. POST /api/transactions/batch
+ * et l'import de relevés appellent directement CreateTransactionsBatchCommandHandler :
+ * ils ne sont pas ordonnés avec les commandes d'une voie et ne comptent que sur
+ * le verrouillage optimiste. Un conflit avec eux est rejoué ici (attente aléatoire
+ * croissante, compté par conflictRetries()) ; côté lot, il remonte en 409.
+ */
+public class CreateTransactionDispatcher implements AutoCloseable {
+
+    /** Attente maximale avant la n-ième nouvelle tentative : n × 2 ms. */
+    private static final long BACKOFF_STEP_NANOS = TimeUnit.MILLISECONDS.toNanos(2);
+
+    private final CreateTransactionsBatchCommandHandler batchHandler;
+    private final int maxBatchSize;
+    private final int maxAttempts;
+    private final Lane[] lanes;
+    private final LongAdder conflictRetries = new LongAdder();
+
+    public CreateTransactionDispatcher(CreateTransactionsBatchCommandHandler batchHandler,
+                                       int laneCount, int laneCapacity, int maxBatchSize, int maxAttempts) {
+        if (laneCount <= 0 || laneCapacity <= 0 || maxBatchSize <= 0 || maxAttempts <= 0) {
+            throw new IllegalArgumentException("Lane count, capacity, batch size and attempts must be positive");
+        }
+        this.batchHandler = batchHandler;
+        this.maxBatchSize = maxBatchSize;
+        this.maxAttempts = maxAttempts;
+        this.lanes = new Lane[laneCount];
+        for (int i = 0; i < laneCount; i++) {
+            lanes[i] = new Lane(i, laneCapacity);
+        }
+    }
+
+    /**
+     * Confie la commande à la voie de son compte.
+     *
+     * @return le résultat, complété par le thread de la voie
+     */
+    public CompletableFuture<TransactionId> submit(CreateTransactionCommand command) {
+        Pending pending = new Pending(command, new CompletableFuture<>());
+        laneOf(command.accountId()).enqueue(pending);
+        return pending.result();
+    }
+
+    /**
+     * Variante synchrone : attend le résultat et relance l'exception du domaine
+     * telle quelle (IllegalArgumentException, IllegalStateException...).
+     */
+    public TransactionId handle(CreateTransactionCommand command) {
+        try {
+            return submit(command).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    public int laneCount() {
+        return lanes.length;
+    }
+
+    /**
+     * Nombre de lots rejoués après un conflit de version (depuis le démarrage).
+     */
+    public long conflictRetries() {
+        return conflictRetries.sum();
+    }
+
+    /**
+     * Arrêt : chaque voie termine les commandes déjà acceptées.
+     */
+    @Override
+    public void close() {
+        for (Lane lane : lanes) {
+            lane.stop();
+        }
+    }
+
+    private Lane laneOf(AccountId accountId) {
+        int hash = accountId.hashCode();
+        hash ^= hash >>> 16;
+        return lanes[Math.floorMod(hash, lanes.length)];
+    }
+
+    // ========== Traitement d'un paquet ==========
+
+    private void process(List<Pending> batch) {
+        Map<AccountId, List<Pending>> byAccount = new LinkedHashMap<>();
+        for (Pending pending : batch) {
+            byAccount.computeIfAbsent(pending.command().accountId(), id -> new ArrayList<>()).add(pending);
+        }
+        byAccount.values().forEach(this::processAccount);
+    }
+
+    /**
+     * Un chargement, tous les crédits/débits, une sauvegarde pour les commandes d'un compte.
+     *
+     * La voie est le seul écrivain du compte parmi les commandes unitaires ; un conflit
+     * de version ne peut venir que d'une autre écriture (lot, import, autre instance).
+     * Le lot est écrit dans une seule transaction, annulée par le conflit : on le rejoue
+     * après une courte attente aléatoire, pour laisser l'autre écrivain terminer.
+     */
+    private void processAccount(List<Pending> group) {
+        CreateTransactionsBatchCommand command = new CreateTransactionsBatchCommand(
+                group.stream().map(Pending::command).toList());
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                complete(group, batchHandler.handleSkippingInvalid(command));
+                return;
+            } catch (ConcurrencyConflictException e) {
+                if (attempt >= maxAttempts) {
+                    fail(group, e);
+                    return;
+                }
+                conflictRetries.increment();
+                backoff(attempt);
+            } catch (RuntimeException e) {
+                fail(group, e);
+                return;
+            }
+        }
+    }
+
+    private static void backoff(int attempt) {
+        LockSupport.parkNanos(ThreadLocalRandom.current().nextLong(attempt * BACKOFF_STEP_NANOS + 1));
+    }
+
+    private static void complete(List<Pending> group, BatchResult result) {
+        for (RowFailure failure : result.failures()) {
+            group.get(failure.index()).result().completeExceptionally(failure.error());
+        }
+        for (int i = 0; i < group.size(); i++) {
+            TransactionId id = result.ids().get(i);
+            if (id != null) {
+                group.get(i).result().complete(id);
+            }
+        }
+    }
+
+    private static void fail(List<Pending> group, RuntimeException error) {
+        group.forEach(pending -> pending.result().completeExceptionally(error));
+    }
+
+    private record Pending(CreateTransactionCommand command, CompletableFuture<TransactionId> result) {
+    }
+
+    // ========== Voie ==========
+
+    private final class Lane {
+
+        private final BlockingQueue<Pending> queue;
+        private final Thread worker;
+        private volatile boolean running = true;
+
+        Lane(int index, int capacity) {
+            this.queue = new ArrayBlockingQueue<>(capacity);
+            this.worker = new Thread(this::run, "transaction-lane-" + index);
+            this.worker.setDaemon(true);
+            this.worker.start();
+        }
+
+        void enqueue(Pending pending) {
+            if (!running) {
+                throw new IllegalStateException("Transaction dispatcher is closed");
+            }
+            try {
+                queue.put(pending);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while submitting a transaction", e);
+            }
+        }
+
+        void stop() {
+            running = false;
+            worker.interrupt();
+            try {
+                worker.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private void run() {
+            List<Pending> batch = new ArrayList<>(maxBatchSize);
+            while (running || !queue.isEmpty()) {
+                try {
+                    Pending first = queue.poll(100, TimeUnit.MILLISECONDS);
+                    if (first == null) {
+                        continue;
+                    }
+                    batch.add(first);
+                } catch (InterruptedException e) {
+                    // close() : on sort de l'attente et on traite ce qui reste
+                    if (running) {
+                        continue;
+                    }
+                }
+                queue.drainTo(batch, maxBatchSize - batch.size());
+                if (!batch.isEmpty()) {
+                    process(batch);
+                    batch.clear();
+                }
+            }
+        }
+    }
+}
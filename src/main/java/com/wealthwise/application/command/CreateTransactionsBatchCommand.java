@@ -0,0 +1,15 @@
+package com.wealthwise.application.command;
+
+import java.util.List;
+
+/**
+ * Commande pour créer un lot de transactions en un seul appel
+ * (ex: import d'un relevé bancaire complet).
+ *
+ * L'ordre de la liste est significatif : les lignes d'un même compte
+ * sont appliquées dans cet ordre, comme si elles arrivaient une par une.
+ */
+public record CreateTransactionsBatchCommand(
+        List<CreateTransactionCommand> transactions
+) {
+}
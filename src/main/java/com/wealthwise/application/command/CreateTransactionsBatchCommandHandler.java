@@ -0,0 +1,185 @@
+package com.wealthwise.application.command;
+
+import com.wealthwise.application.usecase.AutoCategorizationUseCase;
+import com.wealthwise.domain.account.model.Account;
+import com.wealthwise.domain.account.model.AccountId;
+import com.wealthwise.domain.account.port.AccountRepository;
+import com.wealthwise.domain.shared.Money;
+import com.wealthwise.domain.shared.UnitOfWork;
+import com.wealthwise.domain.transaction.model.Transaction;
+import com.wealthwise.domain.transaction.model.TransactionId;
+import com.wealthwise.domain.transaction.model.TransactionType;
+import com.wealthwise.domain.transaction.port.TransactionRepository;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Use Case : créer un lot de transactions en une seule passe.
+ *
+ * Règles métier d'une transaction isolée (Transaction.create, crédit/débit
+ * du compte), mais sans l'aller-retour en base par ligne :
+ * 1. Charger chaque compte concerné UNE seule fois
+ * 2. Créer les transactions et appliquer crédits/débits en mémoire
+ * 3. Persister chaque compte une seule fois
+ * 4. Persister toutes les transactions d'un coup (saveAllNew → INSERT en batch JDBC)
+ *
+ * Les étapes 3 et 4 forment une seule UnitOfWork : si un compte ou
+ * l'insertion échoue, aucun solde n'est modifié et aucune transaction
+ * n'est écrite.
+ *
+ * Si un AutoCategorizationUseCase est fourni, les transactions valides sont
+ * catégorisées d'après leur libellé juste avant l'écriture : la catégorie et
+ * l'événement TransactionCategorized partent avec la transaction, sans
+ * seconde sauvegarde.
+ *
+ * Deux modes :
+ * - handle() : "tout ou rien" — si une ligne est invalide (montant, description,
+ *   fonds insuffisants...), l'exception est levée AVANT toute écriture,
+ *   exactement comme pour une transaction isolée.
+ * - handleSkippingInvalid() : les lignes invalides sont écartées et rapportées,
+ *   les autres sont persistées ensemble, tout ou rien (utilisé par l'import
+ *   de relevés et par le CreateTransactionDispatcher).
+ */
+public class CreateTransactionsBatchCommandHandler {
+
+    private final TransactionRepository transactionRepository;
+    private final AccountRepository accountRepository;
+    private final UnitOfWork unitOfWork;
+    private final AutoCategorizationUseCase autoCategorization;
+
+    public CreateTransactionsBatchCommandHandler(TransactionRepository transactionRepository,
+                                                 AccountRepository accountRepository,
+                                                 UnitOfWork unitOfWork) {
+        this(transactionRepository, accountRepository, unitOfWork, null);
+    }
+
+    /**
+     * @param autoCategorization null = pas de catégorisation automatique
+     */
+    public CreateTransactionsBatchCommandHandler(TransactionRepository transactionRepository,
+                                                 AccountRepository accountRepository,
+                                                 UnitOfWork unitOfWork,
+                                                 AutoCategorizationUseCase autoCategorization) {
+        this.transactionRepository = transactionRepository;
+        this.accountRepository = accountRepository;
+        this.unitOfWork = unitOfWork;
+        this.autoCategorization = autoCategorization;
+    }
+
+    /**
+     * @return les identifiants créés, dans l'ordre des lignes de la commande
+     */
+    public List<TransactionId> handle(CreateTransactionsBatchCommand command) {
+        List<CreateTransactionCommand> rows = command.transactions();
+        if (rows == null || rows.isEmpty()) {
+            throw new IllegalArgumentException("Batch must contain at least one transaction");
+        }
+        return process(rows, true).createdIds();
+    }
+
+    /**
+     * Variante tolérante : une ligne rejetée par le domaine n'interrompt pas le lot.
+     *
+     * @return le résultat ligne par ligne (identifiant créé ou erreur)
+     */
+    public BatchResult handleSkippingInvalid(CreateTransactionsBatchCommand command) {
+        List<CreateTransactionCommand> rows = command.transactions();
+        if (rows == null || rows.isEmpty()) {
+            return new BatchResult(List.of(), List.of());
+        }
+        return process(rows, false);
+    }
+
+    private BatchResult process(List<CreateTransactionCommand> rows, boolean strict) {
+        // Comptes chargés une seule fois — Optional.empty() mémorise un compte inexistant
+        Map<AccountId, Optional<Account>> accounts = new HashMap<>();
+        Map<AccountId, Account> touched = new LinkedHashMap<>();
+
+        List<Transaction> transactions = new ArrayList<>(rows.size());
+        List<TransactionId> ids = new ArrayList<>(Collections.nCopies(rows.size(), null));
+        List<RowFailure> failures = new ArrayList<>();
+
+        for (int i = 0; i < rows.size(); i++) {
+            CreateTransactionCommand row = rows.get(i);
+            try {
+                Account account = accounts
+                        .computeIfAbsent(row.accountId(), accountRepository::findById)
+                        .orElseThrow(() -> new IllegalArgumentException(
+                                "Account not found: " + row.accountId().value()
+                        ));
+
+                Money money = Money.of(row.amount(), row.currency());
+                Transaction transaction = Transaction.create(
+                        row.accountId(),
+                        money,
+                        row.description(),
+                        row.date(),
+                        row.type()
+                );
+
+                // Le domaine vérifie AVANT de modifier le solde : une ligne rejetée
+                // ici ne laisse aucune trace sur le compte.
+                if (row.type() == TransactionType.INCOME) {
+                    account.credit(money);
+                } else if (row.type() == TransactionType.EXPENSE) {
+                    account.debit(money);
+                }
+
+                transactions.add(transaction);
+                touched.put(account.getId(), account);
+                ids.set(i, transaction.getId());
+            } catch (IllegalArgumentException | IllegalStateException e) {
+                if (strict) {
+                    throw e;
+                }
+                failures.add(new RowFailure(i, e));
+            }
+        }
+
+        // Persister en masse, tout ou rien — les comptes d'abord : un conflit de version
+        // (ConcurrencyConflictException) est levé avant le moindre INSERT
+        if (!transactions.isEmpty()) {
+            if (autoCategorization != null) {
+                autoCategorization.categorize(transactions);
+            }
+            unitOfWork.run(() -> {
+                touched.values().forEach(accountRepository::save);
+                transactionRepository.saveAllNew(transactions);
+            });
+        }
+
+        return new BatchResult(Collections.unmodifiableList(ids), List.copyOf(failures));
+    }
+
+    /**
+     * Résultat d'un lot traité en mode tolérant.
+     *
+     * @param ids      identifiant créé pour chaque ligne, null si la ligne a été rejetée
+     * @param failures lignes rejetées (index dans le lot + erreur du domaine)
+     */
+    public record BatchResult(List<TransactionId> ids, List<RowFailure> failures) {
+
+        public List<TransactionId> createdIds() {
+            return ids.stream()
+                    .filter(Objects::nonNull)
+                    .toList();
+        }
+    }
+
+    /**
+     * Ligne rejetée : index dans le lot et exception levée par le domaine.
+     */
+    public record RowFailure(int index, RuntimeException error) {
+
+        public String reason() {
+            return error.getMessage();
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.wealthwise.application.command;
+
+import com.wealthwise.domain.categorization.model.CategorizationRuleId;
+import com.wealthwise.domain.transaction.model.TransactionCursor;
+
+/**
+ * Commande pour réappliquer une règle de catégorisation à l'historique.
+ *
+ * @param after           position où reprendre (curseur rendu par un appel précédent),
+ *                        null = depuis la transaction la plus récente
+ * @param maxTransactions nombre maximum de transactions parcourues par cet appel
+ */
+public record RecategorizeByRuleCommand(
+        CategorizationRuleId ruleId,
+        TransactionCursor after,
+        int maxTransactions
+) {
+
+    public RecategorizeByRuleCommand {
+        if (ruleId == null) {
+            throw new IllegalArgumentException("Rule id must not be null");
+        }
+        if (maxTransactions <= 0) {
+            throw new IllegalArgumentException("Max transactions must be positive, got: " + maxTransactions);
+        }
+    }
+}
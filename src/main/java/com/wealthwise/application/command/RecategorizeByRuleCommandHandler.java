@@ -0,0 +1,162 @@
+package com.wealthwise.application.command;
+
+import com.wealthwise.domain.categorization.model.CategorizationRule;
+import com.wealthwise.domain.categorization.model.CategorySuggestion;
+import com.wealthwise.domain.categorization.model.RuleSet;
+import com.wealthwise.domain.categorization.port.CategorizationRuleRepository;
+import com.wealthwise.domain.shared.ConcurrencyConflictException;
+import com.wealthwise.domain.transaction.model.ConfidenceLevel;
+import com.wealthwise.domain.transaction.model.Transaction;
+import com.wealthwise.domain.transaction.model.TransactionCursor;
+import com.wealthwise.domain.transaction.port.TransactionRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Use Case : réappliquer une règle de catégorisation à tout l'historique.
+ *
+ * Au lieu d'un findById + save par transaction (CategorizeTransactionCommandHandler),
+ * le grand livre est parcouru par paquets (chunkSize) en pagination par clé :
+ * 1. Lire un paquet de transactions (date DESC, id DESC)
+ * 2. Catégoriser en mémoire celles que la règle désigne (Transaction.categorize)
+ * 3. Écrire le paquet d'un coup (updateCategories : UPDATE ensemblistes,
+ *    événements TransactionCategorized publiés en un seul lot)
+ *
+ * Une transaction est recatégorisée si, avec TOUTES les règles actuelles,
+ * c'est bien cette règle qui l'emporte sur son libellé (même arbitrage que
+ * l'AutoCategorizationUseCase) et si :
+ * - elle n'a pas été catégorisée à la main (MANUAL) : le choix de
+ *   l'utilisateur n'est jamais écrasé ;
+ * - sa catégorie change ;
+ * - la correspondance n'est pas partielle (LOW), sauf pour une transaction
+ *   pas encore catégorisée.
+ *
+ * Reprise : chaque paquet est écrit dans sa propre transaction, et la
+ * progression rendue après chaque paquet porte le curseur du dernier paquet
+ * écrit. Relancer la commande avec ce curseur reprend juste après ; la
+ * relancer depuis le début ne refait rien de ce qui est déjà fait.
+ * Un appel s'arrête après maxTransactions transactions parcourues.
+ *
+ * Si une transaction du paquet a changé entre la lecture et l'écriture
+ * (ConcurrencyConflictException), le paquet est relu et rejoué.
+ */
+public class RecategorizeByRuleCommandHandler {
+
+    private static final int MAX_CHUNK_ATTEMPTS = 3;
+
+    private final TransactionRepository transactionRepository;
+    private final CategorizationRuleRepository ruleRepository;
+    private final int chunkSize;
+
+    public RecategorizeByRuleCommandHandler(TransactionRepository transactionRepository,
+                                            CategorizationRuleRepository ruleRepository,
+                                            int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive, got: " + chunkSize);
+        }
+        this.transactionRepository = transactionRepository;
+        this.ruleRepository = ruleRepository;
+        this.chunkSize = chunkSize;
+    }
+
+    public Progress handle(RecategorizeByRuleCommand command) {
+        return handle(command, progress -> { });
+    }
+
+    /**
+     * @param onChunk appelé après l'écriture de chaque paquet
+     * @return la progression à la fin de l'appel
+     */
+    public Progress handle(RecategorizeByRuleCommand command, Consumer<Progress> onChunk) {
+        CategorizationRule rule = ruleRepository.findById(command.ruleId())
+                .orElseThrow(() -> new IllegalArgumentException(
+                        "Categorization rule not found: " + command.ruleId().value()
+                ));
+        RuleSet rules = RuleSet.compile(ruleRepository.findAll());
+
+        TransactionCursor position = command.after();
+        long scanned = 0;
+        long recategorized = 0;
+        while (scanned < command.maxTransactions()) {
+            int limit = (int) Math.min(chunkSize, command.maxTransactions() - scanned);
+            List<Transaction> chunk = transactionRepository.findPage(null, position, limit);
+            if (chunk.isEmpty()) {
+                return new Progress(scanned, recategorized, position, true);
+            }
+
+            recategorized += recategorizeChunk(rules, rule, position, limit, chunk);
+            scanned += chunk.size();
+            position = TransactionCursor.after(chunk.get(chunk.size() - 1));
+
+            Progress progress = new Progress(scanned, recategorized, position, chunk.size() < limit);
+            onChunk.accept(progress);
+            if (progress.completed()) {
+                return progress;
+            }
+        }
+        return new Progress(scanned, recategorized, position, false);
+    }
+
+    /**
+     * @return le nombre de transactions recatégorisées dans le paquet
+     */
+    private int recategorizeChunk(RuleSet rules, CategorizationRule rule,
+                                  TransactionCursor position, int limit, List<Transaction> chunk) {
+        for (int attempt = 1; ; attempt++) {
+            List<Transaction> changed = new ArrayList<>();
+            for (Transaction transaction : chunk) {
+                if (apply(rules, rule, transaction)) {
+                    changed.add(transaction);
+                }
+            }
+            if (changed.isEmpty()) {
+                return 0;
+            }
+            try {
+                transactionRepository.updateCategories(changed);
+                return changed.size();
+            } catch (ConcurrencyConflictException e) {
+                if (attempt >= MAX_CHUNK_ATTEMPTS) {
+                    throw e;
+                }
+                // Rien n'a été écrit : on relit le même paquet
+                chunk = transactionRepository.findPage(null, position, limit);
+            }
+        }
+    }
+
+    private static boolean apply(RuleSet rules, CategorizationRule rule, Transaction transaction) {
+        if (transaction.getConfidenceLevel() == ConfidenceLevel.MANUAL) {
+            return false;
+        }
+        Optional<CategorySuggestion> match = rules.match(transaction.getDescription());
+        if (match.isEmpty() || !rule.getNormalizedKeyword().equals(match.get().matchedBy())) {
+            return false;
+        }
+        CategorySuggestion suggestion = match.get();
+        if (suggestion.categoryId().equals(transaction.getCategoryId())) {
+            return false;
+        }
+        if (transaction.isCategorized() && suggestion.confidence() == ConfidenceLevel.LOW) {
+            return false;
+        }
+        transaction.categorize(suggestion.categoryId(), suggestion.confidence());
+        return true;
+    }
+
+    /**
+     * Avancement d'une recatégorisation.
+     *
+     * @param scanned       transactions parcourues depuis le début de l'appel
+     * @param recategorized transactions recatégorisées depuis le début de l'appel
+     * @param resumeAfter   curseur du dernier paquet écrit, à repasser dans la
+     *                      commande pour reprendre (celui de la commande si
+     *                      rien n'a été parcouru)
+     * @param completed     true si la fin du grand livre est atteinte
+     */
+    public record Progress(long scanned, long recategorized, TransactionCursor resumeAfter, boolean completed) {
+    }
+}
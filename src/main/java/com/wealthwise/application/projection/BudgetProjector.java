@@ -0,0 +1,119 @@
+package com.wealthwise.application.projection;
+
+import com.wealthwise.domain.account.event.DomainEvent;
+import com.wealthwise.domain.budget.model.Budget;
+import com.wealthwise.domain.budget.model.BudgetAllocation;
+import com.wealthwise.domain.budget.model.BudgetId;
+import com.wealthwise.domain.budget.model.BudgetPeriod;
+import com.wealthwise.domain.budget.port.BudgetAllocationRepository;
+import com.wealthwise.domain.budget.port.BudgetRepository;
+import com.wealthwise.domain.shared.DomainEventListener;
+import com.wealthwise.domain.shared.UnitOfWork;
+import com.wealthwise.domain.transaction.event.TransactionCategorized;
+import com.wealthwise.domain.transaction.model.TransactionType;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Projection : tient à jour le montant dépensé des budgets à partir des événements
+ * de transaction, par deltas — jamais en re-parcourant les transactions.
+ *
+ * - TransactionCategorized (EXPENSE) : le montant est imputé au budget
+ *   (catégorie, mois de la transaction). Si la transaction était déjà imputée
+ *   ailleurs (re-catégorisation), il est d'abord retiré de l'ancien budget.
+ * - TransactionCreated : une transaction naît sans catégorie, elle n'est donc
+ *   imputable à aucun budget. Rien à faire tant qu'elle n'est pas catégorisée.
+ *
+ * Le projecteur est abonné au bus d'événements : il s'exécute hors de la
+ * requête HTTP qui a catégorisé la transaction.
+ *
+ * Idempotence : chaque imputation est enregistrée dans le registre
+ * BudgetAllocation avec la date du dernier événement appliqué. Un événement
+ * rejoué (ou plus ancien) est ignoré.
+ *
+ * Les deltas des budgets (retrait de l'ancien, imputation au nouveau) et
+ * l'entrée du registre sont écrits dans une seule UnitOfWork : le registre
+ * ne peut pas dire "appliqué" pour un delta perdu, ni l'inverse.
+ */
+public class BudgetProjector implements DomainEventListener<TransactionCategorized> {
+
+    private final BudgetRepository budgetRepository;
+    private final BudgetAllocationRepository allocationRepository;
+    private final UnitOfWork unitOfWork;
+
+    public BudgetProjector(BudgetRepository budgetRepository,
+                           BudgetAllocationRepository allocationRepository,
+                           UnitOfWork unitOfWork) {
+        this.budgetRepository = budgetRepository;
+        this.allocationRepository = allocationRepository;
+        this.unitOfWork = unitOfWork;
+    }
+
+    @Override
+    public Class<TransactionCategorized> eventType() {
+        return TransactionCategorized.class;
+    }
+
+    @Override
+    public void onEvents(List<TransactionCategorized> events) {
+        events.forEach(this::onCategorized);
+    }
+
+    public void project(List<DomainEvent> events) {
+        events.forEach(this::project);
+    }
+
+    public void project(DomainEvent event) {
+        // TransactionCreated : la transaction n'a pas encore de catégorie, rien à imputer
+        if (event instanceof TransactionCategorized categorized) {
+            onCategorized(categorized);
+        }
+    }
+
+    private void onCategorized(TransactionCategorized event) {
+        if (event.type() != TransactionType.EXPENSE) {
+            return;
+        }
+        // Lecture du registre comprise : deux livraisons du même événement ne peuvent pas l'appliquer deux fois
+        unitOfWork.run(() -> apply(event));
+    }
+
+    private void apply(TransactionCategorized event) {
+        Optional<BudgetAllocation> current = allocationRepository.findByTransactionId(event.transactionId());
+        if (current.isPresent() && current.get().alreadyApplied(event.categoryId(), event.occurredAt())) {
+            return; // rejeu
+        }
+
+        BudgetPeriod period = BudgetPeriod.of(YearMonth.from(event.date()));
+        Optional<Budget> target = budgetRepository.findByCategoryIdAndPeriod(event.categoryId(), period)
+                .filter(budget -> budget.getCurrency() == event.amount().currency());
+        BudgetId targetId = target.map(Budget::getId).orElse(null);
+        BudgetId previousId = current.map(BudgetAllocation::budgetId).orElse(null);
+
+        // Même budget qu'avant (ex: confiance HIGH → MANUAL) : aucun delta
+        if (previousId != null && previousId.equals(targetId)) {
+            allocationRepository.save(new BudgetAllocation(
+                    event.transactionId(), event.categoryId(), targetId, event.amount(), event.occurredAt()
+            ));
+            return;
+        }
+
+        if (previousId != null) {
+            budgetRepository.findById(previousId).ifPresent(previous -> {
+                previous.releaseExpense(current.get().amount());
+                budgetRepository.save(previous);
+            });
+        }
+
+        target.ifPresent(budget -> {
+            budget.recordExpense(event.amount());
+            budgetRepository.save(budget);
+        });
+
+        allocationRepository.save(new BudgetAllocation(
+                event.transactionId(), event.categoryId(), targetId, event.amount(), event.occurredAt()
+        ));
+    }
+}
@@ -0,0 +1,113 @@
+package com.wealthwise.application.projection;
+
+import com.wealthwise.domain.categorization.model.CategorySuggestion;
+import com.wealthwise.domain.categorization.model.NaiveBayesModel;
+import com.wealthwise.domain.categorization.port.CategorizationModelStore;
+import com.wealthwise.domain.shared.DomainEventListener;
+import com.wealthwise.domain.transaction.event.TransactionCategorized;
+import com.wealthwise.domain.transaction.model.ConfidenceLevel;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Projection : apprend les catégories des marchands à partir des
+ * catégorisations MANUELLES (TransactionCategorized, ConfidenceLevel.MANUAL).
+ *
+ * Seul l'utilisateur enseigne : une catégorisation automatique (règle ou
+ * modèle) n'est jamais réapprise, le modèle ne s'auto-renforce pas.
+ *
+ * Le modèle (NaiveBayesModel) est mis à jour en ligne, en O(mots du libellé)
+ * par événement, et interrogé par l'AutoCategorizationUseCase quand aucune
+ * règle ne correspond franchement. Apprentissage (thread du bus) et
+ * prédictions (voies de création, imports) se partagent un verrou lecture/écriture.
+ *
+ * Sauvegarde : restore() recharge le dernier snapshot au démarrage,
+ * saveSnapshot() écrit le modèle s'il a appris depuis la dernière écriture
+ * (appelé périodiquement et à l'arrêt).
+ *
+ * Pas d'idempotence : un événement rejoué par le relais de l'outbox compte
+ * deux fois, ce qui ne fait que renforcer un exemple déjà vrai.
+ */
+public class CategorizationLearner implements DomainEventListener<TransactionCategorized> {
+
+    private final CategorizationModelStore modelStore;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private NaiveBayesModel model = new NaiveBayesModel();
+    private long unsavedExamples;
+
+    public CategorizationLearner(CategorizationModelStore modelStore) {
+        this.modelStore = modelStore;
+    }
+
+    @Override
+    public Class<TransactionCategorized> eventType() {
+        return TransactionCategorized.class;
+    }
+
+    @Override
+    public void onEvents(List<TransactionCategorized> events) {
+        lock.writeLock().lock();
+        try {
+            for (TransactionCategorized event : events) {
+                if (event.confidence() == ConfidenceLevel.MANUAL && event.description() != null) {
+                    model.learn(event.description(), event.categoryId());
+                    unsavedExamples++;
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public Optional<CategorySuggestion> predict(String description) {
+        lock.readLock().lock();
+        try {
+            return model.predict(description);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long exampleCount() {
+        lock.readLock().lock();
+        try {
+            return model.exampleCount();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ========== Snapshot ==========
+
+    public void restore() {
+        modelStore.load().ifPresent(restored -> {
+            lock.writeLock().lock();
+            try {
+                model = restored;
+                unsavedExamples = 0;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    /**
+     * Écrit le modèle s'il a changé. Le verrou en écriture est tenu pendant
+     * l'écriture (quelques Mo au plus) : les prédictions attendent, les
+     * événements s'accumulent dans le bus.
+     */
+    public void saveSnapshot() {
+        lock.writeLock().lock();
+        try {
+            if (unsavedExamples == 0) {
+                return;
+            }
+            modelStore.save(model);
+            unsavedExamples = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+}
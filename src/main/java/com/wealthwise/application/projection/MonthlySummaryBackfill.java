@@ -0,0 +1,59 @@
+package com.wealthwise.application.projection;
+
+import com.wealthwise.domain.transaction.model.Transaction;
+import com.wealthwise.domain.transaction.model.TransactionCursor;
+import com.wealthwise.domain.transaction.port.TransactionRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Rattrapage du résumé mensuel : compte les transactions qui n'ont jamais
+ * été vues par MonthlySummaryProjector (créées avant la projection, ou dont
+ * l'événement a été perdu).
+ *
+ * Lecture de toutes les transactions par pages (keyset, comme le chargement
+ * de ColumnarTransactionIndex) ; pour chaque page, une lecture du registre
+ * et une écriture groupée des seules transactions absentes. Idempotent : un
+ * second passage ne trouve plus rien à ajouter.
+ *
+ * Lancé au démarrage, avant le relais de l'outbox et les requêtes HTTP :
+ * le rattrapage est alors le seul écrivain du résumé.
+ */
+public class MonthlySummaryBackfill {
+
+    private final TransactionRepository transactionRepository;
+    private final MonthlySummaryProjector projector;
+    private final int pageSize;
+
+    public MonthlySummaryBackfill(TransactionRepository transactionRepository,
+                                  MonthlySummaryProjector projector,
+                                  int pageSize) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("Page size must be positive, got: " + pageSize);
+        }
+        this.transactionRepository = transactionRepository;
+        this.projector = projector;
+        this.pageSize = pageSize;
+    }
+
+    /**
+     * @return le nombre de transactions ajoutées au résumé
+     */
+    public long run() {
+        // Pris avant la première lecture : tout événement antérieur est déjà dans l'état lu
+        LocalDateTime appliedAt = LocalDateTime.now();
+        long added = 0;
+        TransactionCursor cursor = null;
+        List<Transaction> page;
+        do {
+            page = transactionRepository.findPage(null, cursor, pageSize);
+            if (page.isEmpty()) {
+                break;
+            }
+            added += projector.backfill(page, appliedAt);
+            cursor = TransactionCursor.after(page.get(page.size() - 1));
+        } while (page.size() == pageSize);
+        return added;
+    }
+}
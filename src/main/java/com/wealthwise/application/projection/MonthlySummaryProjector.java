@@ -0,0 +1,187 @@
+package com.wealthwise.application.projection;
+
+import com.wealthwise.domain.account.event.DomainEvent;
+import com.wealthwise.domain.account.model.AccountId;
+import com.wealthwise.domain.analytics.model.MonthlySummary;
+import com.wealthwise.domain.analytics.model.MonthlySummaryKey;
+import com.wealthwise.domain.analytics.model.SummaryPosting;
+import com.wealthwise.domain.analytics.port.MonthlySummaryRepository;
+import com.wealthwise.domain.category.model.CategoryId;
+import com.wealthwise.domain.shared.Currency;
+import com.wealthwise.domain.shared.DomainEventListener;
+import com.wealthwise.domain.transaction.event.TransactionCategorized;
+import com.wealthwise.domain.transaction.event.TransactionCreated;
+import com.wealthwise.domain.transaction.model.Transaction;
+import com.wealthwise.domain.transaction.model.TransactionId;
+import com.wealthwise.domain.transaction.model.TransactionType;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Projection : tient à jour le résumé mensuel (compte, mois, catégorie, type)
+ * à partir des événements de transaction, par deltas.
+ *
+ * - TransactionCreated : le montant est ajouté à la ligne "non catégorisée"
+ *   du mois de la transaction.
+ * - TransactionCategorized : le montant quitte la ligne de l'ancienne catégorie
+ *   (ou "non catégorisée") pour celle de la nouvelle.
+ *
+ * Abonné à tous les événements (DomainEvent) plutôt qu'à un seul type :
+ * une création et sa catégorisation arrivent dans le même ordre que leur
+ * publication, souvent dans le même lot.
+ *
+ * Un lot d'événements = une lecture du registre, une lecture par ligne de
+ * résumé touchée, une écriture groupée : mille transactions du même mois
+ * sur la même catégorie ne coûtent qu'une mise à jour de ligne.
+ *
+ * Idempotence : le registre SummaryPosting (une entrée par transaction)
+ * indique où chaque transaction est déjà comptée ; un événement rejoué
+ * par le relais de l'outbox est ignoré.
+ *
+ * Les transactions antérieures à la projection (aucun événement à rejouer)
+ * sont rattrapées par backfill(), depuis leur état courant : voir
+ * MonthlySummaryBackfill.
+ */
+public class MonthlySummaryProjector implements DomainEventListener<DomainEvent> {
+
+    private final MonthlySummaryRepository summaryRepository;
+
+    public MonthlySummaryProjector(MonthlySummaryRepository summaryRepository) {
+        this.summaryRepository = summaryRepository;
+    }
+
+    @Override
+    public Class<DomainEvent> eventType() {
+        return DomainEvent.class;
+    }
+
+    @Override
+    public void onEvents(List<DomainEvent> events) {
+        project(events);
+    }
+
+    public void project(List<? extends DomainEvent> events) {
+        List<TransactionId> transactionIds = new ArrayList<>();
+        for (DomainEvent event : events) {
+            if (event instanceof TransactionCreated created) {
+                transactionIds.add(created.transactionId());
+            } else if (event instanceof TransactionCategorized categorized) {
+                transactionIds.add(categorized.transactionId());
+            }
+        }
+        if (transactionIds.isEmpty()) {
+            return;
+        }
+
+        Batch batch = new Batch(summaryRepository.findPostings(transactionIds));
+        for (DomainEvent event : events) {
+            if (event instanceof TransactionCreated created) {
+                onCreated(batch, created);
+            } else if (event instanceof TransactionCategorized categorized) {
+                onCategorized(batch, categorized);
+            }
+        }
+        summaryRepository.saveAll(batch.summaries.values(), batch.changedPostings.values());
+    }
+
+    /**
+     * Compte des transactions lues en base qui ne sont pas encore au registre,
+     * dans leur catégorie actuelle. Les transactions déjà comptées sont ignorées.
+     *
+     * @param appliedAt date inscrite au registre : les événements antérieurs encore
+     *                  dans l'outbox sont déjà reflétés par l'état lu, et seront ignorés
+     * @return le nombre de transactions ajoutées au résumé
+     */
+    public int backfill(List<Transaction> transactions, LocalDateTime appliedAt) {
+        if (transactions.isEmpty()) {
+            return 0;
+        }
+        Batch batch = new Batch(summaryRepository.findPostings(
+                transactions.stream().map(Transaction::getId).toList()));
+        int added = 0;
+        for (Transaction transaction : transactions) {
+            if (batch.posting(transaction.getId()) != null) {
+                continue;
+            }
+            MonthlySummaryKey key = key(transaction.getAccountId(), transaction.getDate(),
+                    transaction.getCategoryId(), transaction.getType());
+            batch.summary(key, transaction.getAmount().currency()).add(transaction.getAmount());
+            batch.post(new SummaryPosting(transaction.getId(), transaction.getCategoryId(), appliedAt));
+            added++;
+        }
+        if (added > 0) {
+            summaryRepository.saveAll(batch.summaries.values(), batch.changedPostings.values());
+        }
+        return added;
+    }
+
+    private void onCreated(Batch batch, TransactionCreated event) {
+        if (batch.posting(event.transactionId()) != null) {
+            return; // rejeu
+        }
+        MonthlySummaryKey key = key(event.accountId(), event.date(), null, event.type());
+        batch.summary(key, event.amount().currency()).add(event.amount());
+        batch.post(new SummaryPosting(event.transactionId(), null, event.occurredAt()));
+    }
+
+    private void onCategorized(Batch batch, TransactionCategorized event) {
+        SummaryPosting current = batch.posting(event.transactionId());
+        if (current != null && current.alreadyApplied(event.categoryId(), event.occurredAt())) {
+            return; // rejeu
+        }
+
+        MonthlySummaryKey target = key(event.accountId(), event.date(), event.categoryId(), event.type());
+        Currency currency = event.amount().currency();
+
+        // Même catégorie qu'avant (ex: confiance HIGH → MANUAL) : aucun delta
+        boolean moved = current == null || !Objects.equals(current.categoryId(), event.categoryId());
+        if (moved) {
+            // Sans entrée au registre (transaction antérieure à la projection), rien à retirer
+            if (current != null) {
+                batch.summary(target.withCategory(current.categoryId()), currency).remove(event.amount());
+            }
+            batch.summary(target, currency).add(event.amount());
+        }
+        batch.post(new SummaryPosting(event.transactionId(), event.categoryId(), event.occurredAt()));
+    }
+
+    private static MonthlySummaryKey key(AccountId accountId, LocalDate date, CategoryId categoryId,
+                                         TransactionType type) {
+        return new MonthlySummaryKey(accountId, YearMonth.from(date), categoryId, type);
+    }
+
+    /**
+     * État de travail d'un lot : registre et lignes de résumé touchées.
+     */
+    private final class Batch {
+
+        private final Map<TransactionId, SummaryPosting> postings = new LinkedHashMap<>();
+        private final Map<TransactionId, SummaryPosting> changedPostings = new LinkedHashMap<>();
+        private final Map<MonthlySummaryKey, MonthlySummary> summaries = new LinkedHashMap<>();
+
+        Batch(List<SummaryPosting> existing) {
+            existing.forEach(posting -> postings.put(posting.transactionId(), posting));
+        }
+
+        SummaryPosting posting(TransactionId transactionId) {
+            return postings.get(transactionId);
+        }
+
+        void post(SummaryPosting posting) {
+            postings.put(posting.transactionId(), posting);
+            changedPostings.put(posting.transactionId(), posting);
+        }
+
+        MonthlySummary summary(MonthlySummaryKey key, Currency currency) {
+            return summaries.computeIfAbsent(key, k -> summaryRepository.findByKey(k)
+                    .orElseGet(() -> MonthlySummary.empty(k, currency)));
+        }
+    }
+}
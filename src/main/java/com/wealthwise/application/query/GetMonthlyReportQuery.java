@@ -0,0 +1,14 @@
+package com.wealthwise.application.query;
+
+import com.wealthwise.domain.account.model.AccountId;
+
+import java.time.YearMonth;
+
+/**
+ * Query : rapport d'un compte pour un mois (revenus, dépenses, détail par catégorie).
+ */
+public record GetMonthlyReportQuery(
+        AccountId accountId,
+        YearMonth month
+) {
+}
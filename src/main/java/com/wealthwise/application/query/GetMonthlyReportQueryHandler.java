@@ -0,0 +1,85 @@
+package com.wealthwise.application.query;
+
+import com.wealthwise.application.query.MonthlyReport.CategoryLine;
+import com.wealthwise.domain.account.model.Account;
+import com.wealthwise.domain.account.port.AccountRepository;
+import com.wealthwise.domain.analytics.model.MonthlySummary;
+import com.wealthwise.domain.analytics.port.MonthlySummaryRepository;
+import com.wealthwise.domain.shared.MinorUnits;
+import com.wealthwise.domain.transaction.model.TransactionType;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Query Handler : construit le rapport mensuel à partir du résumé pré-agrégé
+ * (MonthlySummaryProjector).
+ *
+ * Coût : une lecture du compte et des lignes (compte, mois) du résumé,
+ * soit au plus une ligne par catégorie et par type. Le temps de réponse ne
+ * dépend pas du nombre de transactions du mois.
+ *
+ * Le résumé est alimenté de façon asynchrone : une transaction tout juste
+ * créée y apparaît dès que le relais de l'outbox l'a livrée (quelques
+ * centaines de millisecondes).
+ */
+public class GetMonthlyReportQueryHandler {
+
+    private static final Comparator<CategoryLine> LARGEST_FIRST = Comparator
+            .comparing(CategoryLine::type)
+            .thenComparing(line -> line.total().amount(), Comparator.reverseOrder());
+
+    private final MonthlySummaryRepository summaryRepository;
+    private final AccountRepository accountRepository;
+
+    public GetMonthlyReportQueryHandler(MonthlySummaryRepository summaryRepository,
+                                        AccountRepository accountRepository) {
+        this.summaryRepository = summaryRepository;
+        this.accountRepository = accountRepository;
+    }
+
+    public MonthlyReport handle(GetMonthlyReportQuery query) {
+        Account account = accountRepository.findById(query.accountId())
+                .orElseThrow(() -> new IllegalArgumentException(
+                        "Account not found: " + query.accountId().value()
+                ));
+
+        MinorUnits income = MinorUnits.zero(account.getCurrency());
+        MinorUnits expense = MinorUnits.zero(account.getCurrency());
+        long transactionCount = 0;
+
+        List<MonthlySummary> rows = summaryRepository.findByAccountAndMonth(query.accountId(), query.month()).stream()
+                // Ligne vidée par des re-catégorisations : rien à afficher
+                .filter(row -> row.getTransactionCount() > 0)
+                .toList();
+
+        for (MonthlySummary row : rows) {
+            // TRANSFER : ni revenu ni dépense, seulement détaillé par catégorie
+            if (row.getKey().type() == TransactionType.INCOME) {
+                income = income.add(row.getTotalUnits());
+            } else if (row.getKey().type() == TransactionType.EXPENSE) {
+                expense = expense.add(row.getTotalUnits());
+            }
+            transactionCount += row.getTransactionCount();
+        }
+
+        List<CategoryLine> categories = rows.stream()
+                .map(row -> new CategoryLine(
+                        row.getKey().categoryId(),
+                        row.getKey().type(),
+                        row.getTotal(),
+                        row.getTransactionCount()))
+                .sorted(LARGEST_FIRST)
+                .toList();
+
+        return new MonthlyReport(
+                query.accountId(),
+                query.month(),
+                income.toMoney(),
+                expense.toMoney(),
+                income.subtract(expense).toMoney(),
+                transactionCount,
+                categories
+        );
+    }
+}
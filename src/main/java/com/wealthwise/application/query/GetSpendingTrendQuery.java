@@ -0,0 +1,26 @@
+package com.wealthwise.application.query;
+
+import com.wealthwise.domain.account.model.AccountId;
+import com.wealthwise.domain.analytics.model.TrendDimension;
+import com.wealthwise.domain.category.model.CategoryId;
+import com.wealthwise.domain.shared.Currency;
+import com.wealthwise.domain.transaction.model.TransactionType;
+
+import java.time.YearMonth;
+
+/**
+ * Query : évolution des montants sur une période, regroupés par mois, catégorie ou compte.
+ *
+ * @param accountId  null = tous les comptes
+ * @param categoryId null = toutes les catégories
+ */
+public record GetSpendingTrendQuery(
+        YearMonth from,
+        YearMonth to,
+        TrendDimension groupBy,
+        TransactionType type,
+        Currency currency,
+        AccountId accountId,
+        CategoryId categoryId
+) {
+}
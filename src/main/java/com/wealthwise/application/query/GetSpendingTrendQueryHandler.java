@@ -0,0 +1,73 @@
+package com.wealthwise.application.query;
+
+import com.wealthwise.application.query.TrendAnalysis.TrendPoint;
+import com.wealthwise.domain.analytics.model.TrendBucket;
+import com.wealthwise.domain.analytics.model.TrendDimension;
+import com.wealthwise.domain.analytics.model.TrendFilter;
+import com.wealthwise.domain.analytics.port.SpendingTrendIndex;
+import com.wealthwise.domain.shared.MinorUnits;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Query Handler : courbes de tendance sur plusieurs mois (ex: dépenses
+ * des 24 derniers mois, par catégorie).
+ *
+ * Les agrégats sont calculés par le SpendingTrendIndex, qui parcourt les
+ * transactions en mémoire sans aller en base ; ce handler ne fait que
+ * valider la période, totaliser et trier les points.
+ *
+ * Comme le résumé mensuel, l'index est alimenté par les événements :
+ * une transaction tout juste créée y apparaît après le passage du relais de l'outbox.
+ */
+public class GetSpendingTrendQueryHandler {
+
+    /** Au-delà, la courbe n'est plus lisible et le parcours inutilement long. */
+    static final int MAX_MONTHS = 120;
+
+    private static final Comparator<TrendBucket> LARGEST_FIRST = Comparator
+            .comparingLong((TrendBucket bucket) -> bucket.total().value()).reversed();
+
+    private final SpendingTrendIndex trendIndex;
+
+    public GetSpendingTrendQueryHandler(SpendingTrendIndex trendIndex) {
+        this.trendIndex = trendIndex;
+    }
+
+    public TrendAnalysis handle(GetSpendingTrendQuery query) {
+        if (query.groupBy() == null) {
+            throw new IllegalArgumentException("Trend dimension is required");
+        }
+        TrendFilter filter = new TrendFilter(
+                query.from(), query.to(), query.type(), query.currency(),
+                query.accountId(), query.categoryId());
+        if (filter.from().plusMonths(MAX_MONTHS).isBefore(filter.to().plusMonths(1))) {
+            throw new IllegalArgumentException("Trend range cannot exceed %d months".formatted(MAX_MONTHS));
+        }
+
+        List<TrendBucket> buckets = trendIndex.aggregate(filter, query.groupBy());
+        if (query.groupBy() != TrendDimension.MONTH) {
+            buckets = buckets.stream().sorted(LARGEST_FIRST).toList();
+        }
+
+        MinorUnits total = MinorUnits.zero(filter.currency());
+        long transactionCount = 0;
+        for (TrendBucket bucket : buckets) {
+            total = total.add(bucket.total());
+            transactionCount += bucket.transactionCount();
+        }
+
+        return new TrendAnalysis(
+                filter.from(),
+                filter.to(),
+                query.groupBy(),
+                filter.type(),
+                total.toMoney(),
+                transactionCount,
+                buckets.stream()
+                        .map(bucket -> new TrendPoint(bucket.key(), bucket.total().toMoney(), bucket.transactionCount()))
+                        .toList()
+        );
+    }
+}
@@ -0,0 +1,36 @@
+package com.wealthwise.application.query;
+
+import com.wealthwise.domain.account.model.AccountId;
+import com.wealthwise.domain.category.model.CategoryId;
+import com.wealthwise.domain.shared.Money;
+import com.wealthwise.domain.transaction.model.TransactionType;
+
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * Read model du rapport mensuel d'un compte.
+ *
+ * @param categories une ligne par (catégorie, type), les plus gros montants d'abord
+ */
+public record MonthlyReport(
+        AccountId accountId,
+        YearMonth month,
+        Money totalIncome,
+        Money totalExpense,
+        Money net,
+        long transactionCount,
+        List<CategoryLine> categories
+) {
+
+    /**
+     * @param categoryId null pour les transactions non catégorisées
+     */
+    public record CategoryLine(
+            CategoryId categoryId,
+            TransactionType type,
+            Money total,
+            long transactionCount
+    ) {
+    }
+}
@@ -0,0 +1,36 @@
+package com.wealthwise.application.query;
+
+import com.wealthwise.domain.analytics.model.TrendDimension;
+import com.wealthwise.domain.shared.Money;
+import com.wealthwise.domain.transaction.model.TransactionType;
+
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * Read model d'une analyse de tendance.
+ *
+ * @param points MONTH : un point par mois, dans l'ordre ;
+ *               CATEGORY / ACCOUNT : les plus gros montants d'abord
+ */
+public record TrendAnalysis(
+        YearMonth from,
+        YearMonth to,
+        TrendDimension groupBy,
+        TransactionType type,
+        Money total,
+        long transactionCount,
+        List<TrendPoint> points
+) {
+
+    /**
+     * @param key mois ("2026-02"), identifiant de catégorie (null = non catégorisé)
+     *            ou identifiant de compte
+     */
+    public record TrendPoint(
+            String key,
+            Money total,
+            long transactionCount
+    ) {
+    }
+}
@@ -0,0 +1,116 @@
+package com.wealthwise.application.usecase;
+
+import com.wealthwise.application.projection.CategorizationLearner;
+import com.wealthwise.domain.categorization.model.CategorizationRule;
+import com.wealthwise.domain.categorization.model.CategorySuggestion;
+import com.wealthwise.domain.categorization.model.RuleSet;
+import com.wealthwise.domain.categorization.port.CategorizationRuleRepository;
+import com.wealthwise.domain.transaction.model.ConfidenceLevel;
+import com.wealthwise.domain.transaction.model.Transaction;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Use Case : catégoriser automatiquement les transactions d'après leur libellé.
+ *
+ * Les règles (mot-clé → catégorie) sont compilées une fois en un automate
+ * d'Aho-Corasick (RuleSet) : chaque libellé est ensuite lu une seule fois,
+ * quel que soit le nombre de règles. C'est ce qui permet de passer toutes
+ * les lignes d'un import au travers de dizaines de milliers de règles.
+ *
+ * L'automate est recompilé à chaque changement de règle (refresh()) et
+ * remplacé d'un bloc : les catégorisations en cours gardent l'ancien,
+ * sans verrou.
+ *
+ * Sans règle franche (mot entier), on consulte le modèle appris des
+ * catégorisations manuelles (CategorizationLearner), s'il est fourni :
+ * 1. règle HIGH ou MEDIUM
+ * 2. sinon prédiction du modèle HIGH ou MEDIUM
+ * 3. sinon règle LOW (mot-clé trouvé dans un mot)
+ * Une prédiction LOW du modèle n'est jamais appliquée : elle ne repose sur presque rien.
+ *
+ * La catégorie est appliquée en mémoire (Transaction.categorize) avec la
+ * confiance calculée (HIGH, MEDIUM ou LOW) ; c'est l'appelant qui persiste,
+ * et l'événement TransactionCategorized part avec la transaction.
+ */
+public class AutoCategorizationUseCase {
+
+    private static final Comparator<CategorizationRule> OLDEST_FIRST =
+            Comparator.comparing(CategorizationRule::getCreatedAt);
+
+    private final CategorizationRuleRepository ruleRepository;
+    private final CategorizationLearner learner;
+    private volatile RuleSet ruleSet = RuleSet.empty();
+
+    public AutoCategorizationUseCase(CategorizationRuleRepository ruleRepository) {
+        this(ruleRepository, null);
+    }
+
+    /**
+     * @param learner null = règles seules
+     */
+    public AutoCategorizationUseCase(CategorizationRuleRepository ruleRepository, CategorizationLearner learner) {
+        this.ruleRepository = ruleRepository;
+        this.learner = learner;
+    }
+
+    /**
+     * Recompile l'automate depuis les règles enregistrées.
+     */
+    public void refresh() {
+        List<CategorizationRule> rules = ruleRepository.findAll().stream()
+                .sorted(OLDEST_FIRST)
+                .toList();
+        ruleSet = RuleSet.compile(rules);
+    }
+
+    public Optional<CategorySuggestion> suggest(String description) {
+        return suggest(ruleSet, description);
+    }
+
+    private Optional<CategorySuggestion> suggest(RuleSet rules, String description) {
+        Optional<CategorySuggestion> byRule = rules.match(description);
+        if (byRule.isPresent() && byRule.get().confidence() != ConfidenceLevel.LOW) {
+            return byRule;
+        }
+        if (learner != null) {
+            Optional<CategorySuggestion> learned = learner.predict(description)
+                    .filter(suggestion -> suggestion.confidence() != ConfidenceLevel.LOW);
+            if (learned.isPresent()) {
+                return learned;
+            }
+        }
+        return byRule;
+    }
+
+    /**
+     * Catégorise en mémoire les transactions encore sans catégorie.
+     * Une catégorie déjà posée (manuellement ou non) n'est jamais écrasée.
+     *
+     * @return le nombre de transactions catégorisées
+     */
+    public int categorize(List<Transaction> transactions) {
+        RuleSet rules = ruleSet;
+        if (rules.size() == 0 && (learner == null || learner.exampleCount() == 0)) {
+            return 0;
+        }
+        int categorized = 0;
+        for (Transaction transaction : transactions) {
+            if (transaction.isCategorized()) {
+                continue;
+            }
+            Optional<CategorySuggestion> suggestion = suggest(rules, transaction.getDescription());
+            if (suggestion.isPresent()) {
+                transaction.categorize(suggestion.get().categoryId(), suggestion.get().confidence());
+                categorized++;
+            }
+        }
+        return categorized;
+    }
+
+    public int ruleCount() {
+        return ruleSet.size();
+    }
+}
@@ -0,0 +1,24 @@
+package com.wealthwise.application.usecase;
+
+import com.wealthwise.domain.account.model.AccountId;
+import com.wealthwise.domain.shared.Currency;
+
+import java.io.Reader;
+import java.util.stream.Stream;
+
+/**
+ * Port de lecture d'un relevé bancaire.
+ *
+ * Le parseur produit un Stream PARESSEUX : une ligne n'est lue dans le fichier
+ * que lorsque le consommateur la demande. C'est ce qui garde la mémoire
+ * constante, que le relevé fasse 1 000 ou 10 millions de lignes.
+ *
+ * Le Stream doit être fermé par l'appelant (try-with-resources) :
+ * sa fermeture ferme aussi le Reader.
+ */
+public interface BankStatementParser {
+
+    StatementFormat format();
+
+    Stream<StatementLine> parse(Reader content, AccountId accountId, Currency currency);
+}
@@ -0,0 +1,20 @@
+package com.wealthwise.application.usecase;
+
+import com.wealthwise.domain.account.model.AccountId;
+import com.wealthwise.domain.shared.Currency;
+
+import java.io.Reader;
+
+/**
+ * Commande pour importer un relevé bancaire dans un compte.
+ *
+ * Le contenu est passé sous forme de Reader (et non de String)
+ * pour pouvoir être lu en flux, sans jamais charger tout le fichier.
+ */
+public record ImportBankStatementCommand(
+        AccountId accountId,
+        Currency currency,
+        StatementFormat format,
+        Reader content
+) {
+}
@@ -0,0 +1,136 @@
+package com.wealthwise.application.usecase;
+
+import com.wealthwise.application.command.CreateTransactionCommand;
+import com.wealthwise.application.command.CreateTransactionsBatchCommand;
+import com.wealthwise.application.command.CreateTransactionsBatchCommandHandler;
+import com.wealthwise.application.command.CreateTransactionsBatchCommandHandler.BatchResult;
+import com.wealthwise.application.command.CreateTransactionsBatchCommandHandler.RowFailure;
+import com.wealthwise.application.usecase.ImportReport.RowRejection;
+import com.wealthwise.domain.account.port.AccountRepository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Use Case : importer un relevé bancaire (CSV ou OFX) dans un compte.
+ *
+ * Le fichier est lu en flux et découpé en paquets de taille fixe (chunkSize).
+ * Chaque paquet est envoyé au CreateTransactionsBatchCommandHandler AVANT
+ * de lire la suite du fichier : c'est la persistance qui impose son rythme
+ * à la lecture (backpressure). En mémoire, il n'y a donc jamais plus
+ * d'un paquet de commandes à la fois.
+ *
+ * Chaque paquet est committé en une seule transaction (solde du compte et
+ * transactions ensemble) : un échec en cours d'import laisse les paquets
+ * précédents complets et n'écrit rien du paquet fautif.
+ *
+ * L'import ne passe pas par les voies du CreateTransactionDispatcher : ses
+ * paquets ne sont pas ordonnés avec les créations unitaires du même compte.
+ * Seul le verrouillage optimiste protège le solde ; un conflit arrête l'import
+ * sur le paquet en cours (déjà annulé).
+ *
+ * Une ligne invalide (lecture ou règle métier de Transaction.create)
+ * est rapportée dans l'ImportReport sans interrompre l'import.
+ */
+public class ImportBankStatementUseCase {
+
+    private final Map<StatementFormat, BankStatementParser> parsers = new EnumMap<>(StatementFormat.class);
+    private final CreateTransactionsBatchCommandHandler batchHandler;
+    private final AccountRepository accountRepository;
+    private final int chunkSize;
+
+    public ImportBankStatementUseCase(List<BankStatementParser> parsers,
+                                      CreateTransactionsBatchCommandHandler batchHandler,
+                                      AccountRepository accountRepository,
+                                      int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive, got: " + chunkSize);
+        }
+        parsers.forEach(parser -> this.parsers.put(parser.format(), parser));
+        this.batchHandler = batchHandler;
+        this.accountRepository = accountRepository;
+        this.chunkSize = chunkSize;
+    }
+
+    public ImportReport handle(ImportBankStatementCommand command) {
+        BankStatementParser parser = parsers.get(command.format());
+        if (parser == null) {
+            throw new IllegalArgumentException("Unsupported statement format: " + command.format());
+        }
+        // Compte inexistant : on échoue tout de suite plutôt que de rejeter chaque ligne
+        if (accountRepository.findById(command.accountId()).isEmpty()) {
+            throw new IllegalArgumentException("Account not found: " + command.accountId().value());
+        }
+
+        long start = System.nanoTime();
+        Progress progress = new Progress();
+
+        List<CreateTransactionCommand> chunk = new ArrayList<>(chunkSize);
+        List<Long> chunkRows = new ArrayList<>(chunkSize);
+
+        try (Stream<StatementLine> lines = parser.parse(command.content(), command.accountId(), command.currency())) {
+            Iterator<StatementLine> it = lines.iterator();
+            while (it.hasNext()) {
+                StatementLine line = it.next();
+                progress.totalRows++;
+
+                if (line.isRejected()) {
+                    progress.reject(line.rowNumber(), line.error());
+                    continue;
+                }
+
+                chunk.add(line.command());
+                chunkRows.add(line.rowNumber());
+                if (chunk.size() == chunkSize) {
+                    flush(chunk, chunkRows, progress);
+                }
+            }
+        }
+        flush(chunk, chunkRows, progress);
+
+        return new ImportReport(
+                progress.totalRows,
+                progress.importedRows,
+                progress.rejectedRows,
+                List.copyOf(progress.rejections),
+                Duration.ofNanos(System.nanoTime() - start)
+        );
+    }
+
+    private void flush(List<CreateTransactionCommand> chunk, List<Long> chunkRows, Progress progress) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        BatchResult result = batchHandler.handleSkippingInvalid(new CreateTransactionsBatchCommand(List.copyOf(chunk)));
+        progress.importedRows += chunk.size() - result.failures().size();
+        for (RowFailure failure : result.failures()) {
+            progress.reject(chunkRows.get(failure.index()), failure.reason());
+        }
+
+        chunk.clear();
+        chunkRows.clear();
+    }
+
+    /**
+     * Compteurs mutables d'un import en cours.
+     */
+    private static final class Progress {
+        long totalRows;
+        long importedRows;
+        long rejectedRows;
+        final List<RowRejection> rejections = new ArrayList<>();
+
+        void reject(long rowNumber, String reason) {
+            rejectedRows++;
+            if (rejections.size() < ImportReport.MAX_REPORTED_REJECTIONS) {
+                rejections.add(new RowRejection(rowNumber, reason));
+            }
+        }
+    }
+}
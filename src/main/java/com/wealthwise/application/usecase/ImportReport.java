@@ -0,0 +1,39 @@
+package com.wealthwise.application.usecase;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Rapport d'import d'un relevé bancaire.
+ *
+ * Seules les MAX_REPORTED_REJECTIONS premières lignes rejetées sont détaillées,
+ * pour que le rapport reste de taille bornée même sur un fichier entièrement invalide ;
+ * rejectedRows donne toujours le total exact.
+ */
+public record ImportReport(
+        long totalRows,
+        long importedRows,
+        long rejectedRows,
+        List<RowRejection> rejections,
+        Duration elapsed
+) {
+
+    public static final int MAX_REPORTED_REJECTIONS = 1_000;
+
+    /**
+     * Débit de l'import, en lignes lues par seconde.
+     */
+    public double rowsPerSecond() {
+        long nanos = elapsed.toNanos();
+        if (nanos == 0) {
+            return 0.0;
+        }
+        return totalRows * 1_000_000_000.0 / nanos;
+    }
+
+    /**
+     * Ligne rejetée : numéro dans le fichier et raison (erreur de lecture ou règle métier).
+     */
+    public record RowRejection(long rowNumber, String reason) {
+    }
+}
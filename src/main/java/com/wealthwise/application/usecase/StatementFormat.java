@@ -0,0 +1,12 @@
+package com.wealthwise.application.usecase;
+
+/**
+ * Formats de relevés bancaires supportés par l'import.
+ *
+ * CSV = export tableur classique (date ; libellé ; montant signé)
+ * OFX = Open Financial Exchange, proposé par la plupart des banques françaises
+ */
+public enum StatementFormat {
+    CSV,
+    OFX
+}
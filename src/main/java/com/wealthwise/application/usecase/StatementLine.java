@@ -0,0 +1,28 @@
+package com.wealthwise.application.usecase;
+
+import com.wealthwise.application.command.CreateTransactionCommand;
+
+/**
+ * Une ligne lue dans un relevé : soit une commande prête à être exécutée,
+ * soit une erreur de lecture (date illisible, montant non numérique...).
+ *
+ * @param rowNumber numéro de la ligne (CSV) ou de l'opération (OFX) dans le fichier, à partir de 1
+ */
+public record StatementLine(
+        long rowNumber,
+        CreateTransactionCommand command,
+        String error
+) {
+
+    public static StatementLine parsed(long rowNumber, CreateTransactionCommand command) {
+        return new StatementLine(rowNumber, command, null);
+    }
+
+    public static StatementLine rejected(long rowNumber, String error) {
+        return new StatementLine(rowNumber, null, error);
+    }
+
+    public boolean isRejected() {
+        return error != null;
+    }
+}
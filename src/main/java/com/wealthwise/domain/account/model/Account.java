@@ -13,6 +13,10 @@ import java.util.List;
 
 /**
  * Aggregate Root du contexte Account.
+ *
+ * version : numéro de version de la dernière lecture/sauvegarde (null tant que
+ * le compte n'a jamais été persisté). Le repository s'en sert pour détecter
+ * deux mises à jour concurrentes du solde (verrouillage optimiste).
  */
 public class Account {
 
@@ -23,6 +27,7 @@ public class Account {
     private LocalDateTime createdAt;
     private Balance balance;
     private boolean closed;
+    private Long version;
 
     private final List<DomainEvent> domainEvents = new ArrayList<>();
 
@@ -63,7 +68,7 @@ public class Account {
      */
     public static Account reconstitute(AccountId id, String name, AccountType type,
                                         Currency currency, Money balance, boolean closed,
-                                        LocalDateTime createdAt) {
+                                        LocalDateTime createdAt, Long version) {
         Account account = new Account();
         account.id = id;
         account.name = name;
@@ -72,6 +77,7 @@ public class Account {
         account.balance = new Balance(balance);
         account.closed = closed;
         account.createdAt = createdAt;
+        account.version = version;
         return account;
     }
 
@@ -120,6 +126,13 @@ public class Account {
         this.closed = true;
     }
 
+    /**
+     * Appelé par le repository après une sauvegarde réussie.
+     */
+    public void updateVersion(long version) {
+        this.version = version;
+    }
+
     // ========== Domain Events ==========
 
     public List<DomainEvent> getDomainEvents() {
@@ -139,6 +152,7 @@ public class Account {
     public Balance getBalance() { return balance; }
     public boolean isClosed() { return closed; }
     public LocalDateTime getCreatedAt() { return createdAt; }
+    public Long getVersion() { return version; }
 
     // ========== Méthodes internes ==========
 
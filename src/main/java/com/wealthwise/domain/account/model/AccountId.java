@@ -1,5 +1,7 @@
 package com.wealthwise.domain.account.model;
 
+import com.wealthwise.domain.shared.UuidV7;
+
 import java.util.UUID;
 
 /**
@@ -11,27 +13,31 @@ import java.util.UUID;
  *
  * C'est un record avec un seul champ "value" — léger et immutable.
  */
-public record AccountId(String value) {
+public record AccountId(UUID value) {
 
     public AccountId {
-        if (value == null || value.isBlank()) {
-            throw new IllegalArgumentException("AccountId must not be null or blank");
+        if (value == null) {
+            throw new IllegalArgumentException("AccountId must not be null");
         }
     }
 
     /**
      * Génère un nouvel identifiant unique basé sur UUID.
-     * UUID (Universally Unique Identifier) : chaîne de 36 caractères
-     * quasi-impossible à dupliquer, même entre machines différentes.
+     * UUID (Universally Unique Identifier) : 128 bits (deux long)
+     * quasi-impossibles à dupliquer, même entre machines différentes.
+     * Gardé sous cette forme binaire de bout en bout : le texte (36
+     * caractères) n'existe qu'à la frontière de l'API (RestIds, DTO).
+     * Version 7 (UuidV7) : les ids successifs sont croissants, les INSERT
+     * s'ajoutent en fin d'index.
      */
     public static AccountId generate() {
-        return new AccountId(UUID.randomUUID().toString());
+        return new AccountId(UuidV7.generate());
     }
 
     /**
      * Recrée un AccountId à partir d'une valeur existante (ex: depuis la base de données).
      */
-    public static AccountId of(String value) {
+    public static AccountId of(UUID value) {
         return new AccountId(value);
     }
 }
@@ -1,27 +1,40 @@
 package com.wealthwise.domain.account.model;
 
 import com.wealthwise.domain.shared.Currency;
+import com.wealthwise.domain.shared.MinorUnits;
 import com.wealthwise.domain.shared.Money;
 
 /**
  * Solde d'un compte bancaire.
  *
- * Balance encapsule un Money et ajoute des règles métier financières :
+ * Balance encapsule un montant et ajoute des règles métier financières :
  * - On crédite (dépose) avec un montant positif
  * - On débite (retire) avec un montant positif
  * - On peut vérifier si un débit est possible avant de le faire
  *
  * C'est un record, donc immutable : credit() et debit() retournent
  * un NOUVEAU Balance, l'ancien ne change pas.
+ *
+ * Le montant est gardé en centimes (MinorUnits) : crédits, débits et
+ * vérifications de découvert sont des opérations sur des long.
+ * money() reconstruit le Money équivalent pour le reste du domaine.
  */
-public record Balance(Money money) {
+public record Balance(MinorUnits units) {
+
+    public Balance(Money money) {
+        this(MinorUnits.of(money));
+    }
 
     public static Balance of(double amount, Currency currency) {
-        return new Balance(Money.of(amount, currency));
+        return new Balance(MinorUnits.of(amount, currency));
     }
 
     public static Balance zero(Currency currency) {
-        return new Balance(Money.zero(currency));
+        return new Balance(MinorUnits.zero(currency));
+    }
+
+    public Money money() {
+        return units.toMoney();
     }
 
     /**
@@ -29,8 +42,8 @@ public record Balance(Money money) {
      * Le montant doit être positif — on ne "dépose" pas un montant négatif.
      */
     public Balance credit(Money amount) {
-        requirePositive(amount);
-        return new Balance(this.money.add(amount));
+        MinorUnits credited = requirePositive(amount);
+        return new Balance(this.units.add(credited));
     }
 
     /**
@@ -40,22 +53,24 @@ public record Balance(Money money) {
      * s'il autorise le découvert ou non (règle métier de niveau supérieur).
      */
     public Balance debit(Money amount) {
-        requirePositive(amount);
-        return new Balance(this.money.subtract(amount));
+        MinorUnits debited = requirePositive(amount);
+        return new Balance(this.units.subtract(debited));
     }
 
     /**
      * Vérifie si le solde permet de débiter le montant donné sans passer en négatif.
      */
     public boolean canDebit(Money amount) {
-        return !this.money.subtract(amount).isNegative();
+        return !this.units.subtract(MinorUnits.of(amount)).isNegative();
     }
 
-    private void requirePositive(Money amount) {
-        if (!amount.isPositive()) {
+    private static MinorUnits requirePositive(Money amount) {
+        MinorUnits units = MinorUnits.of(amount);
+        if (!units.isPositive()) {
             throw new IllegalArgumentException(
                     "Amount must be positive, got: " + amount.amount()
             );
         }
+        return units;
     }
 }
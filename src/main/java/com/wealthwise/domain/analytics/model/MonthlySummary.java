@@ -0,0 +1,71 @@
+package com.wealthwise.domain.analytics.model;
+
+import com.wealthwise.domain.shared.Currency;
+import com.wealthwise.domain.shared.MinorUnits;
+import com.wealthwise.domain.shared.Money;
+
+/**
+ * Read model : total et nombre de transactions d'un (compte, mois, catégorie, type).
+ *
+ * Ce n'est pas un agrégat : il n'a aucune règle métier et n'émet pas
+ * d'événement. Il est tenu à jour par MonthlySummaryProjector, par deltas,
+ * et lu tel quel par le rapport mensuel — qui ne relit donc jamais les
+ * transactions elles-mêmes.
+ *
+ * Le total est gardé en centimes (MinorUnits) : les deltas sont des
+ * additions de long, sans BigDecimal.
+ */
+public class MonthlySummary {
+
+    private final MonthlySummaryKey key;
+    private MinorUnits total;
+    private long transactionCount;
+
+    private MonthlySummary(MonthlySummaryKey key, MinorUnits total, long transactionCount) {
+        this.key = key;
+        this.total = total;
+        this.transactionCount = transactionCount;
+    }
+
+    public static MonthlySummary empty(MonthlySummaryKey key, Currency currency) {
+        return new MonthlySummary(key, MinorUnits.zero(currency), 0);
+    }
+
+    public static MonthlySummary reconstitute(MonthlySummaryKey key, MinorUnits total, long transactionCount) {
+        return new MonthlySummary(key, total, transactionCount);
+    }
+
+    // ========== Deltas ==========
+
+    public void add(Money amount) {
+        total = total.add(MinorUnits.of(amount));
+        transactionCount++;
+    }
+
+    public void remove(Money amount) {
+        total = total.subtract(MinorUnits.of(amount));
+        transactionCount--;
+    }
+
+    // ========== Getters ==========
+
+    public MonthlySummaryKey getKey() {
+        return key;
+    }
+
+    public MinorUnits getTotalUnits() {
+        return total;
+    }
+
+    public Money getTotal() {
+        return total.toMoney();
+    }
+
+    public Currency getCurrency() {
+        return total.currency();
+    }
+
+    public long getTransactionCount() {
+        return transactionCount;
+    }
+}
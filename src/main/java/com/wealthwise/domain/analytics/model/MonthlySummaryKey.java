@@ -0,0 +1,37 @@
+package com.wealthwise.domain.analytics.model;
+
+import com.wealthwise.domain.account.model.AccountId;
+import com.wealthwise.domain.category.model.CategoryId;
+import com.wealthwise.domain.transaction.model.TransactionType;
+
+import java.time.YearMonth;
+
+/**
+ * Clé d'une ligne du résumé mensuel : (compte, mois, catégorie, type).
+ *
+ * @param categoryId null pour les transactions pas encore catégorisées
+ */
+public record MonthlySummaryKey(
+        AccountId accountId,
+        YearMonth month,
+        CategoryId categoryId,
+        TransactionType type
+) {
+
+    public MonthlySummaryKey {
+        if (accountId == null || month == null || type == null) {
+            throw new IllegalArgumentException("MonthlySummaryKey requires accountId, month and type");
+        }
+    }
+
+    public boolean isCategorized() {
+        return categoryId != null;
+    }
+
+    /**
+     * Même compte, même mois, même type, autre catégorie.
+     */
+    public MonthlySummaryKey withCategory(CategoryId otherCategoryId) {
+        return new MonthlySummaryKey(accountId, month, otherCategoryId, type);
+    }
+}
@@ -0,0 +1,42 @@
+package com.wealthwise.domain.analytics.model;
+
+import com.wealthwise.domain.category.model.CategoryId;
+import com.wealthwise.domain.transaction.model.TransactionId;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * "La transaction X est comptée dans la catégorie Y du résumé mensuel."
+ *
+ * C'est le registre qui rend MonthlySummaryProjector idempotent (même rôle
+ * que BudgetAllocation pour les budgets) : un TransactionCreated rejoué
+ * n'est pas compté deux fois, et une re-catégorisation sait d'où retirer
+ * le montant.
+ *
+ * @param categoryId null tant que la transaction n'est pas catégorisée
+ * @param appliedAt  date du dernier événement appliqué
+ */
+public record SummaryPosting(
+        TransactionId transactionId,
+        CategoryId categoryId,
+        LocalDateTime appliedAt
+) {
+
+    public SummaryPosting {
+        if (transactionId == null || appliedAt == null) {
+            throw new IllegalArgumentException("SummaryPosting requires transactionId and appliedAt");
+        }
+    }
+
+    /**
+     * Vrai si la catégorisation (catégorie, date) est déjà prise en compte.
+     * Comparaison à la microseconde, comme BudgetAllocation (précision d'un TIMESTAMP).
+     */
+    public boolean alreadyApplied(CategoryId eventCategoryId, LocalDateTime occurredAt) {
+        LocalDateTime event = occurredAt.truncatedTo(ChronoUnit.MICROS);
+        LocalDateTime applied = appliedAt.truncatedTo(ChronoUnit.MICROS);
+        return event.isBefore(applied)
+                || (event.isEqual(applied) && eventCategoryId.equals(categoryId));
+    }
+}
@@ -0,0 +1,16 @@
+package com.wealthwise.domain.analytics.model;
+
+import com.wealthwise.domain.shared.MinorUnits;
+
+/**
+ * Un point d'une analyse de tendance.
+ *
+ * @param key mois ("2026-02"), identifiant de catégorie (null = non catégorisé)
+ *            ou identifiant de compte, selon le TrendDimension
+ */
+public record TrendBucket(
+        String key,
+        MinorUnits total,
+        long transactionCount
+) {
+}
@@ -0,0 +1,10 @@
+package com.wealthwise.domain.analytics.model;
+
+/**
+ * Axe de regroupement d'une analyse de tendance.
+ */
+public enum TrendDimension {
+    MONTH,
+    CATEGORY,
+    ACCOUNT
+}
@@ -0,0 +1,34 @@
+package com.wealthwise.domain.analytics.model;
+
+import com.wealthwise.domain.account.model.AccountId;
+import com.wealthwise.domain.category.model.CategoryId;
+import com.wealthwise.domain.shared.Currency;
+import com.wealthwise.domain.transaction.model.TransactionType;
+
+import java.time.YearMonth;
+
+/**
+ * Périmètre d'une analyse de tendance : mois de début et de fin (inclus),
+ * type et devise des transactions, et éventuellement un compte ou une catégorie.
+ *
+ * @param accountId  null = tous les comptes
+ * @param categoryId null = toutes les catégories (non catégorisées comprises)
+ */
+public record TrendFilter(
+        YearMonth from,
+        YearMonth to,
+        TransactionType type,
+        Currency currency,
+        AccountId accountId,
+        CategoryId categoryId
+) {
+
+    public TrendFilter {
+        if (from == null || to == null || type == null || currency == null) {
+            throw new IllegalArgumentException("TrendFilter requires from, to, type and currency");
+        }
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("Trend range start %s is after its end %s".formatted(from, to));
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.wealthwise.domain.analytics.port;
+
+import com.wealthwise.domain.account.model.AccountId;
+import com.wealthwise.domain.analytics.model.MonthlySummary;
+import com.wealthwise.domain.analytics.model.MonthlySummaryKey;
+import com.wealthwise.domain.analytics.model.SummaryPosting;
+import com.wealthwise.domain.transaction.model.TransactionId;
+
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Port de sortie pour le résumé mensuel (read model) et son registre.
+ */
+public interface MonthlySummaryRepository {
+
+    Optional<MonthlySummary> findByKey(MonthlySummaryKey key);
+
+    /**
+     * Toutes les lignes d'un compte pour un mois : quelques dizaines au plus
+     * (catégories × types), quel que soit le nombre de transactions.
+     */
+    List<MonthlySummary> findByAccountAndMonth(AccountId accountId, YearMonth month);
+
+    List<SummaryPosting> findPostings(Collection<TransactionId> transactionIds);
+
+    /**
+     * Enregistre les lignes modifiées et le registre ensemble (une seule transaction) :
+     * un delta n'est jamais compté sans que son imputation soit enregistrée.
+     */
+    void saveAll(Collection<MonthlySummary> summaries, Collection<SummaryPosting> postings);
+}
@@ -0,0 +1,21 @@
+package com.wealthwise.domain.analytics.port;
+
+import com.wealthwise.domain.analytics.model.TrendBucket;
+import com.wealthwise.domain.analytics.model.TrendDimension;
+import com.wealthwise.domain.analytics.model.TrendFilter;
+
+import java.util.List;
+
+/**
+ * Port de sortie : agrégations de transactions pour les courbes de tendance.
+ */
+public interface SpendingTrendIndex {
+
+    /**
+     * Totaux et nombres de transactions du périmètre, regroupés selon groupBy.
+     *
+     * - MONTH : un point par mois de la période, dans l'ordre, y compris les mois vides
+     * - CATEGORY, ACCOUNT : un point par catégorie ou compte ayant des transactions
+     */
+    List<TrendBucket> aggregate(TrendFilter filter, TrendDimension groupBy);
+}
@@ -5,6 +5,7 @@ import com.wealthwise.domain.budget.event.BudgetExceeded;
 import com.wealthwise.domain.budget.event.BudgetWarningReached;
 import com.wealthwise.domain.category.model.CategoryId;
 import com.wealthwise.domain.shared.Currency;
+import com.wealthwise.domain.shared.MinorUnits;
 import com.wealthwise.domain.shared.Money;
 
 import java.time.LocalDateTime;
@@ -17,17 +18,24 @@ import java.util.List;
  *
  * Gère un budget mensuel pour une catégorie de dépenses.
  * Émet des événements quand des seuils sont atteints (80% et 100%).
+ *
+ * Plafond et montant dépensé sont gardés en centimes (MinorUnits) : chaque
+ * dépense enregistrée est une addition de long, et les seuils sont comparés
+ * en entiers (pas d'arrondi de division). Les getters rendent des Money.
  */
 public class Budget {
 
     /** Seuil d'avertissement : 80% du budget utilisé */
     public static final double WARNING_THRESHOLD = 0.80;
 
+    /** Le même seuil en pourcentage entier, pour une comparaison exacte en centimes. */
+    private static final long WARNING_THRESHOLD_PERCENT = Math.round(WARNING_THRESHOLD * 100);
+
     private BudgetId id;
     private CategoryId categoryId;
-    private Money limit;
+    private MinorUnits limit;
     private BudgetPeriod period;
-    private Money spent;
+    private MinorUnits spent;
     private BudgetStatus status;
     private LocalDateTime createdAt;
 
@@ -58,9 +66,9 @@ public class Budget {
         Budget budget = new Budget();
         budget.id = BudgetId.generate();
         budget.categoryId = categoryId;
-        budget.limit = limit;
+        budget.limit = MinorUnits.of(limit);
         budget.period = period;
-        budget.spent = Money.zero(limit.currency());
+        budget.spent = MinorUnits.zero(limit.currency());
         budget.status = BudgetStatus.ON_TRACK;
         budget.createdAt = LocalDateTime.now();
         return budget;
@@ -76,9 +84,9 @@ public class Budget {
         Budget budget = new Budget();
         budget.id = id;
         budget.categoryId = categoryId;
-        budget.limit = limit;
+        budget.limit = MinorUnits.of(limit);
         budget.period = period;
-        budget.spent = spent;
+        budget.spent = MinorUnits.of(spent);
         budget.status = status;
         budget.createdAt = createdAt;
         return budget;
@@ -95,7 +103,24 @@ public class Budget {
             throw new IllegalArgumentException("Expense amount must be positive");
         }
 
-        this.spent = this.spent.add(amount);
+        this.spent = this.spent.add(MinorUnits.of(amount));
+        updateStatus();
+    }
+
+    /**
+     * Retire une dépense précédemment enregistrée (transaction re-catégorisée
+     * vers une autre catégorie). Le montant dépensé ne descend jamais sous zéro.
+     *
+     * Le statut redescend si on repasse sous un seuil, sans émettre d'événement :
+     * BudgetWarningReached et BudgetExceeded signalent un franchissement vers le haut.
+     */
+    public void releaseExpense(Money amount) {
+        if (amount == null || !amount.isPositive()) {
+            throw new IllegalArgumentException("Released amount must be positive");
+        }
+
+        MinorUnits remaining = this.spent.subtract(MinorUnits.of(amount));
+        this.spent = remaining.isNegative() ? MinorUnits.zero(this.spent.currency()) : remaining;
         updateStatus();
     }
 
@@ -103,7 +128,7 @@ public class Budget {
      * Calcule le montant restant (peut être négatif si dépassé).
      */
     public Money getRemainingAmount() {
-        return this.limit.subtract(this.spent);
+        return this.limit.subtract(this.spent).toMoney();
     }
 
     /**
@@ -113,7 +138,7 @@ public class Budget {
         if (this.limit.isZero()) {
             return 0.0;
         }
-        return this.spent.amount().doubleValue() / this.limit.amount().doubleValue();
+        return (double) this.spent.value() / this.limit.value();
     }
 
     // ========== Domain Events ==========
@@ -130,9 +155,9 @@ public class Budget {
 
     public BudgetId getId() { return id; }
     public CategoryId getCategoryId() { return categoryId; }
-    public Money getLimit() { return limit; }
+    public Money getLimit() { return limit.toMoney(); }
     public BudgetPeriod getPeriod() { return period; }
-    public Money getSpent() { return spent; }
+    public Money getSpent() { return spent.toMoney(); }
     public BudgetStatus getStatus() { return status; }
     public Currency getCurrency() { return limit.currency(); }
     public LocalDateTime getCreatedAt() { return createdAt; }
@@ -140,26 +165,44 @@ public class Budget {
     // ========== Méthodes internes ==========
 
     /**
-     * Met à jour le statut et émet des événements UNIQUEMENT au changement de seuil.
+     * Met à jour le statut et émet des événements UNIQUEMENT au franchissement
+     * d'un seuil vers le haut.
      */
     private void updateStatus() {
-        double usage = getUsagePercentage();
         BudgetStatus previousStatus = this.status;
 
-        if (usage >= 1.0) {
+        if (reachesLimit()) {
             this.status = BudgetStatus.EXCEEDED;
             if (previousStatus != BudgetStatus.EXCEEDED) {
                 domainEvents.add(new BudgetExceeded(
-                        this.id, this.limit, this.spent, LocalDateTime.now()
+                        this.id, getLimit(), getSpent(), LocalDateTime.now()
                 ));
             }
-        } else if (usage >= WARNING_THRESHOLD) {
+        } else if (reachesWarningThreshold()) {
             this.status = BudgetStatus.WARNING;
             if (previousStatus == BudgetStatus.ON_TRACK) {
                 domainEvents.add(new BudgetWarningReached(
-                        this.id, usage, LocalDateTime.now()
+                        this.id, getUsagePercentage(), LocalDateTime.now()
                 ));
             }
+        } else {
+            this.status = BudgetStatus.ON_TRACK;
         }
     }
+
+    /**
+     * Comme getUsagePercentage(), un plafond nul ne déclenche aucun seuil.
+     */
+    private boolean reachesLimit() {
+        return !this.limit.isZero() && this.spent.compareTo(this.limit) >= 0;
+    }
+
+    /**
+     * spent / limit >= 80 %, calculé sans division : spent × 100 >= limit × 80.
+     */
+    private boolean reachesWarningThreshold() {
+        return !this.limit.isZero()
+                && Math.multiplyExact(this.spent.value(), 100)
+                >= Math.multiplyExact(this.limit.value(), WARNING_THRESHOLD_PERCENT);
+    }
 }
@@ -0,0 +1,51 @@
+package com.wealthwise.domain.budget.model;
+
+import com.wealthwise.domain.category.model.CategoryId;
+import com.wealthwise.domain.shared.Money;
+import com.wealthwise.domain.transaction.model.TransactionId;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Imputation d'une dépense à un budget : "la transaction X compte pour Y € dans le budget Z".
+ *
+ * C'est le registre qui rend le BudgetProjector idempotent et capable de
+ * re-catégoriser : on sait toujours ce qui a déjà été imputé, et où.
+ *
+ * @param budgetId    budget crédité, null si aucun budget n'existe pour la catégorie ce mois-là
+ * @param appliedAt   date de l'événement le plus récent déjà appliqué ; un événement
+ *                    antérieur ou égal est un rejeu et doit être ignoré
+ */
+public record BudgetAllocation(
+        TransactionId transactionId,
+        CategoryId categoryId,
+        BudgetId budgetId,
+        Money amount,
+        LocalDateTime appliedAt
+) {
+
+    public BudgetAllocation {
+        if (transactionId == null || categoryId == null || amount == null || appliedAt == null) {
+            throw new IllegalArgumentException("BudgetAllocation requires transactionId, categoryId, amount and appliedAt");
+        }
+    }
+
+    public boolean isAllocated() {
+        return budgetId != null;
+    }
+
+    /**
+     * Vrai si l'événement (catégorie, date) a déjà été pris en compte :
+     * il est plus ancien que le dernier appliqué, ou c'est le même.
+     *
+     * Comparaison à la microseconde : c'est la précision d'un TIMESTAMP en base,
+     * un appliedAt relu est donc tronqué par rapport à l'événement d'origine.
+     */
+    public boolean alreadyApplied(CategoryId eventCategoryId, LocalDateTime occurredAt) {
+        LocalDateTime event = occurredAt.truncatedTo(ChronoUnit.MICROS);
+        LocalDateTime applied = appliedAt.truncatedTo(ChronoUnit.MICROS);
+        return event.isBefore(applied)
+                || (event.isEqual(applied) && eventCategoryId.equals(categoryId));
+    }
+}
@@ -1,23 +1,25 @@
 package com.wealthwise.domain.budget.model;
 
+import com.wealthwise.domain.shared.UuidV7;
+
 import java.util.UUID;
 
 /**
  * Identifiant unique d'un budget.
  */
-public record BudgetId(String value) {
+public record BudgetId(UUID value) {
 
     public BudgetId {
-        if (value == null || value.isBlank()) {
-            throw new IllegalArgumentException("BudgetId must not be null or blank");
+        if (value == null) {
+            throw new IllegalArgumentException("BudgetId must not be null");
         }
     }
 
     public static BudgetId generate() {
-        return new BudgetId(UUID.randomUUID().toString());
+        return new BudgetId(UuidV7.generate());
     }
 
-    public static BudgetId of(String value) {
+    public static BudgetId of(UUID value) {
         return new BudgetId(value);
     }
 }
@@ -0,0 +1,16 @@
+package com.wealthwise.domain.budget.port;
+
+import com.wealthwise.domain.budget.model.BudgetAllocation;
+import com.wealthwise.domain.transaction.model.TransactionId;
+
+import java.util.Optional;
+
+/**
+ * Port de sortie pour le registre des imputations budgétaires (une ligne par transaction).
+ */
+public interface BudgetAllocationRepository {
+
+    BudgetAllocation save(BudgetAllocation allocation);
+
+    Optional<BudgetAllocation> findByTransactionId(TransactionId transactionId);
+}
@@ -0,0 +1,71 @@
+package com.wealthwise.domain.categorization.model;
+
+import com.wealthwise.domain.category.model.CategoryId;
+
+import java.time.LocalDateTime;
+
+/**
+ * Aggregate Root : règle "mot-clé du libellé → catégorie".
+ *
+ * Ex: "CARREFOUR" → Alimentation, "SNCF" → Transport.
+ *
+ * Le mot-clé est conservé tel que saisi et sous sa forme normalisée
+ * (DescriptionNormalizer) : c'est la forme normalisée qui est recherchée
+ * dans les libellés.
+ */
+public class CategorizationRule {
+
+    private CategorizationRuleId id;
+    private String keyword;
+    private String normalizedKeyword;
+    private CategoryId categoryId;
+    private LocalDateTime createdAt;
+
+    // ========== Constructeurs ==========
+
+    private CategorizationRule() {
+        // Utilisé par create() et reconstitute()
+    }
+
+    // ========== Factory Methods ==========
+
+    public static CategorizationRule create(String keyword, CategoryId categoryId) {
+        if (categoryId == null) {
+            throw new IllegalArgumentException("CategoryId must not be null");
+        }
+        String normalized = DescriptionNormalizer.normalize(keyword);
+        if (normalized.isEmpty()) {
+            throw new IllegalArgumentException("Rule keyword must contain at least one letter or digit, got: " + keyword);
+        }
+
+        CategorizationRule rule = new CategorizationRule();
+        rule.id = CategorizationRuleId.generate();
+        rule.keyword = keyword.strip();
+        rule.normalizedKeyword = normalized;
+        rule.categoryId = categoryId;
+        rule.createdAt = LocalDateTime.now();
+        return rule;
+    }
+
+    /**
+     * Reconstitue une règle depuis la base de données.
+     */
+    public static CategorizationRule reconstitute(CategorizationRuleId id, String keyword,
+                                                  CategoryId categoryId, LocalDateTime createdAt) {
+        CategorizationRule rule = new CategorizationRule();
+        rule.id = id;
+        rule.keyword = keyword;
+        rule.normalizedKeyword = DescriptionNormalizer.normalize(keyword);
+        rule.categoryId = categoryId;
+        rule.createdAt = createdAt;
+        return rule;
+    }
+
+    // ========== Getters ==========
+
+    public CategorizationRuleId getId() { return id; }
+    public String getKeyword() { return keyword; }
+    public String getNormalizedKeyword() { return normalizedKeyword; }
+    public CategoryId getCategoryId() { return categoryId; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+}
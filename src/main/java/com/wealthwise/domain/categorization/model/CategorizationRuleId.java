@@ -0,0 +1,25 @@
+package com.wealthwise.domain.categorization.model;
+
+import com.wealthwise.domain.shared.UuidV7;
+
+import java.util.UUID;
+
+/**
+ * Identifiant unique d'une règle de catégorisation.
+ */
+public record CategorizationRuleId(UUID value) {
+
+    public CategorizationRuleId {
+        if (value == null) {
+            throw new IllegalArgumentException("CategorizationRuleId must not be null");
+        }
+    }
+
+    public static CategorizationRuleId generate() {
+        return new CategorizationRuleId(UuidV7.generate());
+    }
+
+    public static CategorizationRuleId of(UUID value) {
+        return new CategorizationRuleId(value);
+    }
+}
@@ -0,0 +1,17 @@
+package com.wealthwise.domain.categorization.model;
+
+import com.wealthwise.domain.category.model.CategoryId;
+import com.wealthwise.domain.transaction.model.ConfidenceLevel;
+
+/**
+ * Catégorie proposée pour une transaction, avec la confiance de la proposition.
+ *
+ * @param matchedBy mot-clé (normalisé) de la règle appliquée,
+ *                  null pour une prédiction du modèle appris (NaiveBayesModel)
+ */
+public record CategorySuggestion(
+        CategoryId categoryId,
+        ConfidenceLevel confidence,
+        String matchedBy
+) {
+}
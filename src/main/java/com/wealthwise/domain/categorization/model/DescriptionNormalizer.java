@@ -0,0 +1,66 @@
+package com.wealthwise.domain.categorization.model;
+
+/**
+ * Forme canonique d'un libellé bancaire, commune aux règles et aux transactions :
+ *
+ *   "CB Carrefour-Market  12/03 Évry"  →  "CB CARREFOUR MARKET 12 03 EVRY"
+ *
+ * - majuscules, accents retirés (é → E, ç → C...)
+ * - tout caractère autre que lettre ou chiffre devient une espace
+ * - espaces multiples réduites à une seule, aucune espace en tête ni en fin
+ *
+ * Le résultat ne contient donc que A-Z, 0-9 et l'espace : c'est l'alphabet
+ * de l'automate des règles (RuleSet).
+ */
+public final class DescriptionNormalizer {
+
+    private DescriptionNormalizer() {
+    }
+
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder normalized = new StringBuilder(text.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = fold(text.charAt(i));
+            if (c == ' ') {
+                pendingSpace = normalized.length() > 0;
+                continue;
+            }
+            if (pendingSpace) {
+                normalized.append(' ');
+                pendingSpace = false;
+            }
+            normalized.append(c);
+        }
+        return normalized.toString();
+    }
+
+    /**
+     * Un caractère du libellé → A-Z, 0-9 ou espace.
+     */
+    static char fold(char c) {
+        if (c >= 'A' && c <= 'Z' || c >= '0' && c <= '9') {
+            return c;
+        }
+        if (c >= 'a' && c <= 'z') {
+            return (char) (c - ('a' - 'A'));
+        }
+        if (c < 0x80) {
+            return ' ';
+        }
+        return switch (Character.toLowerCase(c)) {
+            case 'à', 'á', 'â', 'ã', 'ä', 'å' -> 'A';
+            case 'ç' -> 'C';
+            case 'è', 'é', 'ê', 'ë' -> 'E';
+            case 'ì', 'í', 'î', 'ï' -> 'I';
+            case 'ñ' -> 'N';
+            case 'ò', 'ó', 'ô', 'õ', 'ö', 'ø' -> 'O';
+            case 'ù', 'ú', 'û', 'ü' -> 'U';
+            case 'ý', 'ÿ' -> 'Y';
+            default -> ' ';
+        };
+    }
+}
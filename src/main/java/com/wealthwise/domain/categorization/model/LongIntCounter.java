@@ -0,0 +1,122 @@
+package com.wealthwise.domain.categorization.model;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Compteurs indexés par une clé long, en adressage ouvert sur deux tableaux
+ * primitifs : ni Long, ni Integer, ni entrée chaînée par clé.
+ *
+ * La clé 0 est réservée (case vide) ; les clés du NaiveBayesModel sont des
+ * empreintes qui ne valent jamais 0.
+ *
+ * Non thread-safe.
+ */
+final class LongIntCounter {
+
+    private static final long EMPTY = 0L;
+
+    private long[] keys;
+    private int[] counts;
+    private int size;
+
+    LongIntCounter(int expectedKeys) {
+        int capacity = Integer.highestOneBit(Math.max(16, expectedKeys * 2 - 1)) << 1;
+        keys = new long[capacity];
+        counts = new int[capacity];
+    }
+
+    int get(long key) {
+        int mask = keys.length - 1;
+        for (int slot = spread(key) & mask; keys[slot] != EMPTY; slot = (slot + 1) & mask) {
+            if (keys[slot] == key) {
+                return counts[slot];
+            }
+        }
+        return 0;
+    }
+
+    void increment(long key) {
+        int mask = keys.length - 1;
+        int slot = spread(key) & mask;
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == key) {
+                counts[slot]++;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        if ((size + 1) * 2 > keys.length) {
+            grow();
+            increment(key);
+            return;
+        }
+        keys[slot] = key;
+        counts[slot] = 1;
+        size++;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private void put(long key, int count) {
+        int mask = keys.length - 1;
+        int slot = spread(key) & mask;
+        while (keys[slot] != EMPTY) {
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        counts[slot] = count;
+    }
+
+    private void grow() {
+        long[] oldKeys = keys;
+        int[] oldCounts = counts;
+        keys = new long[oldKeys.length * 2];
+        counts = new int[oldCounts.length * 2];
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                put(oldKeys[i], oldCounts[i]);
+            }
+        }
+    }
+
+    private static int spread(long key) {
+        long mixed = key * 0x9E3779B97F4A7C15L;
+        return (int) (mixed ^ (mixed >>> 32));
+    }
+
+    // ========== Sérialisation ==========
+
+    /**
+     * Nombre d'entrées, puis les couples (clé, compteur) : 12 octets par entrée.
+     */
+    void writeTo(DataOutput out) throws IOException {
+        out.writeInt(size);
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != EMPTY) {
+                out.writeLong(keys[i]);
+                out.writeInt(counts[i]);
+            }
+        }
+    }
+
+    static LongIntCounter readFrom(DataInput in) throws IOException {
+        int entries = in.readInt();
+        if (entries < 0) {
+            throw new IOException("Corrupted counter table: negative size " + entries);
+        }
+        LongIntCounter counter = new LongIntCounter(entries);
+        for (int i = 0; i < entries; i++) {
+            long key = in.readLong();
+            if (key == EMPTY) {
+                throw new IOException("Corrupted counter table: reserved key");
+            }
+            counter.put(key, in.readInt());
+        }
+        counter.size = entries;
+        return counter;
+    }
+}
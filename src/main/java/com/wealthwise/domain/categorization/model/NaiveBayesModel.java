@@ -0,0 +1,307 @@
+package com.wealthwise.domain.categorization.model;
+
+import com.wealthwise.domain.category.model.CategoryId;
+import com.wealthwise.domain.transaction.model.ConfidenceLevel;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Modèle "libellé → catégorie" appris des catégorisations manuelles :
+ * classifieur bayésien naïf multinomial sur les mots du libellé normalisé
+ * (unigrammes) et les paires de mots consécutifs (bigrammes).
+ *
+ *   "CB CARREFOUR MARKET 12/03" → CB, CARREFOUR, MARKET, CB CARREFOUR, CARREFOUR MARKET
+ *
+ * Les nombres seuls (dates, références) sont ignorés : ils ne disent rien du marchand.
+ *
+ * Pour chaque catégorie c, score = log P(c) + Σ log P(mot | c), avec un
+ * lissage de Laplace (+1) sur le vocabulaire. Les mots jamais vus sont
+ * ignorés ; sans aucun mot connu, pas de prédiction.
+ *
+ * Confiance = probabilité a posteriori de la catégorie retenue, avec les
+ * seuils de ConfidenceLevel : HIGH au-delà de 80 %, MEDIUM au-delà de 50 %,
+ * LOW sinon. Deux garde-fous ramènent la confiance plus bas :
+ * - HIGH exige MIN_EXAMPLES_FOR_HIGH exemples de la catégorie : un seul
+ *   exemple ne suffit pas à être sûr ;
+ * - au-dessus de LOW, il faut au moins un mot connu vu majoritairement
+ *   dans la catégorie retenue. Des mots communs à toutes les catégories
+ *   (CB, PRLV, VIR...) ne suffisent pas.
+ *
+ * Stockage : les mots ne sont pas conservés, seulement leur empreinte 64 bits,
+ * dans des tables de compteurs primitives (LongIntCounter) :
+ * - vocabulaire : empreinte du mot → nombre d'occurrences, toutes catégories
+ * - occurrences : empreinte (mot, catégorie) → nombre d'occurrences
+ * learn() coûte donc O(nombre de mots du libellé), predict()
+ * O(mots × catégories).
+ *
+ * Non thread-safe : voir CategorizationLearner.
+ */
+public final class NaiveBayesModel {
+
+    private static final int MIN_EXAMPLES_FOR_HIGH = 3;
+
+    private static final double HIGH_THRESHOLD = 0.8;
+    private static final double MEDIUM_THRESHOLD = 0.5;
+
+    private static final int SNAPSHOT_MAGIC = 0x5757_4E42; // "WWNB"
+    private static final int SNAPSHOT_VERSION = 1;
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final List<CategoryId> categories = new ArrayList<>();
+    private final Map<CategoryId, Integer> categoryCodes = new HashMap<>();
+    private int[] examples = new int[8];
+    private long[] tokenTotals = new long[8];
+    private long totalExamples;
+
+    private final LongIntCounter vocabulary;
+    private final LongIntCounter occurrences;
+
+    public NaiveBayesModel() {
+        this(new LongIntCounter(1024), new LongIntCounter(1024));
+    }
+
+    private NaiveBayesModel(LongIntCounter vocabulary, LongIntCounter occurrences) {
+        this.vocabulary = vocabulary;
+        this.occurrences = occurrences;
+    }
+
+    // ========== Apprentissage ==========
+
+    /**
+     * Ajoute un exemple "ce libellé appartient à cette catégorie".
+     */
+    public void learn(String description, CategoryId categoryId) {
+        long[] tokens = tokens(description);
+        if (tokens.length == 0) {
+            return;
+        }
+        int category = codeOf(categoryId);
+        for (long token : tokens) {
+            vocabulary.increment(token);
+            occurrences.increment(pairKey(token, category));
+        }
+        examples[category]++;
+        tokenTotals[category] += tokens.length;
+        totalExamples++;
+    }
+
+    private int codeOf(CategoryId categoryId) {
+        Integer code = categoryCodes.get(categoryId);
+        if (code != null) {
+            return code;
+        }
+        code = categories.size();
+        categories.add(categoryId);
+        categoryCodes.put(categoryId, code);
+        if (code == examples.length) {
+            examples = Arrays.copyOf(examples, code * 2);
+            tokenTotals = Arrays.copyOf(tokenTotals, code * 2);
+        }
+        return code;
+    }
+
+    // ========== Prédiction ==========
+
+    public Optional<CategorySuggestion> predict(String description) {
+        if (totalExamples == 0) {
+            return Optional.empty();
+        }
+        long[] known = Arrays.stream(tokens(description))
+                .filter(token -> vocabulary.get(token) > 0)
+                .toArray();
+        if (known.length == 0) {
+            return Optional.empty();
+        }
+
+        double vocabularySize = vocabulary.size();
+        double[] scores = new double[categories.size()];
+        int best = 0;
+        for (int c = 0; c < scores.length; c++) {
+            double score = Math.log((double) examples[c] / totalExamples);
+            double denominator = Math.log(tokenTotals[c] + vocabularySize);
+            for (long token : known) {
+                score += Math.log(occurrences.get(pairKey(token, c)) + 1.0) - denominator;
+            }
+            scores[c] = score;
+            if (score > scores[best]) {
+                best = c;
+            }
+        }
+
+        // Probabilité a posteriori : softmax des log-scores, stable numériquement
+        double sum = 0;
+        for (double score : scores) {
+            sum += Math.exp(score - scores[best]);
+        }
+        double posterior = 1.0 / sum;
+
+        return Optional.of(new CategorySuggestion(categories.get(best), confidenceOf(posterior, best, known), null));
+    }
+
+    private ConfidenceLevel confidenceOf(double posterior, int category, long[] known) {
+        if (!hasDistinctiveToken(category, known)) {
+            return ConfidenceLevel.LOW;
+        }
+        if (posterior >= HIGH_THRESHOLD && examples[category] >= MIN_EXAMPLES_FOR_HIGH) {
+            return ConfidenceLevel.HIGH;
+        }
+        if (posterior >= MEDIUM_THRESHOLD) {
+            return ConfidenceLevel.MEDIUM;
+        }
+        return ConfidenceLevel.LOW;
+    }
+
+    private boolean hasDistinctiveToken(int category, long[] known) {
+        for (long token : known) {
+            if (occurrences.get(pairKey(token, category)) * 2 > vocabulary.get(token)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public long exampleCount() {
+        return totalExamples;
+    }
+
+    public int vocabularySize() {
+        return vocabulary.size();
+    }
+
+    // ========== Mots du libellé ==========
+
+    /**
+     * Empreintes des unigrammes et bigrammes du libellé normalisé, sans allouer de String par mot.
+     */
+    static long[] tokens(String description) {
+        String text = DescriptionNormalizer.normalize(description);
+        long[] tokens = new long[16];
+        int count = 0;
+        long previous = 0;
+
+        int start = 0;
+        while (start < text.length()) {
+            int end = text.indexOf(' ', start);
+            if (end < 0) {
+                end = text.length();
+            }
+            if (isWord(text, start, end)) {
+                long word = hash(FNV_OFFSET, text, start, end);
+                if (count + 2 > tokens.length) {
+                    tokens = Arrays.copyOf(tokens, tokens.length * 2);
+                }
+                tokens[count++] = nonZero(word);
+                if (previous != 0) {
+                    tokens[count++] = nonZero(hash(previous * FNV_PRIME, text, start, end) ^ 0x2F);
+                }
+                previous = word;
+            }
+            start = end + 1;
+        }
+        return Arrays.copyOf(tokens, count);
+    }
+
+    /**
+     * Au moins deux caractères, dont une lettre.
+     */
+    private static boolean isWord(String text, int start, int end) {
+        if (end - start < 2) {
+            return false;
+        }
+        for (int i = start; i < end; i++) {
+            if (text.charAt(i) >= 'A') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static long hash(long seed, String text, int start, int end) {
+        long hash = seed;
+        for (int i = start; i < end; i++) {
+            hash ^= text.charAt(i);
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+
+    private static long pairKey(long token, int category) {
+        return nonZero((token ^ (category + 1) * 0x9E3779B97F4A7C15L) * FNV_PRIME);
+    }
+
+    private static long nonZero(long key) {
+        return key != 0 ? key : FNV_OFFSET;
+    }
+
+    // ========== Snapshot ==========
+
+    /**
+     * Format binaire compact : en-tête, catégories et leurs totaux, puis les
+     * deux tables de compteurs (12 octets par entrée).
+     *
+     * Les ids de catégorie restent écrits en texte : le format (version 1)
+     * est celui des snapshots déjà sur disque.
+     */
+    public void writeTo(DataOutput out) throws IOException {
+        out.writeInt(SNAPSHOT_MAGIC);
+        out.writeInt(SNAPSHOT_VERSION);
+        out.writeInt(categories.size());
+        for (int c = 0; c < categories.size(); c++) {
+            out.writeUTF(categories.get(c).value().toString());
+            out.writeInt(examples[c]);
+            out.writeLong(tokenTotals[c]);
+        }
+        vocabulary.writeTo(out);
+        occurrences.writeTo(out);
+    }
+
+    public static NaiveBayesModel readFrom(DataInput in) throws IOException {
+        if (in.readInt() != SNAPSHOT_MAGIC) {
+            throw new IOException("Not a categorization model snapshot");
+        }
+        int version = in.readInt();
+        if (version != SNAPSHOT_VERSION) {
+            throw new IOException("Unsupported categorization model snapshot version: " + version);
+        }
+
+        int categoryCount = in.readInt();
+        List<CategoryId> categories = new ArrayList<>(categoryCount);
+        int[] examples = new int[Math.max(8, categoryCount)];
+        long[] tokenTotals = new long[examples.length];
+        for (int c = 0; c < categoryCount; c++) {
+            categories.add(readCategoryId(in));
+            examples[c] = in.readInt();
+            tokenTotals[c] = in.readLong();
+        }
+
+        NaiveBayesModel model = new NaiveBayesModel(LongIntCounter.readFrom(in), LongIntCounter.readFrom(in));
+        for (CategoryId categoryId : categories) {
+            model.categoryCodes.put(categoryId, model.categories.size());
+            model.categories.add(categoryId);
+        }
+        model.examples = examples;
+        model.tokenTotals = tokenTotals;
+        model.totalExamples = Arrays.stream(examples).asLongStream().sum();
+        return model;
+    }
+
+    private static CategoryId readCategoryId(DataInput in) throws IOException {
+        String id = in.readUTF();
+        try {
+            return CategoryId.of(UUID.fromString(id));
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Invalid category id in snapshot: " + id, e);
+        }
+    }
+}
@@ -0,0 +1,347 @@
+package com.wealthwise.domain.categorization.model;
+
+import com.wealthwise.domain.category.model.CategoryId;
+import com.wealthwise.domain.transaction.model.ConfidenceLevel;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Règles de catégorisation compilées en un automate d'Aho-Corasick.
+ *
+ * Les mots-clés normalisés forment un arbre de préfixes (trie) ; chaque état
+ * connaît aussi son "lien d'échec" : le plus long suffixe de son chemin qui
+ * est encore un préfixe d'un mot-clé. Le libellé est lu une seule fois,
+ * caractère par caractère, et tous les mots-clés qu'il contient sont trouvés
+ * au passage :
+ *
+ *   mots-clés : CARREFOUR, FOUR, AMAZON, AMAZON PRIME
+ *   libellé   : "CB CARREFOUR CITY"  →  CARREFOUR (mot entier), FOUR (dans un mot)
+ *
+ * Coût d'une recherche : linéaire en longueur du libellé (plus le nombre de
+ * correspondances), quel que soit le nombre de règles. Des dizaines de
+ * milliers de règles marchandes coûtent le même temps par ligne importée qu'une seule.
+ *
+ * Choix de la catégorie :
+ * - Une correspondance "mot entier" (bornée par des espaces ou les extrémités)
+ *   l'emporte sur une correspondance à l'intérieur d'un mot.
+ * - Parmi elles, le mot-clé le plus long gagne (AMAZON PRIME plutôt qu'AMAZON),
+ *   puis la règle la plus ancienne.
+ * - HIGH   : mot entier, et aucune autre règle d'une autre catégorie ne correspond
+ *            ailleurs dans le libellé
+ * - MEDIUM : mot entier, mais une autre catégorie correspond aussi ailleurs
+ *            (ex: "CARREFOUR STATION ESSENCE" → Alimentation ou Carburant ?)
+ * - LOW    : seulement trouvé à l'intérieur d'un mot
+ *
+ * Deux règles de même mot-clé : seule la première (la plus ancienne) est retenue.
+ *
+ * Immutable une fois compilé : un même RuleSet peut servir à plusieurs
+ * threads sans synchronisation.
+ */
+public final class RuleSet {
+
+    /** Espace, A-Z, 0-9 : l'alphabet du DescriptionNormalizer. */
+    private static final int ALPHABET = 37;
+    private static final int ROOT = 0;
+    private static final int NONE = -1;
+
+    private static final RuleSet EMPTY = compile(List.of());
+
+    // ========== Automate (tableaux parallèles indexés par état) ==========
+
+    /** Transitions de l'état s : edgeSymbols/edgeTargets[edgeStart[s] .. edgeStart[s + 1]), triées par symbole. */
+    private final int[] edgeStart;
+    private final byte[] edgeSymbols;
+    private final int[] edgeTargets;
+    private final int[] failure;
+    /** Règle dont le mot-clé se termine exactement sur cet état, ou NONE. */
+    private final int[] ruleAt;
+    /** Plus proche état de la chaîne d'échec qui termine un mot-clé, ou NONE. */
+    private final int[] outputLink;
+
+    // ========== Règles (indexées par numéro de règle) ==========
+
+    private final CategoryId[] categories;
+    private final String[] keywords;
+
+    private RuleSet(int[] edgeStart, byte[] edgeSymbols, int[] edgeTargets, int[] failure,
+                    int[] ruleAt, int[] outputLink, CategoryId[] categories, String[] keywords) {
+        this.edgeStart = edgeStart;
+        this.edgeSymbols = edgeSymbols;
+        this.edgeTargets = edgeTargets;
+        this.failure = failure;
+        this.ruleAt = ruleAt;
+        this.outputLink = outputLink;
+        this.categories = categories;
+        this.keywords = keywords;
+    }
+
+    public static RuleSet empty() {
+        return EMPTY;
+    }
+
+    // ========== Compilation ==========
+
+    /**
+     * @param rules règles dans leur ordre de priorité (la plus ancienne d'abord)
+     */
+    public static RuleSet compile(List<CategorizationRule> rules) {
+        Builder builder = new Builder();
+        for (CategorizationRule rule : rules) {
+            builder.add(rule.getNormalizedKeyword(), rule.getCategoryId());
+        }
+        return builder.build();
+    }
+
+    /**
+     * Trie construit avec une table d'arêtes (état, symbole) → état, puis
+     * aplati en tableaux triés une fois les liens d'échec calculés.
+     */
+    private static final class Builder {
+
+        private final Map<Long, Integer> edges = new HashMap<>();
+        private int[] ruleAt = {NONE};
+        private int stateCount = 1;
+
+        private CategoryId[] categories = new CategoryId[16];
+        private String[] keywords = new String[16];
+        private int ruleCount;
+
+        void add(String keyword, CategoryId categoryId) {
+            int state = ROOT;
+            for (int i = 0; i < keyword.length(); i++) {
+                int symbol = symbolOf(keyword.charAt(i));
+                long edge = edgeKey(state, symbol);
+                Integer next = edges.get(edge);
+                if (next == null) {
+                    next = newState();
+                    edges.put(edge, next);
+                }
+                state = next;
+            }
+            if (ruleAt[state] != NONE) {
+                return;
+            }
+            if (ruleCount == categories.length) {
+                categories = Arrays.copyOf(categories, ruleCount * 2);
+                keywords = Arrays.copyOf(keywords, ruleCount * 2);
+            }
+            categories[ruleCount] = categoryId;
+            keywords[ruleCount] = keyword;
+            ruleAt[state] = ruleCount++;
+        }
+
+        private int newState() {
+            if (stateCount == ruleAt.length) {
+                int previous = ruleAt.length;
+                ruleAt = Arrays.copyOf(ruleAt, previous * 2);
+                Arrays.fill(ruleAt, previous, ruleAt.length, NONE);
+            }
+            return stateCount++;
+        }
+
+        RuleSet build() {
+            // Arêtes aplaties par état, triées par symbole (recherche dichotomique à la lecture)
+            int[] edgeStart = new int[stateCount + 1];
+            for (long edge : edges.keySet()) {
+                edgeStart[(int) (edge / ALPHABET) + 1]++;
+            }
+            for (int s = 0; s < stateCount; s++) {
+                edgeStart[s + 1] += edgeStart[s];
+            }
+            byte[] edgeSymbols = new byte[edges.size()];
+            int[] edgeTargets = new int[edges.size()];
+            int[] fill = Arrays.copyOf(edgeStart, stateCount);
+            edges.entrySet().stream()
+                    .sorted(Map.Entry.comparingByKey())
+                    .forEach(entry -> {
+                        int from = (int) (entry.getKey() / ALPHABET);
+                        int slot = fill[from]++;
+                        edgeSymbols[slot] = (byte) (entry.getKey() % ALPHABET);
+                        edgeTargets[slot] = entry.getValue();
+                    });
+
+            // Liens d'échec et de sortie, en largeur : le lien d'un état pointe
+            // toujours vers un état moins profond, donc déjà calculé
+            int[] failure = new int[stateCount];
+            int[] outputLink = new int[stateCount];
+            Arrays.fill(outputLink, NONE);
+            ArrayDeque<Integer> queue = new ArrayDeque<>();
+            for (int e = edgeStart[ROOT]; e < edgeStart[ROOT + 1]; e++) {
+                failure[edgeTargets[e]] = ROOT;
+                queue.add(edgeTargets[e]);
+            }
+            while (!queue.isEmpty()) {
+                int state = queue.poll();
+                for (int e = edgeStart[state]; e < edgeStart[state + 1]; e++) {
+                    int child = edgeTargets[e];
+                    int symbol = edgeSymbols[e];
+
+                    int fallback = failure[state];
+                    int target = step(edgeStart, edgeSymbols, edgeTargets, fallback, symbol);
+                    while (target == NONE && fallback != ROOT) {
+                        fallback = failure[fallback];
+                        target = step(edgeStart, edgeSymbols, edgeTargets, fallback, symbol);
+                    }
+                    failure[child] = target != NONE ? target : ROOT;
+                    outputLink[child] = ruleAt[failure[child]] != NONE
+                            ? failure[child]
+                            : outputLink[failure[child]];
+                    queue.add(child);
+                }
+            }
+
+            return new RuleSet(edgeStart, edgeSymbols, edgeTargets, failure,
+                    Arrays.copyOf(ruleAt, stateCount), outputLink,
+                    Arrays.copyOf(categories, ruleCount), Arrays.copyOf(keywords, ruleCount));
+        }
+
+        private static long edgeKey(int state, int symbol) {
+            return (long) state * ALPHABET + symbol;
+        }
+    }
+
+    // ========== Recherche ==========
+
+    /**
+     * Propose une catégorie pour un libellé brut (normalisé ici).
+     */
+    public Optional<CategorySuggestion> match(String description) {
+        if (categories.length == 0) {
+            return Optional.empty();
+        }
+        String text = DescriptionNormalizer.normalize(description);
+        Matches matches = new Matches();
+
+        int state = ROOT;
+        for (int i = 0; i < text.length(); i++) {
+            int symbol = symbolOf(text.charAt(i));
+            int next = step(edgeStart, edgeSymbols, edgeTargets, state, symbol);
+            while (next == NONE && state != ROOT) {
+                state = failure[state];
+                next = step(edgeStart, edgeSymbols, edgeTargets, state, symbol);
+            }
+            state = next != NONE ? next : ROOT;
+
+            int end = i + 1;
+            for (int out = ruleAt[state] != NONE ? state : outputLink[state]; out != NONE; out = outputLink[out]) {
+                int rule = ruleAt[out];
+                int start = end - keywords[rule].length();
+                boolean wholeWord = (start == 0 || text.charAt(start - 1) == ' ')
+                        && (end == text.length() || text.charAt(end) == ' ');
+                matches.add(rule, start, end, wholeWord);
+            }
+        }
+        return matches.best();
+    }
+
+    public int size() {
+        return categories.length;
+    }
+
+    private static int step(int[] edgeStart, byte[] edgeSymbols, int[] edgeTargets, int state, int symbol) {
+        int low = edgeStart[state];
+        int high = edgeStart[state + 1] - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int found = edgeSymbols[mid];
+            if (found < symbol) {
+                low = mid + 1;
+            } else if (found > symbol) {
+                high = mid - 1;
+            } else {
+                return edgeTargets[mid];
+            }
+        }
+        return NONE;
+    }
+
+    private static int symbolOf(char c) {
+        if (c >= 'A' && c <= 'Z') {
+            return c - 'A' + 1;
+        }
+        if (c >= '0' && c <= '9') {
+            return c - '0' + 27;
+        }
+        return 0;
+    }
+
+    /**
+     * Correspondances d'un libellé : la meilleure de chaque sorte, plus les
+     * mots entiers rencontrés pour détecter une autre catégorie concurrente.
+     */
+    private final class Matches {
+
+        private int bestWhole = NONE;
+        private int bestWholeStart;
+        private int bestWholeEnd;
+        private int bestPartial = NONE;
+
+        // Mots entiers : règle, début, fin (rarement plus de quelques-uns par libellé)
+        private int[] whole = new int[12];
+        private int wholeCount;
+
+        void add(int rule, int start, int end, boolean wholeWord) {
+            if (!wholeWord) {
+                if (bestPartial == NONE || isBetter(rule, bestPartial)) {
+                    bestPartial = rule;
+                }
+                return;
+            }
+            if (wholeCount * 3 == whole.length) {
+                whole = Arrays.copyOf(whole, whole.length * 2);
+            }
+            whole[wholeCount * 3] = rule;
+            whole[wholeCount * 3 + 1] = start;
+            whole[wholeCount * 3 + 2] = end;
+            wholeCount++;
+            if (bestWhole == NONE || isBetter(rule, bestWhole)) {
+                bestWhole = rule;
+                bestWholeStart = start;
+                bestWholeEnd = end;
+            }
+        }
+
+        Optional<CategorySuggestion> best() {
+            if (bestWhole != NONE) {
+                return Optional.of(suggestion(bestWhole, hasCompetitor()
+                        ? ConfidenceLevel.MEDIUM
+                        : ConfidenceLevel.HIGH));
+            }
+            if (bestPartial != NONE) {
+                return Optional.of(suggestion(bestPartial, ConfidenceLevel.LOW));
+            }
+            return Optional.empty();
+        }
+
+        /**
+         * Une autre catégorie trouvée hors du mot-clé retenu. Un mot-clé inclus
+         * dans celui retenu (AMAZON dans AMAZON PRIME) n'est pas un concurrent.
+         */
+        private boolean hasCompetitor() {
+            CategoryId chosen = categories[bestWhole];
+            for (int m = 0; m < wholeCount; m++) {
+                int rule = whole[m * 3];
+                boolean inside = whole[m * 3 + 1] >= bestWholeStart && whole[m * 3 + 2] <= bestWholeEnd;
+                if (!inside && !categories[rule].equals(chosen)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private boolean isBetter(int rule, int current) {
+            int length = keywords[rule].length();
+            int currentLength = keywords[current].length();
+            return length > currentLength || (length == currentLength && rule < current);
+        }
+
+        private CategorySuggestion suggestion(int rule, ConfidenceLevel confidence) {
+            return new CategorySuggestion(categories[rule], confidence, keywords[rule]);
+        }
+    }
+}
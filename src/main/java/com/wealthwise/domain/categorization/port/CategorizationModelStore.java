@@ -0,0 +1,19 @@
+package com.wealthwise.domain.categorization.port;
+
+import com.wealthwise.domain.categorization.model.NaiveBayesModel;
+
+import java.util.Optional;
+
+/**
+ * Port de sortie : sauvegarde du modèle de catégorisation appris,
+ * pour ne pas repartir de zéro à chaque redémarrage.
+ */
+public interface CategorizationModelStore {
+
+    /**
+     * @return le dernier modèle sauvegardé, vide s'il n'y en a pas
+     */
+    Optional<NaiveBayesModel> load();
+
+    void save(NaiveBayesModel model);
+}
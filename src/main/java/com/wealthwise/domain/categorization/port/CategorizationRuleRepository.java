@@ -0,0 +1,21 @@
+package com.wealthwise.domain.categorization.port;
+
+import com.wealthwise.domain.categorization.model.CategorizationRule;
+import com.wealthwise.domain.categorization.model.CategorizationRuleId;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Port de sortie pour la persistance des règles de catégorisation.
+ */
+public interface CategorizationRuleRepository {
+
+    CategorizationRule save(CategorizationRule rule);
+
+    Optional<CategorizationRule> findById(CategorizationRuleId id);
+
+    List<CategorizationRule> findAll();
+
+    void deleteById(CategorizationRuleId id);
+}
@@ -1,5 +1,7 @@
 package com.wealthwise.domain.category.model;
 
+import com.wealthwise.domain.shared.UuidV7;
+
 import java.util.UUID;
 
 /**
@@ -9,19 +11,19 @@ import java.util.UUID;
  * En DDD, les contextes ne se référencent que par ID, jamais par objet entier.
  * C'est ce qui permet de garder les contextes indépendants.
  */
-public record CategoryId(String value) {
+public record CategoryId(UUID value) {
 
     public CategoryId {
-        if (value == null || value.isBlank()) {
-            throw new IllegalArgumentException("CategoryId must not be null or blank");
+        if (value == null) {
+            throw new IllegalArgumentException("CategoryId must not be null");
         }
     }
 
     public static CategoryId generate() {
-        return new CategoryId(UUID.randomUUID().toString());
+        return new CategoryId(UuidV7.generate());
     }
 
-    public static CategoryId of(String value) {
+    public static CategoryId of(UUID value) {
         return new CategoryId(value);
     }
 }
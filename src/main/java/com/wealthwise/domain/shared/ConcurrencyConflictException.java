@@ -0,0 +1,18 @@
+package com.wealthwise.domain.shared;
+
+/**
+ * Levée par un repository quand l'agrégat a été modifié par quelqu'un d'autre
+ * entre sa lecture et sa sauvegarde (verrouillage optimiste).
+ *
+ * L'écriture est rejetée plutôt qu'écrasée : l'appelant peut recharger
+ * l'agrégat et rejouer son opération.
+ *
+ * Hérite de IllegalStateException : si personne ne la rattrape, l'API
+ * répond 409 Conflict.
+ */
+public class ConcurrencyConflictException extends IllegalStateException {
+
+    public ConcurrencyConflictException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,21 @@
+package com.wealthwise.domain.shared;
+
+import com.wealthwise.domain.account.event.DomainEvent;
+
+import java.util.List;
+
+/**
+ * Abonné à un type d'événement du domaine.
+ *
+ * Les événements sont livrés par lots (dans l'ordre de publication) :
+ * un abonné qui écrit en base peut ainsi traiter plusieurs événements
+ * en une seule passe.
+ *
+ * @param <E> type d'événement écouté (les sous-types sont aussi livrés)
+ */
+public interface DomainEventListener<E extends DomainEvent> {
+
+    Class<E> eventType();
+
+    void onEvents(List<E> events);
+}
@@ -0,0 +1,20 @@
+package com.wealthwise.domain.shared;
+
+import com.wealthwise.domain.account.event.DomainEvent;
+
+import java.util.List;
+
+/**
+ * Port de sortie : publier les événements émis par les agrégats.
+ *
+ * Les adaptateurs de persistance appellent publish() APRÈS une sauvegarde
+ * réussie, puis vident les événements de l'agrégat (clearEvents()).
+ * Un événement n'est donc jamais publié pour un état qui n'a pas été persisté.
+ *
+ * L'implémentation décide du mode de livraison (synchrone, asynchrone...) :
+ * l'appelant ne doit pas supposer que les abonnés ont déjà réagi au retour.
+ */
+public interface DomainEventPublisher {
+
+    void publish(List<? extends DomainEvent> events);
+}
@@ -0,0 +1,135 @@
+package com.wealthwise.domain.shared;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Objects;
+
+/**
+ * Montant en unités mineures (centimes) stocké dans un long : le pendant
+ * "rapide" de Money pour les calculs répétés (soldes, budgets, agrégations).
+ *
+ * Money travaille toujours à l'échelle 2 : 12,34 € ⇔ MinorUnits(1234, EUR).
+ * Les deux représentations sont donc interchangeables sans perte
+ * (MinorUnits.of(money).toMoney().equals(money)).
+ *
+ * - Additions/soustractions sur des long : aucune allocation de BigDecimal
+ * - Dépassement de capacité détecté (Math.addExact...) : ArithmeticException
+ *   plutôt qu'un montant faux
+ * - Même garde-fou que Money : pas d'opération entre deux devises
+ */
+public record MinorUnits(long value, Currency currency) implements Comparable<MinorUnits> {
+
+    /** Nombre de décimales de Money. */
+    public static final int SCALE = 2;
+
+    private static final double UNITS_PER_MAJOR = 100.0;
+
+    /**
+     * En dessous, value × 100 se calcule en double avec une erreur très
+     * inférieure au centime : l'arrondi direct donne le même résultat que
+     * BigDecimal.valueOf(value).setScale(2, HALF_UP), sauf tout près d'un demi-centime.
+     */
+    private static final double FAST_PATH_LIMIT = 1e9;
+    private static final double HALF_CENT_GUARD = 1e-3;
+
+    public MinorUnits {
+        Objects.requireNonNull(currency, "Currency must not be null");
+    }
+
+    // ========== Factory Methods ==========
+
+    public static MinorUnits of(Money money) {
+        return new MinorUnits(money.amount().movePointRight(SCALE).longValueExact(), money.currency());
+    }
+
+    /**
+     * Même arrondi que Money.of(double) (HALF_UP à 2 décimales).
+     */
+    public static MinorUnits of(double amount, Currency currency) {
+        return new MinorUnits(fromDouble(amount), currency);
+    }
+
+    public static MinorUnits zero(Currency currency) {
+        return new MinorUnits(0, currency);
+    }
+
+    /**
+     * Convertit un montant double en centimes, exactement comme
+     * BigDecimal.valueOf(amount).setScale(2, HALF_UP).
+     *
+     * Cas courant : un simple arrondi de amount × 100. Près d'un demi-centime
+     * (ex: 1.005, dont le double vaut 1.00499999...) ou pour les très grands
+     * montants, on repasse par BigDecimal pour garder le résultat historique.
+     */
+    static long fromDouble(double amount) {
+        if (Math.abs(amount) < FAST_PATH_LIMIT) {
+            double scaled = amount * UNITS_PER_MAJOR;
+            double nearest = Math.rint(scaled);
+            if (Math.abs(Math.abs(scaled - nearest) - 0.5) > HALF_CENT_GUARD) {
+                return (long) nearest;
+            }
+        }
+        return BigDecimal.valueOf(amount)
+                .setScale(SCALE, RoundingMode.HALF_UP)
+                .unscaledValue()
+                .longValueExact();
+    }
+
+    // ========== Opérations arithmétiques ==========
+
+    public MinorUnits add(MinorUnits other) {
+        requireSameCurrency(other);
+        return new MinorUnits(Math.addExact(this.value, other.value), this.currency);
+    }
+
+    public MinorUnits subtract(MinorUnits other) {
+        requireSameCurrency(other);
+        return new MinorUnits(Math.subtractExact(this.value, other.value), this.currency);
+    }
+
+    public MinorUnits negate() {
+        return new MinorUnits(Math.negateExact(this.value), this.currency);
+    }
+
+    // ========== Comparaisons ==========
+
+    public boolean isPositive() {
+        return value > 0;
+    }
+
+    public boolean isNegative() {
+        return value < 0;
+    }
+
+    public boolean isZero() {
+        return value == 0;
+    }
+
+    public boolean isGreaterThan(MinorUnits other) {
+        requireSameCurrency(other);
+        return this.value > other.value;
+    }
+
+    @Override
+    public int compareTo(MinorUnits other) {
+        requireSameCurrency(other);
+        return Long.compare(this.value, other.value);
+    }
+
+    // ========== Conversion ==========
+
+    public Money toMoney() {
+        return new Money(BigDecimal.valueOf(value, SCALE), currency);
+    }
+
+    // ========== Méthode interne ==========
+
+    private void requireSameCurrency(MinorUnits other) {
+        if (this.currency != other.currency) {
+            throw new IllegalArgumentException(
+                    "Cannot operate on different currency: %s vs %s"
+                            .formatted(this.currency, other.currency)
+            );
+        }
+    }
+}
@@ -9,6 +9,9 @@ import java.util.Objects;
  *
  * Immutable grâce au record Java. Toute opération retourne un NOUVEAU Money.
  * Utilise BigDecimal pour éviter les erreurs d'arrondi des doubles.
+ *
+ * Pour les calculs répétés (soldes, budgets), voir MinorUnits : la même
+ * valeur en centimes dans un long.
  */
 public record Money(BigDecimal amount, Currency currency) {
 
@@ -19,8 +22,22 @@ public record Money(BigDecimal amount, Currency currency) {
 
     // ========== Factory Methods ==========
 
+    /**
+     * Arrondi HALF_UP à 2 décimales. La conversion passe par les centimes
+     * (MinorUnits) : pas de BigDecimal.valueOf(double) dans le cas courant, et le
+     * setScale du constructeur n'a plus rien à arrondir.
+     */
     public static Money of(double amount, Currency currency) {
-        return new Money(BigDecimal.valueOf(amount), currency);
+        return new Money(BigDecimal.valueOf(MinorUnits.fromDouble(amount), MinorUnits.SCALE), currency);
+    }
+
+    /**
+     * Montant déjà décimal (ex: colonne NUMERIC lue en base) : pas de détour
+     * par double, donc ni coût de conversion ni dérive d'arrondi sur les gros montants.
+     */
+    public static Money of(BigDecimal amount, Currency currency) {
+        Objects.requireNonNull(amount, "Amount must not be null");
+        return new Money(amount, currency);
     }
 
     /**
@@ -0,0 +1,26 @@
+package com.wealthwise.domain.shared;
+
+import java.util.function.Supplier;
+
+/**
+ * Port de sortie : exécuter plusieurs écritures comme une seule unité, tout ou rien.
+ *
+ * Chaque repository sauvegarde dans sa propre transaction ; appelé dans
+ * execute(), il rejoint celle de l'unité. Si une écriture échoue, aucune
+ * des précédentes n'est conservée — ni les événements qu'elles ont émis
+ * (écrits dans l'outbox par la même transaction).
+ *
+ * L'exception de l'écriture fautive est relancée telle quelle : un appelant
+ * qui rejoue après un ConcurrencyConflictException rejoue toute l'unité.
+ */
+public interface UnitOfWork {
+
+    <T> T execute(Supplier<T> work);
+
+    default void run(Runnable work) {
+        execute(() -> {
+            work.run();
+            return null;
+        });
+    }
+}
@@ -0,0 +1,77 @@
+package com.wealthwise.domain.shared;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Générateur d'UUID ordonnés dans le temps (version 7, RFC 9562).
+ *
+ *   | 48 bits : millisecondes Unix | 4 : version (7) | 12 : compteur |
+ *   | 2 : variante | 62 bits : aléatoires |
+ *
+ * Un UUID aléatoire (version 4) tombe n'importe où dans l'index de clé
+ * primaire : chaque INSERT touche une page différente (découpages de pages,
+ * défauts de cache). Ici les ids successifs sont croissants et s'ajoutent
+ * en fin d'index, comme une séquence, sans aller-retour vers la base.
+ *
+ * Monotonie : l'horodatage et le compteur forment un seul long (ms << 12 |
+ * compteur), avancé par CAS (accumulateAndGet) — sans verrou. Dans une même
+ * milliseconde, le compteur s'incrémente ; s'il déborde (plus de 4096 ids
+ * par ms) ou si l'horloge recule, l'horodatage avance d'une unité au lieu de
+ * reculer. Les ids d'une même JVM sont donc strictement croissants, y compris
+ * dans leur forme texte (hexadécimal en minuscules : l'ordre des chaînes est
+ * celui des octets).
+ *
+ * Les 62 bits aléatoires viennent de ThreadLocalRandom : ils départagent les
+ * instances entre elles, ils ne rendent pas l'id imprévisible (un id n'est
+ * pas un secret).
+ */
+public final class UuidV7 {
+
+    private static final int COUNTER_BITS = 12;
+    private static final long COUNTER_MASK = (1L << COUNTER_BITS) - 1;
+    private static final long VERSION = 0x7L << COUNTER_BITS;
+    private static final long VARIANT = 0x8000_0000_0000_0000L;
+    private static final long RANDOM_MASK = 0x3FFF_FFFF_FFFF_FFFFL;
+
+    private static final UuidV7 SYSTEM = new UuidV7(System::currentTimeMillis);
+
+    private final LongSupplier clock;
+    private final AtomicLong last = new AtomicLong();
+
+    /**
+     * @param clock millisecondes depuis l'epoch Unix
+     */
+    public UuidV7(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Nouvel id, sur l'horloge système.
+     */
+    public static UUID generate() {
+        return SYSTEM.next();
+    }
+
+    public UUID next() {
+        long now = clock.getAsLong() << COUNTER_BITS;
+        long state = last.accumulateAndGet(now, (previous, candidate) ->
+                candidate > previous ? candidate : previous + 1);
+
+        long mostSignificant = (state >>> COUNTER_BITS) << 16 | VERSION | (state & COUNTER_MASK);
+        long leastSignificant = VARIANT | (ThreadLocalRandom.current().nextLong() & RANDOM_MASK);
+        return new UUID(mostSignificant, leastSignificant);
+    }
+
+    /**
+     * Horodatage d'un UUID version 7, en millisecondes Unix.
+     */
+    public static long timestampOf(UUID uuid) {
+        if (uuid.version() != 7) {
+            throw new IllegalArgumentException("Not a version 7 UUID: " + uuid);
+        }
+        return uuid.getMostSignificantBits() >>> 16;
+    }
+}
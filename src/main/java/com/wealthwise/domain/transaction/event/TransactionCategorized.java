@@ -1,10 +1,14 @@
 package com.wealthwise.domain.transaction.event;
 
 import com.wealthwise.domain.account.event.DomainEvent;
+import com.wealthwise.domain.account.model.AccountId;
 import com.wealthwise.domain.category.model.CategoryId;
+import com.wealthwise.domain.shared.Money;
 import com.wealthwise.domain.transaction.model.ConfidenceLevel;
 import com.wealthwise.domain.transaction.model.TransactionId;
+import com.wealthwise.domain.transaction.model.TransactionType;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 /**
@@ -12,17 +16,24 @@ import java.time.LocalDateTime;
  * (automatiquement ou manuellement).
  *
  * Le contexte Budget écoute cet événement pour comptabiliser
- * la dépense dans le bon budget de catégorie.
+ * la dépense dans le bon budget de catégorie. L'événement porte donc
+ * le montant, le type et la date de la transaction, ainsi que
+ * l'ancienne catégorie (null à la première catégorisation) :
+ * le projecteur n'a pas à relire la transaction.
+ *
+ * Le libellé sert au CategorizationLearner, qui apprend des catégorisations
+ * manuelles (null pour un événement écrit avant l'ajout du champ).
  */
 public record TransactionCategorized(
         TransactionId transactionId,
+        AccountId accountId,
         CategoryId categoryId,
+        CategoryId previousCategoryId,
         ConfidenceLevel confidence,
+        String description,
+        Money amount,
+        TransactionType type,
+        LocalDate date,
         LocalDateTime occurredAt
 ) implements DomainEvent {
-
-    public TransactionCategorized(TransactionId transactionId, CategoryId categoryId,
-                                  ConfidenceLevel confidence) {
-        this(transactionId, categoryId, confidence, LocalDateTime.now());
-    }
 }
@@ -109,11 +109,13 @@ public class Transaction {
             throw new IllegalArgumentException("ConfidenceLevel must not be null");
         }
 
+        CategoryId previousCategoryId = this.categoryId;
         this.categoryId = categoryId;
         this.confidenceLevel = confidence;
 
         domainEvents.add(new TransactionCategorized(
-                this.id, categoryId, confidence, LocalDateTime.now()
+                this.id, this.accountId, categoryId, previousCategoryId, confidence,
+                this.description, this.amount, this.type, this.date, LocalDateTime.now()
         ));
     }
 
@@ -0,0 +1,23 @@
+package com.wealthwise.domain.transaction.model;
+
+import java.time.LocalDate;
+
+/**
+ * Position dans la liste des transactions triée par (date DESC, id DESC).
+ *
+ * C'est la clé de la dernière transaction d'une page : la page suivante
+ * commence juste après elle. Contrairement à un numéro de page (OFFSET),
+ * la base n'a pas à relire les lignes déjà vues.
+ */
+public record TransactionCursor(LocalDate date, TransactionId id) {
+
+    public TransactionCursor {
+        if (date == null || id == null) {
+            throw new IllegalArgumentException("TransactionCursor requires a date and an id");
+        }
+    }
+
+    public static TransactionCursor after(Transaction transaction) {
+        return new TransactionCursor(transaction.getDate(), transaction.getId());
+    }
+}
@@ -1,5 +1,7 @@
 package com.wealthwise.domain.transaction.model;
 
+import com.wealthwise.domain.shared.UuidV7;
+
 import java.util.UUID;
 
 /**
@@ -8,19 +10,19 @@ import java.util.UUID;
  * Même principe que AccountId : un identifiant typé pour éviter
  * de confondre un TransactionId avec un AccountId au niveau du compilateur.
  */
-public record TransactionId(String value) {
+public record TransactionId(UUID value) {
 
     public TransactionId {
-        if (value == null || value.isBlank()) {
-            throw new IllegalArgumentException("TransactionId must not be null or blank");
+        if (value == null) {
+            throw new IllegalArgumentException("TransactionId must not be null");
         }
     }
 
     public static TransactionId generate() {
-        return new TransactionId(UUID.randomUUID().toString());
+        return new TransactionId(UuidV7.generate());
     }
 
-    public static TransactionId of(String value) {
+    public static TransactionId of(UUID value) {
         return new TransactionId(value);
     }
 }
@@ -0,0 +1,18 @@
+package com.wealthwise.domain.transaction.model;
+
+import com.wealthwise.domain.shared.Money;
+
+/**
+ * Somme des montants de toutes les transactions d'un type, dans une devise.
+ *
+ * Calculée par la base sur tout l'historique (TransactionRepository.totals),
+ * et non sur une page de la liste.
+ */
+public record TransactionTotal(TransactionType type, Money total) {
+
+    public TransactionTotal {
+        if (type == null || total == null) {
+            throw new IllegalArgumentException("TransactionTotal requires a type and a total");
+        }
+    }
+}
@@ -3,7 +3,9 @@ package com.wealthwise.domain.transaction.port;
 import com.wealthwise.domain.account.model.AccountId;
 import com.wealthwise.domain.category.model.CategoryId;
 import com.wealthwise.domain.transaction.model.Transaction;
+import com.wealthwise.domain.transaction.model.TransactionCursor;
 import com.wealthwise.domain.transaction.model.TransactionId;
+import com.wealthwise.domain.transaction.model.TransactionTotal;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -16,11 +18,46 @@ public interface TransactionRepository {
 
     Transaction save(Transaction transaction);
 
+    /**
+     * Persiste un lot de transactions NOUVELLES (créées par Transaction.create,
+     * jamais sauvegardées) : l'implémentation peut écrire directement, sans
+     * vérifier d'abord si elles existent.
+     *
+     * @throws RuntimeException si l'une d'elles existe déjà (rien n'est écrit)
+     */
+    List<Transaction> saveAllNew(List<Transaction> transactions);
+
+    /**
+     * Écrit la nouvelle catégorie d'un lot de transactions déjà persistées et
+     * catégorisées en mémoire (Transaction.categorize), sans réécrire le reste
+     * de la ligne. Les événements du lot sont publiés ensemble.
+     *
+     * @throws com.wealthwise.domain.shared.ConcurrencyConflictException si une
+     *         transaction a changé de catégorie depuis sa lecture : rien n'est écrit
+     */
+    void updateCategories(List<Transaction> transactions);
+
     Optional<Transaction> findById(TransactionId id);
 
     List<Transaction> findByAccountId(AccountId accountId);
     List<Transaction> findAll();
 
+    /**
+     * Page de transactions triées de la plus récente à la plus ancienne (date DESC, id DESC).
+     *
+     * @param accountId filtre optionnel (null = tous les comptes)
+     * @param after     dernière transaction de la page précédente (null = première page)
+     * @param limit     nombre maximum de transactions retournées
+     */
+    List<Transaction> findPage(AccountId accountId, TransactionCursor after, int limit);
+
+    /**
+     * Totaux de tout l'historique, par type et par devise (agrégés par la base).
+     *
+     * @param accountId filtre optionnel (null = tous les comptes)
+     */
+    List<TransactionTotal> totals(AccountId accountId);
+
     List<Transaction> findByDateBetween(LocalDate start, LocalDate end);
 
     List<Transaction> findByAccountIdAndDateBetween(AccountId accountId, LocalDate start, LocalDate end);
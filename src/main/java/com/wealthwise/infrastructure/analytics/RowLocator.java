@@ -0,0 +1,96 @@
+package com.wealthwise.infrastructure.analytics;
+
+import java.util.UUID;
+
+/**
+ * Table de hachage à adressage ouvert : identifiant de transaction (UUID)
+ * → numéro de ligne dans les colonnes.
+ *
+ * Trois tableaux primitifs (long[] + long[] + int[]) plutôt qu'une
+ * HashMap<UUID, Integer> : ni UUID, ni Integer, ni entrée chaînée par
+ * transaction, soit 20 octets par case au lieu d'une centaine d'octets par
+ * entrée.
+ *
+ * Les deux moitiés de l'UUID sont gardées telles quelles : la clé est exacte,
+ * deux identifiants distincts ne sont jamais confondus.
+ *
+ * Non thread-safe : protégé par le verrou de ColumnarTransactionIndex.
+ */
+final class RowLocator {
+
+    /** Case vide : les lignes sont rangées décalées de 1 (row + 1). */
+    private static final int EMPTY = 0;
+
+    private long[] highs;
+    private long[] lows;
+    private int[] rows;
+    private int size;
+
+    RowLocator(int expectedRows) {
+        int capacity = Integer.highestOneBit(Math.max(16, expectedRows * 2 - 1)) << 1;
+        highs = new long[capacity];
+        lows = new long[capacity];
+        rows = new int[capacity];
+    }
+
+    /**
+     * @return la ligne de l'identifiant, ou -1 s'il est inconnu
+     */
+    int find(UUID id) {
+        long high = id.getMostSignificantBits();
+        long low = id.getLeastSignificantBits();
+        int mask = rows.length - 1;
+        for (int slot = spread(high, low) & mask; rows[slot] != EMPTY; slot = (slot + 1) & mask) {
+            if (highs[slot] == high && lows[slot] == low) {
+                return rows[slot] - 1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * À n'appeler que pour un identifiant absent (find(id) == -1).
+     */
+    void put(UUID id, int row) {
+        if ((size + 1) * 2 > rows.length) {
+            grow();
+        }
+        insert(id.getMostSignificantBits(), id.getLeastSignificantBits(), row + 1);
+        size++;
+    }
+
+    private void insert(long high, long low, int storedRow) {
+        int mask = rows.length - 1;
+        int slot = spread(high, low) & mask;
+        while (rows[slot] != EMPTY) {
+            slot = (slot + 1) & mask;
+        }
+        highs[slot] = high;
+        lows[slot] = low;
+        rows[slot] = storedRow;
+    }
+
+    private void grow() {
+        long[] oldHighs = highs;
+        long[] oldLows = lows;
+        int[] oldRows = rows;
+        highs = new long[oldHighs.length * 2];
+        lows = new long[oldLows.length * 2];
+        rows = new int[oldRows.length * 2];
+        for (int i = 0; i < oldRows.length; i++) {
+            if (oldRows[i] != EMPTY) {
+                insert(oldHighs[i], oldLows[i], oldRows[i]);
+            }
+        }
+    }
+
+    /**
+     * Les bits de poids fort d'un UUID v7 sont l'horodatage : des ids
+     * successifs ne diffèrent qu'en bas. On mélange les deux moitiés
+     * (constante de Fibonacci) pour répartir les cases.
+     */
+    private static int spread(long high, long low) {
+        long key = (high ^ low) * 0x9E37_79B9_7F4A_7C15L;
+        return (int) (key ^ (key >>> 32));
+    }
+}
@@ -0,0 +1,58 @@
+package com.wealthwise.infrastructure.analytics;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Encodage par dictionnaire : chaque valeur distincte (identifiant de compte,
+ * de catégorie) reçoit un code int, attribué dans l'ordre d'apparition.
+ *
+ * La colonne ne stocke que le code : 4 octets par ligne au lieu d'une
+ * référence vers un UUID, et un filtre "compte = X" devient une comparaison d'int.
+ *
+ * Non thread-safe : protégé par le verrou de ColumnarTransactionIndex.
+ */
+final class ValueDictionary {
+
+    private final Map<UUID, Integer> codes = new HashMap<>();
+    private final List<UUID> values = new ArrayList<>();
+    private final int firstCode;
+
+    /**
+     * @param firstCode premier code attribué (les codes inférieurs sont réservés)
+     */
+    ValueDictionary(int firstCode) {
+        this.firstCode = firstCode;
+    }
+
+    int encode(UUID value) {
+        Integer code = codes.get(value);
+        if (code == null) {
+            code = firstCode + values.size();
+            codes.put(value, code);
+            values.add(value);
+        }
+        return code;
+    }
+
+    /**
+     * @return le code de la valeur, ou -1 si elle n'a jamais été vue
+     */
+    int codeOf(UUID value) {
+        return codes.getOrDefault(value, -1);
+    }
+
+    UUID decode(int code) {
+        return values.get(code - firstCode);
+    }
+
+    /**
+     * Borne exclusive des codes attribués : taille d'un tableau indexé par code.
+     */
+    int codeLimit() {
+        return firstCode + values.size();
+    }
+}
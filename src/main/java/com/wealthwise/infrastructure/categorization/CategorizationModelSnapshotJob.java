@@ -0,0 +1,32 @@
+package com.wealthwise.infrastructure.categorization;
+
+import com.wealthwise.application.projection.CategorizationLearner;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Sauvegarde périodique du modèle appris (s'il a changé).
+ * La sauvegarde finale, à l'arrêt, est la méthode de destruction du bean CategorizationLearner.
+ */
+@Component
+public class CategorizationModelSnapshotJob {
+
+    private static final Logger log = LoggerFactory.getLogger(CategorizationModelSnapshotJob.class);
+
+    private final CategorizationLearner learner;
+
+    public CategorizationModelSnapshotJob(CategorizationLearner learner) {
+        this.learner = learner;
+    }
+
+    @Scheduled(fixedDelayString = "${wealthwise.categorization.snapshot-interval-ms:60000}")
+    public void snapshot() {
+        try {
+            learner.saveSnapshot();
+        } catch (RuntimeException e) {
+            log.error("Categorization model snapshot failed, will retry", e);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.wealthwise.infrastructure.categorization;
+
+import com.wealthwise.domain.categorization.model.NaiveBayesModel;
+import com.wealthwise.domain.categorization.port.CategorizationModelStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+
+/**
+ * Snapshot du modèle de catégorisation dans un fichier local (format binaire
+ * de NaiveBayesModel.writeTo).
+ *
+ * Écriture atomique : fichier temporaire à côté, puis renommage. Un arrêt
+ * brutal pendant l'écriture laisse l'ancien snapshot intact.
+ *
+ * wealthwise.categorization.snapshot-path vide : pas de snapshot
+ * (le modèle repart de zéro à chaque démarrage, comme dans les tests).
+ */
+@Component
+public class FileCategorizationModelStore implements CategorizationModelStore {
+
+    private static final Logger log = LoggerFactory.getLogger(FileCategorizationModelStore.class);
+
+    private final Path path;
+
+    public FileCategorizationModelStore(@Value("${wealthwise.categorization.snapshot-path:}") String path) {
+        this.path = path.isBlank() ? null : Path.of(path);
+    }
+
+    @Override
+    public Optional<NaiveBayesModel> load() {
+        if (path == null || !Files.exists(path)) {
+            return Optional.empty();
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            NaiveBayesModel model = NaiveBayesModel.readFrom(in);
+            log.info("Categorization model restored from {}: {} example(s), {} token(s)",
+                    path, model.exampleCount(), model.vocabularySize());
+            return Optional.of(model);
+        } catch (IOException e) {
+            // Snapshot illisible : on repart d'un modèle vide plutôt que d'empêcher le démarrage
+            log.warn("Ignoring unreadable categorization model snapshot {}", path, e);
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void save(NaiveBayesModel model) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Path directory = path.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            Path temporary = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+                model.writeTo(out);
+            }
+            Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write categorization model snapshot " + path, e);
+        }
+    }
+}
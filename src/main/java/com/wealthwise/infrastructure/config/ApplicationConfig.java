@@ -1,15 +1,35 @@
 package com.wealthwise.infrastructure.config;
 
 import com.wealthwise.application.command.*;
+import com.wealthwise.application.projection.BudgetProjector;
+import com.wealthwise.application.projection.CategorizationLearner;
+import com.wealthwise.application.projection.MonthlySummaryBackfill;
+import com.wealthwise.application.projection.MonthlySummaryProjector;
+import com.wealthwise.application.query.GetMonthlyReportQueryHandler;
+import com.wealthwise.application.query.GetSpendingTrendQueryHandler;
+import com.wealthwise.application.usecase.AutoCategorizationUseCase;
+import com.wealthwise.application.usecase.BankStatementParser;
+import com.wealthwise.application.usecase.ImportBankStatementUseCase;
 import com.wealthwise.domain.account.port.AccountRepository;
+import com.wealthwise.domain.analytics.port.MonthlySummaryRepository;
+import com.wealthwise.domain.analytics.port.SpendingTrendIndex;
+import com.wealthwise.domain.budget.port.BudgetAllocationRepository;
 import com.wealthwise.domain.budget.port.BudgetRepository;
+import com.wealthwise.domain.categorization.port.CategorizationModelStore;
+import com.wealthwise.domain.categorization.port.CategorizationRuleRepository;
 import com.wealthwise.domain.category.port.CategoryRepository;
+import com.wealthwise.domain.shared.UnitOfWork;
 import com.wealthwise.domain.transaction.port.TransactionRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.List;
+
 /**
- * Configuration Spring qui câble les Command Handlers.
+ * Configuration Spring qui câble les Command/Query Handlers.
  *
  * Les Repositories ne sont PLUS déclarés ici !
  * Les adaptateurs JPA (JpaAccountRepositoryAdapter, etc.) sont annotés @Repository,
@@ -27,11 +47,89 @@ public class ApplicationConfig {
         return new CreateAccountCommandHandler(accountRepository);
     }
 
+    /**
+     * Utilisé par POST /api/transactions (via le dispatcher) et par l'import :
+     * toutes les nouvelles transactions passent par la catégorisation automatique.
+     */
     @Bean
-    public CreateTransactionCommandHandler createTransactionCommandHandler(
+    public CreateTransactionsBatchCommandHandler createTransactionsBatchCommandHandler(
             TransactionRepository transactionRepository,
-            AccountRepository accountRepository) {
-        return new CreateTransactionCommandHandler(transactionRepository, accountRepository);
+            AccountRepository accountRepository,
+            UnitOfWork unitOfWork,
+            AutoCategorizationUseCase autoCategorization) {
+        return new CreateTransactionsBatchCommandHandler(
+                transactionRepository, accountRepository, unitOfWork, autoCategorization);
+    }
+
+    /**
+     * refresh() compile au démarrage les règles déjà enregistrées.
+     */
+    @Bean(initMethod = "refresh")
+    public AutoCategorizationUseCase autoCategorizationUseCase(CategorizationRuleRepository ruleRepository,
+                                                               CategorizationLearner categorizationLearner) {
+        return new AutoCategorizationUseCase(ruleRepository, categorizationLearner);
+    }
+
+    /**
+     * Abonné au bus : apprend des catégorisations manuelles.
+     * Recharge le dernier snapshot au démarrage et en écrit un dernier à l'arrêt.
+     */
+    @Bean(initMethod = "restore", destroyMethod = "saveSnapshot")
+    public CategorizationLearner categorizationLearner(CategorizationModelStore modelStore) {
+        return new CategorizationLearner(modelStore);
+    }
+
+    @Bean
+    public CreateCategorizationRuleCommandHandler createCategorizationRuleCommandHandler(
+            CategorizationRuleRepository ruleRepository,
+            CategoryRepository categoryRepository,
+            AutoCategorizationUseCase autoCategorization) {
+        return new CreateCategorizationRuleCommandHandler(ruleRepository, categoryRepository, autoCategorization);
+    }
+
+    @Bean
+    public RecategorizeByRuleCommandHandler recategorizeByRuleCommandHandler(
+            TransactionRepository transactionRepository,
+            CategorizationRuleRepository ruleRepository,
+            @Value("${wealthwise.categorization.recategorize-chunk-size:500}") int chunkSize) {
+        return new RecategorizeByRuleCommandHandler(transactionRepository, ruleRepository, chunkSize);
+    }
+
+    /**
+     * Voies mono-thread par compte pour POST /api/transactions.
+     * lanes = 0 : une voie par cœur disponible.
+     * Spring appelle close() à l'arrêt (méthode de destruction déduite).
+     * On expose les lots rejoués après conflit de version.
+     */
+    @Bean
+    public CreateTransactionDispatcher createTransactionDispatcher(
+            CreateTransactionsBatchCommandHandler batchHandler,
+            MeterRegistry meterRegistry,
+            @Value("${wealthwise.transactions.lanes:0}") int lanes,
+            @Value("${wealthwise.transactions.lane-capacity:1024}") int laneCapacity,
+            @Value("${wealthwise.transactions.lane-max-batch-size:256}") int maxBatchSize,
+            @Value("${wealthwise.transactions.max-write-attempts:10}") int maxAttempts) {
+        int laneCount = lanes > 0 ? lanes : Runtime.getRuntime().availableProcessors();
+        CreateTransactionDispatcher dispatcher =
+                new CreateTransactionDispatcher(batchHandler, laneCount, laneCapacity, maxBatchSize, maxAttempts);
+        FunctionCounter.builder("wealthwise.transactions.conflict.retries", dispatcher,
+                        CreateTransactionDispatcher::conflictRetries)
+                .description("Account writes replayed after an optimistic locking conflict")
+                .register(meterRegistry);
+        return dispatcher;
+    }
+
+    /**
+     * Les parseurs (CSV, OFX) sont des @Component de infrastructure/parser :
+     * Spring les injecte tous sous forme de liste.
+     */
+    @Bean
+    public ImportBankStatementUseCase importBankStatementUseCase(
+            List<BankStatementParser> parsers,
+            CreateTransactionsBatchCommandHandler batchHandler,
+            AccountRepository accountRepository,
+            @Value("${wealthwise.import.chunk-size:1000}") int chunkSize) {
+        return new ImportBankStatementUseCase(parsers, batchHandler, accountRepository, chunkSize);
     }
 
     @Bean
@@ -41,6 +139,54 @@ public class ApplicationConfig {
         return new CategorizeTransactionCommandHandler(transactionRepository, categoryRepository);
     }
 
+    /**
+     * Abonné au bus d'événements (DomainEventListener) : Spring le détecte
+     * comme tout bean de ce type.
+     */
+    @Bean
+    public BudgetProjector budgetProjector(
+            BudgetRepository budgetRepository,
+            BudgetAllocationRepository allocationRepository,
+            UnitOfWork unitOfWork) {
+        return new BudgetProjector(budgetRepository, allocationRepository, unitOfWork);
+    }
+
+    /**
+     * Abonné au bus : tient à jour le résumé mensuel lu par GetMonthlyReportQueryHandler.
+     */
+    @Bean
+    public MonthlySummaryProjector monthlySummaryProjector(MonthlySummaryRepository summaryRepository) {
+        return new MonthlySummaryProjector(summaryRepository);
+    }
+
+    /**
+     * run() rattrape au démarrage les transactions absentes du résumé mensuel,
+     * avant que le relais de l'outbox et le serveur web ne démarrent.
+     */
+    @Bean(initMethod = "run")
+    public MonthlySummaryBackfill monthlySummaryBackfill(
+            TransactionRepository transactionRepository,
+            MonthlySummaryProjector monthlySummaryProjector,
+            @Value("${wealthwise.analytics.summary-backfill-page-size:5000}") int pageSize) {
+        return new MonthlySummaryBackfill(transactionRepository, monthlySummaryProjector, pageSize);
+    }
+
+    @Bean
+    public GetMonthlyReportQueryHandler getMonthlyReportQueryHandler(
+            MonthlySummaryRepository summaryRepository,
+            AccountRepository accountRepository) {
+        return new GetMonthlyReportQueryHandler(summaryRepository, accountRepository);
+    }
+
+    /**
+     * L'index est un @Component (ColumnarTransactionIndex) : à la fois
+     * abonné au bus et implémentation du port SpendingTrendIndex.
+     */
+    @Bean
+    public GetSpendingTrendQueryHandler getSpendingTrendQueryHandler(SpendingTrendIndex trendIndex) {
+        return new GetSpendingTrendQueryHandler(trendIndex);
+    }
+
     @Bean
     public CreateBudgetCommandHandler createBudgetCommandHandler(
             BudgetRepository budgetRepository,
@@ -0,0 +1,108 @@
+package com.wealthwise.infrastructure.messaging;
+
+import com.wealthwise.domain.account.event.DomainEvent;
+import com.wealthwise.domain.shared.DomainEventListener;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Bus d'événements en mémoire : distribue un lot d'événements aux
+ * DomainEventListener qui s'y abonnent (BudgetProjector...).
+ *
+ * Un seul chemin de livraison, dispatch(), appelé par l'OutboxRelay
+ * (InProcessBusOutboxSink) : les adaptateurs JPA n'écrivent pas ici mais
+ * dans l'outbox (OutboxDomainEventPublisher).
+ *
+ *   agrégat ──publish()──▶ outbox ──OutboxRelay──▶ dispatch() ──▶ abonnés
+ *
+ * Livraison SYNCHRONE, sur le thread du relais : une ligne de l'outbox n'est
+ * supprimée qu'une fois traitée par tous les abonnés, et l'échec d'un abonné
+ * laisse le lot dans l'outbox. Le relais étant le seul appelant, les abonnés
+ * ne sont jamais exécutés en parallèle.
+ */
+@Component
+public class InProcessDomainEventBus implements SmartLifecycle {
+
+    /**
+     * Les abonnés sont résolus au démarrage, et non à la construction :
+     * un abonné (ex: BudgetProjector) dépend des repositories, qui dépendent du bus.
+     */
+    private final Supplier<List<DomainEventListener<?>>> listenerSupplier;
+    private volatile List<DomainEventListener<?>> listeners = List.of();
+
+    private volatile boolean running;
+
+    @Autowired
+    public InProcessDomainEventBus(ObjectProvider<DomainEventListener<?>> listenerProvider) {
+        this(() -> listenerProvider.orderedStream().toList());
+    }
+
+    /**
+     * Construction hors Spring (tests) : abonnés connus d'avance.
+     */
+    public InProcessDomainEventBus(List<DomainEventListener<?>> listeners) {
+        this(() -> List.copyOf(listeners));
+    }
+
+    private InProcessDomainEventBus(Supplier<List<DomainEventListener<?>>> listenerSupplier) {
+        this.listenerSupplier = listenerSupplier;
+    }
+
+    // ========== Livraison ==========
+
+    /**
+     * Livraison synchrone, sur le thread appelant : rend la main quand tous les
+     * abonnés ont traité les événements. L'exception d'un abonné est relancée
+     * telle quelle (les abonnés suivants ne reçoivent pas le lot).
+     *
+     * Appelée dans la transaction du relais de l'outbox : les écritures des
+     * abonnés (projections) sont committées avec la suppression des lignes.
+     *
+     * @throws IllegalStateException si le bus n'est pas démarré (abonnés pas encore connus)
+     */
+    public void dispatch(List<? extends DomainEvent> events) {
+        if (!running) {
+            throw new IllegalStateException("Event bus is not running, cannot dispatch " + events.size() + " event(s)");
+        }
+        for (DomainEventListener<?> listener : listeners) {
+            deliver(listener, events);
+        }
+    }
+
+    private <E extends DomainEvent> void deliver(DomainEventListener<E> listener, List<? extends DomainEvent> batch) {
+        Class<E> type = listener.eventType();
+        List<E> matching = new ArrayList<>();
+        for (DomainEvent event : batch) {
+            if (type.isInstance(event)) {
+                matching.add(type.cast(event));
+            }
+        }
+        if (!matching.isEmpty()) {
+            listener.onEvents(matching);
+        }
+    }
+
+    // ========== Cycle de vie ==========
+
+    @Override
+    public void start() {
+        listeners = listenerSupplier.get();
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+}
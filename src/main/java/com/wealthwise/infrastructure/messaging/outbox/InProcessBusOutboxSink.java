@@ -0,0 +1,29 @@
+package com.wealthwise.infrastructure.messaging.outbox;
+
+import com.wealthwise.domain.account.event.DomainEvent;
+import com.wealthwise.infrastructure.messaging.InProcessDomainEventBus;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Sink par défaut : transmet les événements relayés au bus en mémoire,
+ * qui les distribue aux DomainEventListener (BudgetProjector...).
+ *
+ * Livraison synchrone (dispatch) : deliver() ne rend la main qu'une fois
+ * les abonnés passés, et échoue si l'un d'eux échoue.
+ */
+@Component
+public class InProcessBusOutboxSink implements OutboxSink {
+
+    private final InProcessDomainEventBus bus;
+
+    public InProcessBusOutboxSink(InProcessDomainEventBus bus) {
+        this.bus = bus;
+    }
+
+    @Override
+    public void deliver(List<DomainEvent> events) {
+        bus.dispatch(events);
+    }
+}
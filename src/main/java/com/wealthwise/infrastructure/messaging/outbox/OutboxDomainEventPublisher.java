@@ -0,0 +1,70 @@
+package com.wealthwise.infrastructure.messaging.outbox;
+
+import com.wealthwise.domain.account.event.DomainEvent;
+import com.wealthwise.domain.shared.DomainEventPublisher;
+import com.wealthwise.infrastructure.persistence.jpa.SpringDataOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Publication transactionnelle (pattern "Transactional Outbox").
+ *
+ * Au lieu de livrer les événements directement, on les écrit dans la table
+ * outbox DANS LA MÊME TRANSACTION que l'agrégat : soit les deux sont
+ * committés, soit aucun. Un événement ne peut donc plus être perdu
+ * (crash entre la sauvegarde et la publication) ni publié pour une écriture
+ * annulée. L'OutboxRelay les livre ensuite aux abonnés.
+ *
+ * @Primary : c'est ce publisher que reçoivent les adaptateurs JPA.
+ * Propagation.MANDATORY : appeler publish() hors transaction est une erreur.
+ *
+ * Compteur wealthwise.domain.events, tagué par type d'événement
+ * (AccountCreated, TransactionCreated...) : tous les événements du domaine
+ * passent par ici.
+ */
+@Primary
+@Component
+public class OutboxDomainEventPublisher implements DomainEventPublisher {
+
+    private final SpringDataOutboxRepository outboxRepository;
+    private final OutboxEventSerializer serializer;
+    private final MeterRegistry meterRegistry;
+    private final Map<Class<?>, Counter> countersByType = new ConcurrentHashMap<>();
+
+    public OutboxDomainEventPublisher(SpringDataOutboxRepository outboxRepository,
+                                      OutboxEventSerializer serializer,
+                                      MeterRegistry meterRegistry) {
+        this.outboxRepository = outboxRepository;
+        this.serializer = serializer;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(List<? extends DomainEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        outboxRepository.saveAll(events.stream()
+                .map(serializer::toEntity)
+                .toList());
+        for (DomainEvent event : events) {
+            countersByType.computeIfAbsent(event.getClass(), this::counter).increment();
+        }
+    }
+
+    private Counter counter(Class<?> eventType) {
+        return Counter.builder("wealthwise.domain.events")
+                .description("Domain events published, by event type")
+                .tag("type", eventType.getSimpleName())
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,58 @@
+package com.wealthwise.infrastructure.messaging.outbox;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.wealthwise.domain.account.event.DomainEvent;
+import com.wealthwise.infrastructure.persistence.jpa.entity.OutboxEventEntity;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * Conversion DomainEvent ⇄ ligne d'outbox (JSON).
+ *
+ * Les événements sont des records : seuls leurs champs sont sérialisés
+ * (pas les méthodes comme Money.isZero()), ce qui rend le JSON stable
+ * et relisable par le constructeur canonique.
+ */
+@Component
+public class OutboxEventSerializer {
+
+    private final ObjectMapper mapper;
+
+    public OutboxEventSerializer(ObjectMapper objectMapper) {
+        this.mapper = objectMapper.copy()
+                .setVisibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.NONE)
+                .setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY)
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    }
+
+    public OutboxEventEntity toEntity(DomainEvent event) {
+        try {
+            return new OutboxEventEntity(
+                    event.getClass().getName(),
+                    mapper.writeValueAsString(event),
+                    event.occurredAt(),
+                    LocalDateTime.now()
+            );
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize " + event.getClass().getSimpleName(), e);
+        }
+    }
+
+    public DomainEvent toEvent(OutboxEventEntity entity) {
+        try {
+            Class<? extends DomainEvent> type = Class.forName(entity.getEventType())
+                    .asSubclass(DomainEvent.class);
+            return mapper.readValue(entity.getPayload(), type);
+        } catch (ClassNotFoundException | ClassCastException | JsonProcessingException e) {
+            throw new IllegalStateException(
+                    "Cannot read outbox event " + entity.getId() + " of type " + entity.getEventType(), e);
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package com.wealthwise.infrastructure.messaging.outbox;
+
+import com.wealthwise.domain.account.event.DomainEvent;
+import com.wealthwise.infrastructure.persistence.jpa.SpringDataOutboxRepository;
+import com.wealthwise.infrastructure.persistence.jpa.entity.OutboxEventEntity;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Relais de l'outbox : lit les événements committés et les livre aux sinks.
+ *
+ * À chaque passage (toutes les wealthwise.outbox.poll-interval-ms) :
+ * 1. Dans une transaction, verrouiller le prochain lot (FOR UPDATE SKIP LOCKED)
+ * 2. Désérialiser et livrer le lot à chaque OutboxSink, de façon synchrone :
+ *    les abonnés ont traité les événements (et leurs écritures rejoignent
+ *    cette transaction) quand deliver() rend la main
+ * 3. Supprimer les lignes livrées, puis committer
+ * 4. Recommencer tant que des lots pleins arrivent (rattrapage d'un import massif)
+ *
+ * Un crash ou un arrêt avant le commit laisse donc le lot dans l'outbox
+ * (livraison "au moins une fois") ; il n'y a pas de file en mémoire entre
+ * le relais et les abonnés.
+ *
+ * Échec d'un sink : la transaction est annulée, puis le lot est relivré ligne
+ * par ligne pour isoler l'événement fautif. Sa ligne garde l'erreur et son
+ * nombre d'échecs (attempts) et sera retentée au passage suivant ; les
+ * lignes suivantes attendent (l'ordre de livraison est conservé). Après
+ * max-attempts échecs, elle part dans outbox_dead_letter et le relais
+ * reprend avec les suivantes.
+ *
+ * Métriques exposées (Micrometer) :
+ * - wealthwise.outbox.relayed         : événements livrés (compteur → débit)
+ * - wealthwise.outbox.relay.batch     : durée de traitement d'un lot
+ * - wealthwise.outbox.failures        : livraisons d'une ligne en échec
+ * - wealthwise.outbox.dead.letters    : lignes abandonnées dans outbox_dead_letter
+ * - wealthwise.outbox.pending         : lignes en attente
+ * - wealthwise.outbox.lag             : âge de la plus ancienne ligne en attente (secondes)
+ */
+@Component
+public class OutboxRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private final SpringDataOutboxRepository outboxRepository;
+    private final OutboxEventSerializer serializer;
+    private final List<OutboxSink> sinks;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxBatchesPerPoll;
+    private final int maxAttempts;
+
+    private final Counter relayedCounter;
+    private final Counter failureCounter;
+    private final Counter deadLetterCounter;
+    private final Timer batchTimer;
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicLong lagMillis = new AtomicLong();
+
+    public OutboxRelay(SpringDataOutboxRepository outboxRepository,
+                       OutboxEventSerializer serializer,
+                       List<OutboxSink> sinks,
+                       PlatformTransactionManager transactionManager,
+                       MeterRegistry meterRegistry,
+                       @Value("${wealthwise.outbox.batch-size:500}") int batchSize,
+                       @Value("${wealthwise.outbox.max-batches-per-poll:20}") int maxBatchesPerPoll,
+                       @Value("${wealthwise.outbox.max-attempts:10}") int maxAttempts) {
+        if (maxAttempts <= 0) {
+            throw new IllegalArgumentException("Max attempts must be positive, got: " + maxAttempts);
+        }
+        this.outboxRepository = outboxRepository;
+        this.serializer = serializer;
+        this.sinks = sinks;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxBatchesPerPoll = maxBatchesPerPoll;
+        this.maxAttempts = maxAttempts;
+
+        this.relayedCounter = Counter.builder("wealthwise.outbox.relayed")
+                .description("Domain events delivered from the outbox to the sinks")
+                .register(meterRegistry);
+        this.failureCounter = Counter.builder("wealthwise.outbox.failures")
+                .description("Outbox rows whose delivery failed and will be retried")
+                .register(meterRegistry);
+        this.deadLetterCounter = Counter.builder("wealthwise.outbox.dead.letters")
+                .description("Outbox rows moved to outbox_dead_letter after max attempts")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("wealthwise.outbox.relay.batch")
+                .description("Time to lock, deliver and delete one outbox batch")
+                .register(meterRegistry);
+        Gauge.builder("wealthwise.outbox.pending", pending, AtomicLong::get)
+                .description("Outbox rows waiting for delivery")
+                .register(meterRegistry);
+        Gauge.builder("wealthwise.outbox.lag", lagMillis, value -> value.get() / 1000.0)
+                .description("Age of the oldest undelivered outbox row")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${wealthwise.outbox.poll-interval-ms:200}")
+    public void poll() {
+        try {
+            int batches = 0;
+            int relayed;
+            do {
+                relayed = relayBatch();
+                batches++;
+            } while (relayed == batchSize && batches < maxBatchesPerPoll);
+        } catch (RuntimeException e) {
+            log.error("Outbox relay failed, batch will be retried", e);
+        } finally {
+            refreshBacklogGauges();
+        }
+    }
+
+    /**
+     * Livre un lot dans sa propre transaction ; en cas d'échec, le relivre
+     * ligne par ligne jusqu'à la ligne fautive.
+     *
+     * @return le nombre d'événements livrés (0 si l'outbox est vide)
+     */
+    public int relayBatch() {
+        int count;
+        try {
+            count = batchTimer.record(() -> deliverInTransaction(batchSize, new AtomicLong()));
+        } catch (RuntimeException batchFailure) {
+            log.warn("Outbox batch delivery failed, retrying row by row", batchFailure);
+            count = relayRowByRow();
+        }
+        relayedCounter.increment(count);
+        return count;
+    }
+
+    /**
+     * Relivre au plus batchSize lignes une à une ; s'arrête à la première en échec.
+     */
+    private int relayRowByRow() {
+        AtomicLong failedRow = new AtomicLong();
+        for (int delivered = 0; delivered < batchSize; delivered++) {
+            failedRow.set(0);
+            try {
+                if (deliverInTransaction(1, failedRow) == 0) {
+                    return delivered;
+                }
+            } catch (RuntimeException e) {
+                if (failedRow.get() == 0) {
+                    throw e; // avant toute ligne (base indisponible...) : rien à imputer
+                }
+                recordFailure(failedRow.get(), e);
+                return delivered;
+            }
+        }
+        return batchSize;
+    }
+
+    /**
+     * @param current reçoit l'id de la première ligne du lot (celle en échec quand limit = 1)
+     */
+    private int deliverInTransaction(int limit, AtomicLong current) {
+        Integer delivered = transactionTemplate.execute(status -> {
+            List<OutboxEventEntity> rows = outboxRepository.lockNextBatch(Limit.of(limit));
+            if (rows.isEmpty()) {
+                return 0;
+            }
+            current.set(rows.get(0).getId());
+
+            List<DomainEvent> events = rows.stream()
+                    .map(serializer::toEvent)
+                    .toList();
+            for (OutboxSink sink : sinks) {
+                sink.deliver(events);
+            }
+
+            outboxRepository.deleteAllInBatch(rows);
+            return rows.size();
+        });
+        return delivered != null ? delivered : 0;
+    }
+
+    /**
+     * Dans une nouvelle transaction (celle de la livraison est annulée) :
+     * compte l'échec, et déplace la ligne dans outbox_dead_letter au dernier essai.
+     */
+    private void recordFailure(long rowId, RuntimeException error) {
+        failureCounter.increment();
+        String message = abbreviate(String.valueOf(error));
+        transactionTemplate.executeWithoutResult(status -> {
+            outboxRepository.recordFailure(rowId, message);
+            OutboxEventEntity row = outboxRepository.findById(rowId).orElse(null);
+            if (row == null || row.getAttempts() < maxAttempts) {
+                log.warn("Outbox row {} failed ({} attempt(s)), will be retried", rowId,
+                        row != null ? row.getAttempts() : "?", error);
+                return;
+            }
+            outboxRepository.copyToDeadLetter(rowId, LocalDateTime.now());
+            outboxRepository.deleteById(rowId);
+            deadLetterCounter.increment();
+            log.error("Outbox row {} ({}) moved to outbox_dead_letter after {} attempts",
+                    rowId, row.getEventType(), row.getAttempts(), error);
+        });
+    }
+
+    private static String abbreviate(String message) {
+        return message.length() <= 1000 ? message : message.substring(0, 1000);
+    }
+
+    private void refreshBacklogGauges() {
+        pending.set(outboxRepository.count());
+        lagMillis.set(outboxRepository.findFirstByOrderByIdAsc()
+                .map(oldest -> Duration.between(oldest.getCreatedAt(), LocalDateTime.now()).toMillis())
+                .orElse(0L));
+    }
+}
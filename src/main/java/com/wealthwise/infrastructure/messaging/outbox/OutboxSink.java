@@ -0,0 +1,20 @@
+package com.wealthwise.infrastructure.messaging.outbox;
+
+import com.wealthwise.domain.account.event.DomainEvent;
+
+import java.util.List;
+
+/**
+ * Destination des événements relayés depuis l'outbox
+ * (bus en mémoire, broker de messages...).
+ *
+ * deliver() est appelé dans la transaction du relais et ne doit rendre la
+ * main qu'une fois les événements traités : le relais supprime ensuite les
+ * lignes. La livraison est "au moins une fois" : si deliver() lève une
+ * exception, le lot reste dans l'outbox et sera proposé de nouveau.
+ * Les abonnés doivent donc être idempotents.
+ */
+public interface OutboxSink {
+
+    void deliver(List<DomainEvent> events);
+}
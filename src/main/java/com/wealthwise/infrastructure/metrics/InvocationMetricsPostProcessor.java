@@ -0,0 +1,153 @@
+package com.wealthwise.infrastructure.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.framework.AbstractAdvisingBeanPostProcessor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Chronomètre les Command Handlers et les adaptateurs JPA, sans les modifier.
+ *
+ * Les handlers sont des classes simples de la couche application (pas de
+ * Micrometer là-dedans) : on enveloppe leurs beans dans un proxy Spring AOP,
+ * comme le fait déjà @Transactional pour les adaptateurs.
+ *
+ * | Classes                       | Méthodes      | Timer                  | Tags                         |
+ * |-------------------------------|---------------|------------------------|------------------------------|
+ * | *CommandHandler, *UseCase     | handle...     | wealthwise.command     | handler, method, outcome,    |
+ * | *QueryHandler                 | handle...     | wealthwise.query       | handler, method, outcome,    |
+ * | Jpa*RepositoryAdapter         | publiques     | wealthwise.repository  | repository, method, outcome, |
+ *
+ * + le tag exception (nom simple de la classe, "none" en cas de succès).
+ *
+ * Les tags ne portent que des noms de classes et de méthodes, jamais un
+ * identifiant de compte ou de transaction : le nombre de séries reste fixe
+ * quel que soit le volume de données.
+ *
+ * Chaque timer publie un histogramme (percentiles calculables côté Prometheus) ;
+ * son compteur donne le nombre d'appels.
+ *
+ * Le proxy passe AVANT l'intercepteur transactionnel : le temps d'un
+ * adaptateur inclut le commit, donc tout le coût base de données.
+ * Le temps "domaine" d'une commande = wealthwise.command − wealthwise.repository.
+ */
+@Component
+public class InvocationMetricsPostProcessor extends AbstractAdvisingBeanPostProcessor {
+
+    public InvocationMetricsPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.advisor = new DefaultPointcutAdvisor(new InstrumentedMethods(), new TimingInterceptor(meterRegistry));
+        this.beforeExistingAdvisors = true;
+        setProxyTargetClass(true);
+    }
+
+    // ========== Quelles classes ==========
+
+    private enum Layer {
+        COMMAND("wealthwise.command", "handler"),
+        QUERY("wealthwise.query", "handler"),
+        REPOSITORY("wealthwise.repository", "repository");
+
+        final String metric;
+        final String classTag;
+
+        Layer(String metric, String classTag) {
+            this.metric = metric;
+            this.classTag = classTag;
+        }
+
+        static Layer of(Class<?> type) {
+            String name = ClassUtils.getUserClass(type).getSimpleName();
+            if (name.endsWith("CommandHandler") || name.endsWith("UseCase")) {
+                return COMMAND;
+            }
+            if (name.endsWith("QueryHandler")) {
+                return QUERY;
+            }
+            if (name.startsWith("Jpa") && name.endsWith("RepositoryAdapter")) {
+                return REPOSITORY;
+            }
+            return null;
+        }
+    }
+
+    private static final class InstrumentedMethods extends StaticMethodMatcherPointcut {
+
+        InstrumentedMethods() {
+            setClassFilter(type -> Layer.of(type) != null);
+        }
+
+        @Override
+        public boolean matches(Method method, Class<?> targetClass) {
+            if (!Modifier.isPublic(method.getModifiers()) || method.getDeclaringClass() == Object.class) {
+                return false;
+            }
+            Layer layer = Layer.of(targetClass);
+            return layer == Layer.REPOSITORY || method.getName().startsWith("handle");
+        }
+    }
+
+    // ========== Mesure ==========
+
+    /**
+     * Le MeterRegistry est résolu au premier appel : un BeanPostProcessor est créé
+     * avant les autres beans, le registry ne doit pas l'être aussi tôt.
+     */
+    private static final class TimingInterceptor implements MethodInterceptor {
+
+        private final ObjectProvider<MeterRegistry> meterRegistryProvider;
+        private final Map<Method, Timer> successTimers = new ConcurrentHashMap<>();
+        private volatile MeterRegistry meterRegistry;
+
+        TimingInterceptor(ObjectProvider<MeterRegistry> meterRegistryProvider) {
+            this.meterRegistryProvider = meterRegistryProvider;
+        }
+
+        @Override
+        public Object invoke(MethodInvocation invocation) throws Throwable {
+            long start = System.nanoTime();
+            try {
+                Object result = invocation.proceed();
+                successTimers.computeIfAbsent(invocation.getMethod(), method -> timer(invocation, "success", "none"))
+                        .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                return result;
+            } catch (Throwable e) {
+                timer(invocation, "error", e.getClass().getSimpleName())
+                        .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                throw e;
+            }
+        }
+
+        private Timer timer(MethodInvocation invocation, String outcome, String exception) {
+            Class<?> targetClass = ClassUtils.getUserClass(invocation.getThis().getClass());
+            Layer layer = Layer.of(targetClass);
+            return Timer.builder(layer.metric)
+                    .tag(layer.classTag, targetClass.getSimpleName())
+                    .tag("method", invocation.getMethod().getName())
+                    .tag("outcome", outcome)
+                    .tag("exception", exception)
+                    .publishPercentileHistogram()
+                    .register(registry());
+        }
+
+        private MeterRegistry registry() {
+            MeterRegistry registry = meterRegistry;
+            if (registry == null) {
+                registry = meterRegistryProvider.getObject();
+                meterRegistry = registry;
+            }
+            return registry;
+        }
+    }
+}
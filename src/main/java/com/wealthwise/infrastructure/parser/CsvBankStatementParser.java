@@ -0,0 +1,212 @@
+package com.wealthwise.infrastructure.parser;
+
+import com.wealthwise.application.command.CreateTransactionCommand;
+import com.wealthwise.application.usecase.BankStatementParser;
+import com.wealthwise.application.usecase.StatementFormat;
+import com.wealthwise.application.usecase.StatementLine;
+import com.wealthwise.domain.account.model.AccountId;
+import com.wealthwise.domain.shared.Currency;
+import com.wealthwise.domain.transaction.model.TransactionType;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.Stream;
+
+/**
+ * Parseur de relevés CSV.
+ *
+ * Format attendu (une opération par ligne, montant signé) :
+ *   date ; libellé ; montant
+ *   2024-01-01 ; Salaire ; 2500.00
+ *   05/01/2024 ; Loyer   ; -800,00
+ *
+ * - Le séparateur (';', ',' ou tabulation) est détecté sur la première ligne
+ * - L'en-tête est optionnel ; s'il est présent, les colonnes sont trouvées par leur nom
+ * - Montant négatif = EXPENSE, positif = INCOME
+ * - Dates ISO (2024-01-05) ou françaises (05/01/2024), virgule décimale acceptée
+ *
+ * Le fichier est lu ligne à ligne via BufferedReader : rien n'est accumulé.
+ */
+@Component
+public class CsvBankStatementParser implements BankStatementParser {
+
+    @Override
+    public StatementFormat format() {
+        return StatementFormat.CSV;
+    }
+
+    @Override
+    public Stream<StatementLine> parse(Reader content, AccountId accountId, Currency currency) {
+        BufferedReader reader = content instanceof BufferedReader buffered
+                ? buffered
+                : new BufferedReader(content);
+        return StatementStreams.of(new CsvIterator(reader, accountId, currency), reader);
+    }
+
+    // ========== Lecture ligne à ligne ==========
+
+    private static final class CsvIterator implements Iterator<StatementLine> {
+
+        private final BufferedReader reader;
+        private final AccountId accountId;
+        private final Currency currency;
+
+        private long lineNumber;
+        private Layout layout;
+        private StatementLine next;
+
+        CsvIterator(BufferedReader reader, AccountId accountId, Currency currency) {
+            this.reader = reader;
+            this.accountId = accountId;
+            this.currency = currency;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next == null) {
+                next = advance();
+            }
+            return next != null;
+        }
+
+        @Override
+        public StatementLine next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            StatementLine line = next;
+            next = null;
+            return line;
+        }
+
+        private StatementLine advance() {
+            String line;
+            while ((line = readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                if (layout == null) {
+                    layout = Layout.detect(line);
+                    if (layout.hasHeader()) {
+                        continue;
+                    }
+                }
+                return parseLine(line);
+            }
+            return null;
+        }
+
+        private StatementLine parseLine(String line) {
+            List<String> fields = split(line, layout.delimiter());
+            if (fields.size() <= layout.maxIndex()) {
+                return StatementLine.rejected(lineNumber,
+                        "Expected at least %d columns, got %d".formatted(layout.maxIndex() + 1, fields.size()));
+            }
+
+            try {
+                var date = StatementValues.parseDate(fields.get(layout.dateIndex()));
+                var amount = StatementValues.parseAmount(fields.get(layout.amountIndex()));
+                String description = fields.get(layout.descriptionIndex()).trim();
+
+                return StatementLine.parsed(lineNumber, new CreateTransactionCommand(
+                        accountId,
+                        amount.abs().doubleValue(),
+                        currency,
+                        description,
+                        date,
+                        amount.signum() < 0 ? TransactionType.EXPENSE : TransactionType.INCOME
+                ));
+            } catch (IllegalArgumentException e) {
+                return StatementLine.rejected(lineNumber, e.getMessage());
+            }
+        }
+
+        private String readLine() {
+            try {
+                return reader.readLine();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    // ========== Structure du fichier ==========
+
+    /**
+     * Position des colonnes, détectée une fois sur la première ligne non vide.
+     */
+    private record Layout(char delimiter, int dateIndex, int descriptionIndex, int amountIndex, boolean hasHeader) {
+
+        static Layout detect(String firstLine) {
+            char delimiter = firstLine.indexOf(';') >= 0 ? ';'
+                    : firstLine.indexOf('\t') >= 0 ? '\t'
+                    : ',';
+
+            List<String> columns = split(firstLine, delimiter);
+            int date = -1;
+            int description = -1;
+            int amount = -1;
+            for (int i = 0; i < columns.size(); i++) {
+                String name = StatementValues.normalizeHeader(columns.get(i));
+                if (date < 0 && name.startsWith("date")) {
+                    date = i;
+                } else if (description < 0 && (name.startsWith("libel") || name.startsWith("desc") || name.equals("label"))) {
+                    description = i;
+                } else if (amount < 0 && (name.startsWith("montant") || name.startsWith("amount"))) {
+                    amount = i;
+                }
+            }
+
+            if (date >= 0 && description >= 0 && amount >= 0) {
+                return new Layout(delimiter, date, description, amount, true);
+            }
+            // Pas d'en-tête reconnu : ordre par défaut date ; libellé ; montant
+            return new Layout(delimiter, 0, 1, 2, false);
+        }
+
+        int maxIndex() {
+            return Math.max(dateIndex, Math.max(descriptionIndex, amountIndex));
+        }
+    }
+
+    /**
+     * Découpe une ligne CSV en respectant les guillemets ("a;b" reste un seul champ,
+     * "" dans un champ entre guillemets représente un guillemet).
+     */
+    static List<String> split(String line, char delimiter) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == delimiter) {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        fields.add(current.toString());
+        return fields;
+    }
+}
@@ -0,0 +1,232 @@
+package com.wealthwise.infrastructure.parser;
+
+import com.wealthwise.application.command.CreateTransactionCommand;
+import com.wealthwise.application.usecase.BankStatementParser;
+import com.wealthwise.application.usecase.StatementFormat;
+import com.wealthwise.application.usecase.StatementLine;
+import com.wealthwise.domain.account.model.AccountId;
+import com.wealthwise.domain.shared.Currency;
+import com.wealthwise.domain.transaction.model.TransactionType;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+import java.util.stream.Stream;
+
+/**
+ * Parseur de relevés OFX (Open Financial Exchange), versions 1.x (SGML) et 2.x (XML).
+ *
+ * Chaque opération est un bloc STMTTRN :
+ *   <STMTTRN>
+ *     <TRNTYPE>DEBIT
+ *     <DTPOSTED>20240105
+ *     <TRNAMT>-800.00
+ *     <NAME>Loyer
+ *   </STMTTRN>
+ *
+ * En OFX 1.x les balises feuilles ne sont pas fermées : on lit donc le fichier
+ * comme une suite de (balise, valeur) avec un petit automate, caractère par caractère,
+ * sans jamais construire l'arbre du document. Seule l'opération en cours est en mémoire.
+ */
+@Component
+public class OfxBankStatementParser implements BankStatementParser {
+
+    /** Au-delà, une valeur est tronquée : un fichier corrompu ne doit pas faire exploser la mémoire. */
+    private static final int MAX_VALUE_LENGTH = 4_096;
+
+    @Override
+    public StatementFormat format() {
+        return StatementFormat.OFX;
+    }
+
+    @Override
+    public Stream<StatementLine> parse(Reader content, AccountId accountId, Currency currency) {
+        BufferedReader reader = content instanceof BufferedReader buffered
+                ? buffered
+                : new BufferedReader(content);
+        return StatementStreams.of(new OfxIterator(reader, accountId, currency), reader);
+    }
+
+    // ========== Automate de lecture ==========
+
+    private static final class OfxIterator implements Iterator<StatementLine> {
+
+        private final Reader reader;
+        private final AccountId accountId;
+        private final Currency currency;
+
+        private final StringBuilder buffer = new StringBuilder();
+        private int lookahead = -2; // -2 = rien en attente, -1 = fin de fichier
+        private long rowNumber;
+        private StatementLine next;
+
+        // Opération en cours de lecture
+        private boolean inTransaction;
+        private String posted;
+        private String amount;
+        private String name;
+        private String memo;
+
+        OfxIterator(Reader reader, AccountId accountId, Currency currency) {
+            this.reader = reader;
+            this.accountId = accountId;
+            this.currency = currency;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next == null) {
+                next = advance();
+            }
+            return next != null;
+        }
+
+        @Override
+        public StatementLine next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            StatementLine line = next;
+            next = null;
+            return line;
+        }
+
+        private StatementLine advance() {
+            String tag;
+            while ((tag = readTag()) != null) {
+                switch (tag) {
+                    case "STMTTRN" -> {
+                        // Un STMTTRN non fermé est terminé par le suivant
+                        StatementLine pending = inTransaction ? emit() : null;
+                        startTransaction();
+                        if (pending != null) {
+                            return pending;
+                        }
+                    }
+                    case "/STMTTRN", "/BANKTRANLIST" -> {
+                        if (inTransaction) {
+                            return emit();
+                        }
+                    }
+                    case "DTPOSTED" -> posted = readValueIfInTransaction();
+                    case "TRNAMT" -> amount = readValueIfInTransaction();
+                    case "NAME" -> name = readValueIfInTransaction();
+                    case "MEMO" -> memo = readValueIfInTransaction();
+                    default -> {
+                        // Balise sans intérêt pour l'import (en-tête, solde, TRNTYPE...)
+                    }
+                }
+            }
+            return inTransaction ? emit() : null;
+        }
+
+        private void startTransaction() {
+            inTransaction = true;
+            posted = null;
+            amount = null;
+            name = null;
+            memo = null;
+        }
+
+        private StatementLine emit() {
+            inTransaction = false;
+            rowNumber++;
+
+            if (posted == null || amount == null) {
+                return StatementLine.rejected(rowNumber, "Missing DTPOSTED or TRNAMT");
+            }
+            try {
+                LocalDate date = StatementValues.parseOfxDate(posted);
+                BigDecimal value = StatementValues.parseAmount(amount);
+                String description = name != null && !name.isBlank() ? name : memo;
+
+                return StatementLine.parsed(rowNumber, new CreateTransactionCommand(
+                        accountId,
+                        value.abs().doubleValue(),
+                        currency,
+                        description != null ? description : "",
+                        date,
+                        value.signum() < 0 ? TransactionType.EXPENSE : TransactionType.INCOME
+                ));
+            } catch (IllegalArgumentException e) {
+                return StatementLine.rejected(rowNumber, e.getMessage());
+            }
+        }
+
+        // ========== Lecture bas niveau ==========
+
+        /**
+         * Avance jusqu'à la prochaine balise et retourne son nom en majuscules
+         * ("STMTTRN", "/STMTTRN"...), ou null en fin de fichier.
+         */
+        private String readTag() {
+            int c;
+            while ((c = read()) != -1 && c != '<') {
+                // on saute le texte hors balise
+            }
+            if (c == -1) {
+                return null;
+            }
+
+            buffer.setLength(0);
+            while ((c = read()) != -1 && c != '>') {
+                if (buffer.length() < MAX_VALUE_LENGTH) {
+                    buffer.append((char) c);
+                }
+            }
+            return buffer.toString().trim().toUpperCase(Locale.ROOT);
+        }
+
+        private String readValueIfInTransaction() {
+            return inTransaction ? readValue() : null;
+        }
+
+        /**
+         * Lit le texte qui suit une balise, jusqu'à la balise suivante (non consommée).
+         */
+        private String readValue() {
+            buffer.setLength(0);
+            int c;
+            while ((c = read()) != -1 && c != '<') {
+                if (buffer.length() < MAX_VALUE_LENGTH) {
+                    buffer.append((char) c);
+                }
+            }
+            if (c == '<') {
+                lookahead = c;
+            }
+            return decodeEntities(buffer.toString().trim());
+        }
+
+        private int read() {
+            if (lookahead != -2) {
+                int c = lookahead;
+                lookahead = -2;
+                return c;
+            }
+            try {
+                return reader.read();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private static String decodeEntities(String value) {
+            if (value.indexOf('&') < 0) {
+                return value;
+            }
+            return value.replace("&lt;", "<")
+                    .replace("&gt;", ">")
+                    .replace("&quot;", "\"")
+                    .replace("&apos;", "'")
+                    .replace("&amp;", "&");
+        }
+    }
+}
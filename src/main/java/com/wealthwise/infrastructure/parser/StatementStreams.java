@@ -0,0 +1,35 @@
+package com.wealthwise.infrastructure.parser;
+
+import com.wealthwise.application.usecase.StatementLine;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Transforme un itérateur paresseux en Stream séquentiel
+ * dont la fermeture ferme la source (le fichier).
+ */
+final class StatementStreams {
+
+    private StatementStreams() {
+    }
+
+    static Stream<StatementLine> of(Iterator<StatementLine> iterator, Closeable source) {
+        return StreamSupport.stream(
+                        Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL),
+                        false)
+                .onClose(() -> {
+                    try {
+                        source.close();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+    }
+}
@@ -0,0 +1,87 @@
+package com.wealthwise.infrastructure.parser;
+
+import java.math.BigDecimal;
+import java.text.Normalizer;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Locale;
+
+/**
+ * Conversions communes aux parseurs de relevés (dates, montants, en-têtes).
+ *
+ * Toutes les erreurs sont levées en IllegalArgumentException avec un message
+ * lisible : le parseur en fait une ligne rejetée du rapport d'import.
+ */
+final class StatementValues {
+
+    private static final DateTimeFormatter FRENCH_DATE = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+    private static final DateTimeFormatter OFX_DATE = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private StatementValues() {
+    }
+
+    /**
+     * Accepte 2024-01-05 (ISO) et 05/01/2024 (format français).
+     */
+    static LocalDate parseDate(String raw) {
+        String value = raw.trim();
+        try {
+            return value.indexOf('/') >= 0
+                    ? LocalDate.parse(value, FRENCH_DATE)
+                    : LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid date: " + value);
+        }
+    }
+
+    /**
+     * Date OFX : YYYYMMDD suivi éventuellement de l'heure et du fuseau (ignorés).
+     */
+    static LocalDate parseOfxDate(String raw) {
+        String value = raw.trim();
+        if (value.length() < 8) {
+            throw new IllegalArgumentException("Invalid date: " + value);
+        }
+        try {
+            return LocalDate.parse(value.substring(0, 8), OFX_DATE);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid date: " + value);
+        }
+    }
+
+    /**
+     * Montant signé : "-800.00", "-800,00", "1 234,56", "1.234,56", "+12".
+     */
+    static BigDecimal parseAmount(String raw) {
+        String value = raw.trim()
+                .replace(" ", "")
+                .replace("\u00A0", "")   // espace insécable (séparateur de milliers)
+                .replace("\u202F", "");  // espace fine insécable
+
+        int comma = value.lastIndexOf(',');
+        int dot = value.lastIndexOf('.');
+        if (comma >= 0 && dot >= 0) {
+            // Le dernier séparateur est le séparateur décimal, l'autre sépare les milliers
+            value = comma > dot
+                    ? value.replace(".", "").replace(',', '.')
+                    : value.replace(",", "");
+        } else if (comma >= 0) {
+            value = value.replace(',', '.');
+        }
+
+        try {
+            return new BigDecimal(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid amount: " + raw.trim());
+        }
+    }
+
+    /**
+     * "Libellé de l'opération" → "libelle de l'operation" (minuscules, sans accents).
+     */
+    static String normalizeHeader(String raw) {
+        String decomposed = Normalizer.normalize(raw.trim(), Normalizer.Form.NFD);
+        return decomposed.replaceAll("\\p{M}", "").toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,31 @@
+package com.wealthwise.infrastructure.persistence;
+
+import com.wealthwise.domain.shared.UnitOfWork;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Supplier;
+
+/**
+ * Unité de travail = une transaction Spring (JPA).
+ *
+ * Les méthodes @Transactional des adaptateurs (propagation REQUIRED par
+ * défaut) rejoignent la transaction ouverte ici ; l'outbox aussi
+ * (Propagation.MANDATORY). Le commit a lieu au retour de execute(),
+ * le rollback sur toute exception non vérifiée.
+ */
+@Component
+public class TransactionalUnitOfWork implements UnitOfWork {
+
+    private final TransactionTemplate transactionTemplate;
+
+    public TransactionalUnitOfWork(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public <T> T execute(Supplier<T> work) {
+        return transactionTemplate.execute(status -> work.get());
+    }
+}
@@ -0,0 +1,277 @@
+package com.wealthwise.infrastructure.persistence.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.wealthwise.domain.account.event.AccountBalanceUpdated;
+import com.wealthwise.domain.account.model.Account;
+import com.wealthwise.domain.account.model.AccountId;
+import com.wealthwise.domain.account.model.AccountType;
+import com.wealthwise.domain.account.port.AccountRepository;
+import com.wealthwise.domain.shared.ConcurrencyConflictException;
+import com.wealthwise.domain.shared.Currency;
+import com.wealthwise.domain.shared.DomainEventListener;
+import com.wealthwise.domain.shared.MinorUnits;
+import com.wealthwise.infrastructure.persistence.jpa.adapter.JpaAccountRepositoryAdapter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Cache en lecture des comptes, devant le JpaAccountRepositoryAdapter.
+ *
+ * Le solde d'un compte est lu à chaque transaction créée et à chaque
+ * affichage du tableau de bord (GET /api/accounts/{id}, rapport mensuel).
+ * On garde en mémoire un instantané immuable par compte (AccountSnapshot),
+ * taille bornée (max-size) : findById le transforme en Account neuf,
+ * que l'appelant peut modifier sans toucher au cache.
+ *
+ * Comment le cache reste juste :
+ * - save() écrit en base, puis remplace l'instantané (write-through) avec
+ *   la nouvelle version — sauf si le cache en tient déjà une plus récente.
+ *   Dans une transaction (UnitOfWork), le remplacement attend le commit ;
+ *   un rollback retire l'entrée : le cache ne sert jamais un solde annulé ;
+ * - un instantané périmé ne peut pas écraser la base : l'Account rendu porte
+ *   la version lue, et la sauvegarde est rejetée (ConcurrencyConflictException,
+ *   verrouillage optimiste). L'entrée est alors retirée : la tentative
+ *   suivante relit la base ;
+ * - AccountBalanceUpdated (livré par l'outbox) met à jour le solde en place
+ *   si l'événement est postérieur à l'instantané et part du solde en cache.
+ *   Les événements des sauvegardes faites ici sont antérieurs à leur
+ *   write-through : ils sont ignorés. Un événement postérieur qui ne
+ *   s'enchaîne pas (une écriture a été manquée) retire l'entrée.
+ *   La version n'est pas connue de l'événement : elle reste celle de
+ *   l'instantané, et la prochaine sauvegarde relira le compte si besoin ;
+ * - expireAfterWrite borne l'âge d'un instantané quoi qu'il arrive.
+ *
+ * Métriques :
+ * - cache.gets{cache=accounts, result=hit|miss}, cache.size... (CaffeineCacheMetrics)
+ * - wealthwise.accounts.cache.age : âge des instantanés servis (fenêtre de péremption)
+ * - wealthwise.accounts.cache.stale.writes : sauvegardes rejetées sur un instantané périmé
+ * - wealthwise.accounts.cache.events{outcome=applied|ignored|evicted}
+ */
+@Primary
+@Component
+public class CachingAccountRepository implements AccountRepository, DomainEventListener<AccountBalanceUpdated> {
+
+    private final AccountRepository delegate;
+    private final Cache<UUID, AccountSnapshot> cache;
+    private final Clock clock;
+
+    private final Timer age;
+    private final Counter staleWrites;
+    private final Counter eventsApplied;
+    private final Counter eventsIgnored;
+    private final Counter eventsEvicted;
+
+    @Autowired
+    public CachingAccountRepository(JpaAccountRepositoryAdapter delegate,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${wealthwise.accounts.cache.max-size:10000}") long maxSize,
+                                    @Value("${wealthwise.accounts.cache.expire-after-write-ms:300000}") long expireAfterWriteMs) {
+        this((AccountRepository) delegate, meterRegistry, maxSize, expireAfterWriteMs, Clock.systemDefaultZone());
+    }
+
+    /**
+     * @param delegate le repository à mettre en cache (autre que celui-ci)
+     * @param clock    horloge des instantanés, comparée à occurredAt des événements
+     */
+    public CachingAccountRepository(AccountRepository delegate,
+                                    MeterRegistry meterRegistry,
+                                    long maxSize,
+                                    long expireAfterWriteMs,
+                                    Clock clock) {
+        this.delegate = delegate;
+        this.clock = clock;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMillis(expireAfterWriteMs))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "accounts");
+
+        this.age = Timer.builder("wealthwise.accounts.cache.age")
+                .description("Age of the account snapshots served from the cache")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.staleWrites = Counter.builder("wealthwise.accounts.cache.stale.writes")
+                .description("Account saves rejected because the cached snapshot was stale")
+                .register(meterRegistry);
+        this.eventsApplied = eventCounter(meterRegistry, "applied");
+        this.eventsIgnored = eventCounter(meterRegistry, "ignored");
+        this.eventsEvicted = eventCounter(meterRegistry, "evicted");
+    }
+
+    private static Counter eventCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("wealthwise.accounts.cache.events")
+                .description("AccountBalanceUpdated events received by the account cache, by outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    // ========== Lectures ==========
+
+    @Override
+    public Optional<Account> findById(AccountId id) {
+        AccountSnapshot cached = cache.getIfPresent(id.value());
+        if (cached != null) {
+            age.record(Duration.between(cached.asOf(), now()));
+            return Optional.of(cached.toAccount());
+        }
+        // Pas de cache négatif : un compte inexistant est une erreur de l'appelant
+        LocalDateTime readAt = now();
+        Optional<Account> loaded = delegate.findById(id);
+        loaded.ifPresent(account -> remember(AccountSnapshot.of(account, readAt)));
+        return loaded;
+    }
+
+    /**
+     * Non mis en cache (liste complète), mais réchauffe le cache des comptes lus.
+     */
+    @Override
+    public List<Account> findAll() {
+        LocalDateTime readAt = now();
+        List<Account> accounts = delegate.findAll();
+        accounts.forEach(account -> remember(AccountSnapshot.of(account, readAt)));
+        return accounts;
+    }
+
+    @Override
+    public boolean existsById(AccountId id) {
+        return cache.getIfPresent(id.value()) != null || delegate.existsById(id);
+    }
+
+    // ========== Écritures ==========
+
+    @Override
+    public Account save(Account account) {
+        UUID key = account.getId().value();
+        try {
+            delegate.save(account);
+        } catch (ConcurrencyConflictException e) {
+            // Retire l'instantané périmé, pas celui qu'une sauvegarde concurrente vient d'écrire
+            Long rejectedVersion = account.getVersion();
+            cache.asMap().computeIfPresent(key, (id, snapshot) ->
+                    snapshot.isNewerThan(rejectedVersion) ? snapshot : null);
+            staleWrites.increment();
+            throw e;
+        }
+        AccountSnapshot saved = AccountSnapshot.of(account, now());
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            remember(saved);
+            return account;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    remember(saved);
+                } else {
+                    cache.invalidate(key);
+                }
+            }
+        });
+        return account;
+    }
+
+    @Override
+    public void deleteById(AccountId id) {
+        delegate.deleteById(id);
+        cache.invalidate(id.value());
+    }
+
+    /**
+     * Garde l'instantané le plus récent : une lecture lente ne remplace pas
+     * le résultat d'une sauvegarde passée entre-temps.
+     */
+    private void remember(AccountSnapshot snapshot) {
+        cache.asMap().merge(snapshot.id().value(), snapshot,
+                (current, candidate) -> candidate.isOlderThan(current) ? current : candidate);
+    }
+
+    // ========== Événements ==========
+
+    @Override
+    public Class<AccountBalanceUpdated> eventType() {
+        return AccountBalanceUpdated.class;
+    }
+
+    @Override
+    public void onEvents(List<AccountBalanceUpdated> events) {
+        for (AccountBalanceUpdated event : events) {
+            UUID key = event.accountId().value();
+            if (!cache.asMap().containsKey(key)) {
+                // Compte pas en cache : la prochaine lecture ira en base
+                eventsIgnored.increment();
+                continue;
+            }
+            cache.asMap().computeIfPresent(key, (id, snapshot) -> apply(snapshot, event));
+        }
+    }
+
+    /**
+     * @return le nouvel instantané, le même s'il reflète déjà l'événement, null pour retirer l'entrée
+     */
+    private AccountSnapshot apply(AccountSnapshot snapshot, AccountBalanceUpdated event) {
+        if (!event.occurredAt().isAfter(snapshot.asOf())) {
+            eventsIgnored.increment();
+            return snapshot;
+        }
+        if (!MinorUnits.of(event.previousBalance()).equals(snapshot.balance())) {
+            eventsEvicted.increment();
+            return null;
+        }
+        eventsApplied.increment();
+        return snapshot.withBalance(MinorUnits.of(event.newBalance()), event.occurredAt());
+    }
+
+    private LocalDateTime now() {
+        return LocalDateTime.now(clock);
+    }
+
+    /**
+     * Compte tel qu'il était à l'instant asOf (lecture en base, sauvegarde ou événement).
+     */
+    private record AccountSnapshot(AccountId id, String name, AccountType type, Currency currency,
+                                   MinorUnits balance, boolean closed, LocalDateTime createdAt,
+                                   Long version, LocalDateTime asOf) {
+
+        static AccountSnapshot of(Account account, LocalDateTime asOf) {
+            return new AccountSnapshot(account.getId(), account.getName(), account.getType(),
+                    account.getCurrency(), account.getBalance().units(), account.isClosed(),
+                    account.getCreatedAt(), account.getVersion(), asOf);
+        }
+
+        Account toAccount() {
+            return Account.reconstitute(id, name, type, currency, balance.toMoney(), closed, createdAt, version);
+        }
+
+        AccountSnapshot withBalance(MinorUnits newBalance, LocalDateTime at) {
+            return new AccountSnapshot(id, name, type, currency, newBalance, closed, createdAt, version, at);
+        }
+
+        boolean isNewerThan(Long otherVersion) {
+            return version != null && otherVersion != null && version > otherVersion;
+        }
+
+        boolean isOlderThan(AccountSnapshot other) {
+            if (version != null && other.version != null && !version.equals(other.version)) {
+                return version < other.version;
+            }
+            return asOf.isBefore(other.asOf);
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.wealthwise.infrastructure.persistence.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.wealthwise.domain.category.model.Category;
+import com.wealthwise.domain.category.model.CategoryId;
+import com.wealthwise.domain.category.port.CategoryRepository;
+import com.wealthwise.infrastructure.persistence.jpa.adapter.JpaCategoryRepositoryAdapter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Décorateur de cache devant le JpaCategoryRepositoryAdapter.
+ *
+ * Les catégories sont peu nombreuses et ne changent presque jamais, mais
+ * chaque commande qui en référence une (catégorisation, budget, règle)
+ * vérifie qu'elle existe. Deux caches Caffeine :
+ * - categories.byId : findById, une entrée par identifiant (y compris
+ *   "n'existe pas"), taille bornée (max-size) ;
+ * - categories.all  : la table entière pour findAll, avec un index des noms
+ *   en minuscules pour existsByName (insensible à la casse, comme la requête).
+ *
+ * Écriture : save() et deleteById() écrivent d'abord en base, puis
+ * remplacent l'entrée de l'identifiant et invalident la table entière.
+ * Une lecture en cours sur la même clé termine avant l'invalidation :
+ * on ne garde pas un état antérieur à l'écriture.
+ *
+ * Le cache est propre à l'instance : expireAfterWrite borne la durée
+ * pendant laquelle une écriture faite ailleurs reste invisible.
+ *
+ * Category est mutable : le cache garde ses propres copies et rend des
+ * copies, un appelant qui modifie un objet sans le sauvegarder n'altère pas le cache.
+ *
+ * Métriques : cache.gets (result=hit|miss), cache.size, cache.evictions...
+ * tagués cache=categories.byId / categories.all (CaffeineCacheMetrics).
+ *
+ * @Primary : c'est ce repository que reçoivent les handlers et les contrôleurs.
+ */
+@Primary
+@Component
+public class CachingCategoryRepository implements CategoryRepository {
+
+    private static final String ALL = "all";
+
+    private final CategoryRepository delegate;
+    private final Cache<UUID, Optional<Category>> byId;
+    private final Cache<String, Snapshot> all;
+
+    @Autowired
+    public CachingCategoryRepository(JpaCategoryRepositoryAdapter delegate,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${wealthwise.categories.cache.max-size:1000}") long maxSize,
+                                     @Value("${wealthwise.categories.cache.expire-after-write-ms:600000}") long expireAfterWriteMs) {
+        this((CategoryRepository) delegate, meterRegistry, maxSize, expireAfterWriteMs);
+    }
+
+    /**
+     * @param delegate le repository à mettre en cache (autre que celui-ci)
+     */
+    public CachingCategoryRepository(CategoryRepository delegate,
+                                     MeterRegistry meterRegistry,
+                                     long maxSize,
+                                     long expireAfterWriteMs) {
+        this.delegate = delegate;
+        Duration expireAfterWrite = Duration.ofMillis(expireAfterWriteMs);
+        this.byId = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        this.all = Caffeine.newBuilder()
+                .maximumSize(1)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, byId, "categories.byId");
+        CaffeineCacheMetrics.monitor(meterRegistry, all, "categories.all");
+    }
+
+    @Override
+    public Category save(Category category) {
+        delegate.save(category);
+        byId.put(category.getId().value(), Optional.of(copyOf(category)));
+        all.invalidate(ALL);
+        return category;
+    }
+
+    @Override
+    public Optional<Category> findById(CategoryId id) {
+        return byId.get(id.value(), key -> delegate.findById(id).map(CachingCategoryRepository::copyOf))
+                .map(CachingCategoryRepository::copyOf);
+    }
+
+    @Override
+    public List<Category> findAll() {
+        return snapshot().categories().stream()
+                .map(CachingCategoryRepository::copyOf)
+                .toList();
+    }
+
+    @Override
+    public boolean existsByName(String name) {
+        return name != null && snapshot().names().containsKey(lowerCase(name));
+    }
+
+    @Override
+    public void deleteById(CategoryId id) {
+        delegate.deleteById(id);
+        byId.invalidate(id.value());
+        all.invalidate(ALL);
+    }
+
+    private Snapshot snapshot() {
+        return all.get(ALL, key -> Snapshot.of(delegate.findAll()));
+    }
+
+    private static String lowerCase(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    private static Category copyOf(Category category) {
+        return Category.reconstitute(category.getId(), category.getName(), category.getType(),
+                category.getColor(), category.getIcon(), category.getCreatedAt());
+    }
+
+    /**
+     * Table des catégories à un instant donné, avec l'index des noms.
+     */
+    private record Snapshot(List<Category> categories, Map<String, CategoryId> names) {
+
+        static Snapshot of(List<Category> categories) {
+            Map<String, CategoryId> names = new HashMap<>();
+            for (Category category : categories) {
+                names.put(lowerCase(category.getName()), category.getId());
+            }
+            return new Snapshot(List.copyOf(categories), Map.copyOf(names));
+        }
+    }
+}
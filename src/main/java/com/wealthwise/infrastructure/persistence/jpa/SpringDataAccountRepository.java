@@ -3,15 +3,17 @@ package com.wealthwise.infrastructure.persistence.jpa;
 import com.wealthwise.infrastructure.persistence.jpa.entity.AccountEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.UUID;
+
 /**
  * Repository Spring Data JPA pour les comptes.
  *
  * Spring Data JPA est MAGIQUE : tu définis une interface qui étend JpaRepository,
  * et Spring génère automatiquement l'implémentation avec tous les SQL nécessaires.
  *
- * JpaRepository<AccountEntity, String> signifie :
+ * JpaRepository<AccountEntity, UUID> signifie :
  * - AccountEntity = le type de l'entité gérée
- * - String = le type de la clé primaire (@Id)
+ * - UUID = le type de la clé primaire (@Id)
  *
  * Tu obtiens gratuitement : save(), findById(), findAll(), deleteById(), count()...
  *
@@ -19,6 +21,6 @@ import org.springframework.data.jpa.repository.JpaRepository;
  * pas des Account (domaine). L'adaptateur JpaAccountRepositoryAdapter
  * fait la conversion entre les deux.
  */
-public interface SpringDataAccountRepository extends JpaRepository<AccountEntity, String> {
+public interface SpringDataAccountRepository extends JpaRepository<AccountEntity, UUID> {
     // Tout est hérité de JpaRepository — rien à écrire !
 }
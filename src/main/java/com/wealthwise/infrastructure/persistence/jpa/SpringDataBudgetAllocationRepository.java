@@ -0,0 +1,9 @@
+package com.wealthwise.infrastructure.persistence.jpa;
+
+import com.wealthwise.infrastructure.persistence.jpa.entity.BudgetAllocationEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.UUID;
+
+public interface SpringDataBudgetAllocationRepository extends JpaRepository<BudgetAllocationEntity, UUID> {
+}
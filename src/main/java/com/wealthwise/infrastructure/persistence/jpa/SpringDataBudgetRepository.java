@@ -5,10 +5,11 @@ import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
-public interface SpringDataBudgetRepository extends JpaRepository<BudgetEntity, String> {
+public interface SpringDataBudgetRepository extends JpaRepository<BudgetEntity, UUID> {
 
-    Optional<BudgetEntity> findByCategoryIdAndPeriodMonth(String categoryId, String periodMonth);
+    Optional<BudgetEntity> findByCategoryIdAndPeriodMonth(UUID categoryId, String periodMonth);
 
     List<BudgetEntity> findByPeriodMonth(String periodMonth);
 }
@@ -0,0 +1,9 @@
+package com.wealthwise.infrastructure.persistence.jpa;
+
+import com.wealthwise.infrastructure.persistence.jpa.entity.CategorizationRuleEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.UUID;
+
+public interface SpringDataCategorizationRuleRepository extends JpaRepository<CategorizationRuleEntity, UUID> {
+}
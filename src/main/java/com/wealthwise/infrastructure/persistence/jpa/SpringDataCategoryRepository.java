@@ -3,7 +3,9 @@ package com.wealthwise.infrastructure.persistence.jpa;
 import com.wealthwise.infrastructure.persistence.jpa.entity.CategoryEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
 
-public interface SpringDataCategoryRepository extends JpaRepository<CategoryEntity, String> {
+import java.util.UUID;
+
+public interface SpringDataCategoryRepository extends JpaRepository<CategoryEntity, UUID> {
 
     boolean existsByNameIgnoreCase(String name);
 }
@@ -0,0 +1,12 @@
+package com.wealthwise.infrastructure.persistence.jpa;
+
+import com.wealthwise.infrastructure.persistence.jpa.entity.MonthlySummaryEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface SpringDataMonthlySummaryRepository extends JpaRepository<MonthlySummaryEntity, UUID> {
+
+    List<MonthlySummaryEntity> findByAccountIdAndMonth(UUID accountId, String month);
+}
@@ -0,0 +1,56 @@
+package com.wealthwise.infrastructure.persistence.jpa;
+
+import com.wealthwise.infrastructure.persistence.jpa.entity.OutboxEventEntity;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface SpringDataOutboxRepository extends JpaRepository<OutboxEventEntity, Long> {
+
+    /**
+     * Prochain lot à livrer, verrouillé pour la durée de la transaction.
+     *
+     * PESSIMISTIC_WRITE + lock.timeout = -2 (LockOptions.SKIP_LOCKED) :
+     * Hibernate génère "SELECT ... FOR UPDATE SKIP LOCKED" sur PostgreSQL.
+     * Plusieurs relais (plusieurs instances) se partagent donc la table
+     * sans jamais livrer la même ligne en parallèle ni s'attendre.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT o FROM OutboxEventEntity o ORDER BY o.id")
+    List<OutboxEventEntity> lockNextBatch(Limit limit);
+
+    Optional<OutboxEventEntity> findFirstByOrderByIdAsc();
+
+    /**
+     * Compte un échec de livraison de la ligne.
+     */
+    @Modifying
+    @Query("UPDATE OutboxEventEntity o SET o.attempts = o.attempts + 1, o.lastError = :error WHERE o.id = :id")
+    int recordFailure(@Param("id") Long id, @Param("error") String error);
+
+    /**
+     * Copie la ligne dans outbox_dead_letter (l'appelant la supprime ensuite de l'outbox).
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO outbox_dead_letter (id, event_type, payload, occurred_at, created_at, attempts, last_error, dead_at)
+            SELECT id, event_type, payload, occurred_at, created_at, attempts, last_error, :deadAt
+            FROM outbox
+            WHERE id = :id
+            """, nativeQuery = true)
+    int copyToDeadLetter(@Param("id") Long id, @Param("deadAt") LocalDateTime deadAt);
+
+    @Query(value = "SELECT COUNT(*) FROM outbox_dead_letter", nativeQuery = true)
+    long countDeadLetters();
+}
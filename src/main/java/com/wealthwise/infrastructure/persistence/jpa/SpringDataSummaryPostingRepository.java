@@ -0,0 +1,9 @@
+package com.wealthwise.infrastructure.persistence.jpa;
+
+import com.wealthwise.infrastructure.persistence.jpa.entity.SummaryPostingEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.UUID;
+
+public interface SpringDataSummaryPostingRepository extends JpaRepository<SummaryPostingEntity, UUID> {
+}
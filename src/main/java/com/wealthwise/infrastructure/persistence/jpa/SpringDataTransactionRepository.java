@@ -1,10 +1,16 @@
 package com.wealthwise.infrastructure.persistence.jpa;
 
 import com.wealthwise.infrastructure.persistence.jpa.entity.TransactionEntity;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.UUID;
 
 /**
  * Repository Spring Data JPA pour les transactions.
@@ -15,14 +21,116 @@ import java.util.List;
  *
  * C'est la convention "Query Derivation" de Spring Data.
  * Le nom de la méthode EST la requête.
+ *
+ * Les requêtes de pagination sont écrites à la main (@Query) : la condition
+ * "après (date, id)" ne s'exprime pas avec un nom de méthode.
  */
-public interface SpringDataTransactionRepository extends JpaRepository<TransactionEntity, String> {
+public interface SpringDataTransactionRepository extends JpaRepository<TransactionEntity, UUID> {
 
-    List<TransactionEntity> findByAccountId(String accountId);
+    List<TransactionEntity> findByAccountId(UUID accountId);
 
     List<TransactionEntity> findByDateBetween(LocalDate start, LocalDate end);
 
-    List<TransactionEntity> findByAccountIdAndDateBetween(String accountId, LocalDate start, LocalDate end);
+    List<TransactionEntity> findByAccountIdAndDateBetween(UUID accountId, LocalDate start, LocalDate end);
+
+    List<TransactionEntity> findByCategoryId(UUID categoryId);
+
+    // ========== Totaux ==========
+    // Sommes par type et par devise, calculées par la base (GROUP BY) :
+    // aucune ligne n'est chargée en mémoire.
+
+    @Query("""
+            SELECT t.type AS type, t.currency AS currency, SUM(t.amount) AS total
+            FROM TransactionEntity t
+            GROUP BY t.type, t.currency
+            """)
+    List<TypeTotal> sumAmountByTypeAndCurrency();
+
+    @Query("""
+            SELECT t.type AS type, t.currency AS currency, SUM(t.amount) AS total
+            FROM TransactionEntity t
+            WHERE t.accountId = :accountId
+            GROUP BY t.type, t.currency
+            """)
+    List<TypeTotal> sumAmountByTypeAndCurrencyForAccount(@Param("accountId") UUID accountId);
+
+    /**
+     * Projection d'une ligne de sumAmountByTypeAndCurrency.
+     */
+    interface TypeTotal {
+        String getType();
+
+        String getCurrency();
+
+        BigDecimal getTotal();
+    }
+
+    /**
+     * UPDATE ensembliste de la catégorie d'un lot de transactions.
+     * Seules les lignes encore dans la catégorie lue (previousCategoryId,
+     * null = non catégorisée) et non catégorisées à la main sont modifiées :
+     * l'appelant compare le nombre de lignes modifiées à la taille du lot.
+     *
+     * from/to encadrent les dates du lot : sur la table partitionnée par
+     * mois, seules les partitions de ces mois sont parcourues.
+     */
+    @Modifying
+    @Query("""
+            UPDATE TransactionEntity t
+            SET t.categoryId = :categoryId, t.confidenceLevel = :confidenceLevel
+            WHERE t.id IN :ids
+              AND t.date BETWEEN :from AND :to
+              AND ((:previousCategoryId IS NULL AND t.categoryId IS NULL) OR t.categoryId = :previousCategoryId)
+              AND (t.confidenceLevel IS NULL OR t.confidenceLevel <> 'MANUAL')
+            """)
+    int updateCategory(@Param("ids") List<UUID> ids,
+                       @Param("categoryId") UUID categoryId,
+                       @Param("confidenceLevel") String confidenceLevel,
+                       @Param("previousCategoryId") UUID previousCategoryId,
+                       @Param("from") LocalDate from,
+                       @Param("to") LocalDate to);
+
+    // ========== Pagination par clé (keyset) ==========
+    // WHERE (date, id) < (:date, :id) ORDER BY date DESC, id DESC :
+    // la base descend l'index jusqu'au curseur puis lit "limit" lignes,
+    // quelle que soit la profondeur de la page (pas d'OFFSET).
+    // "t.date <= :date" est redondant avec la condition du curseur, mais
+    // s'exprime directement sur la clé de partition : PostgreSQL écarte les
+    // partitions des mois postérieurs au curseur.
+
+    @Query("""
+            SELECT t FROM TransactionEntity t
+            ORDER BY t.date DESC, t.id DESC
+            """)
+    List<TransactionEntity> findFirstPage(Limit limit);
+
+    @Query("""
+            SELECT t FROM TransactionEntity t
+            WHERE t.date <= :date
+              AND (t.date < :date OR (t.date = :date AND t.id < :id))
+            ORDER BY t.date DESC, t.id DESC
+            """)
+    List<TransactionEntity> findPageAfter(@Param("date") LocalDate date,
+                                          @Param("id") UUID id,
+                                          Limit limit);
+
+    @Query("""
+            SELECT t FROM TransactionEntity t
+            WHERE t.accountId = :accountId
+            ORDER BY t.date DESC, t.id DESC
+            """)
+    List<TransactionEntity> findFirstPageByAccountId(@Param("accountId") UUID accountId,
+                                                     Limit limit);
 
-    List<TransactionEntity> findByCategoryId(String categoryId);
+    @Query("""
+            SELECT t FROM TransactionEntity t
+            WHERE t.accountId = :accountId
+              AND t.date <= :date
+              AND (t.date < :date OR (t.date = :date AND t.id < :id))
+            ORDER BY t.date DESC, t.id DESC
+            """)
+    List<TransactionEntity> findPageByAccountIdAfter(@Param("accountId") UUID accountId,
+                                                     @Param("date") LocalDate date,
+                                                     @Param("id") UUID id,
+                                                     Limit limit);
 }
@@ -3,9 +3,15 @@ package com.wealthwise.infrastructure.persistence.jpa.adapter;
 import com.wealthwise.domain.account.model.Account;
 import com.wealthwise.domain.account.model.AccountId;
 import com.wealthwise.domain.account.port.AccountRepository;
+import com.wealthwise.domain.shared.ConcurrencyConflictException;
+import com.wealthwise.domain.shared.DomainEventPublisher;
 import com.wealthwise.infrastructure.persistence.jpa.SpringDataAccountRepository;
+import com.wealthwise.infrastructure.persistence.jpa.entity.AccountEntity;
 import com.wealthwise.infrastructure.persistence.jpa.mapper.AccountMapper;
+import com.wealthwise.infrastructure.persistence.jpa.mapper.MapperMetrics;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -28,33 +34,54 @@ import java.util.Optional;
  *
  * Le flux pour un findById() :
  * SQL SELECT → AccountEntity (JPA) → AccountMapper.toDomain() → Account (domaine)
+ *
+ * Les événements de l'agrégat sont publiés (DomainEventPublisher) dans la
+ * même transaction que le save(), puis vidés : avec l'outbox, l'agrégat
+ * et ses événements sont committés ensemble.
  */
 @Repository
 public class JpaAccountRepositoryAdapter implements AccountRepository {
 
     private final SpringDataAccountRepository jpaRepository;
+    private final DomainEventPublisher eventPublisher;
+    private final MapperMetrics.Mapping mapping;
 
-    public JpaAccountRepositoryAdapter(SpringDataAccountRepository jpaRepository) {
+    public JpaAccountRepositoryAdapter(SpringDataAccountRepository jpaRepository,
+                                       DomainEventPublisher eventPublisher,
+                                       MapperMetrics mapperMetrics) {
         this.jpaRepository = jpaRepository;
+        this.eventPublisher = eventPublisher;
+        this.mapping = mapperMetrics.forMapper("account");
     }
 
+    /**
+     * saveAndFlush : l'UPDATE versionné part tout de suite, pour que le conflit
+     * soit levé ici (et traduit en ConcurrencyConflictException) plutôt qu'au commit.
+     */
     @Override
+    @Transactional
     public Account save(Account account) {
-        jpaRepository.save(AccountMapper.toEntity(account));
+        AccountEntity saved;
+        try {
+            saved = jpaRepository.saveAndFlush(mapping.toEntity(account, AccountMapper::toEntity));
+        } catch (OptimisticLockingFailureException e) {
+            throw new ConcurrencyConflictException(
+                    "Account was modified concurrently: " + account.getId().value(), e);
+        }
+        account.updateVersion(saved.getVersion());
+        eventPublisher.publish(account.getDomainEvents());
+        account.clearEvents();
         return account;
     }
 
     @Override
     public Optional<Account> findById(AccountId id) {
-        return jpaRepository.findById(id.value())
-                .map(AccountMapper::toDomain);
+        return mapping.toDomain(jpaRepository.findById(id.value()), AccountMapper::toDomain);
     }
 
     @Override
     public List<Account> findAll() {
-        return jpaRepository.findAll().stream()
-                .map(AccountMapper::toDomain)
-                .toList();
+        return mapping.toDomain(jpaRepository.findAll(), AccountMapper::toDomain);
     }
 
     @Override
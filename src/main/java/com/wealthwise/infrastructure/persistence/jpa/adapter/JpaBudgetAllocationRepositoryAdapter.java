@@ -0,0 +1,35 @@
+package com.wealthwise.infrastructure.persistence.jpa.adapter;
+
+import com.wealthwise.domain.budget.model.BudgetAllocation;
+import com.wealthwise.domain.budget.port.BudgetAllocationRepository;
+import com.wealthwise.domain.transaction.model.TransactionId;
+import com.wealthwise.infrastructure.persistence.jpa.SpringDataBudgetAllocationRepository;
+import com.wealthwise.infrastructure.persistence.jpa.mapper.BudgetAllocationMapper;
+import com.wealthwise.infrastructure.persistence.jpa.mapper.MapperMetrics;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public class JpaBudgetAllocationRepositoryAdapter implements BudgetAllocationRepository {
+
+    private final SpringDataBudgetAllocationRepository jpaRepository;
+    private final MapperMetrics.Mapping mapping;
+
+    public JpaBudgetAllocationRepositoryAdapter(SpringDataBudgetAllocationRepository jpaRepository,
+                                                MapperMetrics mapperMetrics) {
+        this.jpaRepository = jpaRepository;
+        this.mapping = mapperMetrics.forMapper("budgetAllocation");
+    }
+
+    @Override
+    public BudgetAllocation save(BudgetAllocation allocation) {
+        jpaRepository.save(mapping.toEntity(allocation, BudgetAllocationMapper::toEntity));
+        return allocation;
+    }
+
+    @Override
+    public Optional<BudgetAllocation> findByTransactionId(TransactionId transactionId) {
+        return mapping.toDomain(jpaRepository.findById(transactionId.value()), BudgetAllocationMapper::toDomain);
+    }
+}
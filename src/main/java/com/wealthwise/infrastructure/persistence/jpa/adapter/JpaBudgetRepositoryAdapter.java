@@ -5,9 +5,12 @@ import com.wealthwise.domain.budget.model.BudgetId;
 import com.wealthwise.domain.budget.model.BudgetPeriod;
 import com.wealthwise.domain.budget.port.BudgetRepository;
 import com.wealthwise.domain.category.model.CategoryId;
+import com.wealthwise.domain.shared.DomainEventPublisher;
 import com.wealthwise.infrastructure.persistence.jpa.SpringDataBudgetRepository;
 import com.wealthwise.infrastructure.persistence.jpa.mapper.BudgetMapper;
+import com.wealthwise.infrastructure.persistence.jpa.mapper.MapperMetrics;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -16,42 +19,45 @@ import java.util.Optional;
 public class JpaBudgetRepositoryAdapter implements BudgetRepository {
 
     private final SpringDataBudgetRepository jpaRepository;
+    private final DomainEventPublisher eventPublisher;
+    private final MapperMetrics.Mapping mapping;
 
-    public JpaBudgetRepositoryAdapter(SpringDataBudgetRepository jpaRepository) {
+    public JpaBudgetRepositoryAdapter(SpringDataBudgetRepository jpaRepository,
+                                      DomainEventPublisher eventPublisher,
+                                      MapperMetrics mapperMetrics) {
         this.jpaRepository = jpaRepository;
+        this.eventPublisher = eventPublisher;
+        this.mapping = mapperMetrics.forMapper("budget");
     }
 
     @Override
+    @Transactional
     public Budget save(Budget budget) {
-        jpaRepository.save(BudgetMapper.toEntity(budget));
+        jpaRepository.save(mapping.toEntity(budget, BudgetMapper::toEntity));
+        eventPublisher.publish(budget.getDomainEvents());
+        budget.clearEvents();
         return budget;
     }
 
     @Override
     public Optional<Budget> findById(BudgetId id) {
-        return jpaRepository.findById(id.value())
-                .map(BudgetMapper::toDomain);
+        return mapping.toDomain(jpaRepository.findById(id.value()), BudgetMapper::toDomain);
     }
 
     @Override
     public Optional<Budget> findByCategoryIdAndPeriod(CategoryId categoryId, BudgetPeriod period) {
-        return jpaRepository.findByCategoryIdAndPeriodMonth(
-                        categoryId.value(), period.month().toString())
-                .map(BudgetMapper::toDomain);
+        return mapping.toDomain(jpaRepository.findByCategoryIdAndPeriodMonth(
+                categoryId.value(), period.month().toString()), BudgetMapper::toDomain);
     }
 
     @Override
     public List<Budget> findByPeriod(BudgetPeriod period) {
-        return jpaRepository.findByPeriodMonth(period.month().toString()).stream()
-                .map(BudgetMapper::toDomain)
-                .toList();
+        return mapping.toDomain(jpaRepository.findByPeriodMonth(period.month().toString()), BudgetMapper::toDomain);
     }
 
     @Override
     public List<Budget> findAll() {
-        return jpaRepository.findAll().stream()
-                .map(BudgetMapper::toDomain)
-                .toList();
+        return mapping.toDomain(jpaRepository.findAll(), BudgetMapper::toDomain);
     }
 
     @Override
@@ -0,0 +1,46 @@
+package com.wealthwise.infrastructure.persistence.jpa.adapter;
+
+import com.wealthwise.domain.categorization.model.CategorizationRule;
+import com.wealthwise.domain.categorization.model.CategorizationRuleId;
+import com.wealthwise.domain.categorization.port.CategorizationRuleRepository;
+import com.wealthwise.infrastructure.persistence.jpa.SpringDataCategorizationRuleRepository;
+import com.wealthwise.infrastructure.persistence.jpa.mapper.CategorizationRuleMapper;
+import com.wealthwise.infrastructure.persistence.jpa.mapper.MapperMetrics;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public class JpaCategorizationRuleRepositoryAdapter implements CategorizationRuleRepository {
+
+    private final SpringDataCategorizationRuleRepository jpaRepository;
+    private final MapperMetrics.Mapping mapping;
+
+    public JpaCategorizationRuleRepositoryAdapter(SpringDataCategorizationRuleRepository jpaRepository,
+                                                  MapperMetrics mapperMetrics) {
+        this.jpaRepository = jpaRepository;
+        this.mapping = mapperMetrics.forMapper("categorizationRule");
+    }
+
+    @Override
+    public CategorizationRule save(CategorizationRule rule) {
+        jpaRepository.save(mapping.toEntity(rule, CategorizationRuleMapper::toEntity));
+        return rule;
+    }
+
+    @Override
+    public Optional<CategorizationRule> findById(CategorizationRuleId id) {
+        return mapping.toDomain(jpaRepository.findById(id.value()), CategorizationRuleMapper::toDomain);
+    }
+
+    @Override
+    public List<CategorizationRule> findAll() {
+        return mapping.toDomain(jpaRepository.findAll(), CategorizationRuleMapper::toDomain);
+    }
+
+    @Override
+    public void deleteById(CategorizationRuleId id) {
+        jpaRepository.deleteById(id.value());
+    }
+}
@@ -5,6 +5,7 @@ import com.wealthwise.domain.category.model.CategoryId;
 import com.wealthwise.domain.category.port.CategoryRepository;
 import com.wealthwise.infrastructure.persistence.jpa.SpringDataCategoryRepository;
 import com.wealthwise.infrastructure.persistence.jpa.mapper.CategoryMapper;
+import com.wealthwise.infrastructure.persistence.jpa.mapper.MapperMetrics;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -14,28 +15,27 @@ import java.util.Optional;
 public class JpaCategoryRepositoryAdapter implements CategoryRepository {
 
     private final SpringDataCategoryRepository jpaRepository;
+    private final MapperMetrics.Mapping mapping;
 
-    public JpaCategoryRepositoryAdapter(SpringDataCategoryRepository jpaRepository) {
+    public JpaCategoryRepositoryAdapter(SpringDataCategoryRepository jpaRepository, MapperMetrics mapperMetrics) {
         this.jpaRepository = jpaRepository;
+        this.mapping = mapperMetrics.forMapper("category");
     }
 
     @Override
     public Category save(Category category) {
-        jpaRepository.save(CategoryMapper.toEntity(category));
+        jpaRepository.save(mapping.toEntity(category, CategoryMapper::toEntity));
         return category;
     }
 
     @Override
     public Optional<Category> findById(CategoryId id) {
-        return jpaRepository.findById(id.value())
-                .map(CategoryMapper::toDomain);
+        return mapping.toDomain(jpaRepository.findById(id.value()), CategoryMapper::toDomain);
     }
 
     @Override
     public List<Category> findAll() {
-        return jpaRepository.findAll().stream()
-                .map(CategoryMapper::toDomain)
-                .toList();
+        return mapping.toDomain(jpaRepository.findAll(), CategoryMapper::toDomain);
     }
 
     @Override
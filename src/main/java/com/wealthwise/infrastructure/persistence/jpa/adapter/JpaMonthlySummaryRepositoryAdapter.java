@@ -0,0 +1,64 @@
+package com.wealthwise.infrastructure.persistence.jpa.adapter;
+
+import com.wealthwise.domain.account.model.AccountId;
+import com.wealthwise.domain.analytics.model.MonthlySummary;
+import com.wealthwise.domain.analytics.model.MonthlySummaryKey;
+import com.wealthwise.domain.analytics.model.SummaryPosting;
+import com.wealthwise.domain.analytics.port.MonthlySummaryRepository;
+import com.wealthwise.domain.transaction.model.TransactionId;
+import com.wealthwise.infrastructure.persistence.jpa.SpringDataMonthlySummaryRepository;
+import com.wealthwise.infrastructure.persistence.jpa.SpringDataSummaryPostingRepository;
+import com.wealthwise.infrastructure.persistence.jpa.mapper.MapperMetrics;
+import com.wealthwise.infrastructure.persistence.jpa.mapper.MonthlySummaryMapper;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public class JpaMonthlySummaryRepositoryAdapter implements MonthlySummaryRepository {
+
+    private final SpringDataMonthlySummaryRepository summaryRepository;
+    private final SpringDataSummaryPostingRepository postingRepository;
+    private final MapperMetrics.Mapping summaryMapping;
+    private final MapperMetrics.Mapping postingMapping;
+
+    public JpaMonthlySummaryRepositoryAdapter(SpringDataMonthlySummaryRepository summaryRepository,
+                                              SpringDataSummaryPostingRepository postingRepository,
+                                              MapperMetrics mapperMetrics) {
+        this.summaryRepository = summaryRepository;
+        this.postingRepository = postingRepository;
+        this.summaryMapping = mapperMetrics.forMapper("monthlySummary");
+        this.postingMapping = mapperMetrics.forMapper("summaryPosting");
+    }
+
+    @Override
+    public Optional<MonthlySummary> findByKey(MonthlySummaryKey key) {
+        return summaryMapping.toDomain(summaryRepository.findById(MonthlySummaryMapper.idOf(key)),
+                MonthlySummaryMapper::toDomain);
+    }
+
+    @Override
+    public List<MonthlySummary> findByAccountAndMonth(AccountId accountId, YearMonth month) {
+        return summaryMapping.toDomain(summaryRepository.findByAccountIdAndMonth(accountId.value(), month.toString()),
+                MonthlySummaryMapper::toDomain);
+    }
+
+    @Override
+    public List<SummaryPosting> findPostings(Collection<TransactionId> transactionIds) {
+        return postingMapping.toDomain(postingRepository.findAllById(transactionIds.stream()
+                        .map(TransactionId::value)
+                        .toList()),
+                MonthlySummaryMapper::toDomain);
+    }
+
+    @Override
+    @Transactional
+    public void saveAll(Collection<MonthlySummary> summaries, Collection<SummaryPosting> postings) {
+        summaryRepository.saveAll(summaryMapping.toEntities(List.copyOf(summaries), MonthlySummaryMapper::toEntity));
+        postingRepository.saveAll(postingMapping.toEntities(List.copyOf(postings), MonthlySummaryMapper::toEntity));
+    }
+}
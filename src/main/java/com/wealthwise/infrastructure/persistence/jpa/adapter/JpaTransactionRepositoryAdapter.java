@@ -1,75 +1,206 @@
 package com.wealthwise.infrastructure.persistence.jpa.adapter;
 
+import com.wealthwise.domain.account.event.DomainEvent;
 import com.wealthwise.domain.account.model.AccountId;
 import com.wealthwise.domain.category.model.CategoryId;
+import com.wealthwise.domain.shared.ConcurrencyConflictException;
+import com.wealthwise.domain.shared.Currency;
+import com.wealthwise.domain.shared.DomainEventPublisher;
+import com.wealthwise.domain.shared.Money;
+import com.wealthwise.domain.transaction.event.TransactionCategorized;
 import com.wealthwise.domain.transaction.model.Transaction;
+import com.wealthwise.domain.transaction.model.TransactionCursor;
 import com.wealthwise.domain.transaction.model.TransactionId;
+import com.wealthwise.domain.transaction.model.TransactionTotal;
+import com.wealthwise.domain.transaction.model.TransactionType;
 import com.wealthwise.domain.transaction.port.TransactionRepository;
 import com.wealthwise.infrastructure.persistence.jpa.SpringDataTransactionRepository;
+import com.wealthwise.infrastructure.persistence.jpa.mapper.MapperMetrics;
 import com.wealthwise.infrastructure.persistence.jpa.mapper.TransactionMapper;
+import com.wealthwise.infrastructure.persistence.jpa.entity.TransactionEntity;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
 
 @Repository
 public class JpaTransactionRepositoryAdapter implements TransactionRepository {
 
     private final SpringDataTransactionRepository jpaRepository;
+    private final DomainEventPublisher eventPublisher;
+    private final MapperMetrics.Mapping mapping;
 
-    public JpaTransactionRepositoryAdapter(SpringDataTransactionRepository jpaRepository) {
+    public JpaTransactionRepositoryAdapter(SpringDataTransactionRepository jpaRepository,
+                                           DomainEventPublisher eventPublisher,
+                                           MapperMetrics mapperMetrics) {
         this.jpaRepository = jpaRepository;
+        this.eventPublisher = eventPublisher;
+        this.mapping = mapperMetrics.forMapper("transaction");
     }
 
     @Override
+    @Transactional
     public Transaction save(Transaction transaction) {
-        jpaRepository.save(TransactionMapper.toEntity(transaction));
+        jpaRepository.save(mapping.toEntity(transaction, TransactionMapper::toEntity));
+        publishEvents(List.of(transaction));
         return transaction;
     }
 
+    /**
+     * Une requête UPDATE par (catégorie, confiance, ancienne catégorie) —
+     * en pratique une ou deux pour un paquet recatégorisé par une règle —
+     * au lieu d'un SELECT + UPDATE par transaction. Puis un seul INSERT
+     * en lot dans l'outbox pour tous les événements.
+     */
+    @Override
+    @Transactional
+    public void updateCategories(List<Transaction> transactions) {
+        Map<CategoryChange, List<Transaction>> byChange = new LinkedHashMap<>();
+        List<DomainEvent> events = new ArrayList<>();
+        for (Transaction transaction : transactions) {
+            byChange.computeIfAbsent(CategoryChange.of(transaction), change -> new ArrayList<>())
+                    .add(transaction);
+            events.addAll(transaction.getDomainEvents());
+        }
+
+        byChange.forEach((change, group) -> {
+            List<UUID> ids = new ArrayList<>(group.size());
+            LocalDate from = LocalDate.MAX;
+            LocalDate to = LocalDate.MIN;
+            for (Transaction transaction : group) {
+                ids.add(transaction.getId().value());
+                from = transaction.getDate().isBefore(from) ? transaction.getDate() : from;
+                to = transaction.getDate().isAfter(to) ? transaction.getDate() : to;
+            }
+            int updated = jpaRepository.updateCategory(ids, change.categoryId(), change.confidenceLevel(),
+                    change.previousCategoryId(), from, to);
+            if (updated != ids.size()) {
+                // Exception non vérifiée : @Transactional annule les UPDATE déjà passés
+                throw new ConcurrencyConflictException(
+                        "Transactions were recategorized concurrently: "
+                                + (ids.size() - updated) + " of " + ids.size() + " not updated", null);
+            }
+        });
+
+        eventPublisher.publish(events);
+        transactions.forEach(Transaction::clearEvents);
+    }
+
+    /**
+     * Entités marquées nouvelles (Persistable) : persist() au lieu de merge(),
+     * donc pas de SELECT par ligne ; les INSERT partent par lots au commit
+     * (hibernate.jdbc.batch_size, order_inserts).
+     */
+    @Override
+    @Transactional
+    public List<Transaction> saveAllNew(List<Transaction> transactions) {
+        jpaRepository.saveAll(mapping.toEntities(transactions, TransactionMapper::toNewEntity));
+        publishEvents(transactions);
+        return transactions;
+    }
+
     @Override
     public Optional<Transaction> findById(TransactionId id) {
-        return jpaRepository.findById(id.value())
-                .map(TransactionMapper::toDomain);
+        return mapping.toDomain(jpaRepository.findById(id.value()), TransactionMapper::toDomain);
     }
 
     @Override
     public List<Transaction> findByAccountId(AccountId accountId) {
-        return jpaRepository.findByAccountId(accountId.value()).stream()
-                .map(TransactionMapper::toDomain)
-                .toList();
+        return mapping.toDomain(jpaRepository.findByAccountId(accountId.value()), TransactionMapper::toDomain);
     }
 
     @Override
     public List<Transaction> findByDateBetween(LocalDate start, LocalDate end) {
-        return jpaRepository.findByDateBetween(start, end).stream()
-                .map(TransactionMapper::toDomain)
-                .toList();
+        return mapping.toDomain(jpaRepository.findByDateBetween(start, end), TransactionMapper::toDomain);
     }
 
     @Override
     public List<Transaction> findByAccountIdAndDateBetween(AccountId accountId, LocalDate start, LocalDate end) {
-        return jpaRepository.findByAccountIdAndDateBetween(accountId.value(), start, end).stream()
-                .map(TransactionMapper::toDomain)
-                .toList();
+        return mapping.toDomain(
+                jpaRepository.findByAccountIdAndDateBetween(accountId.value(), start, end),
+                TransactionMapper::toDomain);
     }
 
     @Override
     public List<Transaction> findByCategoryId(CategoryId categoryId) {
-        return jpaRepository.findByCategoryId(categoryId.value()).stream()
-                .map(TransactionMapper::toDomain)
-                .toList();
+        return mapping.toDomain(jpaRepository.findByCategoryId(categoryId.value()), TransactionMapper::toDomain);
     }
 
     @Override
     public List<Transaction> findAll() {
-        return jpaRepository.findAll().stream()
-                .map(TransactionMapper::toDomain)
+        return mapping.toDomain(jpaRepository.findAll(), TransactionMapper::toDomain);
+    }
+
+    @Override
+    public List<Transaction> findPage(AccountId accountId, TransactionCursor after, int limit) {
+        Limit max = Limit.of(limit);
+        List<TransactionEntity> entities;
+        if (accountId == null) {
+            entities = after == null
+                    ? jpaRepository.findFirstPage(max)
+                    : jpaRepository.findPageAfter(after.date(), after.id().value(), max);
+        } else {
+            entities = after == null
+                    ? jpaRepository.findFirstPageByAccountId(accountId.value(), max)
+                    : jpaRepository.findPageByAccountIdAfter(accountId.value(), after.date(), after.id().value(), max);
+        }
+        return mapping.toDomain(entities, TransactionMapper::toDomain);
+    }
+
+    @Override
+    public List<TransactionTotal> totals(AccountId accountId) {
+        List<SpringDataTransactionRepository.TypeTotal> rows = accountId == null
+                ? jpaRepository.sumAmountByTypeAndCurrency()
+                : jpaRepository.sumAmountByTypeAndCurrencyForAccount(accountId.value());
+        return rows.stream()
+                .map(row -> new TransactionTotal(
+                        TransactionType.valueOf(row.getType()),
+                        Money.of(row.getTotal(), Currency.valueOf(row.getCurrency()))))
                 .toList();
     }
 
     public void deleteById(TransactionId id) {
         jpaRepository.deleteById(id.value());
     }
+
+    /**
+     * Changement de catégorie commun à un groupe de lignes : catégorie lue en
+     * base (premier TransactionCategorized) → catégorie finale (dernier).
+     */
+    private record CategoryChange(UUID categoryId, String confidenceLevel, UUID previousCategoryId) {
+
+        static CategoryChange of(Transaction transaction) {
+            List<TransactionCategorized> categorizations = transaction.getDomainEvents().stream()
+                    .filter(TransactionCategorized.class::isInstance)
+                    .map(TransactionCategorized.class::cast)
+                    .toList();
+            if (categorizations.isEmpty()) {
+                throw new IllegalArgumentException("Transaction was not categorized: " + transaction.getId().value());
+            }
+            CategoryId previous = categorizations.get(0).previousCategoryId();
+            TransactionCategorized last = categorizations.get(categorizations.size() - 1);
+            return new CategoryChange(
+                    last.categoryId().value(),
+                    last.confidence().name(),
+                    previous != null ? previous.value() : null
+            );
+        }
+    }
+
+    /**
+     * Publie les événements des transactions sauvegardées, puis les vide.
+     */
+    private void publishEvents(List<Transaction> transactions) {
+        for (Transaction transaction : transactions) {
+            eventPublisher.publish(transaction.getDomainEvents());
+            transaction.clearEvents();
+        }
+    }
 }
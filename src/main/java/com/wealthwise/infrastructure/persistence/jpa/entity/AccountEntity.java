@@ -3,6 +3,7 @@ package com.wealthwise.infrastructure.persistence.jpa.entity;
 import jakarta.persistence.*;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.UUID;
 
 /**
  * Entité JPA pour la table "accounts" en base de données.
@@ -29,8 +30,8 @@ import java.time.LocalDateTime;
 public class AccountEntity {
 
     @Id
-    @Column(name = "id", nullable = false, length = 36)
-    private String id;
+    @Column(name = "id", nullable = false)
+    private UUID id;
 
     @Column(name = "name", nullable = false)
     private String name;
@@ -54,13 +55,23 @@ public class AccountEntity {
     @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
 
+    /**
+     * Verrouillage optimiste : chaque UPDATE vérifie et incrémente ce numéro
+     * (UPDATE ... WHERE id = ? AND version = ?). Si une autre écriture est
+     * passée entre-temps, Hibernate rejette la sauvegarde au lieu d'écraser le solde.
+     * null = compte jamais persisté (Spring Data fait alors un INSERT).
+     */
+    @Version
+    @Column(name = "version")
+    private Long version;
+
     // Constructeur sans argument requis par JPA
     protected AccountEntity() {
     }
 
     // Constructeur complet pour le mapping depuis le domaine
-    public AccountEntity(String id, String name, String type, String currency,
-                         BigDecimal balance, boolean closed, LocalDateTime createdAt) {
+    public AccountEntity(UUID id, String name, String type, String currency,
+                         BigDecimal balance, boolean closed, LocalDateTime createdAt, Long version) {
         this.id = id;
         this.name = name;
         this.type = type;
@@ -68,14 +79,16 @@ public class AccountEntity {
         this.balance = balance;
         this.closed = closed;
         this.createdAt = createdAt;
+        this.version = version;
     }
 
     // Getters (JPA en a besoin pour lire les champs)
-    public String getId() { return id; }
+    public UUID getId() { return id; }
     public String getName() { return name; }
     public String getType() { return type; }
     public String getCurrency() { return currency; }
     public BigDecimal getBalance() { return balance; }
     public boolean isClosed() { return closed; }
     public LocalDateTime getCreatedAt() { return createdAt; }
+    public Long getVersion() { return version; }
 }
@@ -0,0 +1,50 @@
+package com.wealthwise.infrastructure.persistence.jpa.entity;
+
+import jakarta.persistence.*;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "budget_allocations")
+public class BudgetAllocationEntity {
+
+    @Id
+    @Column(name = "transaction_id", nullable = false)
+    private UUID transactionId;
+
+    @Column(name = "category_id", nullable = false)
+    private UUID categoryId;
+
+    @Column(name = "budget_id")
+    private UUID budgetId;
+
+    @Column(name = "amount", nullable = false, precision = 19, scale = 4)
+    private BigDecimal amount;
+
+    @Column(name = "currency", nullable = false, length = 3)
+    private String currency;
+
+    @Column(name = "applied_at", nullable = false)
+    private LocalDateTime appliedAt;
+
+    protected BudgetAllocationEntity() {
+    }
+
+    public BudgetAllocationEntity(UUID transactionId, UUID categoryId, UUID budgetId,
+                                  BigDecimal amount, String currency, LocalDateTime appliedAt) {
+        this.transactionId = transactionId;
+        this.categoryId = categoryId;
+        this.budgetId = budgetId;
+        this.amount = amount;
+        this.currency = currency;
+        this.appliedAt = appliedAt;
+    }
+
+    public UUID getTransactionId() { return transactionId; }
+    public UUID getCategoryId() { return categoryId; }
+    public UUID getBudgetId() { return budgetId; }
+    public BigDecimal getAmount() { return amount; }
+    public String getCurrency() { return currency; }
+    public LocalDateTime getAppliedAt() { return appliedAt; }
+}
@@ -3,17 +3,20 @@ package com.wealthwise.infrastructure.persistence.jpa.entity;
 import jakarta.persistence.*;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.UUID;
 
 @Entity
-@Table(name = "budgets")
+@Table(name = "budgets",
+        uniqueConstraints = @UniqueConstraint(name = "uq_budgets_category_period", columnNames = {"category_id", "period_month"}),
+        indexes = @Index(name = "idx_budgets_period_category", columnList = "period_month, category_id"))
 public class BudgetEntity {
 
     @Id
-    @Column(name = "id", nullable = false, length = 36)
-    private String id;
+    @Column(name = "id", nullable = false)
+    private UUID id;
 
-    @Column(name = "category_id", nullable = false, length = 36)
-    private String categoryId;
+    @Column(name = "category_id", nullable = false)
+    private UUID categoryId;
 
     @Column(name = "limit_amount", nullable = false, precision = 19, scale = 4)
     private BigDecimal limitAmount;
@@ -36,7 +39,7 @@ public class BudgetEntity {
     protected BudgetEntity() {
     }
 
-    public BudgetEntity(String id, String categoryId, BigDecimal limitAmount, String currency,
+    public BudgetEntity(UUID id, UUID categoryId, BigDecimal limitAmount, String currency,
                         BigDecimal spent, String periodMonth, String status, LocalDateTime createdAt) {
         this.id = id;
         this.categoryId = categoryId;
@@ -48,8 +51,8 @@ public class BudgetEntity {
         this.createdAt = createdAt;
     }
 
-    public String getId() { return id; }
-    public String getCategoryId() { return categoryId; }
+    public UUID getId() { return id; }
+    public UUID getCategoryId() { return categoryId; }
     public BigDecimal getLimitAmount() { return limitAmount; }
     public String getCurrency() { return currency; }
     public BigDecimal getSpent() { return spent; }
@@ -0,0 +1,38 @@
+package com.wealthwise.infrastructure.persistence.jpa.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "categorization_rules")
+public class CategorizationRuleEntity {
+
+    @Id
+    @Column(name = "id", nullable = false)
+    private UUID id;
+
+    @Column(name = "keyword", nullable = false)
+    private String keyword;
+
+    @Column(name = "category_id", nullable = false)
+    private UUID categoryId;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    protected CategorizationRuleEntity() {
+    }
+
+    public CategorizationRuleEntity(UUID id, String keyword, UUID categoryId, LocalDateTime createdAt) {
+        this.id = id;
+        this.keyword = keyword;
+        this.categoryId = categoryId;
+        this.createdAt = createdAt;
+    }
+
+    public UUID getId() { return id; }
+    public String getKeyword() { return keyword; }
+    public UUID getCategoryId() { return categoryId; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+}
@@ -2,14 +2,15 @@ package com.wealthwise.infrastructure.persistence.jpa.entity;
 
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
+import java.util.UUID;
 
 @Entity
 @Table(name = "categories")
 public class CategoryEntity {
 
     @Id
-    @Column(name = "id", nullable = false, length = 36)
-    private String id;
+    @Column(name = "id", nullable = false)
+    private UUID id;
 
     @Column(name = "name", nullable = false)
     private String name;
@@ -29,7 +30,7 @@ public class CategoryEntity {
     protected CategoryEntity() {
     }
 
-    public CategoryEntity(String id, String name, String type, String color,
+    public CategoryEntity(UUID id, String name, String type, String color,
                           String icon, LocalDateTime createdAt) {
         this.id = id;
         this.name = name;
@@ -39,7 +40,7 @@ public class CategoryEntity {
         this.createdAt = createdAt;
     }
 
-    public String getId() { return id; }
+    public UUID getId() { return id; }
     public String getName() { return name; }
     public String getType() { return type; }
     public String getColor() { return color; }
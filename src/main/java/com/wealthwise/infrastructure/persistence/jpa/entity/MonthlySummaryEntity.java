@@ -0,0 +1,68 @@
+package com.wealthwise.infrastructure.persistence.jpa.entity;
+
+import jakarta.persistence.*;
+
+import java.util.UUID;
+
+/**
+ * Ligne du résumé mensuel (read model du rapport mensuel).
+ *
+ * L'id est dérivé de la clé (compte, mois, catégorie, type) : une ligne se
+ * retrouve par clé primaire, même pour une catégorie nulle (non catégorisé).
+ * Le total est en centimes (BIGINT), comme MinorUnits.
+ */
+@Entity
+@Table(name = "monthly_summary", indexes = {
+        @Index(name = "idx_monthly_summary_account_month", columnList = "account_id, month")
+})
+public class MonthlySummaryEntity {
+
+    @Id
+    @Column(name = "id", nullable = false)
+    private UUID id;
+
+    @Column(name = "account_id", nullable = false)
+    private UUID accountId;
+
+    @Column(name = "month", nullable = false, length = 7)
+    private String month;
+
+    @Column(name = "category_id")
+    private UUID categoryId;
+
+    @Column(name = "type", nullable = false)
+    private String type;
+
+    @Column(name = "currency", nullable = false, length = 3)
+    private String currency;
+
+    @Column(name = "total_minor", nullable = false)
+    private long totalMinor;
+
+    @Column(name = "transaction_count", nullable = false)
+    private long transactionCount;
+
+    protected MonthlySummaryEntity() {
+    }
+
+    public MonthlySummaryEntity(UUID id, UUID accountId, String month, UUID categoryId, String type,
+                                String currency, long totalMinor, long transactionCount) {
+        this.id = id;
+        this.accountId = accountId;
+        this.month = month;
+        this.categoryId = categoryId;
+        this.type = type;
+        this.currency = currency;
+        this.totalMinor = totalMinor;
+        this.transactionCount = transactionCount;
+    }
+
+    public UUID getId() { return id; }
+    public UUID getAccountId() { return accountId; }
+    public String getMonth() { return month; }
+    public UUID getCategoryId() { return categoryId; }
+    public String getType() { return type; }
+    public String getCurrency() { return currency; }
+    public long getTotalMinor() { return totalMinor; }
+    public long getTransactionCount() { return transactionCount; }
+}
@@ -0,0 +1,62 @@
+package com.wealthwise.infrastructure.persistence.jpa.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Ligne de la table outbox : un événement du domaine en attente de livraison.
+ *
+ * L'identifiant vient d'une séquence (et non d'IDENTITY) : Hibernate peut
+ * ainsi regrouper les INSERT en batch JDBC, et l'ordre des id donne l'ordre
+ * de livraison.
+ */
+@Entity
+@Table(name = "outbox", indexes = {
+        @Index(name = "idx_outbox_created_at", columnList = "created_at")
+})
+public class OutboxEventEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_seq")
+    @SequenceGenerator(name = "outbox_seq", sequenceName = "outbox_seq", allocationSize = 100)
+    @Column(name = "id", nullable = false)
+    private Long id;
+
+    @Column(name = "event_type", nullable = false)
+    private String eventType;
+
+    @Column(name = "payload", nullable = false, columnDefinition = "text")
+    private String payload;
+
+    @Column(name = "occurred_at", nullable = false)
+    private LocalDateTime occurredAt;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    /** Livraisons échouées de cette ligne (voir OutboxRelay). */
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    protected OutboxEventEntity() {
+    }
+
+    public OutboxEventEntity(String eventType, String payload,
+                             LocalDateTime occurredAt, LocalDateTime createdAt) {
+        this.eventType = eventType;
+        this.payload = payload;
+        this.occurredAt = occurredAt;
+        this.createdAt = createdAt;
+    }
+
+    public Long getId() { return id; }
+    public String getEventType() { return eventType; }
+    public String getPayload() { return payload; }
+    public LocalDateTime getOccurredAt() { return occurredAt; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public int getAttempts() { return attempts; }
+    public String getLastError() { return lastError; }
+}
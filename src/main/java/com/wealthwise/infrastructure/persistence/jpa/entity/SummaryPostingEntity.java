@@ -0,0 +1,33 @@
+package com.wealthwise.infrastructure.persistence.jpa.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "monthly_summary_postings")
+public class SummaryPostingEntity {
+
+    @Id
+    @Column(name = "transaction_id", nullable = false)
+    private UUID transactionId;
+
+    @Column(name = "category_id")
+    private UUID categoryId;
+
+    @Column(name = "applied_at", nullable = false)
+    private LocalDateTime appliedAt;
+
+    protected SummaryPostingEntity() {
+    }
+
+    public SummaryPostingEntity(UUID transactionId, UUID categoryId, LocalDateTime appliedAt) {
+        this.transactionId = transactionId;
+        this.categoryId = categoryId;
+        this.appliedAt = appliedAt;
+    }
+
+    public UUID getTransactionId() { return transactionId; }
+    public UUID getCategoryId() { return categoryId; }
+    public LocalDateTime getAppliedAt() { return appliedAt; }
+}
@@ -1,20 +1,29 @@
 package com.wealthwise.infrastructure.persistence.jpa.entity;
 
 import jakarta.persistence.*;
+import org.springframework.data.domain.Persistable;
+
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.UUID;
 
 @Entity
-@Table(name = "transactions")
-public class TransactionEntity {
+@Table(name = "transactions", indexes = {
+        // Pagination par clé : ORDER BY date DESC, id DESC (avec ou sans filtre sur le compte)
+        @Index(name = "idx_transactions_date_id", columnList = "date, id"),
+        @Index(name = "idx_transactions_account_date_id", columnList = "account_id, date, id"),
+        // findByCategoryId
+        @Index(name = "idx_transactions_category_date_id", columnList = "category_id, date, id")
+})
+public class TransactionEntity implements Persistable<UUID> {
 
     @Id
-    @Column(name = "id", nullable = false, length = 36)
-    private String id;
+    @Column(name = "id", nullable = false)
+    private UUID id;
 
-    @Column(name = "account_id", nullable = false, length = 36)
-    private String accountId;
+    @Column(name = "account_id", nullable = false)
+    private UUID accountId;
 
     @Column(name = "amount", nullable = false, precision = 19, scale = 4)
     private BigDecimal amount;
@@ -31,8 +40,8 @@ public class TransactionEntity {
     @Column(name = "type", nullable = false)
     private String type;
 
-    @Column(name = "category_id", length = 36)
-    private String categoryId;
+    @Column(name = "category_id")
+    private UUID categoryId;
 
     @Column(name = "confidence_level")
     private String confidenceLevel;
@@ -40,12 +49,21 @@ public class TransactionEntity {
     @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
 
+    /**
+     * L'id est attribué par le domaine : sans cette indication, Spring Data
+     * ne peut pas savoir si la ligne existe et fait un merge (SELECT puis
+     * INSERT ou UPDATE). Une entité marquée nouvelle est persistée
+     * directement (INSERT seul, regroupable en batch JDBC).
+     */
+    @Transient
+    private boolean isNew;
+
     protected TransactionEntity() {
     }
 
-    public TransactionEntity(String id, String accountId, BigDecimal amount, String currency,
+    public TransactionEntity(UUID id, UUID accountId, BigDecimal amount, String currency,
                              String description, LocalDate date, String type,
-                             String categoryId, String confidenceLevel, LocalDateTime createdAt) {
+                             UUID categoryId, String confidenceLevel, LocalDateTime createdAt) {
         this.id = id;
         this.accountId = accountId;
         this.amount = amount;
@@ -58,14 +76,33 @@ public class TransactionEntity {
         this.createdAt = createdAt;
     }
 
-    public String getId() { return id; }
-    public String getAccountId() { return accountId; }
+    /**
+     * Réservé aux transactions jamais persistées : un INSERT sur une ligne
+     * existante échoue (clé primaire en double).
+     */
+    public TransactionEntity markNew() {
+        this.isNew = true;
+        return this;
+    }
+
+    @PostPersist
+    @PostLoad
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    @Override
+    public boolean isNew() { return isNew; }
+
+    @Override
+    public UUID getId() { return id; }
+    public UUID getAccountId() { return accountId; }
     public BigDecimal getAmount() { return amount; }
     public String getCurrency() { return currency; }
     public String getDescription() { return description; }
     public LocalDate getDate() { return date; }
     public String getType() { return type; }
-    public String getCategoryId() { return categoryId; }
+    public UUID getCategoryId() { return categoryId; }
     public String getConfidenceLevel() { return confidenceLevel; }
     public LocalDateTime getCreatedAt() { return createdAt; }
 }
@@ -31,7 +31,8 @@ public final class AccountMapper {
                 account.getCurrency().name(),
                 account.getBalance().money().amount(),
                 account.isClosed(),
-                account.getCreatedAt()
+                account.getCreatedAt(),
+                account.getVersion()
         );
     }
 
@@ -42,18 +43,23 @@ public final class AccountMapper {
      * recrée un objet domaine SANS déclencher de validation ni d'événements.
      * C'est nécessaire car les données en base sont déjà validées.
      *
+     * Le solde est repris tel quel en BigDecimal (Money.of(BigDecimal, ...)) :
+     * passer par un double coûterait une conversion et fausserait les gros montants.
+     *
      * NOTE : cette méthode n'existe pas encore dans Account.
      * On va l'ajouter juste après.
      */
     public static Account toDomain(AccountEntity entity) {
+        Currency currency = Currency.valueOf(entity.getCurrency());
         return Account.reconstitute(
                 AccountId.of(entity.getId()),
                 entity.getName(),
                 AccountType.valueOf(entity.getType()),
-                Currency.valueOf(entity.getCurrency()),
-                Money.of(entity.getBalance().doubleValue(), Currency.valueOf(entity.getCurrency())),
+                currency,
+                Money.of(entity.getBalance(), currency),
                 entity.isClosed(),
-                entity.getCreatedAt()
+                entity.getCreatedAt(),
+                entity.getVersion()
         );
     }
 }
@@ -0,0 +1,36 @@
+package com.wealthwise.infrastructure.persistence.jpa.mapper;
+
+import com.wealthwise.domain.budget.model.BudgetAllocation;
+import com.wealthwise.domain.budget.model.BudgetId;
+import com.wealthwise.domain.category.model.CategoryId;
+import com.wealthwise.domain.shared.Currency;
+import com.wealthwise.domain.shared.Money;
+import com.wealthwise.domain.transaction.model.TransactionId;
+import com.wealthwise.infrastructure.persistence.jpa.entity.BudgetAllocationEntity;
+
+public final class BudgetAllocationMapper {
+
+    private BudgetAllocationMapper() {
+    }
+
+    public static BudgetAllocationEntity toEntity(BudgetAllocation allocation) {
+        return new BudgetAllocationEntity(
+                allocation.transactionId().value(),
+                allocation.categoryId().value(),
+                allocation.budgetId() != null ? allocation.budgetId().value() : null,
+                allocation.amount().amount(),
+                allocation.amount().currency().name(),
+                allocation.appliedAt()
+        );
+    }
+
+    public static BudgetAllocation toDomain(BudgetAllocationEntity entity) {
+        return new BudgetAllocation(
+                TransactionId.of(entity.getTransactionId()),
+                CategoryId.of(entity.getCategoryId()),
+                entity.getBudgetId() != null ? BudgetId.of(entity.getBudgetId()) : null,
+                Money.of(entity.getAmount(), Currency.valueOf(entity.getCurrency())),
+                entity.getAppliedAt()
+        );
+    }
+}
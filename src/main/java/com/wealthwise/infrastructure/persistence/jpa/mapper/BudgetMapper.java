@@ -27,12 +27,13 @@ public final class BudgetMapper {
     }
 
     public static Budget toDomain(BudgetEntity entity) {
+        Currency currency = Currency.valueOf(entity.getCurrency());
         return Budget.reconstitute(
                 BudgetId.of(entity.getId()),
                 CategoryId.of(entity.getCategoryId()),
-                Money.of(entity.getLimitAmount().doubleValue(), Currency.valueOf(entity.getCurrency())),
+                Money.of(entity.getLimitAmount(), currency),
                 BudgetPeriod.of(YearMonth.parse(entity.getPeriodMonth())),
-                Money.of(entity.getSpent().doubleValue(), Currency.valueOf(entity.getCurrency())),
+                Money.of(entity.getSpent(), currency),
                 BudgetStatus.valueOf(entity.getStatus()),
                 entity.getCreatedAt()
         );
@@ -0,0 +1,30 @@
+package com.wealthwise.infrastructure.persistence.jpa.mapper;
+
+import com.wealthwise.domain.categorization.model.CategorizationRule;
+import com.wealthwise.domain.categorization.model.CategorizationRuleId;
+import com.wealthwise.domain.category.model.CategoryId;
+import com.wealthwise.infrastructure.persistence.jpa.entity.CategorizationRuleEntity;
+
+public final class CategorizationRuleMapper {
+
+    private CategorizationRuleMapper() {
+    }
+
+    public static CategorizationRuleEntity toEntity(CategorizationRule rule) {
+        return new CategorizationRuleEntity(
+                rule.getId().value(),
+                rule.getKeyword(),
+                rule.getCategoryId().value(),
+                rule.getCreatedAt()
+        );
+    }
+
+    public static CategorizationRule toDomain(CategorizationRuleEntity entity) {
+        return CategorizationRule.reconstitute(
+                CategorizationRuleId.of(entity.getId()),
+                entity.getKeyword(),
+                CategoryId.of(entity.getCategoryId()),
+                entity.getCreatedAt()
+        );
+    }
+}
@@ -0,0 +1,104 @@
+package com.wealthwise.infrastructure.persistence.jpa.mapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Temps passé dans les mappers entité ↔ domaine.
+ *
+ * Les mappers restent des classes utilitaires statiques : ce sont les
+ * adaptateurs JPA qui font passer leurs conversions par ici.
+ *
+ * - wealthwise.mapper       : durée d'une conversion (une ligne ou toute une liste)
+ * - wealthwise.mapper.rows  : lignes converties (durée / lignes = coût par ligne)
+ *
+ * Tags : mapper (account, budget...) et direction (toDomain, toEntity).
+ * Un seul chronométrage par liste : le coût de la mesure ne grandit pas
+ * avec le nombre de lignes.
+ */
+@Component
+public class MapperMetrics {
+
+    private final MeterRegistry meterRegistry;
+
+    public MapperMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Les meters d'un mapper, à résoudre une fois (constructeur de l'adaptateur).
+     */
+    public Mapping forMapper(String mapper) {
+        return new Mapping(direction(mapper, "toDomain"), direction(mapper, "toEntity"));
+    }
+
+    private Direction direction(String mapper, String direction) {
+        return new Direction(
+                Timer.builder("wealthwise.mapper")
+                        .description("Time spent converting between JPA entities and domain objects")
+                        .tag("mapper", mapper)
+                        .tag("direction", direction)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry),
+                Counter.builder("wealthwise.mapper.rows")
+                        .description("Rows converted between JPA entities and domain objects")
+                        .tag("mapper", mapper)
+                        .tag("direction", direction)
+                        .register(meterRegistry));
+    }
+
+    public static final class Mapping {
+
+        private final Direction toDomain;
+        private final Direction toEntity;
+
+        private Mapping(Direction toDomain, Direction toEntity) {
+            this.toDomain = toDomain;
+            this.toEntity = toEntity;
+        }
+
+        public <E, D> Optional<D> toDomain(Optional<E> entity, Function<E, D> mapper) {
+            long start = System.nanoTime();
+            Optional<D> result = entity.map(mapper);
+            toDomain.record(start, result.isPresent() ? 1 : 0);
+            return result;
+        }
+
+        public <E, D> List<D> toDomain(List<E> entities, Function<E, D> mapper) {
+            return mapAll(entities, mapper, toDomain);
+        }
+
+        public <D, E> E toEntity(D aggregate, Function<D, E> mapper) {
+            long start = System.nanoTime();
+            E entity = mapper.apply(aggregate);
+            toEntity.record(start, 1);
+            return entity;
+        }
+
+        public <D, E> List<E> toEntities(List<D> aggregates, Function<D, E> mapper) {
+            return mapAll(aggregates, mapper, toEntity);
+        }
+
+        private static <S, T> List<T> mapAll(List<S> sources, Function<S, T> mapper, Direction direction) {
+            long start = System.nanoTime();
+            List<T> result = sources.stream().map(mapper).toList();
+            direction.record(start, result.size());
+            return result;
+        }
+    }
+
+    private record Direction(Timer timer, Counter rows) {
+
+        void record(long startNanos, int rowCount) {
+            timer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+            rows.increment(rowCount);
+        }
+    }
+}
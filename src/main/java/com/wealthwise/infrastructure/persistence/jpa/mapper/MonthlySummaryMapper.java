@@ -0,0 +1,81 @@
+package com.wealthwise.infrastructure.persistence.jpa.mapper;
+
+import com.wealthwise.domain.account.model.AccountId;
+import com.wealthwise.domain.analytics.model.MonthlySummary;
+import com.wealthwise.domain.analytics.model.MonthlySummaryKey;
+import com.wealthwise.domain.analytics.model.SummaryPosting;
+import com.wealthwise.domain.category.model.CategoryId;
+import com.wealthwise.domain.shared.Currency;
+import com.wealthwise.domain.shared.MinorUnits;
+import com.wealthwise.domain.transaction.model.TransactionId;
+import com.wealthwise.domain.transaction.model.TransactionType;
+import com.wealthwise.infrastructure.persistence.jpa.entity.MonthlySummaryEntity;
+import com.wealthwise.infrastructure.persistence.jpa.entity.SummaryPostingEntity;
+
+import java.nio.charset.StandardCharsets;
+import java.time.YearMonth;
+import java.util.UUID;
+
+/**
+ * Convertit le résumé mensuel et son registre entre domaine et JPA.
+ */
+public final class MonthlySummaryMapper {
+
+    private MonthlySummaryMapper() {
+    }
+
+    /**
+     * Id stable d'une clé : UUID (type 3) du texte "compte|mois|catégorie|type".
+     */
+    public static UUID idOf(MonthlySummaryKey key) {
+        String text = key.accountId().value().toString()
+                + '|' + key.month()
+                + '|' + (key.isCategorized() ? key.categoryId().value().toString() : "")
+                + '|' + key.type().name();
+        return UUID.nameUUIDFromBytes(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static MonthlySummaryEntity toEntity(MonthlySummary summary) {
+        MonthlySummaryKey key = summary.getKey();
+        return new MonthlySummaryEntity(
+                idOf(key),
+                key.accountId().value(),
+                key.month().toString(),
+                key.isCategorized() ? key.categoryId().value() : null,
+                key.type().name(),
+                summary.getCurrency().name(),
+                summary.getTotalUnits().value(),
+                summary.getTransactionCount()
+        );
+    }
+
+    public static MonthlySummary toDomain(MonthlySummaryEntity entity) {
+        MonthlySummaryKey key = new MonthlySummaryKey(
+                AccountId.of(entity.getAccountId()),
+                YearMonth.parse(entity.getMonth()),
+                entity.getCategoryId() != null ? CategoryId.of(entity.getCategoryId()) : null,
+                TransactionType.valueOf(entity.getType())
+        );
+        return MonthlySummary.reconstitute(
+                key,
+                new MinorUnits(entity.getTotalMinor(), Currency.valueOf(entity.getCurrency())),
+                entity.getTransactionCount()
+        );
+    }
+
+    public static SummaryPostingEntity toEntity(SummaryPosting posting) {
+        return new SummaryPostingEntity(
+                posting.transactionId().value(),
+                posting.categoryId() != null ? posting.categoryId().value() : null,
+                posting.appliedAt()
+        );
+    }
+
+    public static SummaryPosting toDomain(SummaryPostingEntity entity) {
+        return new SummaryPosting(
+                TransactionId.of(entity.getTransactionId()),
+                entity.getCategoryId() != null ? CategoryId.of(entity.getCategoryId()) : null,
+                entity.getAppliedAt()
+        );
+    }
+}
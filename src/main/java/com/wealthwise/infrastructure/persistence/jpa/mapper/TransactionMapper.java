@@ -30,6 +30,13 @@ public final class TransactionMapper {
         );
     }
 
+    /**
+     * Entité d'une transaction jamais persistée : INSERT sans SELECT préalable.
+     */
+    public static TransactionEntity toNewEntity(Transaction tx) {
+        return toEntity(tx).markNew();
+    }
+
     public static Transaction toDomain(TransactionEntity entity) {
         CategoryId categoryId = entity.getCategoryId() != null
                 ? CategoryId.of(entity.getCategoryId()) : null;
@@ -39,7 +46,7 @@ public final class TransactionMapper {
         return Transaction.reconstitute(
                 TransactionId.of(entity.getId()),
                 AccountId.of(entity.getAccountId()),
-                Money.of(entity.getAmount().doubleValue(), Currency.valueOf(entity.getCurrency())),
+                Money.of(entity.getAmount(), Currency.valueOf(entity.getCurrency())),
                 entity.getDescription(),
                 entity.getDate(),
                 TransactionType.valueOf(entity.getType()),
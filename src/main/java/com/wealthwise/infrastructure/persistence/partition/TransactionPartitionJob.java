@@ -0,0 +1,74 @@
+package com.wealthwise.infrastructure.persistence.partition;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.YearMonth;
+
+/**
+ * Entretien des partitions mensuelles des transactions, au démarrage puis
+ * chaque nuit :
+ * - crée celles du mois courant et des monthsAhead mois suivants ;
+ * - si archiveAfterYears > 0, archive celles des mois plus anciens.
+ *
+ * Désactivé quand la base n'est pas partitionnée (H2 en test).
+ */
+@Component
+public class TransactionPartitionJob {
+
+    private static final Logger log = LoggerFactory.getLogger(TransactionPartitionJob.class);
+
+    private final TransactionPartitionManager partitionManager;
+    private final boolean enabled;
+    private final int monthsAhead;
+    private final int archiveAfterYears;
+    private final Clock clock;
+
+    @Autowired
+    public TransactionPartitionJob(
+            TransactionPartitionManager partitionManager,
+            @Value("${wealthwise.transactions.partitions.enabled:false}") boolean enabled,
+            @Value("${wealthwise.transactions.partitions.months-ahead:3}") int monthsAhead,
+            @Value("${wealthwise.transactions.partitions.archive-after-years:0}") int archiveAfterYears) {
+        this(partitionManager, enabled, monthsAhead, archiveAfterYears, Clock.systemDefaultZone());
+    }
+
+    public TransactionPartitionJob(TransactionPartitionManager partitionManager, boolean enabled,
+                                   int monthsAhead, int archiveAfterYears, Clock clock) {
+        if (monthsAhead < 0) {
+            throw new IllegalArgumentException("Months ahead must not be negative, got: " + monthsAhead);
+        }
+        if (archiveAfterYears < 0) {
+            throw new IllegalArgumentException("Archive age must not be negative, got: " + archiveAfterYears);
+        }
+        this.partitionManager = partitionManager;
+        this.enabled = enabled;
+        this.monthsAhead = monthsAhead;
+        this.archiveAfterYears = archiveAfterYears;
+        this.clock = clock;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${wealthwise.transactions.partitions.cron:0 0 3 * * *}")
+    public void maintain() {
+        if (!enabled) {
+            return;
+        }
+        YearMonth current = YearMonth.now(clock);
+        try {
+            partitionManager.createPartitions(current, current.plusMonths(monthsAhead));
+            if (archiveAfterYears > 0) {
+                partitionManager.archivePartitionsBefore(current.minusYears(archiveAfterYears));
+            }
+        } catch (RuntimeException e) {
+            log.error("Transactions partition maintenance failed, will retry", e);
+        }
+    }
+}
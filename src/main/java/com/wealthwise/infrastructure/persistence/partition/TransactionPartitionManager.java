@@ -0,0 +1,200 @@
+package com.wealthwise.infrastructure.persistence.partition;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Partitions mensuelles de la table "transactions" (PostgreSQL, partitionnement
+ * déclaratif par intervalle sur "date", voir db/vendor/postgresql/V3).
+ *
+ * Une partition par mois : transactions_y2026m03 contient les dates du
+ * 2026-03-01 inclus au 2026-04-01 exclu. Les requêtes bornées par date
+ * (findByDateBetween, pages par curseur...) ne lisent que les partitions
+ * des mois concernés.
+ *
+ * - createPartitions() crée à l'avance les partitions des mois à venir.
+ *   Une ligne sans partition (date lointaine) tombe dans transactions_default,
+ *   où un simple CREATE TABLE ... PARTITION OF échouerait ensuite pour son
+ *   mois : les lignes du mois sont donc déplacées de la partition par défaut
+ *   vers la nouvelle partition, dans la même transaction.
+ * - archivePartitionsBefore() détache les partitions anciennes : elles
+ *   sortent de la table (et des requêtes de l'application) et rejoignent le
+ *   schéma d'archive, éventuellement sur un tablespace de stockage froid.
+ *   Les données restent interrogeables en SQL, table par table.
+ *
+ * Les noms du schéma et du tablespace d'archive viennent de la configuration
+ * et sont concaténés au SQL : ils sont vérifiés au démarrage (identifiants
+ * simples uniquement).
+ */
+@Component
+public class TransactionPartitionManager {
+
+    private static final Logger log = LoggerFactory.getLogger(TransactionPartitionManager.class);
+
+    private static final String TABLE = "transactions";
+    private static final String DEFAULT_PARTITION = TABLE + "_default";
+    private static final String COLUMNS = "id, account_id, amount, currency, description, date, type, "
+            + "category_id, confidence_level, created_at";
+    private static final Pattern PARTITION_NAME = Pattern.compile(TABLE + "_y(\\d{4})m(\\d{2})");
+    private static final Pattern IDENTIFIER = Pattern.compile("[a-z_][a-z0-9_]{0,62}");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final String archiveSchema;
+    private final String archiveTablespace;
+
+    public TransactionPartitionManager(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            @Value("${wealthwise.transactions.partitions.archive-schema:transactions_archive}") String archiveSchema,
+            @Value("${wealthwise.transactions.partitions.archive-tablespace:}") String archiveTablespace) {
+        if (!IDENTIFIER.matcher(archiveSchema).matches()) {
+            throw new IllegalArgumentException("Invalid archive schema name: " + archiveSchema);
+        }
+        if (!archiveTablespace.isBlank() && !IDENTIFIER.matcher(archiveTablespace).matches()) {
+            throw new IllegalArgumentException("Invalid archive tablespace name: " + archiveTablespace);
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.archiveSchema = archiveSchema;
+        this.archiveTablespace = archiveTablespace;
+    }
+
+    /**
+     * Crée les partitions manquantes de from à to inclus.
+     *
+     * Un mois en échec est journalisé et n'empêche pas la création des suivants ;
+     * il sera retenté au prochain passage.
+     *
+     * @return les mois dont la partition a été créée
+     */
+    public List<YearMonth> createPartitions(YearMonth from, YearMonth to) {
+        List<YearMonth> existing = partitions();
+        List<YearMonth> created = new ArrayList<>();
+        for (YearMonth month = from; !month.isAfter(to); month = month.plusMonths(1)) {
+            if (existing.contains(month)) {
+                continue;
+            }
+            YearMonth target = month;
+            try {
+                Integer moved = transactionTemplate.execute(status -> createPartition(target));
+                created.add(month);
+                log.info("Created transactions partition {} ({} row(s) moved from {})",
+                        partitionName(month), moved, DEFAULT_PARTITION);
+            } catch (RuntimeException e) {
+                log.error("Could not create transactions partition {}, will retry", partitionName(month), e);
+            }
+        }
+        return created;
+    }
+
+    /**
+     * Crée la table hors de "transactions", y déplace les lignes du mois déjà
+     * rangées dans la partition par défaut, puis l'attache : ATTACH vérifie que
+     * la partition par défaut ne contient plus aucune ligne du mois, et crée les
+     * index de la table partitionnée. Appelé dans une transaction : en cas
+     * d'échec, rien n'a bougé.
+     *
+     * @return le nombre de lignes déplacées
+     */
+    private int createPartition(YearMonth month) {
+        String name = partitionName(month);
+        LocalDate start = month.atDay(1);
+        LocalDate end = month.plusMonths(1).atDay(1);
+
+        jdbcTemplate.execute("CREATE TABLE " + name + " (LIKE " + TABLE + " INCLUDING DEFAULTS INCLUDING CONSTRAINTS)");
+        int moved = jdbcTemplate.update("WITH moved AS ("
+                + "DELETE FROM " + DEFAULT_PARTITION + " WHERE date >= ? AND date < ? RETURNING " + COLUMNS + ") "
+                + "INSERT INTO " + name + " (" + COLUMNS + ") SELECT " + COLUMNS + " FROM moved", start, end);
+        jdbcTemplate.execute("ALTER TABLE " + TABLE + " ATTACH PARTITION " + name
+                + " FOR VALUES FROM ('" + start + "') TO ('" + end + "')");
+        return moved;
+    }
+
+    /**
+     * Détache les partitions des mois antérieurs à cutoff et les range dans le schéma d'archive.
+     *
+     * Chaque partition est archivée dans sa propre transaction : un mois en échec
+     * (table du même nom déjà archivée, tablespace absent...) reste attaché, est
+     * journalisé, et n'empêche pas l'archivage des suivants ; il sera retenté au
+     * prochain passage.
+     *
+     * @return les noms des tables archivées
+     */
+    public List<String> archivePartitionsBefore(YearMonth cutoff) {
+        List<String> archived = new ArrayList<>();
+        for (YearMonth month : partitions()) {
+            if (!month.isBefore(cutoff)) {
+                continue;
+            }
+            String name = partitionName(month);
+            try {
+                transactionTemplate.executeWithoutResult(status -> archivePartition(name));
+                archived.add(archiveSchema + "." + name);
+                log.info("Archived transactions partition {} to {}", name, archiveSchema);
+            } catch (RuntimeException e) {
+                log.error("Could not archive transactions partition {}, will retry", name, e);
+            }
+        }
+        return archived;
+    }
+
+    /**
+     * Le schéma d'archive est créé au besoin (un schéma configuré autre que
+     * celui de la migration V3). Appelé dans une transaction : en cas d'échec,
+     * la partition est toujours attachée à "transactions".
+     */
+    private void archivePartition(String name) {
+        jdbcTemplate.execute("CREATE SCHEMA IF NOT EXISTS " + archiveSchema);
+        jdbcTemplate.execute("ALTER TABLE " + TABLE + " DETACH PARTITION " + name);
+        jdbcTemplate.execute("ALTER TABLE " + name + " SET SCHEMA " + archiveSchema);
+        if (!archiveTablespace.isBlank()) {
+            jdbcTemplate.execute("ALTER TABLE " + archiveSchema + "." + name + " SET TABLESPACE " + archiveTablespace);
+        }
+    }
+
+    /**
+     * Mois des partitions mensuelles attachées (hors partition par défaut), du plus ancien au plus récent.
+     */
+    public List<YearMonth> partitions() {
+        return jdbcTemplate.queryForList("""
+                        SELECT child.relname
+                        FROM pg_inherits
+                        JOIN pg_class parent ON parent.oid = pg_inherits.inhparent
+                        JOIN pg_class child ON child.oid = pg_inherits.inhrelid
+                        WHERE parent.relname = ?
+                        """, String.class, TABLE).stream()
+                .map(TransactionPartitionManager::monthOf)
+                .flatMap(Optional::stream)
+                .sorted()
+                .toList();
+    }
+
+    public static String partitionName(YearMonth month) {
+        return String.format("%s_y%04dm%02d", TABLE, month.getYear(), month.getMonthValue());
+    }
+
+    /**
+     * Mois d'une partition d'après son nom ; vide pour une autre table (transactions_default...).
+     */
+    public static Optional<YearMonth> monthOf(String partitionName) {
+        Matcher matcher = PARTITION_NAME.matcher(partitionName);
+        if (!matcher.matches()) {
+            return Optional.empty();
+        }
+        return Optional.of(YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2))));
+    }
+}
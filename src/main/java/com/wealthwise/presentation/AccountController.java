@@ -92,7 +92,7 @@ public class AccountController {
      */
     @GetMapping("/{id}")
     public ResponseEntity<AccountResponse> findById(@PathVariable String id) {
-        return accountRepository.findById(AccountId.of(id))
+        return accountRepository.findById(RestIds.accountId(id))
                 .map(AccountResponse::from)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
@@ -0,0 +1,64 @@
+package com.wealthwise.presentation;
+
+import com.wealthwise.application.query.GetMonthlyReportQuery;
+import com.wealthwise.application.query.GetMonthlyReportQueryHandler;
+import com.wealthwise.application.query.GetSpendingTrendQuery;
+import com.wealthwise.application.query.GetSpendingTrendQueryHandler;
+import com.wealthwise.domain.analytics.model.TrendDimension;
+import com.wealthwise.domain.shared.Currency;
+import com.wealthwise.domain.transaction.model.TransactionType;
+import com.wealthwise.presentation.dto.MonthlyReportResponse;
+import com.wealthwise.presentation.dto.SpendingTrendResponse;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.YearMonth;
+
+/**
+ * Côté lecture (CQRS) : rapports servis depuis les read models pré-agrégés
+ * ou l'index analytique en mémoire, jamais en relisant les transactions en base.
+ */
+@RestController
+@RequestMapping("/api/analytics")
+public class AnalyticsController {
+
+    private final GetMonthlyReportQueryHandler monthlyReportHandler;
+    private final GetSpendingTrendQueryHandler spendingTrendHandler;
+
+    public AnalyticsController(GetMonthlyReportQueryHandler monthlyReportHandler,
+                               GetSpendingTrendQueryHandler spendingTrendHandler) {
+        this.monthlyReportHandler = monthlyReportHandler;
+        this.spendingTrendHandler = spendingTrendHandler;
+    }
+
+    /**
+     * GET /api/analytics/monthly-report?accountId=xxx&month=2026-02
+     */
+    @GetMapping("/monthly-report")
+    public MonthlyReportResponse monthlyReport(@RequestParam String accountId,
+                                               @RequestParam YearMonth month) {
+        return MonthlyReportResponse.from(monthlyReportHandler.handle(
+                new GetMonthlyReportQuery(RestIds.accountId(accountId), month)));
+    }
+
+    /**
+     * GET /api/analytics/spending-trend?from=2025-03&to=2026-02&groupBy=CATEGORY
+     *     [&type=EXPENSE][&currency=EUR][&accountId=xxx][&categoryId=yyy]
+     */
+    @GetMapping("/spending-trend")
+    public SpendingTrendResponse spendingTrend(
+            @RequestParam YearMonth from,
+            @RequestParam YearMonth to,
+            @RequestParam(defaultValue = "MONTH") TrendDimension groupBy,
+            @RequestParam(defaultValue = "EXPENSE") TransactionType type,
+            @RequestParam(defaultValue = "EUR") Currency currency,
+            @RequestParam(required = false) String accountId,
+            @RequestParam(required = false) String categoryId) {
+        return SpendingTrendResponse.from(spendingTrendHandler.handle(new GetSpendingTrendQuery(
+                from, to, groupBy, type, currency,
+                accountId != null ? RestIds.accountId(accountId) : null,
+                categoryId != null ? RestIds.categoryId(categoryId) : null)));
+    }
+}
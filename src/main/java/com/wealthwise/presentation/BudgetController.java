@@ -4,7 +4,6 @@ import com.wealthwise.application.command.CreateBudgetCommand;
 import com.wealthwise.application.command.CreateBudgetCommandHandler;
 import com.wealthwise.domain.budget.model.BudgetId;
 import com.wealthwise.domain.budget.port.BudgetRepository;
-import com.wealthwise.domain.category.model.CategoryId;
 import com.wealthwise.presentation.dto.BudgetResponse;
 import com.wealthwise.presentation.dto.CreateBudgetRequest;
 import jakarta.validation.Valid;
@@ -30,7 +29,7 @@ public class BudgetController {
     @PostMapping
     public ResponseEntity<BudgetResponse> create(@Valid @RequestBody CreateBudgetRequest request) {
         CreateBudgetCommand command = new CreateBudgetCommand(
-                CategoryId.of(request.categoryId()),
+                RestIds.categoryId(request.categoryId()),
                 request.limitAmount(),
                 request.currency(),
                 request.month()
@@ -53,7 +52,7 @@ public class BudgetController {
 
     @GetMapping("/{id}")
     public ResponseEntity<BudgetResponse> findById(@PathVariable String id) {
-        return budgetRepository.findById(BudgetId.of(id))
+        return budgetRepository.findById(RestIds.budgetId(id))
                 .map(BudgetResponse::from)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
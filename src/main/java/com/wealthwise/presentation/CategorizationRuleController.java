@@ -0,0 +1,104 @@
+package com.wealthwise.presentation;
+
+import com.wealthwise.application.command.CreateCategorizationRuleCommand;
+import com.wealthwise.application.command.CreateCategorizationRuleCommandHandler;
+import com.wealthwise.application.command.RecategorizeByRuleCommand;
+import com.wealthwise.application.command.RecategorizeByRuleCommandHandler;
+import com.wealthwise.application.command.RecategorizeByRuleCommandHandler.Progress;
+import com.wealthwise.application.usecase.AutoCategorizationUseCase;
+import com.wealthwise.domain.categorization.model.CategorizationRuleId;
+import com.wealthwise.domain.categorization.port.CategorizationRuleRepository;
+import com.wealthwise.presentation.dto.CategorizationRuleResponse;
+import com.wealthwise.presentation.dto.CategorySuggestionResponse;
+import com.wealthwise.presentation.dto.CreateCategorizationRuleRequest;
+import com.wealthwise.presentation.dto.RecategorizationResponse;
+import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+import java.util.List;
+
+/**
+ * Contrôleur REST pour les règles de catégorisation automatique.
+ */
+@RestController
+@RequestMapping("/api/categorization-rules")
+public class CategorizationRuleController {
+
+    private static final Logger log = LoggerFactory.getLogger(CategorizationRuleController.class);
+
+    private final CreateCategorizationRuleCommandHandler createRuleHandler;
+    private final RecategorizeByRuleCommandHandler recategorizeHandler;
+    private final CategorizationRuleRepository ruleRepository;
+    private final AutoCategorizationUseCase autoCategorization;
+
+    public CategorizationRuleController(CreateCategorizationRuleCommandHandler createRuleHandler,
+                                        RecategorizeByRuleCommandHandler recategorizeHandler,
+                                        CategorizationRuleRepository ruleRepository,
+                                        AutoCategorizationUseCase autoCategorization) {
+        this.createRuleHandler = createRuleHandler;
+        this.recategorizeHandler = recategorizeHandler;
+        this.ruleRepository = ruleRepository;
+        this.autoCategorization = autoCategorization;
+    }
+
+    @PostMapping
+    public ResponseEntity<CategorizationRuleResponse> create(@Valid @RequestBody CreateCategorizationRuleRequest request) {
+        CategorizationRuleId id = createRuleHandler.handle(new CreateCategorizationRuleCommand(
+                request.keyword(), RestIds.categoryId(request.categoryId())));
+
+        var rule = ruleRepository.findById(id).orElseThrow();
+        return ResponseEntity
+                .created(URI.create("/api/categorization-rules/" + id.value()))
+                .body(CategorizationRuleResponse.from(rule));
+    }
+
+    @GetMapping
+    public List<CategorizationRuleResponse> findAll() {
+        return ruleRepository.findAll().stream()
+                .map(CategorizationRuleResponse::from)
+                .toList();
+    }
+
+    /**
+     * GET /api/categorization-rules/suggestion?description=CB CARREFOUR 12/03
+     * 204 si aucune règle ne correspond.
+     */
+    @GetMapping("/suggestion")
+    public ResponseEntity<CategorySuggestionResponse> suggest(@RequestParam String description) {
+        return autoCategorization.suggest(description)
+                .map(CategorySuggestionResponse::from)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.noContent().build());
+    }
+
+    /**
+     * POST /api/categorization-rules/{id}/recategorization?after=...&limit=50000
+     *
+     * Réapplique la règle à l'historique, au plus "limit" transactions par appel.
+     * Tant que "completed" est false, rappeler avec after = nextCursor.
+     */
+    @PostMapping("/{id}/recategorization")
+    public RecategorizationResponse recategorize(@PathVariable String id,
+                                                 @RequestParam(required = false) String after,
+                                                 @RequestParam(defaultValue = "50000") int limit) {
+        RecategorizeByRuleCommand command = new RecategorizeByRuleCommand(
+                RestIds.ruleId(id),
+                after != null ? TransactionCursorCodec.decode(after) : null,
+                limit);
+
+        Progress progress = recategorizeHandler.handle(command, chunk ->
+                log.info("Recategorization by rule {}: {} transactions scanned, {} recategorized",
+                        id, chunk.scanned(), chunk.recategorized()));
+
+        return new RecategorizationResponse(
+                progress.scanned(),
+                progress.recategorized(),
+                progress.completed() || progress.resumeAfter() == null
+                        ? null : TransactionCursorCodec.encode(progress.resumeAfter()),
+                progress.completed());
+    }
+}
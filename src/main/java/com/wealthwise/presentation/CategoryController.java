@@ -1,7 +1,6 @@
 package com.wealthwise.presentation;
 
 import com.wealthwise.domain.category.model.Category;
-import com.wealthwise.domain.category.model.CategoryId;
 import com.wealthwise.domain.category.port.CategoryRepository;
 import com.wealthwise.presentation.dto.CategoryResponse;
 import com.wealthwise.presentation.dto.CreateCategoryRequest;
@@ -52,7 +51,7 @@ public class CategoryController {
 
     @GetMapping("/{id}")
     public ResponseEntity<CategoryResponse> findById(@PathVariable String id) {
-        return categoryRepository.findById(CategoryId.of(id))
+        return categoryRepository.findById(RestIds.categoryId(id))
                 .map(CategoryResponse::from)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
@@ -0,0 +1,71 @@
+package com.wealthwise.presentation;
+
+import com.wealthwise.application.usecase.ImportBankStatementCommand;
+import com.wealthwise.application.usecase.ImportBankStatementUseCase;
+import com.wealthwise.application.usecase.ImportReport;
+import com.wealthwise.application.usecase.StatementFormat;
+import com.wealthwise.domain.shared.Currency;
+import com.wealthwise.presentation.dto.ImportReportResponse;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.util.Locale;
+
+@RestController
+@RequestMapping("/api/imports")
+public class ImportController {
+
+    private final ImportBankStatementUseCase importUseCase;
+
+    public ImportController(ImportBankStatementUseCase importUseCase) {
+        this.importUseCase = importUseCase;
+    }
+
+    /**
+     * POST /api/imports — Importer un relevé bancaire (multipart/form-data).
+     *
+     * Le fichier n'est jamais chargé en mémoire : son InputStream est passé
+     * tel quel au use case, qui le lit en flux.
+     * Si "format" est absent, il est déduit de l'extension du fichier (.csv, .ofx, .qfx).
+     */
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ImportReportResponse> importStatement(
+            @RequestParam("file") MultipartFile file,
+            @RequestParam String accountId,
+            @RequestParam Currency currency,
+            @RequestParam(required = false) StatementFormat format,
+            @RequestParam(defaultValue = "UTF-8") String charset) {
+
+        StatementFormat resolved = format != null ? format : formatFromFileName(file.getOriginalFilename());
+
+        try (Reader content = new InputStreamReader(file.getInputStream(), Charset.forName(charset))) {
+            ImportReport report = importUseCase.handle(new ImportBankStatementCommand(
+                    RestIds.accountId(accountId),
+                    currency,
+                    resolved,
+                    content
+            ));
+            return ResponseEntity.ok(ImportReportResponse.from(report));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static StatementFormat formatFromFileName(String fileName) {
+        String name = fileName != null ? fileName.toLowerCase(Locale.ROOT) : "";
+        if (name.endsWith(".csv") || name.endsWith(".txt")) {
+            return StatementFormat.CSV;
+        }
+        if (name.endsWith(".ofx") || name.endsWith(".qfx")) {
+            return StatementFormat.OFX;
+        }
+        throw new IllegalArgumentException("Cannot infer statement format from file name: " + fileName);
+    }
+}
@@ -0,0 +1,63 @@
+package com.wealthwise.presentation;
+
+import com.wealthwise.domain.account.model.AccountId;
+import com.wealthwise.domain.budget.model.BudgetId;
+import com.wealthwise.domain.categorization.model.CategorizationRuleId;
+import com.wealthwise.domain.category.model.CategoryId;
+import com.wealthwise.domain.transaction.model.TransactionId;
+
+import java.util.UUID;
+
+/**
+ * Lit les identifiants reçus par l'API (chemin, paramètres, corps JSON).
+ *
+ * Les ids sont des UUID de bout en bout (domaine, entités, base) : le texte
+ * reçu est analysé une seule fois, ici, et la réponse le réécrit (DTO). Une
+ * valeur qui n'est pas un UUID ne peut désigner aucune ressource : elle est
+ * rejetée comme introuvable (404), comme un UUID inconnu.
+ */
+final class RestIds {
+
+    private static final int UUID_LENGTH = 36;
+
+    private RestIds() {
+    }
+
+    static AccountId accountId(String raw) {
+        return AccountId.of(parse(raw, "Account"));
+    }
+
+    static TransactionId transactionId(String raw) {
+        return TransactionId.of(parse(raw, "Transaction"));
+    }
+
+    static CategoryId categoryId(String raw) {
+        return CategoryId.of(parse(raw, "Category"));
+    }
+
+    static BudgetId budgetId(String raw) {
+        return BudgetId.of(parse(raw, "Budget"));
+    }
+
+    static CategorizationRuleId ruleId(String raw) {
+        return CategorizationRuleId.of(parse(raw, "Categorization rule"));
+    }
+
+    /**
+     * UUID.fromString accepte des formes abrégées ("1-2-3-4-5") : on exige
+     * la forme complète, pour qu'un même id n'ait qu'une écriture.
+     */
+    private static UUID parse(String raw, String resource) {
+        if (raw != null && raw.length() == UUID_LENGTH) {
+            try {
+                UUID id = UUID.fromString(raw);
+                if (id.toString().equalsIgnoreCase(raw)) {
+                    return id;
+                }
+            } catch (IllegalArgumentException e) {
+                // pas un UUID : traité comme un id inconnu ci-dessous
+            }
+        }
+        throw new IllegalArgumentException(resource + " not found: " + raw);
+    }
+}
@@ -2,11 +2,13 @@ package com.wealthwise.presentation;
 
 import com.wealthwise.application.command.*;
 import com.wealthwise.domain.account.model.AccountId;
-import com.wealthwise.domain.category.model.CategoryId;
+import com.wealthwise.domain.transaction.model.Transaction;
+import com.wealthwise.domain.transaction.model.TransactionCursor;
 import com.wealthwise.domain.transaction.model.TransactionId;
 import com.wealthwise.domain.transaction.port.TransactionRepository;
 import com.wealthwise.presentation.dto.*;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -17,14 +19,20 @@ import java.util.List;
 @RequestMapping("/api/transactions")
 public class TransactionController {
 
-    private final CreateTransactionCommandHandler createTransactionHandler;
+    static final int DEFAULT_PAGE_SIZE = 50;
+    static final int MAX_PAGE_SIZE = 200;
+
+    private final CreateTransactionDispatcher createTransactionDispatcher;
+    private final CreateTransactionsBatchCommandHandler createBatchHandler;
     private final CategorizeTransactionCommandHandler categorizeHandler;
     private final TransactionRepository transactionRepository;
 
-    public TransactionController(CreateTransactionCommandHandler createTransactionHandler,
+    public TransactionController(CreateTransactionDispatcher createTransactionDispatcher,
+                                 CreateTransactionsBatchCommandHandler createBatchHandler,
                                  CategorizeTransactionCommandHandler categorizeHandler,
                                  TransactionRepository transactionRepository) {
-        this.createTransactionHandler = createTransactionHandler;
+        this.createTransactionDispatcher = createTransactionDispatcher;
+        this.createBatchHandler = createBatchHandler;
         this.categorizeHandler = categorizeHandler;
         this.transactionRepository = transactionRepository;
     }
@@ -32,7 +40,7 @@ public class TransactionController {
     @PostMapping
     public ResponseEntity<TransactionResponse> create(@Valid @RequestBody CreateTransactionRequest request) {
         CreateTransactionCommand command = new CreateTransactionCommand(
-                AccountId.of(request.accountId()),
+                RestIds.accountId(request.accountId()),
                 request.amount(),
                 request.currency(),
                 request.description(),
@@ -40,7 +48,8 @@ public class TransactionController {
                 request.type()
         );
 
-        TransactionId id = createTransactionHandler.handle(command);
+        // Traitée par la voie du compte : pas d'écritures concurrentes sur son solde
+        TransactionId id = createTransactionDispatcher.handle(command);
 
         var transaction = transactionRepository.findById(id).orElseThrow();
         return ResponseEntity
@@ -48,6 +57,37 @@ public class TransactionController {
                 .body(TransactionResponse.from(transaction));
     }
 
+    /**
+     * POST /api/transactions/batch — Créer un lot de transactions (import de relevé).
+     *
+     * Contrairement à POST /api/transactions, on ne relit pas chaque transaction
+     * pour construire la réponse : on retourne seulement les identifiants créés.
+     *
+     * Le lot ne passe pas par les voies du dispatcher : il n'est pas ordonné avec
+     * les créations unitaires du même compte. Le verrouillage optimiste protège
+     * le solde ; un conflit répond 409 et le lot entier peut être renvoyé.
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<TransactionBatchResponse> createBatch(
+            @Valid @RequestBody CreateTransactionsBatchRequest request) {
+
+        List<CreateTransactionCommand> rows = request.transactions().stream()
+                .map(row -> new CreateTransactionCommand(
+                        RestIds.accountId(row.accountId()),
+                        row.amount(),
+                        row.currency(),
+                        row.description(),
+                        row.date(),
+                        row.type()
+                ))
+                .toList();
+
+        List<TransactionId> ids = createBatchHandler.handle(new CreateTransactionsBatchCommand(rows));
+
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(TransactionBatchResponse.from(ids));
+    }
+
     /**
      * PUT /api/transactions/{id}/categorize — Catégoriser une transaction.
      *
@@ -58,44 +98,74 @@ public class TransactionController {
             @PathVariable String id,
             @Valid @RequestBody CategorizeTransactionRequest request) {
 
+        TransactionId transactionId = RestIds.transactionId(id);
         CategorizeTransactionCommand command = new CategorizeTransactionCommand(
-                TransactionId.of(id),
-                CategoryId.of(request.categoryId()),
+                transactionId,
+                RestIds.categoryId(request.categoryId()),
                 request.confidenceLevel()
         );
 
         categorizeHandler.handle(command);
 
-        var transaction = transactionRepository.findById(TransactionId.of(id)).orElseThrow();
+        var transaction = transactionRepository.findById(transactionId).orElseThrow();
         return ResponseEntity.ok(TransactionResponse.from(transaction));
     }
 
+    /**
+     * GET /api/transactions/totals?accountId=xxx — Revenus et dépenses de tout l'historique.
+     *
+     * Sommes calculées par la base, par devise : le tableau de bord ne peut
+     * plus les déduire d'une page de la liste.
+     */
+    @GetMapping("/totals")
+    public List<TransactionTotalsResponse> totals(@RequestParam(required = false) String accountId) {
+        AccountId account = accountId != null ? RestIds.accountId(accountId) : null;
+        return TransactionTotalsResponse.from(transactionRepository.totals(account));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<TransactionResponse> findById(@PathVariable String id) {
-        return transactionRepository.findById(TransactionId.of(id))
+        return transactionRepository.findById(RestIds.transactionId(id))
                 .map(TransactionResponse::from)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
 
     /**
-     * GET /api/transactions?accountId=xxx — Lister les transactions d'un compte.
+     * GET /api/transactions?accountId=xxx&limit=50&cursor=... — Lister les transactions, page par page.
      *
      * @RequestParam extrait les paramètres de l'URL (?accountId=xxx).
      * "required = false" signifie que le paramètre est optionnel.
+     *
+     * Pagination par clé (keyset) : le curseur désigne la dernière transaction
+     * de la page précédente, triée par (date DESC, id DESC). Le coût d'une page
+     * ne dépend pas de sa profondeur, contrairement à un OFFSET.
      */
     @GetMapping
-    public List<TransactionResponse> findByAccount(
-            @RequestParam(required = false) String accountId) {
+    public TransactionPageResponse findByAccount(
+            @RequestParam(required = false) String accountId,
+            @RequestParam(defaultValue = "" + DEFAULT_PAGE_SIZE) int limit,
+            @RequestParam(required = false) String cursor) {
 
-        if (accountId != null) {
-            return transactionRepository.findByAccountId(AccountId.of(accountId)).stream()
-                    .map(TransactionResponse::from)
-                    .toList();
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_PAGE_SIZE);
         }
-        // Pas de filtre → toutes les transactions
-        return transactionRepository.findAll().stream()
-                .map(TransactionResponse::from)
-                .toList();
+
+        AccountId account = accountId != null ? RestIds.accountId(accountId) : null;
+        TransactionCursor after = cursor != null ? TransactionCursorCodec.decode(cursor) : null;
+
+        // Une ligne de plus que demandé : si elle existe, il y a une page suivante
+        List<Transaction> rows = transactionRepository.findPage(account, after, limit + 1);
+        boolean hasMore = rows.size() > limit;
+        List<Transaction> page = hasMore ? rows.subList(0, limit) : rows;
+
+        String nextCursor = hasMore
+                ? TransactionCursorCodec.encode(TransactionCursor.after(page.get(page.size() - 1)))
+                : null;
+
+        return new TransactionPageResponse(
+                page.stream().map(TransactionResponse::from).toList(),
+                nextCursor
+        );
     }
 }
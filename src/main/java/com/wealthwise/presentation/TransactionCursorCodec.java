@@ -0,0 +1,47 @@
+package com.wealthwise.presentation;
+
+import com.wealthwise.domain.transaction.model.TransactionCursor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Encode un TransactionCursor en jeton opaque pour l'API, et inversement.
+ *
+ * Le jeton est "date|id" en Base64 URL-safe : le client ne doit pas
+ * en dépendre, ce qui nous laisse libres d'en changer le contenu.
+ */
+final class TransactionCursorCodec {
+
+    private static final char SEPARATOR = '|';
+
+    private TransactionCursorCodec() {
+    }
+
+    static String encode(TransactionCursor cursor) {
+        String raw = cursor.date().toString() + SEPARATOR + cursor.id().value();
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IllegalArgumentException si le jeton n'a pas été produit par encode()
+     */
+    static TransactionCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("Invalid cursor: " + token);
+            }
+            return new TransactionCursor(
+                    LocalDate.parse(raw.substring(0, separator)),
+                    RestIds.transactionId(raw.substring(separator + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + token);
+        }
+    }
+}
@@ -30,7 +30,7 @@ public record AccountResponse(
 ) {
     public static AccountResponse from(Account account) {
         return new AccountResponse(
-                account.getId().value(),
+                account.getId().value().toString(),
                 account.getName(),
                 account.getType(),
                 account.getCurrency(),
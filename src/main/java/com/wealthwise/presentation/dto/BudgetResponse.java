@@ -22,8 +22,8 @@ public record BudgetResponse(
 ) {
     public static BudgetResponse from(Budget budget) {
         return new BudgetResponse(
-                budget.getId().value(),
-                budget.getCategoryId().value(),
+                budget.getId().value().toString(),
+                budget.getCategoryId().value().toString(),
                 budget.getLimit().amount(),
                 budget.getSpent().amount(),
                 budget.getRemainingAmount().amount(),
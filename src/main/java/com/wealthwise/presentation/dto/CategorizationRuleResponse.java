@@ -0,0 +1,23 @@
+package com.wealthwise.presentation.dto;
+
+import com.wealthwise.domain.categorization.model.CategorizationRule;
+
+import java.time.LocalDateTime;
+
+public record CategorizationRuleResponse(
+        String id,
+        String keyword,
+        String normalizedKeyword,
+        String categoryId,
+        LocalDateTime createdAt
+) {
+    public static CategorizationRuleResponse from(CategorizationRule rule) {
+        return new CategorizationRuleResponse(
+                rule.getId().value().toString(),
+                rule.getKeyword(),
+                rule.getNormalizedKeyword(),
+                rule.getCategoryId().value().toString(),
+                rule.getCreatedAt()
+        );
+    }
+}
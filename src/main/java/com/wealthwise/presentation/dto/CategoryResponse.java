@@ -15,7 +15,7 @@ public record CategoryResponse(
 ) {
     public static CategoryResponse from(Category category) {
         return new CategoryResponse(
-                category.getId().value(),
+                category.getId().value().toString(),
                 category.getName(),
                 category.getType(),
                 category.getColor(),
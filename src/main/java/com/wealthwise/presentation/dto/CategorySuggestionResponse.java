@@ -0,0 +1,18 @@
+package com.wealthwise.presentation.dto;
+
+import com.wealthwise.domain.categorization.model.CategorySuggestion;
+import com.wealthwise.domain.transaction.model.ConfidenceLevel;
+
+public record CategorySuggestionResponse(
+        String categoryId,
+        ConfidenceLevel confidence,
+        String matchedBy
+) {
+    public static CategorySuggestionResponse from(CategorySuggestion suggestion) {
+        return new CategorySuggestionResponse(
+                suggestion.categoryId().value().toString(),
+                suggestion.confidence(),
+                suggestion.matchedBy()
+        );
+    }
+}
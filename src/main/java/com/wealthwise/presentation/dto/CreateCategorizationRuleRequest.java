@@ -0,0 +1,12 @@
+package com.wealthwise.presentation.dto;
+
+import jakarta.validation.constraints.NotBlank;
+
+public record CreateCategorizationRuleRequest(
+        @NotBlank(message = "Le mot-clé est obligatoire")
+        String keyword,
+
+        @NotBlank(message = "L'identifiant de la catégorie est obligatoire")
+        String categoryId
+) {
+}
@@ -0,0 +1,20 @@
+package com.wealthwise.presentation.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * DTO de requête pour l'import d'un lot de transactions.
+ *
+ * @Valid sur les éléments de la liste déclenche la validation
+ * de chaque CreateTransactionRequest (montant, description, date...).
+ */
+public record CreateTransactionsBatchRequest(
+        @NotEmpty(message = "Le lot doit contenir au moins une transaction")
+        @Size(max = 10_000, message = "Le lot ne peut pas dépasser 10 000 transactions")
+        List<@Valid CreateTransactionRequest> transactions
+) {
+}
@@ -0,0 +1,33 @@
+package com.wealthwise.presentation.dto;
+
+import com.wealthwise.application.usecase.ImportReport;
+
+import java.util.List;
+
+/**
+ * DTO de réponse pour un import de relevé bancaire.
+ */
+public record ImportReportResponse(
+        long totalRows,
+        long importedRows,
+        long rejectedRows,
+        long elapsedMs,
+        double rowsPerSecond,
+        List<RejectionResponse> rejections
+) {
+    public static ImportReportResponse from(ImportReport report) {
+        return new ImportReportResponse(
+                report.totalRows(),
+                report.importedRows(),
+                report.rejectedRows(),
+                report.elapsed().toMillis(),
+                report.rowsPerSecond(),
+                report.rejections().stream()
+                        .map(r -> new RejectionResponse(r.rowNumber(), r.reason()))
+                        .toList()
+        );
+    }
+
+    public record RejectionResponse(long row, String reason) {
+    }
+}
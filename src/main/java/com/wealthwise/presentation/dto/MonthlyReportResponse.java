@@ -0,0 +1,51 @@
+package com.wealthwise.presentation.dto;
+
+import com.wealthwise.application.query.MonthlyReport;
+import com.wealthwise.domain.shared.Currency;
+import com.wealthwise.domain.transaction.model.TransactionType;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.List;
+
+public record MonthlyReportResponse(
+        String accountId,
+        YearMonth month,
+        Currency currency,
+        BigDecimal totalIncome,
+        BigDecimal totalExpense,
+        BigDecimal net,
+        long transactionCount,
+        List<CategoryLineResponse> categories
+) {
+
+    /**
+     * @param categoryId null pour les transactions non catégorisées
+     */
+    public record CategoryLineResponse(
+            String categoryId,
+            TransactionType type,
+            BigDecimal total,
+            long transactionCount
+    ) {
+    }
+
+    public static MonthlyReportResponse from(MonthlyReport report) {
+        return new MonthlyReportResponse(
+                report.accountId().value().toString(),
+                report.month(),
+                report.net().currency(),
+                report.totalIncome().amount(),
+                report.totalExpense().amount(),
+                report.net().amount(),
+                report.transactionCount(),
+                report.categories().stream()
+                        .map(line -> new CategoryLineResponse(
+                                line.categoryId() != null ? line.categoryId().value().toString() : null,
+                                line.type(),
+                                line.total().amount(),
+                                line.transactionCount()))
+                        .toList()
+        );
+    }
+}
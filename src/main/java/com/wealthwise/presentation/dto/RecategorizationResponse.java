@@ -0,0 +1,15 @@
+package com.wealthwise.presentation.dto;
+
+/**
+ * DTO de réponse pour une recatégorisation de l'historique par une règle.
+ *
+ * @param nextCursor jeton à repasser dans "after" pour continuer,
+ *                   null quand tout l'historique a été parcouru
+ */
+public record RecategorizationResponse(
+        long scanned,
+        long recategorized,
+        String nextCursor,
+        boolean completed
+) {
+}
@@ -0,0 +1,47 @@
+package com.wealthwise.presentation.dto;
+
+import com.wealthwise.application.query.TrendAnalysis;
+import com.wealthwise.domain.analytics.model.TrendDimension;
+import com.wealthwise.domain.shared.Currency;
+import com.wealthwise.domain.transaction.model.TransactionType;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.List;
+
+public record SpendingTrendResponse(
+        YearMonth from,
+        YearMonth to,
+        TrendDimension groupBy,
+        TransactionType type,
+        Currency currency,
+        BigDecimal total,
+        long transactionCount,
+        List<TrendPointResponse> points
+) {
+
+    /**
+     * @param key mois, identifiant de catégorie (null = non catégorisé) ou de compte
+     */
+    public record TrendPointResponse(
+            String key,
+            BigDecimal total,
+            long transactionCount
+    ) {
+    }
+
+    public static SpendingTrendResponse from(TrendAnalysis analysis) {
+        return new SpendingTrendResponse(
+                analysis.from(),
+                analysis.to(),
+                analysis.groupBy(),
+                analysis.type(),
+                analysis.total().currency(),
+                analysis.total().amount(),
+                analysis.transactionCount(),
+                analysis.points().stream()
+                        .map(point -> new TrendPointResponse(point.key(), point.total().amount(), point.transactionCount()))
+                        .toList()
+        );
+    }
+}
@@ -0,0 +1,21 @@
+package com.wealthwise.presentation.dto;
+
+import com.wealthwise.domain.transaction.model.TransactionId;
+
+import java.util.List;
+
+/**
+ * DTO de réponse pour un lot de transactions créées.
+ * Les identifiants sont dans l'ordre des lignes de la requête.
+ */
+public record TransactionBatchResponse(
+        int count,
+        List<String> ids
+) {
+    public static TransactionBatchResponse from(List<TransactionId> ids) {
+        return new TransactionBatchResponse(
+                ids.size(),
+                ids.stream().map(id -> id.value().toString()).toList()
+        );
+    }
+}
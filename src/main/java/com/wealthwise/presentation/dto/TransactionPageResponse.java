@@ -0,0 +1,15 @@
+package com.wealthwise.presentation.dto;
+
+import java.util.List;
+
+/**
+ * DTO de réponse pour une page de transactions.
+ *
+ * nextCursor est opaque pour le client : il le renvoie tel quel
+ * (?cursor=...) pour obtenir la page suivante. null = dernière page.
+ */
+public record TransactionPageResponse(
+        List<TransactionResponse> items,
+        String nextCursor
+) {
+}
@@ -23,14 +23,14 @@ public record TransactionResponse(
 ) {
     public static TransactionResponse from(Transaction tx) {
         return new TransactionResponse(
-                tx.getId().value(),
-                tx.getAccountId().value(),
+                tx.getId().value().toString(),
+                tx.getAccountId().value().toString(),
                 tx.getAmount().amount(),
                 tx.getAmount().currency(),
                 tx.getDescription(),
                 tx.getDate(),
                 tx.getType(),
-                tx.getCategoryId() != null ? tx.getCategoryId().value() : null,
+                tx.getCategoryId() != null ? tx.getCategoryId().value().toString() : null,
                 tx.getConfidenceLevel(),
                 tx.getCreatedAt()
         );
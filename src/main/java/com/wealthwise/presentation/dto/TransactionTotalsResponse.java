@@ -0,0 +1,36 @@
+package com.wealthwise.presentation.dto;
+
+import com.wealthwise.domain.shared.Currency;
+import com.wealthwise.domain.transaction.model.TransactionTotal;
+import com.wealthwise.domain.transaction.model.TransactionType;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * DTO de réponse : revenus et dépenses de tout l'historique, une entrée par devise.
+ */
+public record TransactionTotalsResponse(
+        Currency currency,
+        BigDecimal income,
+        BigDecimal expenses
+) {
+    public static List<TransactionTotalsResponse> from(List<TransactionTotal> totals) {
+        Map<Currency, TransactionTotalsResponse> byCurrency = new TreeMap<>();
+        for (TransactionTotal total : totals) {
+            Currency currency = total.total().currency();
+            TransactionTotalsResponse current = byCurrency.getOrDefault(
+                    currency, new TransactionTotalsResponse(currency, BigDecimal.ZERO, BigDecimal.ZERO));
+            BigDecimal amount = total.total().amount();
+            if (total.type() == TransactionType.INCOME) {
+                current = new TransactionTotalsResponse(currency, current.income().add(amount), current.expenses());
+            } else if (total.type() == TransactionType.EXPENSE) {
+                current = new TransactionTotalsResponse(currency, current.income(), current.expenses().add(amount));
+            }
+            byCurrency.put(currency, current);
+        }
+        return List.copyOf(byCurrency.values());
+    }
+}
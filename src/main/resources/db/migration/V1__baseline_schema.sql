@@ -0,0 +1,106 @@
+-- Schéma de référence : tel que Hibernate le générait (ddl-auto) à partir des
+-- entités JPA, ids en uuid compris.
+--
+-- Une base existante créée par ddl-auto est marquée à cette version sans
+-- rejouer le script (spring.flyway.baseline-on-migrate) ; ses ids doivent
+-- d'abord être passés en uuid (db/postgresql/migrate-ids-to-uuid.sql).
+--
+-- SQL commun à PostgreSQL et H2 (tests).
+--
+-- Uniquement les tables : une base marquée en V1 ne reçoit jamais ce script.
+-- Les index et la séquence de l'outbox sont créés par V2, que toutes les
+-- bases exécutent.
+
+CREATE TABLE accounts (
+    id         uuid           NOT NULL,
+    name       varchar(255)   NOT NULL,
+    type       varchar(255)   NOT NULL,
+    currency   varchar(3)     NOT NULL,
+    balance    numeric(19, 4) NOT NULL,
+    closed     boolean        NOT NULL,
+    created_at timestamp(6)   NOT NULL,
+    version    bigint,
+    CONSTRAINT pk_accounts PRIMARY KEY (id)
+);
+
+CREATE TABLE categories (
+    id         uuid         NOT NULL,
+    name       varchar(255) NOT NULL,
+    type       varchar(255) NOT NULL,
+    color      varchar(7)   NOT NULL,
+    icon       varchar(255),
+    created_at timestamp(6) NOT NULL,
+    CONSTRAINT pk_categories PRIMARY KEY (id)
+);
+
+CREATE TABLE transactions (
+    id               uuid           NOT NULL,
+    account_id       uuid           NOT NULL,
+    amount           numeric(19, 4) NOT NULL,
+    currency         varchar(3)     NOT NULL,
+    description      varchar(255)   NOT NULL,
+    date             date           NOT NULL,
+    type             varchar(255)   NOT NULL,
+    category_id      uuid,
+    confidence_level varchar(255),
+    created_at       timestamp(6)   NOT NULL,
+    CONSTRAINT pk_transactions PRIMARY KEY (id)
+);
+
+CREATE TABLE categorization_rules (
+    id          uuid         NOT NULL,
+    keyword     varchar(255) NOT NULL,
+    category_id uuid         NOT NULL,
+    created_at  timestamp(6) NOT NULL,
+    CONSTRAINT pk_categorization_rules PRIMARY KEY (id)
+);
+
+CREATE TABLE budgets (
+    id           uuid           NOT NULL,
+    category_id  uuid           NOT NULL,
+    limit_amount numeric(19, 4) NOT NULL,
+    currency     varchar(3)     NOT NULL,
+    spent        numeric(19, 4) NOT NULL,
+    period_month varchar(255)   NOT NULL,
+    status       varchar(255)   NOT NULL,
+    created_at   timestamp(6)   NOT NULL,
+    CONSTRAINT pk_budgets PRIMARY KEY (id)
+);
+
+CREATE TABLE budget_allocations (
+    transaction_id uuid           NOT NULL,
+    category_id    uuid           NOT NULL,
+    budget_id      uuid,
+    amount         numeric(19, 4) NOT NULL,
+    currency       varchar(3)     NOT NULL,
+    applied_at     timestamp(6)   NOT NULL,
+    CONSTRAINT pk_budget_allocations PRIMARY KEY (transaction_id)
+);
+
+CREATE TABLE monthly_summary (
+    id                uuid         NOT NULL,
+    account_id        uuid         NOT NULL,
+    month             varchar(7)   NOT NULL,
+    category_id       uuid,
+    type              varchar(255) NOT NULL,
+    currency          varchar(3)   NOT NULL,
+    total_minor       bigint       NOT NULL,
+    transaction_count bigint       NOT NULL,
+    CONSTRAINT pk_monthly_summary PRIMARY KEY (id)
+);
+
+CREATE TABLE monthly_summary_postings (
+    transaction_id uuid         NOT NULL,
+    category_id    uuid,
+    applied_at     timestamp(6) NOT NULL,
+    CONSTRAINT pk_monthly_summary_postings PRIMARY KEY (transaction_id)
+);
+
+CREATE TABLE outbox (
+    id          bigint       NOT NULL,
+    event_type  varchar(255) NOT NULL,
+    payload     text         NOT NULL,
+    occurred_at timestamp(6) NOT NULL,
+    created_at  timestamp(6) NOT NULL,
+    CONSTRAINT pk_outbox PRIMARY KEY (id)
+);
@@ -0,0 +1,33 @@
+-- Index des recherches des ports de persistance, et séquence de l'outbox.
+--
+-- Première migration exécutée par une base existante marquée en V1 : tout ce
+-- qui n'est pas une table est créé ici, IF NOT EXISTS car ddl-auto a pu en
+-- créer une partie (index déclarés sur les entités, séquence de l'outbox).
+--
+-- Les requêtes lisent des lignes entières (entités JPA) : les index portent
+-- les colonnes des conditions puis celles du tri, pas de colonnes INCLUDE
+-- qui ne feraient que dupliquer la table.
+
+-- Pagination par clé (keyset) : WHERE (date, id) < (:date, :id) ORDER BY date DESC, id DESC
+-- findByDateBetween, findByAccountIdAndDateBetween
+CREATE INDEX IF NOT EXISTS idx_transactions_date_id ON transactions (date, id);
+CREATE INDEX IF NOT EXISTS idx_transactions_account_date_id ON transactions (account_id, date, id);
+
+-- findByAccountAndMonth : lignes du résumé mensuel d'un compte
+CREATE INDEX IF NOT EXISTS idx_monthly_summary_account_month ON monthly_summary (account_id, month);
+
+-- Ids de l'outbox : séquence par pas de 100 (allocationSize de OutboxEventEntity)
+CREATE SEQUENCE IF NOT EXISTS outbox_seq START WITH 1 INCREMENT BY 100;
+
+-- Relais : lignes les plus anciennes d'abord
+CREATE INDEX IF NOT EXISTS idx_outbox_created_at ON outbox (created_at);
+
+-- findByCategoryId : transactions d'une catégorie (budgets, recatégorisation)
+CREATE INDEX idx_transactions_category_date_id ON transactions (category_id, date, id);
+
+-- findByCategoryIdAndPeriodMonth : au plus un budget par catégorie et par mois.
+-- L'index de la contrainte sert aussi la recherche.
+ALTER TABLE budgets ADD CONSTRAINT uq_budgets_category_period UNIQUE (category_id, period_month);
+
+-- findByPeriodMonth : budgets d'un mois, par catégorie
+CREATE INDEX idx_budgets_period_category ON budgets (period_month, category_id);
@@ -0,0 +1,23 @@
+-- Relais de l'outbox : échecs de livraison comptés par ligne, et lettres mortes.
+--
+-- Une ligne dont la livraison échoue reste dans l'outbox (attempts + 1,
+-- last_error) et sera retentée. Après wealthwise.outbox.max-attempts échecs,
+-- elle est déplacée dans outbox_dead_letter : le relais passe aux suivantes,
+-- et l'événement peut être examiné puis réinjecté à la main :
+--   INSERT INTO outbox (id, event_type, payload, occurred_at, created_at, attempts)
+--   SELECT id, event_type, payload, occurred_at, created_at, 0 FROM outbox_dead_letter WHERE id = ...;
+
+ALTER TABLE outbox ADD COLUMN attempts integer DEFAULT 0 NOT NULL;
+ALTER TABLE outbox ADD COLUMN last_error varchar(1000);
+
+CREATE TABLE outbox_dead_letter (
+    id          bigint        NOT NULL,
+    event_type  varchar(255)  NOT NULL,
+    payload     text          NOT NULL,
+    occurred_at timestamp(6)  NOT NULL,
+    created_at  timestamp(6)  NOT NULL,
+    attempts    integer       NOT NULL,
+    last_error  varchar(1000),
+    dead_at     timestamp(6)  NOT NULL,
+    CONSTRAINT pk_outbox_dead_letter PRIMARY KEY (id)
+);
@@ -0,0 +1,57 @@
+-- Passage des identifiants de VARCHAR(36) au type uuid natif (16 octets).
+--
+-- À lancer une fois sur une base créée par ddl-auto=update, application
+-- arrêtée, avant le premier démarrage avec Flyway : la base est alors
+-- marquée en V1 (db/migration), qui suppose des ids en uuid.
+-- ALTER COLUMN ... TYPE reconstruit les index concernés ; le tout dans une
+-- transaction, donc sans état intermédiaire en cas d'échec (un id qui
+-- n'est pas un UUID fait échouer le cast et annule tout).
+--
+-- Mesure avant / après (taille des index, plan d'une page de transactions) :
+--
+--   SELECT relname, indexrelname, pg_size_pretty(pg_relation_size(indexrelid))
+--   FROM pg_stat_user_indexes ORDER BY pg_relation_size(indexrelid) DESC;
+--
+--   EXPLAIN (ANALYZE, BUFFERS)
+--   SELECT * FROM transactions WHERE account_id = '<un id de compte>'
+--   ORDER BY date DESC, id DESC LIMIT 50;
+
+BEGIN;
+
+ALTER TABLE accounts
+    ALTER COLUMN id TYPE uuid USING id::uuid;
+
+ALTER TABLE transactions
+    ALTER COLUMN id TYPE uuid USING id::uuid,
+    ALTER COLUMN account_id TYPE uuid USING account_id::uuid,
+    ALTER COLUMN category_id TYPE uuid USING category_id::uuid;
+
+ALTER TABLE categories
+    ALTER COLUMN id TYPE uuid USING id::uuid;
+
+ALTER TABLE categorization_rules
+    ALTER COLUMN id TYPE uuid USING id::uuid,
+    ALTER COLUMN category_id TYPE uuid USING category_id::uuid;
+
+ALTER TABLE budgets
+    ALTER COLUMN id TYPE uuid USING id::uuid,
+    ALTER COLUMN category_id TYPE uuid USING category_id::uuid;
+
+ALTER TABLE budget_allocations
+    ALTER COLUMN transaction_id TYPE uuid USING transaction_id::uuid,
+    ALTER COLUMN category_id TYPE uuid USING category_id::uuid,
+    ALTER COLUMN budget_id TYPE uuid USING budget_id::uuid;
+
+ALTER TABLE monthly_summary
+    ALTER COLUMN id TYPE uuid USING id::uuid,
+    ALTER COLUMN account_id TYPE uuid USING account_id::uuid,
+    ALTER COLUMN category_id TYPE uuid USING category_id::uuid;
+
+ALTER TABLE monthly_summary_postings
+    ALTER COLUMN transaction_id TYPE uuid USING transaction_id::uuid,
+    ALTER COLUMN category_id TYPE uuid USING category_id::uuid;
+
+COMMIT;
+
+-- Les tables et index étant réécrits, rafraîchir les statistiques du planificateur
+ANALYZE;
@@ -0,0 +1,147 @@
+package com.wealthwise.integration;
+
+import com.wealthwise.application.command.CreateAccountCommand;
+import com.wealthwise.application.command.CreateAccountCommandHandler;
+import com.wealthwise.application.command.CreateTransactionCommand;
+import com.wealthwise.application.command.CreateTransactionDispatcher;
+import com.wealthwise.domain.account.model.AccountId;
+import com.wealthwise.domain.account.model.AccountType;
+import com.wealthwise.domain.account.port.AccountRepository;
+import com.wealthwise.domain.shared.Currency;
+import com.wealthwise.domain.transaction.model.TransactionType;
+import com.wealthwise.domain.transaction.port.TransactionRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Benchmark de contention : plusieurs écrivains en parallèle sur le MÊME compte.
+ *
+ * POST /api/transactions passe par le CreateTransactionDispatcher : une voie
+ * par compte, écritures regroupées. Le solde final doit être exact quel que
+ * soit le nombre d'écrivains, sans rejeu après conflit de version.
+ *
+ * Le même volume est ensuite écrit sans contention (un compte par écrivain)
+ * pour comparer les temps : un compte partagé est servi par une seule voie.
+ *
+ * Hors suite par défaut (tag "benchmark") : mvn -Pbenchmark test
+ */
+@SpringBootTest
+@Tag("benchmark")
+@DisplayName("Contention sur un compte - Benchmark")
+class AccountContentionIntegrationTest {
+
+    private static final Logger log = LoggerFactory.getLogger(AccountContentionIntegrationTest.class);
+
+    private static final int WRITERS = 8;
+    private static final int TRANSACTIONS_PER_WRITER = 25;
+
+    @Autowired
+    private CreateAccountCommandHandler createAccountHandler;
+
+    @Autowired
+    private CreateTransactionDispatcher createTransactionDispatcher;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Test
+    @DisplayName("doit appliquer tous les crédits concurrents d'un compte via sa voie")
+    void shouldApplyEveryConcurrentCreditThroughTheAccountLane() throws Exception {
+        AccountId shared = createAccount("Carte du foyer");
+        List<AccountId> targets = new ArrayList<>();
+        for (int i = 0; i < WRITERS; i++) {
+            targets.add(shared);
+        }
+
+        Run contended = run(targets);
+
+        int expected = WRITERS * TRANSACTIONS_PER_WRITER;
+        assertThat(balanceOf(shared)).isEqualByComparingTo(BigDecimal.valueOf(expected));
+        assertThat(transactionRepository.findByAccountId(shared)).hasSize(expected);
+
+        List<AccountId> separate = new ArrayList<>();
+        for (int i = 0; i < WRITERS; i++) {
+            separate.add(createAccount("Compte " + i));
+        }
+        Run uncontended = run(separate);
+
+        log.info("Contention benchmark ({} writers x {} transactions, {} lanes)",
+                WRITERS, TRANSACTIONS_PER_WRITER, createTransactionDispatcher.laneCount());
+        log.info("  one shared account : {} ms, {} retries", contended.millis(), contended.retries());
+        log.info("  one account each   : {} ms, {} retries", uncontended.millis(), uncontended.retries());
+    }
+
+    /**
+     * Écrivains sur le CreateTransactionDispatcher (voie par compte, rejeu en cas de conflit).
+     */
+    private Run run(List<AccountId> targets) throws Exception {
+        long retriesBefore = createTransactionDispatcher.conflictRetries();
+        long millis = timeWriters(targets, createTransactionDispatcher::handle);
+        return new Run(millis, createTransactionDispatcher.conflictRetries() - retriesBefore);
+    }
+
+    /**
+     * Lance un écrivain par compte cible ; tous démarrent en même temps.
+     *
+     * @return la durée totale en millisecondes
+     */
+    private long timeWriters(List<AccountId> targets, Consumer<CreateTransactionCommand> writer) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(targets.size());
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> writers = new ArrayList<>();
+            for (AccountId target : targets) {
+                writers.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < TRANSACTIONS_PER_WRITER; i++) {
+                        writer.accept(new CreateTransactionCommand(
+                                target, 1, Currency.EUR, "Virement " + i, LocalDate.now(), TransactionType.INCOME
+                        ));
+                    }
+                    return null;
+                }));
+            }
+
+            long begin = System.nanoTime();
+            start.countDown();
+            for (Future<?> running : writers) {
+                running.get(60, TimeUnit.SECONDS);
+            }
+            return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - begin);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private AccountId createAccount(String name) {
+        return createAccountHandler.handle(new CreateAccountCommand(name, AccountType.CHECKING, Currency.EUR));
+    }
+
+    private BigDecimal balanceOf(AccountId id) {
+        return accountRepository.findById(id).orElseThrow().getBalance().money().amount();
+    }
+
+    private record Run(long millis, long retries) {
+    }
+}
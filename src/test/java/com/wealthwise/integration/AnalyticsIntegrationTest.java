@@ -0,0 +1,133 @@
+package com.wealthwise.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wealthwise.domain.account.model.AccountType;
+import com.wealthwise.domain.category.model.CategoryType;
+import com.wealthwise.domain.shared.Currency;
+import com.wealthwise.domain.transaction.model.ConfidenceLevel;
+import com.wealthwise.domain.transaction.model.TransactionType;
+import com.wealthwise.presentation.dto.CategorizeTransactionRequest;
+import com.wealthwise.presentation.dto.CreateAccountRequest;
+import com.wealthwise.presentation.dto.CreateCategoryRequest;
+import com.wealthwise.presentation.dto.CreateTransactionRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.Duration;
+import java.time.LocalDate;
+
+import static org.awaitility.Awaitility.await;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@DisplayName("Analytique (read models) - Tests d'intégration")
+class AnalyticsIntegrationTest {
+
+    private static final LocalDate MAR_5 = LocalDate.of(2026, 3, 5);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("doit servir le rapport mensuel à partir du résumé pré-agrégé")
+    void shouldServeMonthlyReport() throws Exception {
+        String accountId = create("/api/accounts",
+                new CreateAccountRequest("Compte Rapport", AccountType.CHECKING, Currency.EUR));
+        String categoryId = create("/api/categories",
+                new CreateCategoryRequest("Courses Rapport", CategoryType.EXPENSE, "#27AE60", "cart"));
+
+        create("/api/transactions", new CreateTransactionRequest(
+                accountId, 2_000.0, Currency.EUR, "Salaire", MAR_5, TransactionType.INCOME));
+        String expenseId = create("/api/transactions", new CreateTransactionRequest(
+                accountId, 64.90, Currency.EUR, "Supermarché", MAR_5, TransactionType.EXPENSE));
+        create("/api/transactions", new CreateTransactionRequest(
+                accountId, 15.10, Currency.EUR, "Boulangerie", MAR_5, TransactionType.EXPENSE));
+
+        mockMvc.perform(put("/api/transactions/" + expenseId + "/categorize")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new CategorizeTransactionRequest(categoryId, ConfidenceLevel.MANUAL))))
+                .andExpect(status().isOk());
+
+        // Le résumé est alimenté par le relais de l'outbox : on attend qu'il ait tout appliqué
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+                mockMvc.perform(get("/api/analytics/monthly-report")
+                                .param("accountId", accountId)
+                                .param("month", "2026-03"))
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$.totalIncome").value(2000.0))
+                        .andExpect(jsonPath("$.totalExpense").value(80.0))
+                        .andExpect(jsonPath("$.net").value(1920.0))
+                        .andExpect(jsonPath("$.transactionCount").value(3))
+                        .andExpect(jsonPath("$.categories[?(@.categoryId == '" + categoryId + "')].total")
+                                .value(64.9)));
+    }
+
+    @Test
+    @DisplayName("doit retourner 404 pour un compte inexistant")
+    void shouldReturn404ForUnknownAccount() throws Exception {
+        mockMvc.perform(get("/api/analytics/monthly-report")
+                        .param("accountId", "00000000-0000-0000-0000-000000000000")
+                        .param("month", "2026-03"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("doit servir la tendance des dépenses d'un compte, mois par mois")
+    void shouldServeSpendingTrend() throws Exception {
+        String accountId = create("/api/accounts",
+                new CreateAccountRequest("Compte Tendance", AccountType.CHECKING, Currency.EUR));
+        create("/api/transactions", new CreateTransactionRequest(
+                accountId, 2_000.0, Currency.EUR, "Salaire", MAR_5, TransactionType.INCOME));
+        create("/api/transactions", new CreateTransactionRequest(
+                accountId, 30.0, Currency.EUR, "Pharmacie", MAR_5.minusMonths(2), TransactionType.EXPENSE));
+        create("/api/transactions", new CreateTransactionRequest(
+                accountId, 45.5, Currency.EUR, "Restaurant", MAR_5, TransactionType.EXPENSE));
+
+        // L'index en mémoire est alimenté par le relais de l'outbox
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+                mockMvc.perform(get("/api/analytics/spending-trend")
+                                .param("accountId", accountId)
+                                .param("from", "2026-01")
+                                .param("to", "2026-03"))
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$.groupBy").value("MONTH"))
+                        .andExpect(jsonPath("$.total").value(75.5))
+                        .andExpect(jsonPath("$.transactionCount").value(2))
+                        .andExpect(jsonPath("$.points.length()").value(3))
+                        .andExpect(jsonPath("$.points[1].total").value(0.0))
+                        .andExpect(jsonPath("$.points[2].key").value("2026-03")));
+    }
+
+    @Test
+    @DisplayName("doit retourner 400 pour une période inversée")
+    void shouldReturn400ForInvertedRange() throws Exception {
+        mockMvc.perform(get("/api/analytics/spending-trend")
+                        .param("from", "2026-03")
+                        .param("to", "2026-01"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private String create(String path, Object request) throws Exception {
+        MvcResult result = mockMvc.perform(post(path)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andReturn();
+
+        JsonNode response = objectMapper.readTree(result.getResponse().getContentAsString());
+        return response.get("id").asText();
+    }
+}
@@ -2,10 +2,16 @@ package com.wealthwise.integration;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wealthwise.domain.account.model.AccountType;
 import com.wealthwise.domain.category.model.CategoryType;
 import com.wealthwise.domain.shared.Currency;
+import com.wealthwise.domain.transaction.model.ConfidenceLevel;
+import com.wealthwise.domain.transaction.model.TransactionType;
+import com.wealthwise.presentation.dto.CategorizeTransactionRequest;
+import com.wealthwise.presentation.dto.CreateAccountRequest;
 import com.wealthwise.presentation.dto.CreateBudgetRequest;
 import com.wealthwise.presentation.dto.CreateCategoryRequest;
+import com.wealthwise.presentation.dto.CreateTransactionRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -15,9 +21,13 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
 
+import java.time.Duration;
+import java.time.LocalDate;
 import java.time.YearMonth;
 
+import static org.awaitility.Awaitility.await;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -107,4 +117,70 @@ class BudgetFlowIntegrationTest {
                         org.hamcrest.Matchers.greaterThanOrEqualTo(1)
                 ));
     }
+
+    @Test
+    @DisplayName("doit imputer une dépense catégorisée au budget, puis la déplacer à la re-catégorisation")
+    void shouldTrackBudgetConsumptionThroughCategorization() throws Exception {
+        String transportBudgetId = createBudget(categoryId, 100.0);
+        String otherCategoryId = idOf(mockMvc.perform(post("/api/categories")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CreateCategoryRequest(
+                                "Loisirs", CategoryType.EXPENSE, "#9B59B6", "game")))));
+        String otherBudgetId = createBudget(otherCategoryId, 100.0);
+
+        // Compte approvisionné, puis une dépense de 85 € en avril
+        String accountId = idOf(mockMvc.perform(post("/api/accounts")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new CreateAccountRequest(
+                        "Courant", AccountType.CHECKING, Currency.EUR)))));
+        createTransaction(accountId, 500.0, "Salaire", TransactionType.INCOME);
+        String expenseId = createTransaction(accountId, 85.0, "Train", TransactionType.EXPENSE);
+
+        categorize(expenseId, categoryId);
+
+        // Le BudgetProjector est un abonné asynchrone du bus d'événements
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+                mockMvc.perform(get("/api/budgets/" + transportBudgetId))
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$.spent").value(85.0))
+                        .andExpect(jsonPath("$.status").value("WARNING")));
+
+        categorize(expenseId, otherCategoryId);
+
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> {
+            mockMvc.perform(get("/api/budgets/" + transportBudgetId))
+                    .andExpect(jsonPath("$.spent").value(0.0))
+                    .andExpect(jsonPath("$.status").value("ON_TRACK"));
+            mockMvc.perform(get("/api/budgets/" + otherBudgetId))
+                    .andExpect(jsonPath("$.spent").value(85.0));
+        });
+    }
+
+    private String createBudget(String category, double limit) throws Exception {
+        return idOf(mockMvc.perform(post("/api/budgets")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new CreateBudgetRequest(
+                        category, limit, Currency.EUR, YearMonth.of(2026, 4))))));
+    }
+
+    private String createTransaction(String accountId, double amount, String description,
+                                     TransactionType type) throws Exception {
+        return idOf(mockMvc.perform(post("/api/transactions")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new CreateTransactionRequest(
+                        accountId, amount, Currency.EUR, description, LocalDate.of(2026, 4, 2), type)))));
+    }
+
+    private void categorize(String transactionId, String category) throws Exception {
+        mockMvc.perform(put("/api/transactions/" + transactionId + "/categorize")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new CategorizeTransactionRequest(category, ConfidenceLevel.MANUAL))))
+                .andExpect(status().isOk());
+    }
+
+    private String idOf(ResultActions actions) throws Exception {
+        MvcResult result = actions.andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("id").asText();
+    }
 }
@@ -0,0 +1,120 @@
+package com.wealthwise.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wealthwise.domain.account.model.AccountType;
+import com.wealthwise.domain.category.model.CategoryType;
+import com.wealthwise.domain.shared.Currency;
+import com.wealthwise.domain.transaction.model.TransactionType;
+import com.wealthwise.presentation.dto.CreateAccountRequest;
+import com.wealthwise.presentation.dto.CreateCategorizationRuleRequest;
+import com.wealthwise.presentation.dto.CreateCategoryRequest;
+import com.wealthwise.presentation.dto.CreateTransactionRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDate;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@DisplayName("Catégorisation automatique - Tests d'intégration")
+class CategorizationRuleIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("doit catégoriser une nouvelle transaction d'après les règles")
+    void shouldCategorizeNewTransactionFromRules() throws Exception {
+        String accountId = create("/api/accounts",
+                new CreateAccountRequest("Compte Règles", AccountType.CHECKING, Currency.EUR));
+        String categoryId = create("/api/categories",
+                new CreateCategoryRequest("Abonnements Règles", CategoryType.EXPENSE, "#8E44AD", "tv"));
+        create("/api/categorization-rules", new CreateCategorizationRuleRequest("Netflix.com", categoryId));
+
+        mockMvc.perform(get("/api/categorization-rules/suggestion")
+                        .param("description", "PRLV SEPA NETFLIX COM 0326"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.categoryId").value(categoryId))
+                .andExpect(jsonPath("$.confidence").value("HIGH"));
+
+        // Solde initial nul : on le crédite avant la dépense (sinon 409, fonds insuffisants)
+        create("/api/transactions", new CreateTransactionRequest(
+                accountId, 100.0, Currency.EUR, "Virement", LocalDate.of(2026, 3, 1), TransactionType.INCOME));
+        String transactionId = create("/api/transactions", new CreateTransactionRequest(
+                accountId, 13.49, Currency.EUR, "Prlv Netflix.com", LocalDate.of(2026, 3, 6), TransactionType.EXPENSE));
+
+        mockMvc.perform(get("/api/transactions/" + transactionId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.categoryId").value(categoryId))
+                .andExpect(jsonPath("$.confidenceLevel").value("HIGH"));
+    }
+
+    @Test
+    @DisplayName("doit recatégoriser l'historique existant avec une nouvelle règle")
+    void shouldRecategorizeHistoryWithNewRule() throws Exception {
+        String accountId = create("/api/accounts",
+                new CreateAccountRequest("Compte Historique", AccountType.CHECKING, Currency.EUR));
+        create("/api/transactions", new CreateTransactionRequest(
+                accountId, 500.0, Currency.EUR, "Salaire", LocalDate.of(2026, 1, 1), TransactionType.INCOME));
+        String first = create("/api/transactions", new CreateTransactionRequest(
+                accountId, 18.40, Currency.EUR, "CB Zorblax Traiteur 0103", LocalDate.of(2026, 1, 3), TransactionType.EXPENSE));
+        String second = create("/api/transactions", new CreateTransactionRequest(
+                accountId, 22.10, Currency.EUR, "CB ZORBLAX 1402", LocalDate.of(2026, 2, 14), TransactionType.EXPENSE));
+
+        String categoryId = create("/api/categories",
+                new CreateCategoryRequest("Traiteur Historique", CategoryType.EXPENSE, "#D35400", "food"));
+        String ruleId = create("/api/categorization-rules", new CreateCategorizationRuleRequest("Zorblax", categoryId));
+
+        mockMvc.perform(post("/api/categorization-rules/" + ruleId + "/recategorization"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.recategorized").value(2))
+                .andExpect(jsonPath("$.completed").value(true))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+
+        for (String transactionId : new String[]{first, second}) {
+            mockMvc.perform(get("/api/transactions/" + transactionId))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.categoryId").value(categoryId))
+                    .andExpect(jsonPath("$.confidenceLevel").value("HIGH"));
+        }
+
+        // Relancer ne refait rien
+        mockMvc.perform(post("/api/categorization-rules/" + ruleId + "/recategorization"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.recategorized").value(0));
+    }
+
+    @Test
+    @DisplayName("doit retourner 404 pour une règle vers une catégorie inexistante")
+    void shouldReturn404ForUnknownCategory() throws Exception {
+        mockMvc.perform(post("/api/categorization-rules")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CreateCategorizationRuleRequest(
+                                "Inconnu", "00000000-0000-0000-0000-000000000000"))))
+                .andExpect(status().isNotFound());
+    }
+
+    private String create(String path, Object request) throws Exception {
+        MvcResult result = mockMvc.perform(post(path)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andReturn();
+
+        JsonNode response = objectMapper.readTree(result.getResponse().getContentAsString());
+        return response.get("id").asText();
+    }
+}
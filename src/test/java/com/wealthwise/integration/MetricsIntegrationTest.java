@@ -0,0 +1,156 @@
+package com.wealthwise.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wealthwise.domain.account.model.AccountType;
+import com.wealthwise.domain.shared.Currency;
+import com.wealthwise.presentation.dto.CreateAccountRequest;
+import com.wealthwise.presentation.dto.CreateBudgetRequest;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.YearMonth;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Tests d'intégration des métriques : handlers, adaptateurs JPA, mappers
+ * et événements du domaine, exposés sur /actuator/prometheus.
+ *
+ * @AutoConfigureObservability : en test, Spring Boot n'active pas les
+ * registries d'export (Prometheus) sans cette annotation.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+@DisplayName("Métriques Micrometer - Tests d'intégration")
+class MetricsIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("doit chronométrer le handler, l'adaptateur JPA et le mapper d'une commande")
+    void shouldTimeHandlerRepositoryAndMapper() throws Exception {
+        createAccount("Compte Métriques");
+
+        assertThat(meterRegistry.get("wealthwise.command")
+                .tag("handler", "CreateAccountCommandHandler")
+                .tag("outcome", "success")
+                .timer().count()).isPositive();
+        assertThat(meterRegistry.get("wealthwise.repository")
+                .tag("repository", "JpaAccountRepositoryAdapter")
+                .tag("method", "save")
+                .timer().count()).isPositive();
+        assertThat(meterRegistry.get("wealthwise.mapper")
+                .tag("mapper", "account")
+                .tag("direction", "toEntity")
+                .timer().count()).isPositive();
+        assertThat(meterRegistry.get("wealthwise.domain.events")
+                .tag("type", "AccountCreated")
+                .counter().count()).isPositive();
+    }
+
+    @Test
+    @DisplayName("doit compter les échecs d'une commande sous le tag outcome=error")
+    void shouldTagFailedCommands() throws Exception {
+        CreateBudgetRequest request = new CreateBudgetRequest(
+                UUID.randomUUID().toString(), 300.0, Currency.EUR, YearMonth.of(2025, 1));
+
+        mockMvc.perform(post("/api/budgets")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isNotFound());
+
+        assertThat(meterRegistry.get("wealthwise.command")
+                .tag("handler", "CreateBudgetCommandHandler")
+                .tag("outcome", "error")
+                .tag("exception", "IllegalArgumentException")
+                .timer().count()).isPositive();
+        assertThat(meterRegistry.get("wealthwise.repository")
+                .tag("repository", "JpaCategoryRepositoryAdapter")
+                .tag("method", "findById")
+                .timer().count()).isPositive();
+    }
+
+    @Test
+    @DisplayName("doit servir la lecture d'un compte depuis le cache, sans requête SQL")
+    void shouldServeAccountReadsFromCache() throws Exception {
+        String accountId = createAccount("Compte Cache");
+        double hitsBefore = accountCacheHits();
+        long loadsBefore = accountLoads();
+
+        mockMvc.perform(get("/api/accounts/" + accountId))
+                .andExpect(status().isOk());
+
+        assertThat(accountCacheHits()).isGreaterThan(hitsBefore);
+        assertThat(accountLoads()).isEqualTo(loadsBefore);
+    }
+
+    @Test
+    @DisplayName("doit exposer des histogrammes Prometheus sans identifiant de compte dans les tags")
+    void shouldExposePrometheusHistogramsWithoutAccountIds() throws Exception {
+        String accountId = createAccount("Compte Prometheus");
+
+        String scrape = mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertThat(scrape)
+                .contains("wealthwise_command_seconds_bucket")
+                .contains("wealthwise_repository_seconds_bucket")
+                .contains("wealthwise_mapper_seconds_bucket")
+                .contains("wealthwise_domain_events_total")
+                .doesNotContain(accountId);
+    }
+
+    private String createAccount(String name) throws Exception {
+        CreateAccountRequest request = new CreateAccountRequest(name, AccountType.CHECKING, Currency.EUR);
+
+        MvcResult result = mockMvc.perform(post("/api/accounts")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andReturn();
+
+        JsonNode response = objectMapper.readTree(result.getResponse().getContentAsString());
+        return response.get("id").asText();
+    }
+
+    private double accountCacheHits() {
+        return meterRegistry.get("cache.gets")
+                .tag("cache", "accounts")
+                .tag("result", "hit")
+                .functionCounter().count();
+    }
+
+    /**
+     * Lectures de compte arrivées jusqu'à l'adaptateur JPA (0 tant qu'il n'y en a eu aucune).
+     */
+    private long accountLoads() {
+        Timer timer = meterRegistry.find("wealthwise.repository")
+                .tag("repository", "JpaAccountRepositoryAdapter")
+                .tag("method", "findById")
+                .timer();
+        return timer == null ? 0 : timer.count();
+    }
+}
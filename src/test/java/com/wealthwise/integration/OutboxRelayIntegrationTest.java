@@ -0,0 +1,135 @@
+package com.wealthwise.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wealthwise.domain.account.event.AccountCreated;
+import com.wealthwise.domain.account.model.AccountType;
+import com.wealthwise.domain.shared.Currency;
+import com.wealthwise.infrastructure.persistence.jpa.SpringDataOutboxRepository;
+import com.wealthwise.presentation.dto.CreateAccountRequest;
+import com.wealthwise.unit.infrastructure.fake.InMemoryOutboxSink;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Tests d'intégration de l'outbox : les événements sont écrits dans la table
+ * outbox avec l'agrégat, puis relayés vers les sinks par l'OutboxRelay.
+ *
+ * Un InMemoryOutboxSink est ajouté au contexte pour observer ce qui est relayé.
+ * Base H2 dédiée : le relais d'un autre contexte de test (mis en cache par Spring)
+ * ne doit pas consommer les lignes de cette outbox.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:wealthwise-outbox-test;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;"
+                + "DEFAULT_NULL_ORDERING=HIGH;NON_KEYWORDS=MONTH",
+        "wealthwise.outbox.max-attempts=3"
+})
+@DisplayName("Outbox + relais - Tests d'intégration")
+class OutboxRelayIntegrationTest {
+
+    @TestConfiguration
+    static class SinkConfiguration {
+
+        @Bean
+        InMemoryOutboxSink inMemoryOutboxSink() {
+            return new InMemoryOutboxSink();
+        }
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private InMemoryOutboxSink sink;
+
+    @Autowired
+    private SpringDataOutboxRepository outboxRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        sink.clear();
+    }
+
+    @Test
+    @DisplayName("doit relayer l'événement d'un compte créé puis vider l'outbox")
+    void shouldRelayCommittedEventAndEmptyOutbox() throws Exception {
+        String accountId = createAccount("Compte Outbox");
+
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> {
+            assertThat(sink.received(AccountCreated.class))
+                    .anySatisfy(event -> assertThat(event.accountId().value().toString()).isEqualTo(accountId));
+            assertThat(outboxRepository.count()).isZero();
+        });
+
+        assertThat(meterRegistry.get("wealthwise.outbox.relayed").counter().count()).isPositive();
+    }
+
+    @Test
+    @DisplayName("doit relivrer un lot dont la livraison a échoué")
+    void shouldRedeliverAfterSinkFailure() throws Exception {
+        sink.failNextDeliveries(1);
+
+        String accountId = createAccount("Compte Relivré");
+
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+                assertThat(sink.received(AccountCreated.class))
+                        .anySatisfy(event -> assertThat(event.accountId().value().toString()).isEqualTo(accountId)));
+    }
+
+    @Test
+    @DisplayName("doit déplacer dans outbox_dead_letter un événement qui échoue à chaque livraison")
+    void shouldDeadLetterEventAfterMaxAttempts() throws Exception {
+        sink.failNextDeliveries(Integer.MAX_VALUE);
+
+        String accountId = createAccount("Compte Empoisonné");
+
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> {
+            assertThat(outboxRepository.countDeadLetters()).isPositive();
+            assertThat(outboxRepository.count()).isZero();
+        });
+        sink.failNextDeliveries(0);
+
+        assertThat(sink.received(AccountCreated.class))
+                .noneSatisfy(event -> assertThat(event.accountId().value().toString()).isEqualTo(accountId));
+        assertThat(meterRegistry.get("wealthwise.outbox.dead.letters").counter().count()).isPositive();
+    }
+
+    private String createAccount(String name) throws Exception {
+        CreateAccountRequest request = new CreateAccountRequest(name, AccountType.CHECKING, Currency.EUR);
+
+        MvcResult result = mockMvc.perform(post("/api/accounts")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andReturn();
+
+        JsonNode response = objectMapper.readTree(result.getResponse().getContentAsString());
+        return response.get("id").asText();
+    }
+}
@@ -0,0 +1,152 @@
+package com.wealthwise.integration;
+
+import com.wealthwise.domain.shared.UuidV7;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Plans d'exécution des recherches des ports de persistance, sur une base
+ * remplie (schéma des migrations Flyway) : chaque recherche doit passer par
+ * l'index prévu pour elle, jamais par un parcours complet de la table.
+ *
+ * Les requêtes sont celles que Spring Data dérive des noms de méthodes de
+ * SpringDataTransactionRepository et SpringDataBudgetRepository.
+ *
+ * Parcours complet : "tableScan" dans le plan H2, "Seq Scan" dans celui de
+ * PostgreSQL.
+ */
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("Plans d'exécution des ports de persistance - Tests d'intégration")
+class QueryPlanIntegrationTest {
+
+    private static final int ACCOUNTS = 20;
+    private static final int CATEGORIES = 10;
+    private static final int TRANSACTIONS = 6_000;
+    private static final YearMonth LAST_MONTH = YearMonth.of(2026, 3);
+    private static final int MONTHS = 12;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<UUID> accounts = new ArrayList<>();
+    private final List<UUID> categories = new ArrayList<>();
+
+    @BeforeAll
+    void seed() {
+        for (int i = 0; i < ACCOUNTS; i++) {
+            accounts.add(UuidV7.generate());
+        }
+        for (int i = 0; i < CATEGORIES; i++) {
+            categories.add(UuidV7.generate());
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        LocalDate firstDay = LAST_MONTH.minusMonths(MONTHS - 1).atDay(1);
+        List<Object[]> transactions = new ArrayList<>();
+        for (int i = 0; i < TRANSACTIONS; i++) {
+            transactions.add(new Object[]{
+                    UuidV7.generate(), accounts.get(i % ACCOUNTS), i % 500 + 1, "EUR", "Achat " + i,
+                    Date.valueOf(firstDay.plusDays(i % 365)), "EXPENSE", categories.get(i % CATEGORIES), "HIGH", now
+            });
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO transactions (id, account_id, amount, currency, description, date, type,
+                                          category_id, confidence_level, created_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+                """, transactions);
+
+        List<Object[]> budgets = new ArrayList<>();
+        for (UUID category : categories) {
+            for (int m = 0; m < MONTHS; m++) {
+                budgets.add(new Object[]{
+                        UuidV7.generate(), category, 500, "EUR", 0, LAST_MONTH.minusMonths(m).toString(), "ON_TRACK", now
+                });
+            }
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO budgets (id, category_id, limit_amount, currency, spent, period_month, status, created_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+                """, budgets);
+
+        // Statistiques à jour : le planificateur choisit d'après le volume réel
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @AfterAll
+    void cleanUp() {
+        for (UUID account : accounts) {
+            jdbcTemplate.update("DELETE FROM transactions WHERE account_id = ?", account);
+        }
+        for (UUID category : categories) {
+            jdbcTemplate.update("DELETE FROM budgets WHERE category_id = ?", category);
+        }
+    }
+
+    Stream<Arguments> portQueries() {
+        String account = "'" + accounts.get(3) + "'";
+        String category = "'" + categories.get(4) + "'";
+        return Stream.of(
+                Arguments.of("findByAccountIdAndDateBetween",
+                        "SELECT * FROM transactions WHERE account_id = " + account
+                                + " AND date BETWEEN DATE '2026-03-01' AND DATE '2026-03-31'",
+                        "idx_transactions_account_date_id"),
+                Arguments.of("findByCategoryId",
+                        "SELECT * FROM transactions WHERE category_id = " + category,
+                        "idx_transactions_category_date_id"),
+                Arguments.of("findByDateBetween",
+                        "SELECT * FROM transactions WHERE date BETWEEN DATE '2026-03-01' AND DATE '2026-03-31'",
+                        "idx_transactions_date_id"),
+                Arguments.of("findByCategoryIdAndPeriodMonth",
+                        "SELECT * FROM budgets WHERE category_id = " + category + " AND period_month = '2026-03'",
+                        "uq_budgets_category_period"),
+                Arguments.of("findByPeriodMonth",
+                        "SELECT * FROM budgets WHERE period_month = '2026-03'",
+                        "idx_budgets_period_category")
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("portQueries")
+    @DisplayName("doit passer par l'index prévu, sans parcours complet de la table")
+    void shouldUseIndexWithoutSequentialScan(String portMethod, String sql, String expectedIndex) {
+        String plan = explain(sql);
+
+        assertThat(plan)
+                .as("plan de %s", portMethod)
+                .doesNotContain("tablescan")
+                .doesNotContain("seq scan")
+                .contains(expectedIndex);
+    }
+
+    private String explain(String sql) {
+        return jdbcTemplate.queryForList("EXPLAIN " + sql).stream()
+                .map(Map::values)
+                .flatMap(values -> values.stream().map(String::valueOf))
+                .collect(Collectors.joining("\n"))
+                .toLowerCase(Locale.ROOT);
+    }
+}
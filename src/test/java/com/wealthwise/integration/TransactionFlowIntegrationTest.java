@@ -2,11 +2,16 @@ package com.wealthwise.integration;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wealthwise.application.command.CreateTransactionCommand;
+import com.wealthwise.application.command.CreateTransactionsBatchCommand;
+import com.wealthwise.application.command.CreateTransactionsBatchCommandHandler;
+import com.wealthwise.domain.account.model.AccountId;
 import com.wealthwise.domain.account.model.AccountType;
 import com.wealthwise.domain.shared.Currency;
 import com.wealthwise.domain.transaction.model.TransactionType;
 import com.wealthwise.presentation.dto.CreateAccountRequest;
 import com.wealthwise.presentation.dto.CreateTransactionRequest;
+import com.wealthwise.presentation.dto.CreateTransactionsBatchRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -18,7 +23,12 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -42,6 +52,9 @@ class TransactionFlowIntegrationTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private CreateTransactionsBatchCommandHandler batchHandler;
+
     private String accountId;
 
     /**
@@ -146,4 +159,149 @@ class TransactionFlowIntegrationTest {
                         .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isBadRequest());
     }
+
+    @Test
+    @DisplayName("POST /batch : doit créer toutes les lignes et retourner les identifiants")
+    void shouldCreateBatchAndReturnIds() throws Exception {
+        CreateTransactionsBatchRequest batch = new CreateTransactionsBatchRequest(List.of(
+                new CreateTransactionRequest(accountId, 2500.0, Currency.EUR,
+                        "Salaire", LocalDate.of(2026, 2, 1), TransactionType.INCOME),
+                new CreateTransactionRequest(accountId, 150.0, Currency.EUR,
+                        "Courses", LocalDate.of(2026, 2, 3), TransactionType.EXPENSE),
+                new CreateTransactionRequest(accountId, 50.0, Currency.EUR,
+                        "Essence", LocalDate.of(2026, 2, 4), TransactionType.EXPENSE)
+        ));
+
+        mockMvc.perform(post("/api/transactions/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(batch)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.count").value(3))
+                .andExpect(jsonPath("$.ids.length()").value(3));
+
+        // 2500 - 150 - 50 = 2300
+        mockMvc.perform(get("/api/accounts/" + accountId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.balance").value(2300.0));
+    }
+
+    @Test
+    @DisplayName("POST /batch : doit rejeter tout le lot si une ligne dépasse le solde")
+    void shouldRejectWholeBatchWhenInsufficientFunds() throws Exception {
+        CreateTransactionsBatchRequest batch = new CreateTransactionsBatchRequest(List.of(
+                new CreateTransactionRequest(accountId, 100.0, Currency.EUR,
+                        "Remboursement", LocalDate.of(2026, 2, 1), TransactionType.INCOME),
+                new CreateTransactionRequest(accountId, 500.0, Currency.EUR,
+                        "Dépense impossible", LocalDate.of(2026, 2, 2), TransactionType.EXPENSE)
+        ));
+
+        mockMvc.perform(post("/api/transactions/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(batch)))
+                .andExpect(status().isConflict());
+
+        // Rien n'a été appliqué, pas même la première ligne
+        mockMvc.perform(get("/api/accounts/" + accountId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.balance").value(0.0));
+    }
+
+    @Test
+    @DisplayName("lot : doit annuler les soldes si l'insertion des transactions échoue")
+    void shouldRollBackBalancesWhenInsertFails() throws Exception {
+        // Valide pour le domaine, trop longue pour la colonne (255) : l'INSERT échoue
+        CreateTransactionsBatchCommand batch = new CreateTransactionsBatchCommand(List.of(
+                new CreateTransactionCommand(AccountId.of(UUID.fromString(accountId)), 100.0, Currency.EUR,
+                        "Remboursement", LocalDate.of(2026, 2, 1), TransactionType.INCOME),
+                new CreateTransactionCommand(AccountId.of(UUID.fromString(accountId)), 10.0, Currency.EUR,
+                        "x".repeat(300), LocalDate.of(2026, 2, 2), TransactionType.INCOME)
+        ));
+
+        assertThatThrownBy(() -> batchHandler.handle(batch)).isInstanceOf(RuntimeException.class);
+
+        // Ni le solde (en base comme en cache), ni aucune transaction
+        mockMvc.perform(get("/api/accounts/" + accountId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.balance").value(0.0));
+        mockMvc.perform(get("/api/transactions").param("accountId", accountId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(0));
+    }
+
+    @Test
+    @DisplayName("GET : doit paginer par curseur sans doublon ni trou")
+    void shouldPaginateWithCursor() throws Exception {
+        // 5 transactions, dont deux le même jour : le départage se fait sur l'id
+        CreateTransactionsBatchRequest batch = new CreateTransactionsBatchRequest(List.of(
+                new CreateTransactionRequest(accountId, 10.0, Currency.EUR,
+                        "Un", LocalDate.of(2026, 3, 1), TransactionType.INCOME),
+                new CreateTransactionRequest(accountId, 20.0, Currency.EUR,
+                        "Deux", LocalDate.of(2026, 3, 2), TransactionType.INCOME),
+                new CreateTransactionRequest(accountId, 30.0, Currency.EUR,
+                        "Trois", LocalDate.of(2026, 3, 2), TransactionType.INCOME),
+                new CreateTransactionRequest(accountId, 40.0, Currency.EUR,
+                        "Quatre", LocalDate.of(2026, 3, 3), TransactionType.INCOME),
+                new CreateTransactionRequest(accountId, 50.0, Currency.EUR,
+                        "Cinq", LocalDate.of(2026, 3, 4), TransactionType.INCOME)
+        ));
+        mockMvc.perform(post("/api/transactions/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(batch)))
+                .andExpect(status().isCreated());
+
+        List<String> seen = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            var request = get("/api/transactions")
+                    .param("accountId", accountId)
+                    .param("limit", "2");
+            if (cursor != null) {
+                request.param("cursor", cursor);
+            }
+            JsonNode page = objectMapper.readTree(mockMvc.perform(request)
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString());
+
+            page.get("items").forEach(item -> seen.add(item.get("description").asText()));
+            cursor = page.get("nextCursor").isNull() ? null : page.get("nextCursor").asText();
+            pages++;
+        } while (cursor != null);
+
+        assertThat(pages).isEqualTo(3);
+        assertThat(seen).hasSize(5).doesNotHaveDuplicates();
+        assertThat(seen.get(0)).isEqualTo("Cinq");
+        assertThat(seen.get(4)).isEqualTo("Un");
+    }
+
+    @Test
+    @DisplayName("GET /totals : doit sommer tout l'historique, pas seulement la première page")
+    void shouldTotalWholeHistory() throws Exception {
+        List<CreateTransactionRequest> rows = new ArrayList<>();
+        for (int day = 1; day <= 28; day++) {
+            rows.add(new CreateTransactionRequest(accountId, 100.0, Currency.EUR,
+                    "Vente " + day, LocalDate.of(2026, 2, day), TransactionType.INCOME));
+            rows.add(new CreateTransactionRequest(accountId, 10.0, Currency.EUR,
+                    "Frais " + day, LocalDate.of(2026, 2, day), TransactionType.EXPENSE));
+        }
+        mockMvc.perform(post("/api/transactions/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CreateTransactionsBatchRequest(rows))))
+                .andExpect(status().isCreated());
+
+        // 56 transactions : plus qu'une page par défaut (50)
+        mockMvc.perform(get("/api/transactions/totals").param("accountId", accountId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].currency").value("EUR"))
+                .andExpect(jsonPath("$[0].income").value(2800.0))
+                .andExpect(jsonPath("$[0].expenses").value(280.0));
+    }
+
+    @Test
+    @DisplayName("GET : doit rejeter un curseur invalide")
+    void shouldRejectInvalidCursor() throws Exception {
+        mockMvc.perform(get("/api/transactions").param("cursor", "pas-un-curseur"))
+                .andExpect(status().isBadRequest());
+    }
 }
@@ -0,0 +1,136 @@
+package com.wealthwise.integration;
+
+import com.wealthwise.application.command.CreateAccountCommand;
+import com.wealthwise.application.command.CreateAccountCommandHandler;
+import com.wealthwise.application.command.CreateTransactionCommand;
+import com.wealthwise.application.command.CreateTransactionsBatchCommand;
+import com.wealthwise.application.command.CreateTransactionsBatchCommandHandler;
+import com.wealthwise.domain.account.model.AccountId;
+import com.wealthwise.domain.account.model.AccountType;
+import com.wealthwise.domain.shared.Currency;
+import com.wealthwise.domain.shared.Money;
+import com.wealthwise.domain.transaction.model.Transaction;
+import com.wealthwise.domain.transaction.model.TransactionType;
+import com.wealthwise.domain.transaction.port.TransactionRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Écritures de transactions : requêtes SQL préparées par transaction
+ * importée, comptées par les statistiques Hibernate.
+ *
+ * saveAllNew() persiste directement, sans le SELECT par ligne d'un merge
+ * (l'id est attribué par le domaine) : les INSERT partent par lots
+ * (hibernate.jdbc.batch_size), une fraction de requête par transaction.
+ *
+ * Le relais de l'outbox est mis en veille (intervalle d'une heure) pour que
+ * les projections ne comptent pas dans les statistiques.
+ *
+ * Les plafonds sont vérifiés dans la suite normale ; le relevé des ratios
+ * (tag "benchmark") ne tourne qu'avec mvn -Pbenchmark test.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "wealthwise.outbox.poll-interval-ms=3600000"
+})
+@DisplayName("Requêtes par transaction écrite")
+class TransactionInsertStatementsIntegrationTest {
+
+    private static final Logger log = LoggerFactory.getLogger(TransactionInsertStatementsIntegrationTest.class);
+
+    private static final int TRANSACTIONS = 1000;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private CreateTransactionsBatchCommandHandler batchHandler;
+
+    @Autowired
+    private CreateAccountCommandHandler createAccountHandler;
+
+    private Statistics statistics;
+    private AccountId accountId;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        accountId = createAccountHandler.handle(new CreateAccountCommand("Compte importé", AccountType.CHECKING, Currency.EUR));
+    }
+
+    @Test
+    @DisplayName("doit écrire les nouvelles transactions sans SELECT préalable, en INSERT groupés")
+    void shouldInsertNewTransactionsWithoutSelects() {
+        double inserted = statementsPerTransaction(transactions(), transactionRepository::saveAllNew);
+
+        assertThat(inserted).isLessThan(0.1);
+    }
+
+    @Test
+    @DisplayName("doit importer un lot en moins d'une requête par transaction")
+    void shouldImportABatchWithLessThanOneStatementPerTransaction() {
+        assertThat(statementsPerImportedTransaction()).isLessThan(1.0);
+    }
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("relevé des requêtes par transaction, par mode d'écriture")
+    void reportStatementsPerTransaction() {
+        double inserted = statementsPerTransaction(transactions(), transactionRepository::saveAllNew);
+        double imported = statementsPerImportedTransaction();
+
+        log.info("Insert benchmark ({} transactions)", TRANSACTIONS);
+        log.info("  saveAllNew (insert): {} statements / transaction", String.format("%.3f", inserted));
+        log.info("  batch import       : {} statements / transaction", String.format("%.3f", imported));
+    }
+
+    private double statementsPerImportedTransaction() {
+        List<CreateTransactionCommand> rows = new ArrayList<>();
+        for (int i = 0; i < TRANSACTIONS; i++) {
+            rows.add(new CreateTransactionCommand(
+                    accountId, 10, Currency.EUR, "Virement " + i, LocalDate.now(), TransactionType.INCOME
+            ));
+        }
+
+        statistics.clear();
+        batchHandler.handle(new CreateTransactionsBatchCommand(rows));
+        assertThat(statistics.getEntityInsertCount()).isGreaterThanOrEqualTo(TRANSACTIONS);
+        return (double) statistics.getPrepareStatementCount() / TRANSACTIONS;
+    }
+
+    private double statementsPerTransaction(List<Transaction> transactions, Consumer<List<Transaction>> write) {
+        statistics.clear();
+        write.accept(transactions);
+        assertThat(statistics.getEntityInsertCount()).isGreaterThanOrEqualTo(TRANSACTIONS);
+        return (double) statistics.getPrepareStatementCount() / TRANSACTIONS;
+    }
+
+    private List<Transaction> transactions() {
+        List<Transaction> transactions = new ArrayList<>();
+        for (int i = 0; i < TRANSACTIONS; i++) {
+            transactions.add(Transaction.create(
+                    accountId, Money.of(10, Currency.EUR), "Virement " + i, LocalDate.now(), TransactionType.INCOME
+            ));
+        }
+        return transactions;
+    }
+}
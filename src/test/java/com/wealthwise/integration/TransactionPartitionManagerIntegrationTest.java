@@ -0,0 +1,146 @@
+package com.wealthwise.integration;
+
+import com.wealthwise.infrastructure.persistence.partition.TransactionPartitionManager;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * SQL réel de TransactionPartitionManager, sur PostgreSQL (H2 ne connaît pas
+ * le partitionnement déclaratif).
+ *
+ * Le schéma est recréé avant chaque test par les migrations de production,
+ * partitionnement (db/vendor/postgresql/V3) compris. Ignoré sans Docker.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("Partitions mensuelles sur PostgreSQL - Tests d'intégration")
+class TransactionPartitionManagerIntegrationTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    /** Au-delà des partitions créées par V3 (mois courant + 3) : ses lignes tombent dans transactions_default. */
+    private static final YearMonth FAR_MONTH = YearMonth.now().plusYears(2);
+
+    private DriverManagerDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionPartitionManager manager;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource(
+                POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+        Flyway flyway = Flyway.configure()
+                .dataSource(dataSource)
+                // Le schéma d'archive (créé par V3) est vidé aussi entre deux tests
+                .schemas("public", "transactions_archive")
+                .locations("classpath:db/migration", "classpath:db/vendor/postgresql")
+                .cleanDisabled(false)
+                .load();
+        flyway.clean();
+        flyway.migrate();
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        manager = new TransactionPartitionManager(
+                jdbcTemplate, new DataSourceTransactionManager(dataSource), "transactions_archive", "");
+    }
+
+    @Test
+    @DisplayName("doit créer la partition d'un mois déjà présent dans la partition par défaut")
+    void shouldMoveDefaultRowsIntoNewPartition() {
+        insertTransaction(FAR_MONTH.atDay(10));
+        insertTransaction(FAR_MONTH.plusMonths(1).atDay(5));
+        assertThat(count("transactions_default")).isEqualTo(2);
+
+        List<YearMonth> created = manager.createPartitions(FAR_MONTH, FAR_MONTH.plusMonths(1));
+
+        assertThat(created).containsExactly(FAR_MONTH, FAR_MONTH.plusMonths(1));
+        assertThat(count("transactions_default")).isZero();
+        assertThat(count(TransactionPartitionManager.partitionName(FAR_MONTH))).isEqualTo(1);
+        assertThat(count(TransactionPartitionManager.partitionName(FAR_MONTH.plusMonths(1)))).isEqualTo(1);
+        assertThat(count("transactions")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("doit continuer avec les mois suivants quand un mois échoue")
+    void shouldKeepCreatingLaterMonthsAfterAFailure() {
+        // Table orpheline du même nom : la création de ce mois échoue
+        jdbcTemplate.execute("CREATE TABLE " + TransactionPartitionManager.partitionName(FAR_MONTH) + " (id integer)");
+        insertTransaction(FAR_MONTH.atDay(10));
+
+        List<YearMonth> created = manager.createPartitions(FAR_MONTH, FAR_MONTH.plusMonths(2));
+
+        assertThat(created).containsExactly(FAR_MONTH.plusMonths(1), FAR_MONTH.plusMonths(2));
+        assertThat(manager.partitions()).doesNotContain(FAR_MONTH);
+        // Échec annulé : la ligne est restée dans la partition par défaut
+        assertThat(count("transactions_default")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("doit archiver les partitions anciennes dans le schéma d'archive")
+    void shouldArchiveOldPartitions() {
+        YearMonth oldest = manager.partitions().get(0);
+
+        List<String> archived = manager.archivePartitionsBefore(oldest.plusMonths(1));
+
+        assertThat(archived).containsExactly("transactions_archive." + TransactionPartitionManager.partitionName(oldest));
+        assertThat(manager.partitions()).doesNotContain(oldest);
+    }
+
+    @Test
+    @DisplayName("doit créer le schéma d'archive configuré s'il n'existe pas")
+    void shouldCreateMissingArchiveSchema() {
+        jdbcTemplate.execute("DROP SCHEMA IF EXISTS cold_transactions CASCADE");
+        TransactionPartitionManager coldManager = new TransactionPartitionManager(
+                jdbcTemplate, new DataSourceTransactionManager(dataSource), "cold_transactions", "");
+        YearMonth oldest = manager.partitions().get(0);
+        String name = TransactionPartitionManager.partitionName(oldest);
+
+        List<String> archived = coldManager.archivePartitionsBefore(oldest.plusMonths(1));
+
+        assertThat(archived).containsExactly("cold_transactions." + name);
+        assertThat(count("cold_transactions." + name)).isZero();
+        jdbcTemplate.execute("DROP SCHEMA cold_transactions CASCADE");
+    }
+
+    @Test
+    @DisplayName("doit laisser attachée une partition dont l'archivage échoue et continuer avec les suivantes")
+    void shouldKeepArchivingLaterMonthsAfterAFailure() {
+        List<YearMonth> partitions = manager.partitions();
+        YearMonth first = partitions.get(0);
+        YearMonth second = partitions.get(1);
+        // Table du même nom déjà dans le schéma d'archive : SET SCHEMA échoue pour ce mois
+        jdbcTemplate.execute("CREATE TABLE transactions_archive." + TransactionPartitionManager.partitionName(first)
+                + " (id integer)");
+
+        List<String> archived = manager.archivePartitionsBefore(second.plusMonths(1));
+
+        assertThat(archived).containsExactly("transactions_archive." + TransactionPartitionManager.partitionName(second));
+        // Échec annulé : DETACH compris, la partition est toujours attachée
+        assertThat(manager.partitions()).contains(first).doesNotContain(second);
+    }
+
+    private void insertTransaction(LocalDate date) {
+        jdbcTemplate.update("""
+                INSERT INTO transactions (id, account_id, amount, currency, description, date, type, created_at)
+                VALUES (gen_random_uuid(), gen_random_uuid(), 10, 'EUR', 'Abonnement', ?, 'EXPENSE', now())
+                """, date);
+    }
+
+    private long count(String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+    }
+}
@@ -0,0 +1,120 @@
+package com.wealthwise.integration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Benchmark du stockage des identifiants : texte (VARCHAR(36)) contre
+ * binaire (uuid, 16 octets).
+ *
+ * Les deux représentations sont comparées sur deux tables de mesure
+ * identiques (même volume, mêmes index) : temps moyen d'une recherche par
+ * clé primaire et par compte.
+ *
+ * Sur PostgreSQL, la taille des index se mesure avec les requêtes données
+ * dans db/postgresql/migrate-ids-to-uuid.sql.
+ *
+ * Hors suite par défaut (tag "benchmark") : mvn -Pbenchmark test
+ */
+@SpringBootTest
+@Tag("benchmark")
+@DisplayName("Recherche par identifiant texte ou binaire - Benchmark")
+class UuidIdLookupIntegrationTest {
+
+    private static final Logger log = LoggerFactory.getLogger(UuidIdLookupIntegrationTest.class);
+
+    private static final int ROWS = 20_000;
+    private static final int ACCOUNTS = 200;
+    private static final int LOOKUPS = 5_000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void dropBenchmarkTables() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS id_bench_text");
+        jdbcTemplate.execute("DROP TABLE IF EXISTS id_bench_uuid");
+    }
+
+    @Test
+    @DisplayName("doit comparer les recherches par id texte et par id binaire")
+    void shouldCompareTextAndBinaryIdLookups() {
+        List<UUID> ids = new ArrayList<>(ROWS);
+        List<UUID> accounts = new ArrayList<>(ACCOUNTS);
+        for (int i = 0; i < ROWS; i++) {
+            ids.add(UUID.randomUUID());
+        }
+        for (int i = 0; i < ACCOUNTS; i++) {
+            accounts.add(UUID.randomUUID());
+        }
+
+        Lookups text = measure("id_bench_text", "VARCHAR(36)", ids, accounts, UUID::toString);
+        Lookups binary = measure("id_bench_uuid", "UUID", ids, accounts, id -> id);
+
+        assertThat(binary.rowsByAccount()).isEqualTo(text.rowsByAccount());
+
+        log.info("Id storage benchmark ({} rows, {} lookups)", ROWS, LOOKUPS);
+        log.info("  VARCHAR(36) : {} µs by id, {} µs by account",
+                String.format("%.2f", text.byIdMicros()), String.format("%.2f", text.byAccountMicros()));
+        log.info("  UUID        : {} µs by id, {} µs by account",
+                String.format("%.2f", binary.byIdMicros()), String.format("%.2f", binary.byAccountMicros()));
+    }
+
+    /**
+     * Remplit la table (clé primaire + index sur account_id), puis chronomètre
+     * LOOKUPS recherches de chaque sorte, après un tour de chauffe.
+     */
+    private Lookups measure(String table, String idType, List<UUID> ids, List<UUID> accounts,
+                            Function<UUID, Object> column) {
+        jdbcTemplate.execute("CREATE TABLE " + table + " (id " + idType + " PRIMARY KEY, account_id "
+                + idType + " NOT NULL, amount DECIMAL(19, 4) NOT NULL)");
+        jdbcTemplate.execute("CREATE INDEX " + table + "_account ON " + table + " (account_id)");
+
+        List<Object[]> rows = new ArrayList<>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            rows.add(new Object[]{column.apply(ids.get(i)), column.apply(accounts.get(i % accounts.size())), i});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO " + table + " (id, account_id, amount) VALUES (?, ?, ?)", rows);
+
+        String byId = "SELECT amount FROM " + table + " WHERE id = ?";
+        String byAccount = "SELECT COUNT(*) FROM " + table + " WHERE account_id = ?";
+
+        lookUp(byId, ids, column);
+        double byIdMicros = lookUp(byId, ids, column);
+        lookUp(byAccount, accounts, column);
+        double byAccountMicros = lookUp(byAccount, accounts, column);
+
+        Long rowsByAccount = jdbcTemplate.queryForObject(byAccount, Long.class, column.apply(accounts.get(0)));
+        return new Lookups(byIdMicros, byAccountMicros, rowsByAccount);
+    }
+
+    /**
+     * @return le temps moyen d'une recherche, en microsecondes
+     */
+    private double lookUp(String sql, List<UUID> keys, Function<UUID, Object> column) {
+        Random random = new Random(42);
+        long begin = System.nanoTime();
+        for (int i = 0; i < LOOKUPS; i++) {
+            jdbcTemplate.queryForList(sql, column.apply(keys.get(random.nextInt(keys.size()))));
+        }
+        return (System.nanoTime() - begin) / 1_000.0 / LOOKUPS;
+    }
+
+    private record Lookups(double byIdMicros, double byAccountMicros, Long rowsByAccount) {
+    }
+}
@@ -0,0 +1,44 @@
+package com.wealthwise.integration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Stockage des identifiants : le schéma réel doit utiliser le type binaire
+ * (uuid, 16 octets) pour les ids et les clés de jointure.
+ *
+ * La comparaison des recherches texte / binaire est dans
+ * UuidIdLookupIntegrationTest (tag "benchmark").
+ */
+@SpringBootTest
+@DisplayName("Stockage binaire des identifiants")
+class UuidIdStorageIntegrationTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("doit stocker les ids et les clés de jointure en UUID binaire")
+    void shouldStoreIdsAsBinaryUuids() {
+        assertThat(columnType("transactions", "id")).isEqualToIgnoringCase("UUID");
+        assertThat(columnType("transactions", "account_id")).isEqualToIgnoringCase("UUID");
+        assertThat(columnType("transactions", "category_id")).isEqualToIgnoringCase("UUID");
+        assertThat(columnType("accounts", "id")).isEqualToIgnoringCase("UUID");
+        assertThat(columnType("categories", "id")).isEqualToIgnoringCase("UUID");
+        assertThat(columnType("budgets", "category_id")).isEqualToIgnoringCase("UUID");
+    }
+
+    /**
+     * DATABASE_TO_LOWER (URL de test) : H2 rend le type en minuscules ("uuid").
+     */
+    private String columnType(String table, String column) {
+        return jdbcTemplate.queryForObject(
+                "SELECT DATA_TYPE FROM INFORMATION_SCHEMA.COLUMNS WHERE TABLE_NAME = ? AND COLUMN_NAME = ?",
+                String.class, table, column);
+    }
+}
@@ -0,0 +1,96 @@
+package com.wealthwise.integration;
+
+import com.wealthwise.domain.shared.UuidV7;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Benchmark d'insertion : clé primaire UUID aléatoire (v4) contre UUID
+ * ordonné dans le temps (v7), sur une table déjà volumineuse.
+ *
+ * Chaque table est d'abord remplie avec la même stratégie d'ids, puis on
+ * chronomètre l'insertion d'un lot supplémentaire. En v4, chaque ligne
+ * atterrit dans une page quelconque de l'index ; en v7, toujours en fin.
+ *
+ * Hors suite par défaut (tag "benchmark") : mvn -Pbenchmark test
+ *
+ * Volume par défaut réduit (H2 en mémoire). Pour la mesure de référence
+ * (10 millions de lignes), sur PostgreSQL :
+ *   mvn -Pbenchmark test -Dtest=UuidV7InsertIntegrationTest \
+ *       -Dwealthwise.benchmark.preloaded-rows=10000000 \
+ *       -Dspring.datasource.url=jdbc:postgresql://localhost:5432/wealthwise_bench ...
+ */
+@SpringBootTest
+@Tag("benchmark")
+@DisplayName("Insertion par UUID v4 / v7 - Benchmark")
+class UuidV7InsertIntegrationTest {
+
+    private static final Logger log = LoggerFactory.getLogger(UuidV7InsertIntegrationTest.class);
+
+    private static final int BATCH_SIZE = 10_000;
+    private static final int MEASURED_ROWS = 50_000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${wealthwise.benchmark.preloaded-rows:200000}")
+    private int preloadedRows;
+
+    @AfterEach
+    void dropBenchmarkTables() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS id_insert_v4");
+        jdbcTemplate.execute("DROP TABLE IF EXISTS id_insert_v7");
+    }
+
+    @Test
+    @DisplayName("doit comparer le débit d'insertion des ids aléatoires et ordonnés")
+    void shouldCompareInsertThroughput() {
+        double random = rowsPerSecond("id_insert_v4", UUID::randomUUID);
+        double ordered = rowsPerSecond("id_insert_v7", UuidV7::generate);
+
+        log.info("Id insert benchmark ({} preloaded rows, {} measured)", preloadedRows, MEASURED_ROWS);
+        log.info("  UUID v4 (random)  : {} rows/s", String.format("%,.0f", random));
+        log.info("  UUID v7 (ordered) : {} rows/s", String.format("%,.0f", ordered));
+    }
+
+    private double rowsPerSecond(String table, Supplier<UUID> ids) {
+        jdbcTemplate.execute("CREATE TABLE " + table + " (id UUID PRIMARY KEY, amount DECIMAL(19, 4) NOT NULL)");
+        for (int inserted = 0; inserted < preloadedRows; inserted += BATCH_SIZE) {
+            insert(table, ids, Math.min(BATCH_SIZE, preloadedRows - inserted));
+        }
+
+        long begin = System.nanoTime();
+        for (int inserted = 0; inserted < MEASURED_ROWS; inserted += BATCH_SIZE) {
+            insert(table, ids, Math.min(BATCH_SIZE, MEASURED_ROWS - inserted));
+        }
+        long nanos = System.nanoTime() - begin;
+
+        Long rows = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+        assertThat(rows).isEqualTo((long) preloadedRows + MEASURED_ROWS);
+        return MEASURED_ROWS / (nanos / (double) TimeUnit.SECONDS.toNanos(1));
+    }
+
+    private void insert(String table, Supplier<UUID> ids, int count) {
+        List<Object[]> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            rows.add(new Object[]{ids.get(), i});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO " + table + " (id, amount) VALUES (?, ?)", rows);
+    }
+}
@@ -0,0 +1,129 @@
+package com.wealthwise.unit.application;
+
+import com.wealthwise.application.command.CreateCategorizationRuleCommand;
+import com.wealthwise.application.command.CreateCategorizationRuleCommandHandler;
+import com.wealthwise.application.command.CreateTransactionCommand;
+import com.wealthwise.application.command.CreateTransactionsBatchCommand;
+import com.wealthwise.application.command.CreateTransactionsBatchCommandHandler;
+import com.wealthwise.application.usecase.AutoCategorizationUseCase;
+import com.wealthwise.domain.account.model.Account;
+import com.wealthwise.domain.account.model.AccountId;
+import com.wealthwise.domain.account.model.AccountType;
+import com.wealthwise.domain.category.model.Category;
+import com.wealthwise.domain.category.model.CategoryId;
+import com.wealthwise.domain.category.model.CategoryType;
+import com.wealthwise.domain.shared.Currency;
+import com.wealthwise.domain.shared.Money;
+import com.wealthwise.domain.transaction.model.ConfidenceLevel;
+import com.wealthwise.domain.transaction.model.Transaction;
+import com.wealthwise.domain.transaction.model.TransactionId;
+import com.wealthwise.domain.transaction.model.TransactionType;
+import com.wealthwise.unit.infrastructure.fake.InMemoryAccountRepository;
+import com.wealthwise.unit.infrastructure.fake.InMemoryCategorizationRuleRepository;
+import com.wealthwise.unit.infrastructure.fake.InMemoryCategoryRepository;
+import com.wealthwise.unit.infrastructure.fake.InMemoryTransactionRepository;
+import com.wealthwise.unit.infrastructure.fake.InMemoryUnitOfWork;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Use Case : AutoCategorization")
+class AutoCategorizationUseCaseTest {
+
+    private InMemoryCategorizationRuleRepository ruleRepository;
+    private InMemoryCategoryRepository categoryRepository;
+    private AutoCategorizationUseCase autoCategorization;
+    private CreateCategorizationRuleCommandHandler createRule;
+
+    private CategoryId food;
+    private CategoryId transport;
+
+    @BeforeEach
+    void setUp() {
+        ruleRepository = new InMemoryCategorizationRuleRepository();
+        categoryRepository = new InMemoryCategoryRepository();
+        autoCategorization = new AutoCategorizationUseCase(ruleRepository);
+        createRule = new CreateCategorizationRuleCommandHandler(ruleRepository, categoryRepository, autoCategorization);
+
+        food = saveCategory("Alimentation");
+        transport = saveCategory("Transport");
+    }
+
+    @Test
+    @DisplayName("doit appliquer une règle dès sa création")
+    void shouldApplyRuleAsSoonAsCreated() {
+        Transaction before = expense("CB MONOPRIX 04/03");
+        assertThat(autoCategorization.categorize(List.of(before))).isZero();
+
+        createRule.handle(new CreateCategorizationRuleCommand("Monoprix", food));
+        Transaction after = expense("CB MONOPRIX 05/03");
+
+        assertThat(autoCategorization.categorize(List.of(after))).isEqualTo(1);
+        assertThat(after.getCategoryId()).isEqualTo(food);
+        assertThat(after.getConfidenceLevel()).isEqualTo(ConfidenceLevel.HIGH);
+    }
+
+    @Test
+    @DisplayName("ne doit jamais écraser une catégorie déjà posée")
+    void shouldNotOverrideExistingCategory() {
+        createRule.handle(new CreateCategorizationRuleCommand("SNCF", transport));
+        Transaction manual = expense("SNCF BOUTIQUE GARE");
+        manual.categorize(food, ConfidenceLevel.MANUAL);
+
+        assertThat(autoCategorization.categorize(List.of(manual))).isZero();
+        assertThat(manual.getCategoryId()).isEqualTo(food);
+    }
+
+    @Test
+    @DisplayName("doit refuser une catégorie inexistante ou un mot-clé déjà pris")
+    void shouldRejectInvalidRules() {
+        createRule.handle(new CreateCategorizationRuleCommand("SNCF", transport));
+
+        assertThatThrownBy(() -> createRule.handle(new CreateCategorizationRuleCommand("Uber", CategoryId.generate())))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("not found");
+        assertThatThrownBy(() -> createRule.handle(new CreateCategorizationRuleCommand("sncf ", food)))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(ruleRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("doit catégoriser les lignes d'un lot avant leur sauvegarde")
+    void shouldCategorizeBatchBeforeSaving() {
+        createRule.handle(new CreateCategorizationRuleCommand("Navigo", transport));
+        InMemoryAccountRepository accountRepository = new InMemoryAccountRepository();
+        InMemoryTransactionRepository transactionRepository = new InMemoryTransactionRepository();
+        CreateTransactionsBatchCommandHandler batchHandler = new CreateTransactionsBatchCommandHandler(
+                transactionRepository, accountRepository, new InMemoryUnitOfWork(), autoCategorization);
+        Account account = Account.create("Courant", AccountType.CHECKING, Currency.EUR);
+        account.credit(Money.of(500, Currency.EUR));
+        accountRepository.save(account);
+
+        List<TransactionId> ids = batchHandler.handle(new CreateTransactionsBatchCommand(List.of(
+                new CreateTransactionCommand(account.getId(), 86.40, Currency.EUR, "PASS NAVIGO MARS",
+                        LocalDate.of(2026, 3, 1), TransactionType.EXPENSE),
+                new CreateTransactionCommand(account.getId(), 12.00, Currency.EUR, "Pharmacie",
+                        LocalDate.of(2026, 3, 2), TransactionType.EXPENSE)
+        )));
+
+        assertThat(transactionRepository.findById(ids.get(0)).orElseThrow().getCategoryId()).isEqualTo(transport);
+        assertThat(transactionRepository.findById(ids.get(1)).orElseThrow().isCategorized()).isFalse();
+    }
+
+    private CategoryId saveCategory(String name) {
+        Category category = Category.create(name, CategoryType.EXPENSE, "#27AE60", null);
+        categoryRepository.save(category);
+        return category.getId();
+    }
+
+    private static Transaction expense(String description) {
+        return Transaction.create(AccountId.generate(),
+                Money.of(10, Currency.EUR), description, LocalDate.of(2026, 3, 4), TransactionType.EXPENSE);
+    }
+}
@@ -0,0 +1,162 @@
+package com.wealthwise.unit.application;
+
+import com.wealthwise.application.projection.BudgetProjector;
+import com.wealthwise.domain.account.event.DomainEvent;
+import com.wealthwise.domain.account.model.AccountId;
+import com.wealthwise.domain.budget.model.Budget;
+import com.wealthwise.domain.budget.model.BudgetAllocation;
+import com.wealthwise.domain.budget.model.BudgetPeriod;
+import com.wealthwise.domain.budget.model.BudgetStatus;
+import com.wealthwise.domain.category.model.CategoryId;
+import com.wealthwise.domain.shared.Currency;
+import com.wealthwise.domain.shared.Money;
+import com.wealthwise.domain.transaction.model.ConfidenceLevel;
+import com.wealthwise.domain.transaction.model.Transaction;
+import com.wealthwise.domain.transaction.model.TransactionType;
+import com.wealthwise.unit.infrastructure.fake.InMemoryBudgetAllocationRepository;
+import com.wealthwise.unit.infrastructure.fake.InMemoryBudgetRepository;
+import com.wealthwise.unit.infrastructure.fake.InMemoryUnitOfWork;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Projection : BudgetProjector")
+class BudgetProjectorTest {
+
+    private static final CategoryId FOOD = CategoryId.generate();
+    private static final CategoryId TRANSPORT = CategoryId.generate();
+    private static final LocalDate FEB_10 = LocalDate.of(2026, 2, 10);
+    private static final BudgetPeriod FEB_2026 = BudgetPeriod.of(YearMonth.of(2026, 2));
+
+    private InMemoryBudgetRepository budgetRepository;
+    private InMemoryBudgetAllocationRepository allocationRepository;
+    private InMemoryUnitOfWork unitOfWork;
+    private BudgetProjector projector;
+
+    private Budget foodBudget;
+    private Budget transportBudget;
+
+    @BeforeEach
+    void setUp() {
+        budgetRepository = new InMemoryBudgetRepository();
+        allocationRepository = new InMemoryBudgetAllocationRepository();
+        unitOfWork = new InMemoryUnitOfWork();
+        projector = new BudgetProjector(budgetRepository, allocationRepository, unitOfWork);
+
+        foodBudget = budgetRepository.save(Budget.create(FOOD, Money.of(100, Currency.EUR), FEB_2026));
+        transportBudget = budgetRepository.save(Budget.create(TRANSPORT, Money.of(100, Currency.EUR), FEB_2026));
+    }
+
+    @Test
+    @DisplayName("doit imputer une dépense catégorisée au budget du mois")
+    void shouldRecordCategorizedExpense() {
+        Transaction tx = expense(85, FEB_10);
+
+        tx.categorize(FOOD, ConfidenceLevel.MANUAL);
+        projector.project(tx.getDomainEvents());
+
+        assertThat(spent(foodBudget)).isEqualByComparingTo("85");
+        assertThat(budgetRepository.findById(foodBudget.getId()).get().getStatus())
+                .isEqualTo(BudgetStatus.WARNING);
+    }
+
+    @Test
+    @DisplayName("doit déplacer le montant lors d'une re-catégorisation")
+    void shouldMoveAmountOnRecategorization() {
+        Transaction tx = expense(30, FEB_10);
+        tx.categorize(FOOD, ConfidenceLevel.LOW);
+        projector.project(tx.getDomainEvents());
+        tx.clearEvents();
+
+        tx.categorize(TRANSPORT, ConfidenceLevel.MANUAL);
+        projector.project(tx.getDomainEvents());
+
+        assertThat(spent(foodBudget)).isZero();
+        assertThat(spent(transportBudget)).isEqualByComparingTo("30");
+    }
+
+    @Test
+    @DisplayName("ne doit pas compter deux fois un événement rejoué")
+    void shouldIgnoreReplayedEvent() {
+        Transaction tx = expense(40, FEB_10);
+        tx.categorize(FOOD, ConfidenceLevel.MANUAL);
+        List<DomainEvent> events = List.copyOf(tx.getDomainEvents());
+
+        projector.project(events);
+        projector.project(events);
+
+        assertThat(spent(foodBudget)).isEqualByComparingTo("40");
+    }
+
+    @Test
+    @DisplayName("ne doit rien faire pour une re-catégorisation dans la même catégorie")
+    void shouldNotDoubleCountSameCategory() {
+        Transaction tx = expense(40, FEB_10);
+        tx.categorize(FOOD, ConfidenceLevel.LOW);
+        projector.project(tx.getDomainEvents());
+        tx.clearEvents();
+
+        tx.categorize(FOOD, ConfidenceLevel.MANUAL);
+        projector.project(tx.getDomainEvents());
+
+        assertThat(spent(foodBudget)).isEqualByComparingTo("40");
+    }
+
+    @Test
+    @DisplayName("doit ignorer les revenus et les mois sans budget")
+    void shouldIgnoreIncomeAndMonthsWithoutBudget() {
+        Transaction income = Transaction.create(AccountId.generate(), Money.of(500, Currency.EUR),
+                "Remboursement", FEB_10, TransactionType.INCOME);
+        income.categorize(FOOD, ConfidenceLevel.MANUAL);
+        Transaction march = expense(20, LocalDate.of(2026, 3, 1));
+        march.categorize(FOOD, ConfidenceLevel.MANUAL);
+
+        projector.project(income.getDomainEvents());
+        projector.project(march.getDomainEvents());
+
+        assertThat(spent(foodBudget)).isZero();
+        // La dépense de mars est tout de même enregistrée (sans budget) pour l'idempotence
+        assertThat(allocationRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("doit écrire les deltas des budgets et le registre dans la même unité de travail")
+    void shouldWriteBudgetsAndAllocationInOneUnitOfWork() {
+        List<Boolean> allocationsInUnit = new ArrayList<>();
+        InMemoryBudgetAllocationRepository recording = new InMemoryBudgetAllocationRepository() {
+            @Override
+            public BudgetAllocation save(BudgetAllocation allocation) {
+                allocationsInUnit.add(unitOfWork.isActive());
+                return super.save(allocation);
+            }
+        };
+        projector = new BudgetProjector(budgetRepository, recording, unitOfWork);
+        Transaction tx = expense(30, FEB_10);
+
+        tx.categorize(FOOD, ConfidenceLevel.HIGH);
+        tx.categorize(TRANSPORT, ConfidenceLevel.MANUAL);
+        projector.project(tx.getDomainEvents());
+
+        assertThat(unitOfWork.executions()).isEqualTo(2);
+        assertThat(allocationsInUnit).containsExactly(true, true);
+        assertThat(spent(foodBudget)).isEqualByComparingTo(BigDecimal.ZERO);
+        assertThat(spent(transportBudget)).isEqualByComparingTo(BigDecimal.valueOf(30));
+    }
+
+    private Transaction expense(double amount, LocalDate date) {
+        return Transaction.create(AccountId.generate(), Money.of(amount, Currency.EUR),
+                "Dépense", date, TransactionType.EXPENSE);
+    }
+
+    private BigDecimal spent(Budget budget) {
+        return budgetRepository.findById(budget.getId()).get().getSpent().amount();
+    }
+}
@@ -0,0 +1,91 @@
+package com.wealthwise.unit.application;
+
+import com.wealthwise.application.projection.CategorizationLearner;
+import com.wealthwise.application.usecase.AutoCategorizationUseCase;
+import com.wealthwise.domain.account.model.AccountId;
+import com.wealthwise.domain.category.model.CategoryId;
+import com.wealthwise.domain.shared.Currency;
+import com.wealthwise.domain.shared.Money;
+import com.wealthwise.domain.transaction.event.TransactionCategorized;
+import com.wealthwise.domain.transaction.model.ConfidenceLevel;
+import com.wealthwise.domain.transaction.model.Transaction;
+import com.wealthwise.domain.transaction.model.TransactionType;
+import com.wealthwise.unit.infrastructure.fake.InMemoryCategorizationModelStore;
+import com.wealthwise.unit.infrastructure.fake.InMemoryCategorizationRuleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Projection : CategorizationLearner")
+class CategorizationLearnerTest {
+
+    private static final CategoryId FOOD = CategoryId.generate();
+
+    private InMemoryCategorizationModelStore modelStore;
+    private CategorizationLearner learner;
+
+    @BeforeEach
+    void setUp() {
+        modelStore = new InMemoryCategorizationModelStore();
+        learner = new CategorizationLearner(modelStore);
+    }
+
+    @Test
+    @DisplayName("doit apprendre des seules catégorisations manuelles")
+    void shouldLearnFromManualCategorizationsOnly() {
+        learner.onEvents(List.of(
+                categorized("CB PICARD SURGELES", ConfidenceLevel.MANUAL),
+                categorized("CB GRAND FRAIS", ConfidenceLevel.HIGH)));
+
+        assertThat(learner.exampleCount()).isEqualTo(1);
+        assertThat(learner.predict("PICARD")).isPresent();
+        assertThat(learner.predict("GRAND FRAIS")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("doit servir de repli à l'AutoCategorizationUseCase sans règle")
+    void shouldBackRulesUp() {
+        learner.onEvents(List.of(
+                categorized("CB PICARD SURGELES", ConfidenceLevel.MANUAL),
+                categorized("CB PICARD 0412", ConfidenceLevel.MANUAL),
+                categorized("PICARD PARIS 11", ConfidenceLevel.MANUAL)));
+        AutoCategorizationUseCase autoCategorization =
+                new AutoCategorizationUseCase(new InMemoryCategorizationRuleRepository(), learner);
+
+        Transaction tx = Transaction.create(AccountId.generate(), Money.of(23.90, Currency.EUR),
+                "CB PICARD 15/03", LocalDate.of(2026, 3, 15), TransactionType.EXPENSE);
+
+        assertThat(autoCategorization.categorize(List.of(tx))).isEqualTo(1);
+        assertThat(tx.getCategoryId()).isEqualTo(FOOD);
+        assertThat(tx.getConfidenceLevel()).isEqualTo(ConfidenceLevel.HIGH);
+    }
+
+    @Test
+    @DisplayName("doit sauvegarder le modèle s'il a changé et le restaurer")
+    void shouldSnapshotAndRestore() {
+        learner.saveSnapshot();
+        assertThat(modelStore.saveCalls()).isZero();
+
+        learner.onEvents(List.of(categorized("CB PICARD SURGELES", ConfidenceLevel.MANUAL)));
+        learner.saveSnapshot();
+        learner.saveSnapshot();
+        assertThat(modelStore.saveCalls()).isEqualTo(1);
+
+        CategorizationLearner restarted = new CategorizationLearner(modelStore);
+        restarted.restore();
+        assertThat(restarted.exampleCount()).isEqualTo(1);
+        assertThat(restarted.predict("PICARD")).isPresent();
+    }
+
+    private static TransactionCategorized categorized(String description, ConfidenceLevel confidence) {
+        Transaction tx = Transaction.create(AccountId.generate(), Money.of(10, Currency.EUR),
+                description, LocalDate.of(2026, 3, 1), TransactionType.EXPENSE);
+        tx.categorize(FOOD, confidence);
+        return (TransactionCategorized) tx.getDomainEvents().get(1);
+    }
+}
@@ -40,7 +40,7 @@ class CategorizeTransactionCommandHandlerTest {
 
         // Créer une transaction de test
         testTransaction = Transaction.create(
-                AccountId.of("acc-1"), Money.of(42, Currency.EUR),
+                AccountId.generate(), Money.of(42, Currency.EUR),
                 "Courses", LocalDate.now(), TransactionType.EXPENSE
         );
         transactionRepository.save(testTransaction);
@@ -69,7 +69,7 @@ class CategorizeTransactionCommandHandlerTest {
     @DisplayName("doit rejeter si la transaction n'existe pas")
     void shouldRejectUnknownTransaction() {
         CategorizeTransactionCommand command = new CategorizeTransactionCommand(
-                com.wealthwise.domain.transaction.model.TransactionId.of("unknown"),
+                com.wealthwise.domain.transaction.model.TransactionId.generate(),
                 foodCategory.getId(), ConfidenceLevel.MANUAL
         );
 
@@ -82,7 +82,7 @@ class CategorizeTransactionCommandHandlerTest {
     @DisplayName("doit rejeter si la catégorie n'existe pas")
     void shouldRejectUnknownCategory() {
         CategorizeTransactionCommand command = new CategorizeTransactionCommand(
-                testTransaction.getId(), CategoryId.of("unknown"), ConfidenceLevel.MANUAL
+                testTransaction.getId(), CategoryId.generate(), ConfidenceLevel.MANUAL
         );
 
         assertThatThrownBy(() -> handler.handle(command))
@@ -63,7 +63,7 @@ class CreateBudgetCommandHandlerTest {
     @DisplayName("doit rejeter si la catégorie n'existe pas")
     void shouldRejectUnknownCategory() {
         CreateBudgetCommand command = new CreateBudgetCommand(
-                CategoryId.of("unknown"), 500, Currency.EUR, YearMonth.of(2026, 2)
+                CategoryId.generate(), 500, Currency.EUR, YearMonth.of(2026, 2)
         );
 
         assertThatThrownBy(() -> handler.handle(command))
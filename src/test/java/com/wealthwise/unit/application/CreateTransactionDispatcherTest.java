@@ -0,0 +1,245 @@
+package com.wealthwise.unit.application;
+
+import com.wealthwise.application.command.CreateTransactionCommand;
+import com.wealthwise.application.command.CreateTransactionDispatcher;
+import com.wealthwise.application.command.CreateTransactionsBatchCommandHandler;
+import com.wealthwise.domain.account.model.Account;
+import com.wealthwise.domain.account.model.AccountId;
+import com.wealthwise.domain.account.model.AccountType;
+import com.wealthwise.domain.shared.ConcurrencyConflictException;
+import com.wealthwise.domain.shared.Currency;
+import com.wealthwise.domain.transaction.model.TransactionId;
+import com.wealthwise.domain.transaction.model.TransactionType;
+import com.wealthwise.unit.infrastructure.fake.InMemoryAccountRepository;
+import com.wealthwise.unit.infrastructure.fake.InMemoryTransactionRepository;
+import com.wealthwise.unit.infrastructure.fake.InMemoryUnitOfWork;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests du dispatcher par voies : ordre par compte, regroupement,
+ * résultat propre à chaque commande, règles du compte (solde, compte
+ * clôturé, devise) et rejeu après un conflit de version.
+ *
+ * Un seul compte par test : les fakes en mémoire ne sont pas thread-safe,
+ * et un compte n'est jamais traité que par un seul thread.
+ */
+@DisplayName("CreateTransactionDispatcher")
+class CreateTransactionDispatcherTest {
+
+    private InMemoryAccountRepository accountRepository;
+    private InMemoryTransactionRepository transactionRepository;
+    private InMemoryUnitOfWork unitOfWork;
+    private CreateTransactionDispatcher dispatcher;
+
+    private Account account;
+
+    @BeforeEach
+    void setUp() {
+        accountRepository = new InMemoryAccountRepository();
+        transactionRepository = new InMemoryTransactionRepository();
+        unitOfWork = new InMemoryUnitOfWork();
+        CreateTransactionsBatchCommandHandler batchHandler =
+                new CreateTransactionsBatchCommandHandler(transactionRepository, accountRepository, unitOfWork);
+        dispatcher = new CreateTransactionDispatcher(batchHandler, 4, 64, 16, 3);
+
+        account = Account.create("Carte du foyer", AccountType.CHECKING, Currency.EUR);
+        accountRepository.save(account);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.close();
+    }
+
+    @Test
+    @DisplayName("doit appliquer les commandes d'un compte dans l'ordre d'arrivée")
+    void shouldKeepPerAccountOrder() {
+        // Chaque dépense n'est possible que si le revenu qui la précède est déjà passé
+        List<CompletableFuture<TransactionId>> results = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            results.add(dispatcher.submit(command(100, TransactionType.INCOME)));
+            results.add(dispatcher.submit(command(100, TransactionType.EXPENSE)));
+        }
+
+        results.forEach(CompletableFuture::join);
+
+        assertThat(transactionRepository.count()).isEqualTo(400);
+        assertThat(balance()).isEqualByComparingTo(BigDecimal.ZERO);
+    }
+
+    @Test
+    @DisplayName("doit faire échouer seulement la commande rejetée par le domaine")
+    void shouldFailOnlyTheRejectedCommand() {
+        CompletableFuture<TransactionId> income = dispatcher.submit(command(50, TransactionType.INCOME));
+        CompletableFuture<TransactionId> tooBig = dispatcher.submit(command(80, TransactionType.EXPENSE));
+        CompletableFuture<TransactionId> expense = dispatcher.submit(command(30, TransactionType.EXPENSE));
+
+        assertThat(income.join()).isNotNull();
+        assertThat(expense.join()).isNotNull();
+        assertThatThrownBy(tooBig::join)
+                .hasCauseInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Insufficient");
+
+        assertThat(balance()).isEqualByComparingTo(BigDecimal.valueOf(20));
+    }
+
+    @Test
+    @DisplayName("doit débiter le compte d'une dépense et le créditer d'un revenu")
+    void shouldDebitExpenseAndCreditIncome() {
+        dispatcher.handle(command(1000, TransactionType.INCOME));
+
+        dispatcher.handle(command(42.50, TransactionType.EXPENSE));
+
+        assertThat(transactionRepository.count()).isEqualTo(2);
+        assertThat(balance()).isEqualByComparingTo("957.50");
+    }
+
+    @Test
+    @DisplayName("doit rejeter une dépense supérieure au solde sans rien persister")
+    void shouldRejectInsufficientFunds() {
+        assertThatThrownBy(() -> dispatcher.handle(command(5000, TransactionType.EXPENSE)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Insufficient");
+
+        assertThat(transactionRepository.count()).isZero();
+        assertThat(balance()).isEqualByComparingTo(BigDecimal.ZERO);
+    }
+
+    @Test
+    @DisplayName("doit rejeter une transaction sur un compte clôturé")
+    void shouldRejectClosedAccount() {
+        Account closed = Account.create("Ancien livret", AccountType.SAVINGS, Currency.EUR);
+        closed.close();
+        accountRepository.save(closed);
+
+        assertThatThrownBy(() -> dispatcher.handle(new CreateTransactionCommand(
+                closed.getId(), 10, Currency.EUR, "Virement", LocalDate.now(), TransactionType.INCOME)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("closed");
+
+        assertThat(transactionRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("doit rejeter une transaction dans une autre devise que celle du compte")
+    void shouldRejectCurrencyMismatch() {
+        assertThatThrownBy(() -> dispatcher.handle(new CreateTransactionCommand(
+                account.getId(), 10, Currency.USD, "Carte", LocalDate.now(), TransactionType.INCOME)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("currency");
+
+        assertThat(transactionRepository.count()).isZero();
+        assertThat(balance()).isEqualByComparingTo(BigDecimal.ZERO);
+    }
+
+    @Test
+    @DisplayName("doit rejeter une description vide")
+    void shouldRejectBlankDescription() {
+        assertThatThrownBy(() -> dispatcher.handle(new CreateTransactionCommand(
+                account.getId(), 10, Currency.EUR, "", LocalDate.now(), TransactionType.INCOME)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("description");
+    }
+
+    @Test
+    @DisplayName("doit relancer l'exception du domaine en mode synchrone")
+    void shouldRethrowDomainExceptionWhenSynchronous() {
+        CreateTransactionCommand unknown = new CreateTransactionCommand(
+                AccountId.generate(), 10, Currency.EUR,
+                "Test", LocalDate.now(), TransactionType.INCOME
+        );
+
+        assertThatThrownBy(() -> dispatcher.handle(unknown))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("not found");
+    }
+
+    @Test
+    @DisplayName("doit rejouer le lot après un conflit de version")
+    void shouldReplayBatchAfterConflict() {
+        accountRepository.rejectNextSaves(2);
+
+        TransactionId id = dispatcher.handle(command(75, TransactionType.INCOME));
+
+        assertThat(id).isNotNull();
+        assertThat(transactionRepository.count()).isEqualTo(1);
+        assertThat(balance()).isEqualByComparingTo(BigDecimal.valueOf(75));
+        assertThat(dispatcher.conflictRetries()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("doit abandonner après le nombre maximal de tentatives sans rien persister")
+    void shouldGiveUpAfterMaxAttempts() {
+        accountRepository.rejectNextSaves(3);
+
+        assertThatThrownBy(() -> dispatcher.handle(command(75, TransactionType.INCOME)))
+                .isInstanceOf(ConcurrencyConflictException.class);
+
+        assertThat(transactionRepository.count()).isZero();
+        assertThat(balance()).isEqualByComparingTo(BigDecimal.ZERO);
+        // 3 tentatives : 2 rejeux, pas de 4e essai
+        assertThat(dispatcher.conflictRetries()).isEqualTo(2);
+        assertThat(unitOfWork.executions()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("doit sérialiser les écritures d'un compte soumises depuis plusieurs threads")
+    void shouldSerializeWritesOfOneAccount() throws InterruptedException {
+        int threads = 8;
+        int perThread = 50;
+        List<CompletableFuture<TransactionId>> results = new CopyOnWriteArrayList<>();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService submitters = Executors.newFixedThreadPool(threads);
+        for (int t = 0; t < threads; t++) {
+            submitters.execute(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < perThread; i++) {
+                    results.add(dispatcher.submit(command(1, TransactionType.INCOME)));
+                }
+            });
+        }
+
+        start.countDown();
+        submitters.shutdown();
+        assertThat(submitters.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        results.forEach(CompletableFuture::join);
+
+        assertThat(transactionRepository.count()).isEqualTo(threads * perThread);
+        assertThat(balance()).isEqualByComparingTo(BigDecimal.valueOf(threads * perThread));
+        // Une seule voie pour le compte : jamais deux lots en même temps, donc jamais de conflit
+        assertThat(unitOfWork.maxConcurrentExecutions()).isEqualTo(1);
+        assertThat(dispatcher.conflictRetries()).isZero();
+    }
+
+    private CreateTransactionCommand command(double amount, TransactionType type) {
+        return new CreateTransactionCommand(
+                account.getId(), amount, Currency.EUR, "Carte", LocalDate.now(), type
+        );
+    }
+
+    private BigDecimal balance() {
+        return accountRepository.findById(account.getId()).orElseThrow().getBalance().money().amount();
+    }
+}
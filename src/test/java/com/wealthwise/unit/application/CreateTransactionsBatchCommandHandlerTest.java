@@ -0,0 +1,157 @@
+package com.wealthwise.unit.application;
+
+import com.wealthwise.application.command.CreateTransactionCommand;
+import com.wealthwise.application.command.CreateTransactionsBatchCommand;
+import com.wealthwise.application.command.CreateTransactionsBatchCommandHandler;
+import com.wealthwise.domain.account.model.Account;
+import com.wealthwise.domain.account.model.AccountId;
+import com.wealthwise.domain.account.model.AccountType;
+import com.wealthwise.domain.shared.Currency;
+import com.wealthwise.domain.shared.Money;
+import com.wealthwise.domain.transaction.model.Transaction;
+import com.wealthwise.domain.transaction.model.TransactionId;
+import com.wealthwise.domain.transaction.model.TransactionType;
+import com.wealthwise.unit.infrastructure.fake.InMemoryAccountRepository;
+import com.wealthwise.unit.infrastructure.fake.InMemoryTransactionRepository;
+import com.wealthwise.unit.infrastructure.fake.InMemoryUnitOfWork;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Use Case : CreateTransactionsBatch")
+class CreateTransactionsBatchCommandHandlerTest {
+
+    private InMemoryAccountRepository accountRepository;
+    private InMemoryTransactionRepository transactionRepository;
+    private InMemoryUnitOfWork unitOfWork;
+    private CreateTransactionsBatchCommandHandler handler;
+
+    private Account checking;
+    private Account savings;
+
+    @BeforeEach
+    void setUp() {
+        accountRepository = new InMemoryAccountRepository();
+        transactionRepository = new InMemoryTransactionRepository();
+        unitOfWork = new InMemoryUnitOfWork();
+        handler = new CreateTransactionsBatchCommandHandler(transactionRepository, accountRepository, unitOfWork);
+
+        checking = Account.create("Courant", AccountType.CHECKING, Currency.EUR);
+        checking.credit(Money.of(100, Currency.EUR));
+        checking.clearEvents();
+        accountRepository.save(checking);
+
+        savings = Account.create("Livret A", AccountType.SAVINGS, Currency.EUR);
+        accountRepository.save(savings);
+    }
+
+    @Test
+    @DisplayName("doit créer toutes les lignes et mettre à jour chaque compte")
+    void shouldCreateAllRowsAndUpdateEachAccount() {
+        CreateTransactionsBatchCommand command = new CreateTransactionsBatchCommand(List.of(
+                row(checking.getId(), 2500, "Salaire", TransactionType.INCOME),
+                row(checking.getId(), 42.50, "Courses", TransactionType.EXPENSE),
+                row(savings.getId(), 300, "Virement épargne", TransactionType.INCOME)
+        ));
+
+        List<TransactionId> ids = handler.handle(command);
+
+        assertThat(ids).hasSize(3).doesNotHaveDuplicates();
+        assertThat(transactionRepository.count()).isEqualTo(3);
+
+        // 100 + 2500 - 42.50 = 2557.50
+        assertThat(accountRepository.findById(checking.getId()).get().getBalance().money().amount())
+                .isEqualByComparingTo(BigDecimal.valueOf(2557.50));
+        assertThat(accountRepository.findById(savings.getId()).get().getBalance().money().amount())
+                .isEqualByComparingTo(BigDecimal.valueOf(300));
+    }
+
+    @Test
+    @DisplayName("doit appliquer les lignes d'un compte dans l'ordre du lot")
+    void shouldApplyRowsInOrder() {
+        // Le salaire arrive avant la grosse dépense : le débit doit passer
+        CreateTransactionsBatchCommand command = new CreateTransactionsBatchCommand(List.of(
+                row(checking.getId(), 1000, "Salaire", TransactionType.INCOME),
+                row(checking.getId(), 900, "Loyer", TransactionType.EXPENSE)
+        ));
+
+        handler.handle(command);
+
+        assertThat(accountRepository.findById(checking.getId()).get().getBalance().money().amount())
+                .isEqualByComparingTo(BigDecimal.valueOf(200));
+    }
+
+    @Test
+    @DisplayName("ne doit rien persister si une ligne est invalide")
+    void shouldPersistNothingWhenOneRowIsInvalid() {
+        CreateTransactionsBatchCommand command = new CreateTransactionsBatchCommand(List.of(
+                row(checking.getId(), 50, "Courses", TransactionType.EXPENSE),
+                row(checking.getId(), 10, "", TransactionType.EXPENSE)
+        ));
+
+        assertThatThrownBy(() -> handler.handle(command))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("description");
+
+        assertThat(transactionRepository.count()).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("doit rejeter le lot si un compte n'existe pas")
+    void shouldRejectUnknownAccount() {
+        CreateTransactionsBatchCommand command = new CreateTransactionsBatchCommand(List.of(
+                row(checking.getId(), 50, "Courses", TransactionType.EXPENSE),
+                row(AccountId.generate(), 10, "Test", TransactionType.INCOME)
+        ));
+
+        assertThatThrownBy(() -> handler.handle(command))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("not found");
+
+        assertThat(transactionRepository.count()).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("doit persister les comptes et les transactions dans une seule unité de travail")
+    void shouldPersistAccountsAndTransactionsInOneUnitOfWork() {
+        List<Boolean> insertedInUnit = new ArrayList<>();
+        InMemoryTransactionRepository recording = new InMemoryTransactionRepository() {
+            @Override
+            public List<Transaction> saveAllNew(List<Transaction> transactions) {
+                insertedInUnit.add(unitOfWork.isActive());
+                return super.saveAllNew(transactions);
+            }
+        };
+        handler = new CreateTransactionsBatchCommandHandler(recording, accountRepository, unitOfWork);
+
+        handler.handle(new CreateTransactionsBatchCommand(List.of(
+                row(checking.getId(), 50, "Courses", TransactionType.EXPENSE),
+                row(savings.getId(), 300, "Virement épargne", TransactionType.INCOME)
+        )));
+
+        assertThat(unitOfWork.executions()).isEqualTo(1);
+        assertThat(insertedInUnit).containsExactly(true);
+    }
+
+    @Test
+    @DisplayName("doit rejeter un lot vide")
+    void shouldRejectEmptyBatch() {
+        assertThatThrownBy(() -> handler.handle(new CreateTransactionsBatchCommand(List.of())))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private CreateTransactionCommand row(AccountId accountId, double amount,
+                                         String description, TransactionType type) {
+        return new CreateTransactionCommand(
+                accountId, amount, Currency.EUR, description, LocalDate.of(2026, 2, 1), type
+        );
+    }
+}
@@ -0,0 +1,99 @@
+package com.wealthwise.unit.application;
+
+import com.wealthwise.application.projection.MonthlySummaryProjector;
+import com.wealthwise.application.query.GetMonthlyReportQuery;
+import com.wealthwise.application.query.GetMonthlyReportQueryHandler;
+import com.wealthwise.application.query.MonthlyReport;
+import com.wealthwise.domain.account.model.Account;
+import com.wealthwise.domain.account.model.AccountId;
+import com.wealthwise.domain.account.model.AccountType;
+import com.wealthwise.domain.category.model.CategoryId;
+import com.wealthwise.domain.shared.Currency;
+import com.wealthwise.domain.shared.Money;
+import com.wealthwise.domain.transaction.model.ConfidenceLevel;
+import com.wealthwise.domain.transaction.model.Transaction;
+import com.wealthwise.domain.transaction.model.TransactionType;
+import com.wealthwise.unit.infrastructure.fake.InMemoryAccountRepository;
+import com.wealthwise.unit.infrastructure.fake.InMemoryMonthlySummaryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Query Handler : GetMonthlyReportQueryHandler")
+class GetMonthlyReportQueryHandlerTest {
+
+    private static final CategoryId FOOD = CategoryId.generate();
+    private static final CategoryId RENT = CategoryId.generate();
+    private static final LocalDate FEB_10 = LocalDate.of(2026, 2, 10);
+    private static final YearMonth FEB_2026 = YearMonth.of(2026, 2);
+
+    private MonthlySummaryProjector projector;
+    private GetMonthlyReportQueryHandler handler;
+    private AccountId accountId;
+
+    @BeforeEach
+    void setUp() {
+        InMemoryAccountRepository accountRepository = new InMemoryAccountRepository();
+        InMemoryMonthlySummaryRepository summaryRepository = new InMemoryMonthlySummaryRepository();
+        projector = new MonthlySummaryProjector(summaryRepository);
+        handler = new GetMonthlyReportQueryHandler(summaryRepository, accountRepository);
+
+        Account account = Account.create("Courant", AccountType.CHECKING, Currency.EUR);
+        accountRepository.save(account);
+        accountId = account.getId();
+    }
+
+    @Test
+    @DisplayName("doit totaliser revenus, dépenses et détailler par catégorie")
+    void shouldBuildReportFromSummary() {
+        record(2_500, TransactionType.INCOME, null, FEB_10);
+        record(800, TransactionType.EXPENSE, RENT, FEB_10);
+        record(120.40, TransactionType.EXPENSE, FOOD, FEB_10);
+        record(35.10, TransactionType.EXPENSE, FOOD, FEB_10);
+        // Autre mois : ne doit pas apparaître
+        record(999, TransactionType.EXPENSE, FOOD, LocalDate.of(2026, 3, 1));
+
+        MonthlyReport report = handler.handle(new GetMonthlyReportQuery(accountId, FEB_2026));
+
+        assertThat(report.totalIncome().amount()).isEqualByComparingTo("2500");
+        assertThat(report.totalExpense().amount()).isEqualByComparingTo("955.50");
+        assertThat(report.net().amount()).isEqualByComparingTo("1544.50");
+        assertThat(report.transactionCount()).isEqualTo(4);
+        assertThat(report.categories())
+                .extracting(MonthlyReport.CategoryLine::categoryId)
+                .containsExactly(null, RENT, FOOD);
+        assertThat(report.categories().get(2).transactionCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("doit rendre un rapport vide pour un mois sans transaction")
+    void shouldReturnEmptyReport() {
+        MonthlyReport report = handler.handle(new GetMonthlyReportQuery(accountId, FEB_2026));
+
+        assertThat(report.totalIncome().isZero()).isTrue();
+        assertThat(report.totalExpense().isZero()).isTrue();
+        assertThat(report.categories()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("doit refuser un compte inexistant")
+    void shouldRejectUnknownAccount() {
+        assertThatThrownBy(() -> handler.handle(new GetMonthlyReportQuery(AccountId.generate(), FEB_2026)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("not found");
+    }
+
+    private void record(double amount, TransactionType type, CategoryId categoryId, LocalDate date) {
+        Transaction tx = Transaction.create(accountId, Money.of(amount, Currency.EUR), "Opération", date, type);
+        if (categoryId != null) {
+            tx.categorize(categoryId, ConfidenceLevel.MANUAL);
+        }
+        projector.project(tx.getDomainEvents());
+    }
+}
@@ -0,0 +1,93 @@
+package com.wealthwise.unit.application;
+
+import com.wealthwise.application.query.GetSpendingTrendQuery;
+import com.wealthwise.application.query.GetSpendingTrendQueryHandler;
+import com.wealthwise.application.query.TrendAnalysis;
+import com.wealthwise.domain.account.model.AccountId;
+import com.wealthwise.domain.analytics.model.TrendDimension;
+import com.wealthwise.domain.category.model.CategoryId;
+import com.wealthwise.domain.shared.Currency;
+import com.wealthwise.domain.shared.Money;
+import com.wealthwise.domain.transaction.model.ConfidenceLevel;
+import com.wealthwise.domain.transaction.model.Transaction;
+import com.wealthwise.domain.transaction.model.TransactionType;
+import com.wealthwise.infrastructure.analytics.ColumnarTransactionIndex;
+import com.wealthwise.unit.infrastructure.fake.InMemoryTransactionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Query Handler : GetSpendingTrendQueryHandler")
+class GetSpendingTrendQueryHandlerTest {
+
+    private static final AccountId ACCOUNT = AccountId.generate();
+    private static final CategoryId FOOD = CategoryId.generate();
+    private static final CategoryId RENT = CategoryId.generate();
+    private static final YearMonth JAN = YearMonth.of(2026, 1);
+    private static final YearMonth MAR = YearMonth.of(2026, 3);
+
+    private ColumnarTransactionIndex index;
+    private GetSpendingTrendQueryHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        index = new ColumnarTransactionIndex(new InMemoryTransactionRepository(), 100, 16);
+        handler = new GetSpendingTrendQueryHandler(index);
+    }
+
+    @Test
+    @DisplayName("doit totaliser et trier les catégories du plus gros montant au plus petit")
+    void shouldSortCategoriesByTotal() {
+        record(120.40, FOOD, LocalDate.of(2026, 1, 10));
+        record(800, RENT, LocalDate.of(2026, 2, 1));
+        record(35.10, FOOD, LocalDate.of(2026, 3, 4));
+
+        TrendAnalysis analysis = handler.handle(query(JAN, MAR, TrendDimension.CATEGORY));
+
+        assertThat(analysis.total().amount()).isEqualByComparingTo("955.50");
+        assertThat(analysis.transactionCount()).isEqualTo(3);
+        assertThat(analysis.points())
+                .extracting(TrendAnalysis.TrendPoint::key)
+                .containsExactly(RENT.value().toString(), FOOD.value().toString());
+        assertThat(analysis.points().get(1).total().amount()).isEqualByComparingTo("155.50");
+    }
+
+    @Test
+    @DisplayName("doit garder les mois dans l'ordre chronologique")
+    void shouldKeepMonthsInOrder() {
+        record(800, RENT, LocalDate.of(2026, 1, 1));
+        record(10, FOOD, LocalDate.of(2026, 3, 1));
+
+        TrendAnalysis analysis = handler.handle(query(JAN, MAR, TrendDimension.MONTH));
+
+        assertThat(analysis.points())
+                .extracting(TrendAnalysis.TrendPoint::key)
+                .containsExactly("2026-01", "2026-02", "2026-03");
+    }
+
+    @Test
+    @DisplayName("doit refuser une période inversée ou trop longue")
+    void shouldRejectInvalidRange() {
+        assertThatThrownBy(() -> handler.handle(query(MAR, JAN, TrendDimension.MONTH)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> handler.handle(query(JAN, JAN.plusMonths(120), TrendDimension.MONTH)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("120 months");
+    }
+
+    private GetSpendingTrendQuery query(YearMonth from, YearMonth to, TrendDimension groupBy) {
+        return new GetSpendingTrendQuery(from, to, groupBy, TransactionType.EXPENSE, Currency.EUR, null, null);
+    }
+
+    private void record(double amount, CategoryId categoryId, LocalDate date) {
+        Transaction tx = Transaction.create(ACCOUNT, Money.of(amount, Currency.EUR), "Opération", date, TransactionType.EXPENSE);
+        tx.categorize(categoryId, ConfidenceLevel.MANUAL);
+        index.onEvents(tx.getDomainEvents());
+    }
+}
@@ -0,0 +1,164 @@
+package com.wealthwise.unit.application;
+
+import com.wealthwise.application.command.CreateTransactionsBatchCommandHandler;
+import com.wealthwise.application.usecase.ImportBankStatementCommand;
+import com.wealthwise.application.usecase.ImportBankStatementUseCase;
+import com.wealthwise.application.usecase.ImportReport;
+import com.wealthwise.application.usecase.StatementFormat;
+import com.wealthwise.domain.account.model.Account;
+import com.wealthwise.domain.account.model.AccountId;
+import com.wealthwise.domain.account.model.AccountType;
+import com.wealthwise.domain.shared.Currency;
+import com.wealthwise.domain.transaction.model.Transaction;
+import com.wealthwise.infrastructure.parser.CsvBankStatementParser;
+import com.wealthwise.infrastructure.parser.OfxBankStatementParser;
+import com.wealthwise.unit.infrastructure.fake.InMemoryAccountRepository;
+import com.wealthwise.unit.infrastructure.fake.InMemoryTransactionRepository;
+import com.wealthwise.unit.infrastructure.fake.InMemoryUnitOfWork;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Use Case : ImportBankStatement")
+class ImportBankStatementUseCaseTest {
+
+    private static final int CHUNK_SIZE = 3;
+
+    private InMemoryAccountRepository accountRepository;
+    private RecordingTransactionRepository transactionRepository;
+    private ImportBankStatementUseCase useCase;
+
+    private Account account;
+
+    @BeforeEach
+    void setUp() {
+        accountRepository = new InMemoryAccountRepository();
+        transactionRepository = new RecordingTransactionRepository();
+        useCase = new ImportBankStatementUseCase(
+                List.of(new CsvBankStatementParser(), new OfxBankStatementParser()),
+                new CreateTransactionsBatchCommandHandler(transactionRepository, accountRepository, new InMemoryUnitOfWork()),
+                accountRepository,
+                CHUNK_SIZE
+        );
+
+        account = Account.create("Courant", AccountType.CHECKING, Currency.EUR);
+        accountRepository.save(account);
+    }
+
+    @Test
+    @DisplayName("doit importer toutes les lignes d'un CSV valide")
+    void shouldImportValidCsv() {
+        String csv = """
+                date;libellé;montant
+                2026-01-01;Salaire;2500,00
+                2026-01-05;Loyer;-800,00
+                2026-01-06;Courses;-42,50
+                """;
+
+        ImportReport report = useCase.handle(command(StatementFormat.CSV, csv));
+
+        assertThat(report.totalRows()).isEqualTo(3);
+        assertThat(report.importedRows()).isEqualTo(3);
+        assertThat(report.rejectedRows()).isZero();
+        assertThat(transactionRepository.count()).isEqualTo(3);
+        // 2500 - 800 - 42.50 = 1657.50
+        assertThat(accountRepository.findById(account.getId()).get().getBalance().money().amount())
+                .isEqualByComparingTo(BigDecimal.valueOf(1657.50));
+    }
+
+    @Test
+    @DisplayName("doit rapporter les lignes invalides sans interrompre l'import")
+    void shouldReportInvalidRowsAndContinue() {
+        String csv = """
+                2026-01-01;Salaire;100
+                pas-une-date;Oups;10
+                2026-01-02;Gros achat;-5000
+                2026-01-03;Café;-2,50
+                """;
+
+        ImportReport report = useCase.handle(command(StatementFormat.CSV, csv));
+
+        assertThat(report.totalRows()).isEqualTo(4);
+        assertThat(report.importedRows()).isEqualTo(2);
+        assertThat(report.rejectedRows()).isEqualTo(2);
+        // Ligne 2 : erreur de lecture ; ligne 3 : fonds insuffisants (règle métier)
+        assertThat(report.rejections())
+                .extracting(ImportReport.RowRejection::rowNumber)
+                .containsExactly(2L, 3L);
+        assertThat(report.rejections().get(1).reason()).contains("Insufficient");
+        assertThat(accountRepository.findById(account.getId()).get().getBalance().money().amount())
+                .isEqualByComparingTo(BigDecimal.valueOf(97.50));
+    }
+
+    @Test
+    @DisplayName("ne doit jamais persister plus d'un paquet à la fois")
+    void shouldPersistByChunks() {
+        StringBuilder csv = new StringBuilder();
+        for (int i = 1; i <= 10; i++) {
+            csv.append("2026-01-01;Versement ").append(i).append(";10\n");
+        }
+
+        ImportReport report = useCase.handle(command(StatementFormat.CSV, csv.toString()));
+
+        assertThat(report.importedRows()).isEqualTo(10);
+        assertThat(transactionRepository.saveAllNewCalls).isEqualTo(4); // 3 + 3 + 3 + 1
+        assertThat(transactionRepository.largestBatch).isEqualTo(CHUNK_SIZE);
+    }
+
+    @Test
+    @DisplayName("doit importer un relevé OFX")
+    void shouldImportOfx() {
+        String ofx = """
+                OFXHEADER:100
+                <OFX><BANKMSGSRSV1><STMTTRNRS><STMTRS><BANKTRANLIST>
+                <STMTTRN><TRNTYPE>CREDIT<DTPOSTED>20260101<TRNAMT>1200.00<NAME>Salaire</STMTTRN>
+                <STMTTRN><TRNTYPE>DEBIT<DTPOSTED>20260103<TRNAMT>-200.00<NAME>Electricité</STMTTRN>
+                </BANKTRANLIST></STMTRS></STMTTRNRS></BANKMSGSRSV1></OFX>
+                """;
+
+        ImportReport report = useCase.handle(command(StatementFormat.OFX, ofx));
+
+        assertThat(report.importedRows()).isEqualTo(2);
+        assertThat(accountRepository.findById(account.getId()).get().getBalance().money().amount())
+                .isEqualByComparingTo(BigDecimal.valueOf(1000));
+    }
+
+    @Test
+    @DisplayName("doit rejeter l'import vers un compte inexistant")
+    void shouldRejectUnknownAccount() {
+        ImportBankStatementCommand command = new ImportBankStatementCommand(
+                AccountId.generate(), Currency.EUR, StatementFormat.CSV,
+                new StringReader("2026-01-01;Salaire;100\n")
+        );
+
+        assertThatThrownBy(() -> useCase.handle(command))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("not found");
+    }
+
+    private ImportBankStatementCommand command(StatementFormat format, String content) {
+        return new ImportBankStatementCommand(account.getId(), Currency.EUR, format, new StringReader(content));
+    }
+
+    /**
+     * Fake qui mesure la taille des lots reçus, pour vérifier le découpage en paquets.
+     */
+    private static final class RecordingTransactionRepository extends InMemoryTransactionRepository {
+        int saveAllNewCalls;
+        int largestBatch;
+
+        @Override
+        public List<Transaction> saveAllNew(List<Transaction> transactions) {
+            saveAllNewCalls++;
+            largestBatch = Math.max(largestBatch, transactions.size());
+            return super.saveAllNew(transactions);
+        }
+    }
+}
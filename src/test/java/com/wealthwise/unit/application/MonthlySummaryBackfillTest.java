@@ -0,0 +1,66 @@
+package com.wealthwise.unit.application;
+
+import com.wealthwise.application.projection.MonthlySummaryBackfill;
+import com.wealthwise.application.projection.MonthlySummaryProjector;
+import com.wealthwise.domain.account.model.AccountId;
+import com.wealthwise.domain.analytics.model.MonthlySummary;
+import com.wealthwise.domain.analytics.model.MonthlySummaryKey;
+import com.wealthwise.domain.shared.Currency;
+import com.wealthwise.domain.shared.Money;
+import com.wealthwise.domain.transaction.model.Transaction;
+import com.wealthwise.domain.transaction.model.TransactionType;
+import com.wealthwise.unit.infrastructure.fake.InMemoryMonthlySummaryRepository;
+import com.wealthwise.unit.infrastructure.fake.InMemoryTransactionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Projection : MonthlySummaryBackfill")
+class MonthlySummaryBackfillTest {
+
+    private static final AccountId ACCOUNT = AccountId.generate();
+
+    private InMemoryTransactionRepository transactionRepository;
+    private InMemoryMonthlySummaryRepository summaryRepository;
+    private MonthlySummaryBackfill backfill;
+
+    @BeforeEach
+    void setUp() {
+        transactionRepository = new InMemoryTransactionRepository();
+        summaryRepository = new InMemoryMonthlySummaryRepository();
+        // Pages de 2 : plusieurs pages et une dernière incomplète
+        backfill = new MonthlySummaryBackfill(transactionRepository, new MonthlySummaryProjector(summaryRepository), 2);
+    }
+
+    @Test
+    @DisplayName("doit compter toutes les transactions existantes, page par page")
+    void shouldBackfillEveryPage() {
+        for (int day = 1; day <= 5; day++) {
+            transactionRepository.save(Transaction.create(ACCOUNT, Money.of(10, Currency.EUR), "Courses",
+                    LocalDate.of(2026, 3, day), TransactionType.EXPENSE));
+        }
+
+        long added = backfill.run();
+
+        assertThat(added).isEqualTo(5);
+        MonthlySummary row = summaryRepository.findByKey(
+                new MonthlySummaryKey(ACCOUNT, YearMonth.of(2026, 3), null, TransactionType.EXPENSE)).orElseThrow();
+        assertThat(row.getTotal().amount()).isEqualByComparingTo("50");
+        assertThat(row.getTransactionCount()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("ne doit rien ajouter au second passage")
+    void shouldBeIdempotent() {
+        transactionRepository.save(Transaction.create(ACCOUNT, Money.of(10, Currency.EUR), "Courses",
+                LocalDate.of(2026, 3, 1), TransactionType.EXPENSE));
+        backfill.run();
+
+        assertThat(backfill.run()).isZero();
+    }
+}
@@ -0,0 +1,156 @@
+package com.wealthwise.unit.application;
+
+import com.wealthwise.application.projection.MonthlySummaryProjector;
+import com.wealthwise.domain.account.event.DomainEvent;
+import com.wealthwise.domain.account.model.AccountId;
+import com.wealthwise.domain.analytics.model.MonthlySummary;
+import com.wealthwise.domain.analytics.model.MonthlySummaryKey;
+import com.wealthwise.domain.category.model.CategoryId;
+import com.wealthwise.domain.shared.Currency;
+import com.wealthwise.domain.shared.Money;
+import com.wealthwise.domain.transaction.model.ConfidenceLevel;
+import com.wealthwise.domain.transaction.model.Transaction;
+import com.wealthwise.domain.transaction.model.TransactionType;
+import com.wealthwise.unit.infrastructure.fake.InMemoryMonthlySummaryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Projection : MonthlySummaryProjector")
+class MonthlySummaryProjectorTest {
+
+    private static final AccountId ACCOUNT = AccountId.generate();
+    private static final CategoryId FOOD = CategoryId.generate();
+    private static final CategoryId TRANSPORT = CategoryId.generate();
+    private static final LocalDate FEB_10 = LocalDate.of(2026, 2, 10);
+    private static final YearMonth FEB_2026 = YearMonth.of(2026, 2);
+
+    private InMemoryMonthlySummaryRepository repository;
+    private MonthlySummaryProjector projector;
+
+    @BeforeEach
+    void setUp() {
+        repository = new InMemoryMonthlySummaryRepository();
+        projector = new MonthlySummaryProjector(repository);
+    }
+
+    @Test
+    @DisplayName("doit compter une transaction créée dans la ligne non catégorisée du mois")
+    void shouldCountCreatedTransactionAsUncategorized() {
+        Transaction tx = expense(42.50);
+
+        projector.project(tx.getDomainEvents());
+
+        MonthlySummary row = row(null, TransactionType.EXPENSE);
+        assertThat(row.getTotal().amount()).isEqualByComparingTo("42.50");
+        assertThat(row.getTransactionCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("doit déplacer le montant vers la catégorie puis lors d'une re-catégorisation")
+    void shouldMoveAmountBetweenCategories() {
+        Transaction tx = expense(30);
+        projector.project(tx.getDomainEvents());
+        tx.clearEvents();
+
+        tx.categorize(FOOD, ConfidenceLevel.LOW);
+        projector.project(tx.getDomainEvents());
+        tx.clearEvents();
+        tx.categorize(TRANSPORT, ConfidenceLevel.MANUAL);
+        projector.project(tx.getDomainEvents());
+
+        assertThat(row(null, TransactionType.EXPENSE).getTransactionCount()).isZero();
+        assertThat(row(FOOD, TransactionType.EXPENSE).getTransactionCount()).isZero();
+        assertThat(row(TRANSPORT, TransactionType.EXPENSE).getTotal().amount()).isEqualByComparingTo("30");
+        assertThat(row(TRANSPORT, TransactionType.EXPENSE).getTransactionCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("doit ignorer des événements rejoués")
+    void shouldIgnoreReplayedEvents() {
+        Transaction tx = expense(12);
+        tx.categorize(FOOD, ConfidenceLevel.HIGH);
+        List<DomainEvent> events = List.copyOf(tx.getDomainEvents());
+
+        projector.project(events);
+        projector.project(events);
+
+        assertThat(row(FOOD, TransactionType.EXPENSE).getTotal().amount()).isEqualByComparingTo("12");
+        assertThat(row(FOOD, TransactionType.EXPENSE).getTransactionCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("doit agréger un lot d'événements en une seule écriture")
+    void shouldAggregateBatchInSingleWrite() {
+        List<DomainEvent> events = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            Transaction tx = expense(1);
+            tx.categorize(FOOD, ConfidenceLevel.HIGH);
+            events.addAll(tx.getDomainEvents());
+        }
+
+        projector.project(events);
+
+        assertThat(repository.saveCalls()).isEqualTo(1);
+        assertThat(repository.rowCount()).isEqualTo(2);
+        assertThat(row(FOOD, TransactionType.EXPENSE).getTotal().amount()).isEqualByComparingTo("1000");
+        assertThat(row(FOOD, TransactionType.EXPENSE).getTransactionCount()).isEqualTo(1_000);
+    }
+
+    @Test
+    @DisplayName("doit séparer revenus et dépenses")
+    void shouldSeparateIncomeAndExpense() {
+        projector.project(expense(40).getDomainEvents());
+        projector.project(Transaction.create(
+                ACCOUNT, Money.of(2_000, Currency.EUR), "Salaire", FEB_10, TransactionType.INCOME).getDomainEvents());
+
+        assertThat(row(null, TransactionType.EXPENSE).getTotal().amount()).isEqualByComparingTo("40");
+        assertThat(row(null, TransactionType.INCOME).getTotal().amount()).isEqualByComparingTo("2000");
+    }
+
+    @Test
+    @DisplayName("doit rattraper une transaction jamais projetée dans sa catégorie actuelle")
+    void shouldBackfillTransactionInItsCurrentCategory() {
+        Transaction tx = expense(25);
+        tx.categorize(FOOD, ConfidenceLevel.MANUAL);
+        List<DomainEvent> pendingEvents = List.copyOf(tx.getDomainEvents());
+
+        int added = projector.backfill(List.of(tx), LocalDateTime.now());
+        // Événements encore dans l'outbox : déjà reflétés par l'état lu
+        projector.project(pendingEvents);
+
+        assertThat(added).isEqualTo(1);
+        assertThat(row(FOOD, TransactionType.EXPENSE).getTotal().amount()).isEqualByComparingTo("25");
+        assertThat(row(FOOD, TransactionType.EXPENSE).getTransactionCount()).isEqualTo(1);
+        assertThat(repository.findByKey(new MonthlySummaryKey(ACCOUNT, FEB_2026, null, TransactionType.EXPENSE)))
+                .isEmpty();
+    }
+
+    @Test
+    @DisplayName("ne doit pas rattraper une transaction déjà projetée")
+    void shouldNotBackfillProjectedTransaction() {
+        Transaction tx = expense(25);
+        projector.project(tx.getDomainEvents());
+
+        int added = projector.backfill(List.of(tx), LocalDateTime.now());
+
+        assertThat(added).isZero();
+        assertThat(row(null, TransactionType.EXPENSE).getTransactionCount()).isEqualTo(1);
+    }
+
+    private Transaction expense(double amount) {
+        return Transaction.create(ACCOUNT, Money.of(amount, Currency.EUR), "Courses", FEB_10, TransactionType.EXPENSE);
+    }
+
+    private MonthlySummary row(CategoryId categoryId, TransactionType type) {
+        return repository.findByKey(new MonthlySummaryKey(ACCOUNT, FEB_2026, categoryId, type)).orElseThrow();
+    }
+}
@@ -0,0 +1,135 @@
+package com.wealthwise.unit.application;
+
+import com.wealthwise.application.command.RecategorizeByRuleCommand;
+import com.wealthwise.application.command.RecategorizeByRuleCommandHandler;
+import com.wealthwise.application.command.RecategorizeByRuleCommandHandler.Progress;
+import com.wealthwise.domain.account.model.AccountId;
+import com.wealthwise.domain.categorization.model.CategorizationRule;
+import com.wealthwise.domain.categorization.model.CategorizationRuleId;
+import com.wealthwise.domain.category.model.CategoryId;
+import com.wealthwise.domain.shared.Currency;
+import com.wealthwise.domain.shared.Money;
+import com.wealthwise.domain.transaction.event.TransactionCategorized;
+import com.wealthwise.domain.transaction.model.ConfidenceLevel;
+import com.wealthwise.domain.transaction.model.Transaction;
+import com.wealthwise.domain.transaction.model.TransactionType;
+import com.wealthwise.unit.infrastructure.fake.InMemoryCategorizationRuleRepository;
+import com.wealthwise.unit.infrastructure.fake.InMemoryTransactionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Use Case : RecategorizeByRule")
+class RecategorizeByRuleCommandHandlerTest {
+
+    private static final CategoryId GROCERIES = CategoryId.generate();
+    private static final CategoryId SHOPPING = CategoryId.generate();
+    private static final CategoryId LEISURE = CategoryId.generate();
+
+    private InMemoryTransactionRepository transactionRepository;
+    private InMemoryCategorizationRuleRepository ruleRepository;
+    private RecategorizeByRuleCommandHandler handler;
+
+    private CategorizationRule carrefour;
+
+    @BeforeEach
+    void setUp() {
+        transactionRepository = new InMemoryTransactionRepository();
+        ruleRepository = new InMemoryCategorizationRuleRepository();
+        handler = new RecategorizeByRuleCommandHandler(transactionRepository, ruleRepository, 2);
+
+        carrefour = ruleRepository.save(CategorizationRule.create("Carrefour", GROCERIES));
+        ruleRepository.save(CategorizationRule.create("Carrefour Voyages", LEISURE));
+    }
+
+    @Test
+    @DisplayName("doit recatégoriser par paquets les transactions que la règle désigne")
+    void shouldRecategorizeMatchingTransactionsInChunks() {
+        Transaction uncategorized = expense("CB CARREFOUR MARKET", 1);
+        Transaction wrongCategory = expense("CB CARREFOUR CITY", 2, SHOPPING, ConfidenceLevel.MEDIUM);
+        Transaction manual = expense("CB CARREFOUR 0412", 3, SHOPPING, ConfidenceLevel.MANUAL);
+        Transaction otherRule = expense("CARREFOUR VOYAGES ROME", 4);
+        Transaction unrelated = expense("CB MONOPRIX", 5);
+        List<Progress> progress = new ArrayList<>();
+
+        Progress result = handler.handle(new RecategorizeByRuleCommand(carrefour.getId(), null, 100), progress::add);
+
+        assertThat(result.completed()).isTrue();
+        assertThat(result.scanned()).isEqualTo(5);
+        assertThat(result.recategorized()).isEqualTo(2);
+        assertThat(progress).extracting(Progress::scanned).containsExactly(2L, 4L, 5L);
+
+        assertThat(uncategorized.getCategoryId()).isEqualTo(GROCERIES);
+        assertThat(uncategorized.getConfidenceLevel()).isEqualTo(ConfidenceLevel.HIGH);
+        assertThat(wrongCategory.getCategoryId()).isEqualTo(GROCERIES);
+        assertThat(manual.getCategoryId()).isEqualTo(SHOPPING);
+        assertThat(otherRule.isCategorized()).isFalse();
+        assertThat(unrelated.isCategorized()).isFalse();
+    }
+
+    @Test
+    @DisplayName("doit émettre TransactionCategorized avec l'ancienne catégorie")
+    void shouldEmitCategorizedEvents() {
+        Transaction transaction = expense("CB CARREFOUR CITY", 1, SHOPPING, ConfidenceLevel.LOW);
+        transaction.clearEvents();
+
+        handler.handle(new RecategorizeByRuleCommand(carrefour.getId(), null, 100));
+
+        assertThat(transaction.getDomainEvents())
+                .singleElement()
+                .isInstanceOfSatisfying(TransactionCategorized.class, event -> {
+                    assertThat(event.categoryId()).isEqualTo(GROCERIES);
+                    assertThat(event.previousCategoryId()).isEqualTo(SHOPPING);
+                });
+    }
+
+    @Test
+    @DisplayName("doit s'arrêter à la limite et reprendre au curseur rendu")
+    void shouldResumeFromReturnedCursor() {
+        for (int day = 1; day <= 5; day++) {
+            expense("CB CARREFOUR MARKET", day);
+        }
+
+        Progress first = handler.handle(new RecategorizeByRuleCommand(carrefour.getId(), null, 3));
+        assertThat(first.completed()).isFalse();
+        assertThat(first.recategorized()).isEqualTo(3);
+
+        Progress second = handler.handle(new RecategorizeByRuleCommand(carrefour.getId(), first.resumeAfter(), 3));
+        assertThat(second.completed()).isTrue();
+        assertThat(second.scanned()).isEqualTo(2);
+        assertThat(second.recategorized()).isEqualTo(2);
+
+        // Relancer depuis le début ne refait rien
+        Progress again = handler.handle(new RecategorizeByRuleCommand(carrefour.getId(), null, 100));
+        assertThat(again.recategorized()).isZero();
+    }
+
+    @Test
+    @DisplayName("doit rejeter une règle inexistante")
+    void shouldRejectUnknownRule() {
+        RecategorizeByRuleCommand command = new RecategorizeByRuleCommand(CategorizationRuleId.generate(), null, 100);
+
+        assertThatThrownBy(() -> handler.handle(command))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("not found");
+    }
+
+    private Transaction expense(String description, int day) {
+        Transaction transaction = Transaction.create(AccountId.generate(), Money.of(25, Currency.EUR),
+                description, LocalDate.of(2026, 3, day), TransactionType.EXPENSE);
+        return transactionRepository.save(transaction);
+    }
+
+    private Transaction expense(String description, int day, CategoryId categoryId, ConfidenceLevel confidence) {
+        Transaction transaction = expense(description, day);
+        transaction.categorize(categoryId, confidence);
+        return transaction;
+    }
+}
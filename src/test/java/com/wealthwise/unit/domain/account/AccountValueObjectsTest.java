@@ -10,6 +10,7 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
+import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -36,20 +37,18 @@ class AccountValueObjectsTest {
         @Test
         @DisplayName("doit créer un AccountId à partir d'une valeur existante")
         void shouldCreateFromExistingValue() {
-            AccountId id = AccountId.of("ACC-12345");
+            UUID value = UUID.fromString("0190f5d2-7c3a-7d41-8b2e-3f6a9c1d2e4f");
 
-            assertThat(id.value()).isEqualTo("ACC-12345");
+            AccountId id = AccountId.of(value);
+
+            assertThat(id.value()).isEqualTo(value);
         }
 
         @Test
-        @DisplayName("doit rejeter une valeur vide ou null")
-        void shouldRejectBlankValue() {
+        @DisplayName("doit rejeter une valeur null")
+        void shouldRejectNullValue() {
             assertThatThrownBy(() -> AccountId.of(null))
                     .isInstanceOf(IllegalArgumentException.class);
-            assertThatThrownBy(() -> AccountId.of(""))
-                    .isInstanceOf(IllegalArgumentException.class);
-            assertThatThrownBy(() -> AccountId.of("   "))
-                    .isInstanceOf(IllegalArgumentException.class);
         }
     }
 
@@ -27,7 +27,7 @@ import static org.assertj.core.api.Assertions.within;
 @DisplayName("Budget - Aggregate Root")
 class BudgetTest {
 
-    private static final CategoryId FOOD_CATEGORY = CategoryId.of("cat-food");
+    private static final CategoryId FOOD_CATEGORY = CategoryId.generate();
     private static final BudgetPeriod FEB_2026 = BudgetPeriod.of(YearMonth.of(2026, 2));
 
     @Nested
@@ -130,6 +130,46 @@ class BudgetTest {
         }
     }
 
+    @Nested
+    @DisplayName("Retrait de dépenses")
+    class ReleaseExpense {
+
+        @Test
+        @DisplayName("doit retirer une dépense déjà enregistrée")
+        void shouldReleaseExpense() {
+            Budget budget = createBudget(500);
+            budget.recordExpense(Money.of(100, Currency.EUR));
+
+            budget.releaseExpense(Money.of(40, Currency.EUR));
+
+            assertThat(budget.getSpent().amount()).isEqualByComparingTo("60.00");
+        }
+
+        @Test
+        @DisplayName("ne doit pas descendre sous zéro")
+        void shouldNotGoBelowZero() {
+            Budget budget = createBudget(500);
+            budget.recordExpense(Money.of(10, Currency.EUR));
+
+            budget.releaseExpense(Money.of(40, Currency.EUR));
+
+            assertThat(budget.getSpent().isZero()).isTrue();
+        }
+
+        @Test
+        @DisplayName("doit repasser ON_TRACK sans émettre d'événement")
+        void shouldDowngradeStatusWithoutEvent() {
+            Budget budget = createBudget(100);
+            budget.recordExpense(Money.of(120, Currency.EUR));
+            budget.clearEvents();
+
+            budget.releaseExpense(Money.of(100, Currency.EUR));
+
+            assertThat(budget.getStatus()).isEqualTo(BudgetStatus.ON_TRACK);
+            assertThat(budget.getDomainEvents()).isEmpty();
+        }
+    }
+
     @Nested
     @DisplayName("Calculs")
     class Calculations {
@@ -0,0 +1,99 @@
+package com.wealthwise.unit.domain.categorization;
+
+import com.wealthwise.domain.categorization.model.NaiveBayesModel;
+import com.wealthwise.domain.category.model.CategoryId;
+import com.wealthwise.domain.transaction.model.ConfidenceLevel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("NaiveBayesModel - Catégories apprises des libellés")
+class NaiveBayesModelTest {
+
+    private static final CategoryId FOOD = CategoryId.generate();
+    private static final CategoryId TRANSPORT = CategoryId.generate();
+
+    private NaiveBayesModel model;
+
+    @BeforeEach
+    void setUp() {
+        model = new NaiveBayesModel();
+        model.learn("CB CARREFOUR MARKET 12/03", FOOD);
+        model.learn("CB CARREFOUR CITY 03/04", FOOD);
+        model.learn("CB MONOPRIX PARIS 11", FOOD);
+        model.learn("CB SNCF INTERNET 1203", TRANSPORT);
+        model.learn("CB RATP NAVIGO MARS", TRANSPORT);
+    }
+
+    @Test
+    @DisplayName("doit reconnaître un marchand appris, même avec un libellé différent")
+    void shouldPredictLearnedMerchant() {
+        assertThat(model.predict("CB CARREFOUR EXPRESS 01/05"))
+                .hasValueSatisfying(s -> {
+                    assertThat(s.categoryId()).isEqualTo(FOOD);
+                    assertThat(s.confidence()).isEqualTo(ConfidenceLevel.HIGH);
+                });
+        assertThat(model.predict("SNCF BILLET"))
+                .hasValueSatisfying(s -> assertThat(s.categoryId()).isEqualTo(TRANSPORT));
+    }
+
+    @Test
+    @DisplayName("ne doit rien prédire sans mot connu")
+    void shouldNotPredictUnknownWords() {
+        assertThat(model.predict("PHARMACIE DU CENTRE 0412")).isEmpty();
+        assertThat(new NaiveBayesModel().predict("CB CARREFOUR")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("ne doit pas être sûr sur un mot commun à toutes les catégories")
+    void shouldStayLowOnSharedWords() {
+        model.learn("CB TOTAL ESSENCE", TRANSPORT); // CB : 3 fois par catégorie
+
+        assertThat(model.predict("CB BOULANGERIE"))
+                .hasValueSatisfying(s -> assertThat(s.confidence()).isEqualTo(ConfidenceLevel.LOW));
+    }
+
+    @Test
+    @DisplayName("ne doit pas être sûr après un seul exemple")
+    void shouldNotBeHighAfterOneExample() {
+        NaiveBayesModel fresh = new NaiveBayesModel();
+        fresh.learn("PRLV NETFLIX COM", FOOD);
+
+        assertThat(fresh.predict("PRLV NETFLIX"))
+                .hasValueSatisfying(s -> assertThat(s.confidence()).isEqualTo(ConfidenceLevel.MEDIUM));
+    }
+
+    @Test
+    @DisplayName("doit donner les mêmes prédictions après un snapshot")
+    void shouldRoundTripThroughSnapshot() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        model.writeTo(new DataOutputStream(bytes));
+
+        NaiveBayesModel restored = NaiveBayesModel.readFrom(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+        assertThat(restored.exampleCount()).isEqualTo(5);
+        assertThat(restored.vocabularySize()).isEqualTo(model.vocabularySize());
+        assertThat(restored.predict("CB CARREFOUR EXPRESS")).isEqualTo(model.predict("CB CARREFOUR EXPRESS"));
+        // Le modèle restauré continue d'apprendre
+        restored.learn("RATP TICKET", TRANSPORT);
+        assertThat(restored.exampleCount()).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("doit refuser un fichier qui n'est pas un snapshot")
+    void shouldRejectForeignSnapshot() {
+        byte[] garbage = {1, 2, 3, 4, 5, 6, 7, 8};
+
+        assertThatThrownBy(() -> NaiveBayesModel.readFrom(new DataInputStream(new ByteArrayInputStream(garbage))))
+                .isInstanceOf(IOException.class);
+    }
+}
@@ -0,0 +1,139 @@
+package com.wealthwise.unit.domain.categorization;
+
+import com.wealthwise.domain.categorization.model.CategorizationRule;
+import com.wealthwise.domain.categorization.model.CategorySuggestion;
+import com.wealthwise.domain.categorization.model.DescriptionNormalizer;
+import com.wealthwise.domain.categorization.model.RuleSet;
+import com.wealthwise.domain.category.model.CategoryId;
+import com.wealthwise.domain.transaction.model.ConfidenceLevel;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("RuleSet - Règles de catégorisation (Aho-Corasick)")
+class RuleSetTest {
+
+    private static final CategoryId FOOD = CategoryId.generate();
+    private static final CategoryId FUEL = CategoryId.generate();
+    private static final CategoryId SHOPPING = CategoryId.generate();
+    private static final CategoryId STREAMING = CategoryId.generate();
+
+    @Nested
+    @DisplayName("Normalisation des libellés")
+    class Normalization {
+
+        @Test
+        @DisplayName("doit mettre en majuscules, retirer accents et ponctuation")
+        void shouldNormalize() {
+            assertThat(DescriptionNormalizer.normalize("  CB Carrefour-Market  12/03 Évry "))
+                    .isEqualTo("CB CARREFOUR MARKET 12 03 EVRY");
+        }
+
+        @Test
+        @DisplayName("doit refuser une règle sans lettre ni chiffre")
+        void shouldRejectBlankKeyword() {
+            assertThatThrownBy(() -> CategorizationRule.create(" -/ ", FOOD))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Recherche")
+    class Matching {
+
+        @Test
+        @DisplayName("doit trouver un mot entier avec une confiance HIGH")
+        void shouldMatchWholeWord() {
+            RuleSet rules = compile(rule("carrefour", FOOD), rule("total", FUEL));
+
+            Optional<CategorySuggestion> suggestion = rules.match("CB CARREFOUR CITY 12/03");
+
+            assertThat(suggestion).hasValueSatisfying(s -> {
+                assertThat(s.categoryId()).isEqualTo(FOOD);
+                assertThat(s.confidence()).isEqualTo(ConfidenceLevel.HIGH);
+                assertThat(s.matchedBy()).isEqualTo("CARREFOUR");
+            });
+        }
+
+        @Test
+        @DisplayName("doit préférer le mot-clé le plus long")
+        void shouldPreferLongestKeyword() {
+            RuleSet rules = compile(rule("Amazon", SHOPPING), rule("Amazon Prime", STREAMING));
+
+            assertThat(rules.match("PRLV AMAZON PRIME FR"))
+                    .hasValueSatisfying(s -> {
+                        assertThat(s.categoryId()).isEqualTo(STREAMING);
+                        assertThat(s.confidence()).isEqualTo(ConfidenceLevel.HIGH);
+                    });
+            assertThat(rules.match("AMAZON MKTPLACE"))
+                    .hasValueSatisfying(s -> assertThat(s.categoryId()).isEqualTo(SHOPPING));
+        }
+
+        @Test
+        @DisplayName("doit baisser la confiance à MEDIUM si une autre catégorie correspond")
+        void shouldLowerConfidenceOnCompetingCategories() {
+            RuleSet rules = compile(rule("carrefour", FOOD), rule("station essence", FUEL));
+
+            assertThat(rules.match("CARREFOUR STATION ESSENCE"))
+                    .hasValueSatisfying(s -> {
+                        assertThat(s.categoryId()).isEqualTo(FUEL);
+                        assertThat(s.confidence()).isEqualTo(ConfidenceLevel.MEDIUM);
+                    });
+        }
+
+        @Test
+        @DisplayName("doit proposer avec une confiance LOW un mot-clé trouvé dans un mot")
+        void shouldMatchInsideWordWithLowConfidence() {
+            RuleSet rules = compile(rule("uber", FUEL));
+
+            assertThat(rules.match("SUBERVIE"))
+                    .hasValueSatisfying(s -> assertThat(s.confidence()).isEqualTo(ConfidenceLevel.LOW));
+            assertThat(rules.match("BOULANGERIE PAUL")).isEmpty();
+        }
+
+        @Test
+        @DisplayName("doit suivre les liens d'échec entre mots-clés qui se chevauchent")
+        void shouldFollowFailureLinks() {
+            RuleSet rules = compile(rule("abcd", SHOPPING), rule("bce", FOOD), rule("cf", FUEL));
+
+            // "abc" puis échec vers "bc", puis "bce"
+            assertThat(rules.match("X ABCE"))
+                    .hasValueSatisfying(s -> {
+                        assertThat(s.matchedBy()).isEqualTo("BCE");
+                        assertThat(s.confidence()).isEqualTo(ConfidenceLevel.LOW);
+                    });
+        }
+
+        @Test
+        @DisplayName("doit garder des milliers de règles sans changer le résultat")
+        void shouldScaleToManyRules() {
+            List<CategorizationRule> many = new ArrayList<>();
+            for (int i = 0; i < 20_000; i++) {
+                many.add(CategorizationRule.create("MERCHANT" + i, SHOPPING));
+            }
+            many.add(CategorizationRule.create("LIDL", FOOD));
+            RuleSet rules = RuleSet.compile(many);
+
+            assertThat(rules.size()).isEqualTo(20_001);
+            assertThat(rules.match("CB LIDL 0412"))
+                    .hasValueSatisfying(s -> assertThat(s.categoryId()).isEqualTo(FOOD));
+            assertThat(rules.match("MERCHANT12345 PARIS"))
+                    .hasValueSatisfying(s -> assertThat(s.matchedBy()).isEqualTo("MERCHANT12345"));
+        }
+    }
+
+    private static CategorizationRule rule(String keyword, CategoryId categoryId) {
+        return CategorizationRule.create(keyword, categoryId);
+    }
+
+    private static RuleSet compile(CategorizationRule... rules) {
+        return RuleSet.compile(List.of(rules));
+    }
+}
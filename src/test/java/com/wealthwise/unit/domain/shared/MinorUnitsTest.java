@@ -0,0 +1,107 @@
+package com.wealthwise.unit.domain.shared;
+
+import com.wealthwise.domain.shared.Currency;
+import com.wealthwise.domain.shared.MinorUnits;
+import com.wealthwise.domain.shared.Money;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("MinorUnits - montant en centimes")
+class MinorUnitsTest {
+
+    @Nested
+    @DisplayName("Compatibilité avec Money")
+    class CompatibilityWithMoney {
+
+        @ParameterizedTest
+        @ValueSource(doubles = {0, -0.0, 100.50, 10.456, 1.005, 2.675, 0.125, -0.125, -2.675,
+                99_999_999.995, 123_456_789.125, 1e12, -1e12 + 0.005})
+        @DisplayName("doit arrondir un double exactement comme BigDecimal HALF_UP")
+        void shouldRoundLikeBigDecimal(double amount) {
+            assertThat(MinorUnits.of(amount, Currency.EUR).value()).isEqualTo(expectedCents(amount));
+        }
+
+        @Test
+        @DisplayName("doit arrondir comme BigDecimal sur des montants aléatoires")
+        void shouldRoundLikeBigDecimalOnRandomAmounts() {
+            Random random = new Random(42);
+            for (int i = 0; i < 100_000; i++) {
+                double amount = (random.nextLong() % 10_000_000_000L) / 1000.0;
+                assertThat(MinorUnits.of(amount, Currency.EUR).value())
+                        .as("amount %s", amount)
+                        .isEqualTo(expectedCents(amount));
+            }
+        }
+
+        @Test
+        @DisplayName("doit convertir Money ↔ MinorUnits sans perte")
+        void shouldRoundTripThroughMoney() {
+            Money money = Money.of(-1234.56, Currency.USD);
+
+            MinorUnits units = MinorUnits.of(money);
+
+            assertThat(units.value()).isEqualTo(-123_456);
+            assertThat(units.currency()).isEqualTo(Currency.USD);
+            assertThat(units.toMoney()).isEqualTo(money);
+        }
+
+        @Test
+        @DisplayName("doit donner les mêmes résultats que Money pour add, subtract et negate")
+        void shouldMatchMoneyArithmetic() {
+            Money a = Money.of(10.10, Currency.EUR);
+            Money b = Money.of(0.25, Currency.EUR);
+
+            assertThat(MinorUnits.of(a).add(MinorUnits.of(b)).toMoney()).isEqualTo(a.add(b));
+            assertThat(MinorUnits.of(a).subtract(MinorUnits.of(b)).toMoney()).isEqualTo(a.subtract(b));
+            assertThat(MinorUnits.of(a).negate().toMoney()).isEqualTo(a.negate());
+        }
+
+        private long expectedCents(double amount) {
+            return BigDecimal.valueOf(amount).setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+        }
+    }
+
+    @Nested
+    @DisplayName("Garde-fous")
+    class Guards {
+
+        @Test
+        @DisplayName("doit rejeter un dépassement de capacité")
+        void shouldRejectOverflow() {
+            MinorUnits max = new MinorUnits(Long.MAX_VALUE, Currency.EUR);
+
+            assertThatThrownBy(() -> max.add(new MinorUnits(1, Currency.EUR)))
+                    .isInstanceOf(ArithmeticException.class);
+        }
+
+        @Test
+        @DisplayName("doit rejeter un Money trop grand pour un long")
+        void shouldRejectMoneyBeyondLongRange() {
+            Money huge = new Money(new BigDecimal("1e20"), Currency.EUR);
+
+            assertThatThrownBy(() -> MinorUnits.of(huge))
+                    .isInstanceOf(ArithmeticException.class);
+        }
+
+        @Test
+        @DisplayName("doit rejeter une opération entre deux devises")
+        void shouldRejectDifferentCurrencies() {
+            MinorUnits eur = new MinorUnits(100, Currency.EUR);
+            MinorUnits usd = new MinorUnits(100, Currency.USD);
+
+            assertThatThrownBy(() -> eur.add(usd))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("different currency");
+        }
+    }
+}
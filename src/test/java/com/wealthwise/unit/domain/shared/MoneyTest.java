@@ -51,6 +51,15 @@ class MoneyTest {
             assertThat(money.amount()).isEqualByComparingTo(BigDecimal.valueOf(10.46));
         }
 
+        @Test
+        @DisplayName("doit conserver exactement un grand montant décimal (lu en base)")
+        void shouldKeepLargeDecimalAmountExactly() {
+            // NUMERIC(19,4) : 17 chiffres significatifs, au-delà de ce qu'un double représente
+            Money money = Money.of(new BigDecimal("123456789012345.6700"), Currency.EUR);
+
+            assertThat(money.amount()).isEqualTo(new BigDecimal("123456789012345.67"));
+        }
+
         @Test
         @DisplayName("doit créer un Money avec factory method zero()")
         void shouldCreateZeroWithFactory() {
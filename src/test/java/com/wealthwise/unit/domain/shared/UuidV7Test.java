@@ -0,0 +1,120 @@
+package com.wealthwise.unit.domain.shared;
+
+import com.wealthwise.domain.shared.UuidV7;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("UuidV7 - identifiants ordonnés dans le temps")
+class UuidV7Test {
+
+    private static final long NOW = 1_772_359_200_000L; // 2026-03-01T10:00:00Z
+
+    @Test
+    @DisplayName("doit produire un UUID version 7, variante RFC, horodaté à la milliseconde")
+    void shouldProduceVersion7Uuid() {
+        UUID id = new UuidV7(() -> NOW).next();
+
+        assertThat(id.version()).isEqualTo(7);
+        assertThat(id.variant()).isEqualTo(2);
+        assertThat(UuidV7.timestampOf(id)).isEqualTo(NOW);
+    }
+
+    @Test
+    @DisplayName("doit produire des ids croissants dans une même milliseconde, y compris en texte")
+    void shouldIncreaseWithinSameMillisecond() {
+        UuidV7 generator = new UuidV7(() -> NOW);
+
+        String previous = generator.next().toString();
+        for (int i = 0; i < 1000; i++) {
+            String next = generator.next().toString();
+            assertThat(next).isGreaterThan(previous);
+            previous = next;
+        }
+    }
+
+    @Test
+    @DisplayName("doit rester croissant quand l'horloge recule")
+    void shouldStayMonotonicWhenClockGoesBackwards() {
+        AtomicLong clock = new AtomicLong(NOW);
+        UuidV7 generator = new UuidV7(clock::get);
+
+        UUID before = generator.next();
+        clock.set(NOW - 5_000);
+        UUID after = generator.next();
+
+        assertThat(after.toString()).isGreaterThan(before.toString());
+        assertThat(UuidV7.timestampOf(after)).isEqualTo(NOW);
+    }
+
+    @Test
+    @DisplayName("doit avancer l'horodatage quand le compteur d'une milliseconde déborde")
+    void shouldCarryCounterOverflowIntoTimestamp() {
+        UuidV7 generator = new UuidV7(() -> NOW);
+
+        UUID last = null;
+        for (int i = 0; i <= 4096; i++) {
+            last = generator.next();
+        }
+
+        assertThat(UuidV7.timestampOf(last)).isEqualTo(NOW + 1);
+        assertThat(last.version()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("doit produire des ids uniques et croissants par thread sous forte concurrence")
+    void shouldProduceUniqueIdsUnderConcurrency() throws Exception {
+        int threads = 8;
+        int idsPerThread = 20_000;
+        UuidV7 generator = new UuidV7(System::currentTimeMillis);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<List<UUID>>> results = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    List<UUID> ids = new ArrayList<>(idsPerThread);
+                    for (int i = 0; i < idsPerThread; i++) {
+                        ids.add(generator.next());
+                    }
+                    return ids;
+                }));
+            }
+            start.countDown();
+
+            Set<UUID> all = new HashSet<>();
+            for (Future<List<UUID>> result : results) {
+                List<UUID> ids = result.get(30, TimeUnit.SECONDS);
+                for (int i = 1; i < ids.size(); i++) {
+                    assertThat(ids.get(i).toString()).isGreaterThan(ids.get(i - 1).toString());
+                }
+                all.addAll(ids);
+            }
+            assertThat(all).hasSize(threads * idsPerThread);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("doit refuser de lire l'horodatage d'un UUID aléatoire")
+    void shouldRejectTimestampOfRandomUuid() {
+        assertThatThrownBy(() -> UuidV7.timestampOf(UUID.randomUUID()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
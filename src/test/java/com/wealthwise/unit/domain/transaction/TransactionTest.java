@@ -27,7 +27,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 class TransactionTest {
 
     // Constantes pour éviter la répétition dans les tests
-    private static final AccountId ACCOUNT_ID = AccountId.of("test-account-1");
+    private static final AccountId ACCOUNT_ID = AccountId.generate();
     private static final Money HUNDRED_EUR = Money.of(100, Currency.EUR);
     private static final LocalDate TODAY = LocalDate.now();
 
@@ -157,7 +157,7 @@ class TransactionTest {
         @DisplayName("doit catégoriser manuellement une transaction")
         void shouldCategorizeManually() {
             Transaction tx = createExpense();
-            CategoryId foodCategory = CategoryId.of("cat-food");
+            CategoryId foodCategory = CategoryId.generate();
 
             tx.categorize(foodCategory, ConfidenceLevel.MANUAL);
 
@@ -170,7 +170,7 @@ class TransactionTest {
         @DisplayName("doit catégoriser automatiquement avec un niveau de confiance")
         void shouldCategorizeAutomatically() {
             Transaction tx = createExpense();
-            CategoryId foodCategory = CategoryId.of("cat-food");
+            CategoryId foodCategory = CategoryId.generate();
 
             tx.categorize(foodCategory, ConfidenceLevel.HIGH);
 
@@ -182,7 +182,7 @@ class TransactionTest {
         void shouldEmitTransactionCategorizedEvent() {
             Transaction tx = createExpense();
             tx.clearEvents(); // Vider le TransactionCreated
-            CategoryId foodCategory = CategoryId.of("cat-food");
+            CategoryId foodCategory = CategoryId.generate();
 
             tx.categorize(foodCategory, ConfidenceLevel.MANUAL);
 
@@ -195,14 +195,31 @@ class TransactionTest {
             assertThat(event.transactionId()).isEqualTo(tx.getId());
             assertThat(event.categoryId()).isEqualTo(foodCategory);
             assertThat(event.confidence()).isEqualTo(ConfidenceLevel.MANUAL);
+            assertThat(event.previousCategoryId()).isNull();
+            assertThat(event.amount()).isEqualTo(tx.getAmount());
+            assertThat(event.date()).isEqualTo(tx.getDate());
+        }
+
+        @Test
+        @DisplayName("doit indiquer l'ancienne catégorie lors d'une re-catégorisation")
+        void shouldCarryPreviousCategoryOnRecategorization() {
+            Transaction tx = createExpense();
+            CategoryId foodCategory = CategoryId.generate();
+            tx.categorize(foodCategory, ConfidenceLevel.LOW);
+            tx.clearEvents();
+
+            tx.categorize(CategoryId.generate(), ConfidenceLevel.MANUAL);
+
+            TransactionCategorized event = (TransactionCategorized) tx.getDomainEvents().get(0);
+            assertThat(event.previousCategoryId()).isEqualTo(foodCategory);
         }
 
         @Test
         @DisplayName("doit permettre de re-catégoriser une transaction")
         void shouldAllowRecategorization() {
             Transaction tx = createExpense();
-            CategoryId foodCategory = CategoryId.of("cat-food");
-            CategoryId transportCategory = CategoryId.of("cat-transport");
+            CategoryId foodCategory = CategoryId.generate();
+            CategoryId transportCategory = CategoryId.generate();
 
             tx.categorize(foodCategory, ConfidenceLevel.LOW);
             tx.categorize(transportCategory, ConfidenceLevel.MANUAL);
@@ -225,7 +242,7 @@ class TransactionTest {
         @DisplayName("doit rejeter un niveau de confiance null")
         void shouldRejectNullConfidenceLevel() {
             Transaction tx = createExpense();
-            CategoryId foodCategory = CategoryId.of("cat-food");
+            CategoryId foodCategory = CategoryId.generate();
 
             assertThatThrownBy(() -> tx.categorize(foodCategory, null))
                     .isInstanceOf(IllegalArgumentException.class)
@@ -0,0 +1,133 @@
+package com.wealthwise.unit.infrastructure.analytics;
+
+import com.wealthwise.domain.account.model.AccountId;
+import com.wealthwise.domain.analytics.model.TrendBucket;
+import com.wealthwise.domain.analytics.model.TrendDimension;
+import com.wealthwise.domain.analytics.model.TrendFilter;
+import com.wealthwise.domain.category.model.CategoryId;
+import com.wealthwise.domain.shared.Currency;
+import com.wealthwise.domain.shared.Money;
+import com.wealthwise.domain.transaction.model.ConfidenceLevel;
+import com.wealthwise.domain.transaction.model.Transaction;
+import com.wealthwise.domain.transaction.model.TransactionType;
+import com.wealthwise.infrastructure.analytics.ColumnarTransactionIndex;
+import com.wealthwise.unit.infrastructure.fake.InMemoryTransactionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DisplayName("Index analytique en colonnes : ColumnarTransactionIndex")
+class ColumnarTransactionIndexTest {
+
+    private static final AccountId CHECKING = AccountId.generate();
+    private static final AccountId SAVINGS = AccountId.generate();
+    private static final CategoryId FOOD = CategoryId.generate();
+    private static final CategoryId RENT = CategoryId.generate();
+    private static final YearMonth JAN = YearMonth.of(2026, 1);
+    private static final YearMonth MAR = YearMonth.of(2026, 3);
+
+    private InMemoryTransactionRepository transactionRepository;
+    private ColumnarTransactionIndex index;
+
+    @BeforeEach
+    void setUp() {
+        transactionRepository = new InMemoryTransactionRepository();
+        // Petites pages et petite capacité : chargement en plusieurs pages, colonnes agrandies
+        index = new ColumnarTransactionIndex(transactionRepository, 2, 2);
+    }
+
+    @Test
+    @DisplayName("doit charger les transactions existantes et regrouper par mois, mois vides compris")
+    void shouldLoadAndGroupByMonth() {
+        save(CHECKING, 42.50, TransactionType.EXPENSE, LocalDate.of(2026, 1, 5), FOOD);
+        save(CHECKING, 17.50, TransactionType.EXPENSE, LocalDate.of(2026, 1, 31), null);
+        save(SAVINGS, 800, TransactionType.EXPENSE, LocalDate.of(2026, 3, 1), RENT);
+        save(CHECKING, 2_500, TransactionType.INCOME, LocalDate.of(2026, 1, 28), null);
+        save(CHECKING, 99, TransactionType.EXPENSE, LocalDate.of(2026, 4, 1), FOOD);
+
+        index.load();
+
+        assertThat(index.size()).isEqualTo(5);
+        assertThat(index.aggregate(expenses(null, null), TrendDimension.MONTH))
+                .extracting(TrendBucket::key, bucket -> bucket.total().value(), TrendBucket::transactionCount)
+                .containsExactly(
+                        tuple("2026-01", 6_000L, 2L),
+                        tuple("2026-02", 0L, 0L),
+                        tuple("2026-03", 80_000L, 1L));
+    }
+
+    @Test
+    @DisplayName("doit regrouper par catégorie et par compte, en filtrant compte et catégorie")
+    void shouldGroupByCategoryAndAccount() {
+        save(CHECKING, 40, TransactionType.EXPENSE, LocalDate.of(2026, 1, 5), FOOD);
+        save(SAVINGS, 10, TransactionType.EXPENSE, LocalDate.of(2026, 2, 5), FOOD);
+        save(CHECKING, 800, TransactionType.EXPENSE, LocalDate.of(2026, 2, 1), RENT);
+        save(CHECKING, 5, TransactionType.EXPENSE, LocalDate.of(2026, 3, 9), null);
+        index.load();
+
+        assertThat(index.aggregate(expenses(null, null), TrendDimension.CATEGORY))
+                .extracting(TrendBucket::key, bucket -> bucket.total().value())
+                .containsExactlyInAnyOrder(
+                        tuple(null, 500L),
+                        tuple(FOOD.value().toString(), 5_000L),
+                        tuple(RENT.value().toString(), 80_000L));
+        assertThat(index.aggregate(expenses(null, FOOD), TrendDimension.ACCOUNT))
+                .extracting(TrendBucket::key, bucket -> bucket.total().value())
+                .containsExactlyInAnyOrder(
+                        tuple(CHECKING.value().toString(), 4_000L),
+                        tuple(SAVINGS.value().toString(), 1_000L));
+        assertThat(index.aggregate(expenses(SAVINGS, null), TrendDimension.CATEGORY))
+                .extracting(TrendBucket::key)
+                .containsExactly(FOOD.value().toString());
+    }
+
+    @Test
+    @DisplayName("doit suivre les événements et ignorer les rejeux")
+    void shouldApplyEventsOnce() {
+        index.load();
+        Transaction tx = Transaction.create(CHECKING, Money.of(60, Currency.EUR), "Courses",
+                LocalDate.of(2026, 2, 14), TransactionType.EXPENSE);
+        tx.categorize(FOOD, ConfidenceLevel.MANUAL);
+
+        index.onEvents(tx.getDomainEvents());
+        // Rejeu par le relais de l'outbox
+        index.onEvents(tx.getDomainEvents());
+
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.aggregate(expenses(null, null), TrendDimension.CATEGORY))
+                .extracting(TrendBucket::key, bucket -> bucket.total().value(), TrendBucket::transactionCount)
+                .containsExactly(tuple(FOOD.value().toString(), 6_000L, 1L));
+    }
+
+    @Test
+    @DisplayName("doit rendre des mois à zéro pour un compte inconnu ou une autre devise")
+    void shouldReturnZeroForUnknownFilters() {
+        save(CHECKING, 40, TransactionType.EXPENSE, LocalDate.of(2026, 1, 5), FOOD);
+        index.load();
+
+        TrendFilter usd = new TrendFilter(JAN, MAR, TransactionType.EXPENSE, Currency.USD, null, null);
+        assertThat(index.aggregate(usd, TrendDimension.MONTH))
+                .allMatch(bucket -> bucket.transactionCount() == 0)
+                .hasSize(3);
+        assertThat(index.aggregate(expenses(AccountId.generate(), null), TrendDimension.ACCOUNT))
+                .isEmpty();
+    }
+
+    private TrendFilter expenses(AccountId accountId, CategoryId categoryId) {
+        return new TrendFilter(JAN, MAR, TransactionType.EXPENSE, Currency.EUR, accountId, categoryId);
+    }
+
+    private void save(AccountId accountId, double amount, TransactionType type, LocalDate date, CategoryId categoryId) {
+        Transaction tx = Transaction.create(accountId, Money.of(amount, Currency.EUR), "Opération", date, type);
+        if (categoryId != null) {
+            tx.categorize(categoryId, ConfidenceLevel.MANUAL);
+        }
+        transactionRepository.save(tx);
+    }
+}
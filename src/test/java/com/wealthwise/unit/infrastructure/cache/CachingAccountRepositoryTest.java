@@ -0,0 +1,167 @@
+package com.wealthwise.unit.infrastructure.cache;
+
+import com.wealthwise.domain.account.event.AccountBalanceUpdated;
+import com.wealthwise.domain.account.model.Account;
+import com.wealthwise.domain.account.model.AccountId;
+import com.wealthwise.domain.account.model.AccountType;
+import com.wealthwise.domain.shared.ConcurrencyConflictException;
+import com.wealthwise.domain.shared.Currency;
+import com.wealthwise.domain.shared.Money;
+import com.wealthwise.infrastructure.persistence.cache.CachingAccountRepository;
+import com.wealthwise.unit.infrastructure.fake.InMemoryAccountRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("CachingAccountRepository - Cache des comptes")
+class CachingAccountRepositoryTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2026-03-01T10:00:00Z"), ZoneOffset.UTC);
+    private static final LocalDateTime NOW = LocalDateTime.now(CLOCK);
+
+    private CountingAccountRepository database;
+    private SimpleMeterRegistry meterRegistry;
+    private CachingAccountRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        database = new CountingAccountRepository();
+        meterRegistry = new SimpleMeterRegistry();
+        repository = cacheOver(database);
+    }
+
+    @Test
+    @DisplayName("doit servir les lectures suivantes depuis le cache")
+    void shouldServeRepeatedReadsFromCache() {
+        AccountId id = database.save(account()).getId();
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(repository.findById(id)).isPresent();
+        }
+
+        assertThat(database.findByIdCalls).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "accounts").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("wealthwise.accounts.cache.age").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("doit mettre à jour le cache à la sauvegarde, sans relire la base")
+    void shouldWriteThrough() {
+        Account account = repository.save(account());
+
+        Account loaded = repository.findById(account.getId()).orElseThrow();
+        loaded.debit(Money.of(30, Currency.EUR));
+        repository.save(loaded);
+
+        Account reloaded = repository.findById(account.getId()).orElseThrow();
+        assertThat(reloaded.getBalance().money().amount()).isEqualByComparingTo("70");
+        assertThat(reloaded.getVersion()).isEqualTo(loaded.getVersion());
+        assertThat(database.findByIdCalls).isZero();
+    }
+
+    @Test
+    @DisplayName("doit rejeter une écriture faite sur un instantané périmé, puis relire la base")
+    void shouldRejectStaleWriteAndReload() {
+        AccountId id = database.save(account()).getId();
+        repository.findById(id);
+
+        // Une autre instance de l'application modifie le compte
+        CachingAccountRepository otherInstance =
+                new CachingAccountRepository(database, new SimpleMeterRegistry(), 100, 60_000, CLOCK);
+        Account elsewhere = otherInstance.findById(id).orElseThrow();
+        elsewhere.debit(Money.of(40, Currency.EUR));
+        otherInstance.save(elsewhere);
+
+        Account stale = repository.findById(id).orElseThrow();
+        stale.debit(Money.of(80, Currency.EUR));
+        assertThatThrownBy(() -> repository.save(stale))
+                .isInstanceOf(ConcurrencyConflictException.class);
+
+        assertThat(repository.findById(id)).map(a -> a.getBalance().money().amount())
+                .hasValueSatisfying(balance -> assertThat(balance).isEqualByComparingTo("60"));
+        assertThat(meterRegistry.get("wealthwise.accounts.cache.stale.writes").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("doit appliquer en place un AccountBalanceUpdated postérieur à l'instantané")
+    void shouldApplyLaterBalanceEvent() {
+        AccountId id = database.save(account()).getId();
+        repository.findById(id);
+
+        repository.onEvents(List.of(balanceUpdated(id, "100", "75", NOW.plusSeconds(1))));
+
+        assertThat(repository.findById(id).orElseThrow().getBalance().money().amount()).isEqualByComparingTo("75");
+        assertThat(database.findByIdCalls).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("doit ignorer les événements déjà reflétés par l'instantané")
+    void shouldIgnoreEarlierEvents() {
+        AccountId id = database.save(account()).getId();
+        repository.findById(id);
+
+        repository.onEvents(List.of(balanceUpdated(id, "0", "100", NOW.minusSeconds(1))));
+
+        assertThat(repository.findById(id).orElseThrow().getBalance().money().amount()).isEqualByComparingTo("100");
+        assertThat(database.findByIdCalls).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("doit retirer l'instantané si un événement montre une écriture manquée")
+    void shouldEvictOnBrokenChain() {
+        AccountId id = database.save(account()).getId();
+        repository.findById(id);
+
+        repository.onEvents(List.of(balanceUpdated(id, "55", "45", NOW.plusSeconds(1))));
+        repository.findById(id);
+
+        assertThat(database.findByIdCalls).isEqualTo(2);
+        assertThat(meterRegistry.get("wealthwise.accounts.cache.events").tag("outcome", "evicted")
+                .counter().count()).isEqualTo(1);
+    }
+
+    private CachingAccountRepository cacheOver(InMemoryAccountRepository delegate) {
+        return new CachingAccountRepository(delegate, meterRegistry, 100, 60_000, CLOCK);
+    }
+
+    private static Account account() {
+        Account account = Account.create("Compte Courant", AccountType.CHECKING, Currency.EUR);
+        account.credit(Money.of(100, Currency.EUR));
+        account.clearEvents();
+        return account;
+    }
+
+    private static AccountBalanceUpdated balanceUpdated(AccountId id, String previous, String next, LocalDateTime at) {
+        return new AccountBalanceUpdated(id,
+                Money.of(new BigDecimal(previous), Currency.EUR),
+                Money.of(new BigDecimal(next), Currency.EUR),
+                at);
+    }
+
+    /**
+     * Compte les lectures qui atteignent la "base".
+     */
+    private static class CountingAccountRepository extends InMemoryAccountRepository {
+
+        int findByIdCalls;
+
+        @Override
+        public Optional<Account> findById(AccountId id) {
+            findByIdCalls++;
+            return super.findById(id);
+        }
+    }
+}
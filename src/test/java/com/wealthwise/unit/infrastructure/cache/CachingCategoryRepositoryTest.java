@@ -0,0 +1,115 @@
+package com.wealthwise.unit.infrastructure.cache;
+
+import com.wealthwise.domain.category.model.Category;
+import com.wealthwise.domain.category.model.CategoryId;
+import com.wealthwise.domain.category.model.CategoryType;
+import com.wealthwise.infrastructure.persistence.cache.CachingCategoryRepository;
+import com.wealthwise.unit.infrastructure.fake.InMemoryCategoryRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CachingCategoryRepository - Cache des catégories")
+class CachingCategoryRepositoryTest {
+
+    private CountingCategoryRepository delegate;
+    private SimpleMeterRegistry meterRegistry;
+    private CachingCategoryRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        delegate = new CountingCategoryRepository();
+        meterRegistry = new SimpleMeterRegistry();
+        repository = new CachingCategoryRepository(delegate, meterRegistry, 100, 60_000);
+    }
+
+    @Test
+    @DisplayName("ne doit lire une catégorie en base qu'une fois")
+    void shouldReadCategoryOnce() {
+        Category food = delegate.save(category("Alimentation"));
+        CategoryId unknown = CategoryId.generate();
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(repository.findById(food.getId())).isPresent();
+        }
+        assertThat(repository.findById(unknown)).isEmpty();
+        assertThat(repository.findById(unknown)).isEmpty();
+
+        assertThat(delegate.findByIdCalls).isEqualTo(2);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "categories.byId").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(5);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "categories.byId").tag("result", "miss")
+                .functionCounter().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("doit répondre à findAll et existsByName depuis la même table en mémoire")
+    void shouldServeFindAllAndExistsByNameFromSnapshot() {
+        delegate.save(category("Alimentation"));
+        delegate.save(category("Transport"));
+
+        assertThat(repository.findAll()).hasSize(2);
+        assertThat(repository.existsByName("ALIMENTATION")).isTrue();
+        assertThat(repository.existsByName("transport")).isTrue();
+        assertThat(repository.existsByName("Loisirs")).isFalse();
+
+        assertThat(delegate.findAllCalls).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("doit voir immédiatement une catégorie sauvegardée ou supprimée")
+    void shouldInvalidateOnWrite() {
+        Category food = repository.save(category("Alimentation"));
+        assertThat(repository.existsByName("Loisirs")).isFalse();
+
+        Category leisure = repository.save(category("Loisirs"));
+        assertThat(repository.existsByName("loisirs")).isTrue();
+        assertThat(repository.findAll()).extracting(Category::getName)
+                .containsExactlyInAnyOrder("Alimentation", "Loisirs");
+
+        repository.deleteById(food.getId());
+        assertThat(repository.findById(food.getId())).isEmpty();
+        assertThat(repository.findAll()).extracting(Category::getId).containsExactly(leisure.getId());
+    }
+
+    @Test
+    @DisplayName("ne doit pas laisser un appelant modifier les catégories en cache")
+    void shouldHandOutCopies() {
+        Category food = repository.save(category("Alimentation"));
+
+        repository.findById(food.getId()).orElseThrow().rename("Modifiée sans sauvegarde");
+
+        assertThat(repository.findById(food.getId())).map(Category::getName).contains("Alimentation");
+    }
+
+    private static Category category(String name) {
+        return Category.create(name, CategoryType.EXPENSE, "#27AE60", "tag");
+    }
+
+    /**
+     * Compte les lectures qui atteignent le repository sous-jacent.
+     */
+    private static class CountingCategoryRepository extends InMemoryCategoryRepository {
+
+        int findByIdCalls;
+        int findAllCalls;
+
+        @Override
+        public Optional<Category> findById(CategoryId id) {
+            findByIdCalls++;
+            return super.findById(id);
+        }
+
+        @Override
+        public List<Category> findAll() {
+            findAllCalls++;
+            return super.findAll();
+        }
+    }
+}
@@ -3,12 +3,16 @@ package com.wealthwise.unit.infrastructure.fake;
 import com.wealthwise.domain.account.model.Account;
 import com.wealthwise.domain.account.model.AccountId;
 import com.wealthwise.domain.account.port.AccountRepository;
+import com.wealthwise.domain.shared.ConcurrencyConflictException;
 
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
 
 /**
  * Implémentation en mémoire du AccountRepository pour les tests.
@@ -25,22 +29,40 @@ import java.util.Optional;
  */
 public class InMemoryAccountRepository implements AccountRepository {
 
-    private final Map<String, Account> store = new HashMap<>();
+    private final Map<UUID, Account> store = new HashMap<>();
+    private int savesToReject;
 
+    /**
+     * Comme une base : on stocke une copie, et chaque lecture rend une nouvelle copie.
+     * Le numéro de version est vérifié (verrouillage optimiste) puis incrémenté.
+     */
     @Override
     public Account save(Account account) {
-        store.put(account.getId().value(), account);
+        Account stored = store.get(account.getId().value());
+        if (savesToReject > 0) {
+            savesToReject--;
+            throw conflict(account);
+        }
+        if (stored != null && !Objects.equals(stored.getVersion(), account.getVersion())) {
+            throw conflict(account);
+        }
+
+        long nextVersion = stored == null ? 0 : stored.getVersion() + 1;
+        account.updateVersion(nextVersion);
+        store.put(account.getId().value(), copyOf(account));
         return account;
     }
 
     @Override
     public Optional<Account> findById(AccountId id) {
-        return Optional.ofNullable(store.get(id.value()));
+        return Optional.ofNullable(store.get(id.value())).map(InMemoryAccountRepository::copyOf);
     }
 
     @Override
     public List<Account> findAll() {
-        return new ArrayList<>(store.values());
+        return store.values().stream()
+                .map(InMemoryAccountRepository::copyOf)
+                .collect(Collectors.toCollection(ArrayList::new));
     }
 
     @Override
@@ -58,7 +80,34 @@ public class InMemoryAccountRepository implements AccountRepository {
         return store.size();
     }
 
+    /**
+     * Les prochaines sauvegardes échoueront comme si un autre écrivain
+     * avait modifié le compte entre-temps.
+     */
+    public void rejectNextSaves(int count) {
+        savesToReject = count;
+    }
+
     public void clear() {
         store.clear();
+        savesToReject = 0;
+    }
+
+    private static ConcurrencyConflictException conflict(Account account) {
+        return new ConcurrencyConflictException(
+                "Account was modified concurrently: " + account.getId().value(), null);
+    }
+
+    private static Account copyOf(Account account) {
+        return Account.reconstitute(
+                account.getId(),
+                account.getName(),
+                account.getType(),
+                account.getCurrency(),
+                account.getBalance().money(),
+                account.isClosed(),
+                account.getCreatedAt(),
+                account.getVersion()
+        );
     }
 }
@@ -0,0 +1,37 @@
+package com.wealthwise.unit.infrastructure.fake;
+
+import com.wealthwise.domain.budget.model.BudgetAllocation;
+import com.wealthwise.domain.budget.port.BudgetAllocationRepository;
+import com.wealthwise.domain.transaction.model.TransactionId;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Implémentation en mémoire du BudgetAllocationRepository pour les tests.
+ */
+public class InMemoryBudgetAllocationRepository implements BudgetAllocationRepository {
+
+    private final Map<UUID, BudgetAllocation> store = new HashMap<>();
+
+    @Override
+    public BudgetAllocation save(BudgetAllocation allocation) {
+        store.put(allocation.transactionId().value(), allocation);
+        return allocation;
+    }
+
+    @Override
+    public Optional<BudgetAllocation> findByTransactionId(TransactionId transactionId) {
+        return Optional.ofNullable(store.get(transactionId.value()));
+    }
+
+    public int count() {
+        return store.size();
+    }
+
+    public void clear() {
+        store.clear();
+    }
+}
@@ -11,13 +11,14 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
 
 /**
  * Implémentation en mémoire du BudgetRepository pour les tests.
  */
 public class InMemoryBudgetRepository implements BudgetRepository {
 
-    private final Map<String, Budget> store = new HashMap<>();
+    private final Map<UUID, Budget> store = new HashMap<>();
 
     @Override
     public Budget save(Budget budget) {
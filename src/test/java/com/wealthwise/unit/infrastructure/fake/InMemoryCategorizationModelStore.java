@@ -0,0 +1,50 @@
+package com.wealthwise.unit.infrastructure.fake;
+
+import com.wealthwise.domain.categorization.model.NaiveBayesModel;
+import com.wealthwise.domain.categorization.port.CategorizationModelStore;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Optional;
+
+/**
+ * Implémentation en mémoire du CategorizationModelStore pour les tests.
+ * Le modèle passe réellement par son format binaire.
+ */
+public class InMemoryCategorizationModelStore implements CategorizationModelStore {
+
+    private byte[] snapshot;
+    private int saveCalls;
+
+    @Override
+    public Optional<NaiveBayesModel> load() {
+        if (snapshot == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(NaiveBayesModel.readFrom(new DataInputStream(new ByteArrayInputStream(snapshot))));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void save(NaiveBayesModel model) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try {
+            model.writeTo(new DataOutputStream(bytes));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        snapshot = bytes.toByteArray();
+        saveCalls++;
+    }
+
+    public int saveCalls() {
+        return saveCalls;
+    }
+}
@@ -0,0 +1,45 @@
+package com.wealthwise.unit.infrastructure.fake;
+
+import com.wealthwise.domain.categorization.model.CategorizationRule;
+import com.wealthwise.domain.categorization.model.CategorizationRuleId;
+import com.wealthwise.domain.categorization.port.CategorizationRuleRepository;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Implémentation en mémoire du CategorizationRuleRepository pour les tests.
+ */
+public class InMemoryCategorizationRuleRepository implements CategorizationRuleRepository {
+
+    private final Map<UUID, CategorizationRule> store = new LinkedHashMap<>();
+
+    @Override
+    public CategorizationRule save(CategorizationRule rule) {
+        store.put(rule.getId().value(), rule);
+        return rule;
+    }
+
+    @Override
+    public Optional<CategorizationRule> findById(CategorizationRuleId id) {
+        return Optional.ofNullable(store.get(id.value()));
+    }
+
+    @Override
+    public List<CategorizationRule> findAll() {
+        return new ArrayList<>(store.values());
+    }
+
+    @Override
+    public void deleteById(CategorizationRuleId id) {
+        store.remove(id.value());
+    }
+
+    public int count() {
+        return store.size();
+    }
+}
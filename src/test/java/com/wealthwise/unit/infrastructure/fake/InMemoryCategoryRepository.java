@@ -9,13 +9,14 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
 
 /**
  * Implémentation en mémoire du CategoryRepository pour les tests.
  */
 public class InMemoryCategoryRepository implements CategoryRepository {
 
-    private final Map<String, Category> store = new HashMap<>();
+    private final Map<UUID, Category> store = new HashMap<>();
 
     @Override
     public Category save(Category category) {
@@ -0,0 +1,70 @@
+package com.wealthwise.unit.infrastructure.fake;
+
+import com.wealthwise.domain.account.model.AccountId;
+import com.wealthwise.domain.analytics.model.MonthlySummary;
+import com.wealthwise.domain.analytics.model.MonthlySummaryKey;
+import com.wealthwise.domain.analytics.model.SummaryPosting;
+import com.wealthwise.domain.analytics.port.MonthlySummaryRepository;
+import com.wealthwise.domain.transaction.model.TransactionId;
+
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Implémentation en mémoire du MonthlySummaryRepository pour les tests.
+ *
+ * Stocke des copies, comme une base : une ligne modifiée par le projecteur
+ * ne change ici qu'une fois passée par saveAll().
+ */
+public class InMemoryMonthlySummaryRepository implements MonthlySummaryRepository {
+
+    private final Map<MonthlySummaryKey, MonthlySummary> summaries = new HashMap<>();
+    private final Map<TransactionId, SummaryPosting> postings = new HashMap<>();
+    private int saveCalls;
+
+    @Override
+    public Optional<MonthlySummary> findByKey(MonthlySummaryKey key) {
+        return Optional.ofNullable(summaries.get(key)).map(InMemoryMonthlySummaryRepository::copy);
+    }
+
+    @Override
+    public List<MonthlySummary> findByAccountAndMonth(AccountId accountId, YearMonth month) {
+        return summaries.values().stream()
+                .filter(summary -> summary.getKey().accountId().equals(accountId))
+                .filter(summary -> summary.getKey().month().equals(month))
+                .map(InMemoryMonthlySummaryRepository::copy)
+                .toList();
+    }
+
+    @Override
+    public List<SummaryPosting> findPostings(Collection<TransactionId> transactionIds) {
+        return transactionIds.stream()
+                .map(postings::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    @Override
+    public void saveAll(Collection<MonthlySummary> summaries, Collection<SummaryPosting> postings) {
+        saveCalls++;
+        summaries.forEach(summary -> this.summaries.put(summary.getKey(), copy(summary)));
+        postings.forEach(posting -> this.postings.put(posting.transactionId(), posting));
+    }
+
+    public int rowCount() {
+        return summaries.size();
+    }
+
+    public int saveCalls() {
+        return saveCalls;
+    }
+
+    private static MonthlySummary copy(MonthlySummary summary) {
+        return MonthlySummary.reconstitute(summary.getKey(), summary.getTotalUnits(), summary.getTransactionCount());
+    }
+}
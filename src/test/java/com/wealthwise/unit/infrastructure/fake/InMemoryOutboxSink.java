@@ -0,0 +1,55 @@
+package com.wealthwise.unit.infrastructure.fake;
+
+import com.wealthwise.domain.account.event.DomainEvent;
+import com.wealthwise.infrastructure.messaging.outbox.OutboxSink;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sink en mémoire pour les tests : garde les événements reçus du relais.
+ *
+ * Thread-safe : le relais livre depuis le thread du scheduler.
+ */
+public class InMemoryOutboxSink implements OutboxSink {
+
+    private final List<DomainEvent> received = new CopyOnWriteArrayList<>();
+    private final AtomicInteger failuresToSimulate = new AtomicInteger();
+
+    @Override
+    public void deliver(List<DomainEvent> events) {
+        if (failuresToSimulate.getAndUpdate(n -> Math.max(0, n - 1)) > 0) {
+            throw new IllegalStateException("Simulated sink failure");
+        }
+        received.addAll(events);
+    }
+
+    /**
+     * Les prochaines livraisons échoueront (pour tester la relivraison).
+     */
+    public void failNextDeliveries(int count) {
+        failuresToSimulate.set(count);
+    }
+
+    public List<DomainEvent> received() {
+        return new ArrayList<>(received);
+    }
+
+    public <E extends DomainEvent> List<E> received(Class<E> type) {
+        return received.stream()
+                .filter(type::isInstance)
+                .map(type::cast)
+                .toList();
+    }
+
+    public int count() {
+        return received.size();
+    }
+
+    public void clear() {
+        received.clear();
+        failuresToSimulate.set(0);
+    }
+}
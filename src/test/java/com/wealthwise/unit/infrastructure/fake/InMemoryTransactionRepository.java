@@ -3,22 +3,32 @@ package com.wealthwise.unit.infrastructure.fake;
 import com.wealthwise.domain.account.model.AccountId;
 import com.wealthwise.domain.category.model.CategoryId;
 import com.wealthwise.domain.transaction.model.Transaction;
+import com.wealthwise.domain.transaction.model.TransactionCursor;
 import com.wealthwise.domain.transaction.model.TransactionId;
+import com.wealthwise.domain.transaction.model.TransactionTotal;
 import com.wealthwise.domain.transaction.port.TransactionRepository;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
 
 /**
  * Implémentation en mémoire du TransactionRepository pour les tests.
  */
 public class InMemoryTransactionRepository implements TransactionRepository {
 
-    private final Map<String, Transaction> store = new HashMap<>();
+    private static final Comparator<Transaction> NEWEST_FIRST = Comparator
+            .comparing(Transaction::getDate)
+            .thenComparing(tx -> tx.getId().value())
+            .reversed();
+
+    private final Map<UUID, Transaction> store = new HashMap<>();
 
     @Override
     public Transaction save(Transaction transaction) {
@@ -26,6 +36,22 @@ public class InMemoryTransactionRepository implements TransactionRepository {
         return transaction;
     }
 
+    @Override
+    public List<Transaction> saveAllNew(List<Transaction> transactions) {
+        for (Transaction transaction : transactions) {
+            if (store.containsKey(transaction.getId().value())) {
+                throw new IllegalStateException("Transaction already exists: " + transaction.getId().value());
+            }
+        }
+        transactions.forEach(this::save);
+        return transactions;
+    }
+
+    @Override
+    public void updateCategories(List<Transaction> transactions) {
+        transactions.forEach(this::save);
+    }
+
     @Override
     public Optional<Transaction> findById(TransactionId id) {
         return Optional.ofNullable(store.get(id.value()));
@@ -38,6 +64,37 @@ public class InMemoryTransactionRepository implements TransactionRepository {
                 .toList();
     }
 
+    @Override
+    public List<Transaction> findAll() {
+        return new ArrayList<>(store.values());
+    }
+
+    @Override
+    public List<Transaction> findPage(AccountId accountId, TransactionCursor after, int limit) {
+        return store.values().stream()
+                .filter(tx -> accountId == null || tx.getAccountId().equals(accountId))
+                .filter(tx -> after == null || isAfter(tx, after))
+                .sorted(NEWEST_FIRST)
+                .limit(limit)
+                .toList();
+    }
+
+    private static boolean isAfter(Transaction tx, TransactionCursor cursor) {
+        int byDate = tx.getDate().compareTo(cursor.date());
+        return byDate < 0 || (byDate == 0 && tx.getId().value().compareTo(cursor.id().value()) < 0);
+    }
+
+    @Override
+    public List<TransactionTotal> totals(AccountId accountId) {
+        Map<String, TransactionTotal> totals = new LinkedHashMap<>();
+        store.values().stream()
+                .filter(tx -> accountId == null || tx.getAccountId().equals(accountId))
+                .forEach(tx -> totals.merge(tx.getType() + "/" + tx.getAmount().currency(),
+                        new TransactionTotal(tx.getType(), tx.getAmount()),
+                        (a, b) -> new TransactionTotal(a.type(), a.total().add(b.total()))));
+        return List.copyOf(totals.values());
+    }
+
     @Override
     public List<Transaction> findByDateBetween(LocalDate start, LocalDate end) {
         return store.values().stream()
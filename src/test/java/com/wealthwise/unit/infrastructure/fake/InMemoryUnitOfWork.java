@@ -0,0 +1,53 @@
+package com.wealthwise.unit.infrastructure.fake;
+
+import com.wealthwise.domain.shared.UnitOfWork;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Unité de travail pour les tests : exécute directement, sans rollback
+ * (les repositories en mémoire ne sont pas transactionnels).
+ *
+ * Compte les unités exécutées et sait si l'on est dans l'une d'elles :
+ * un test peut vérifier que des écritures ont été faites ensemble.
+ * Retient aussi le plus grand nombre d'unités ouvertes en même temps, tous
+ * threads confondus : un test peut vérifier que des écritures ne se croisent pas.
+ */
+public class InMemoryUnitOfWork implements UnitOfWork {
+
+    private final AtomicInteger executions = new AtomicInteger();
+    private final AtomicInteger running = new AtomicInteger();
+    private final AtomicInteger maxRunning = new AtomicInteger();
+    private final ThreadLocal<Boolean> active = ThreadLocal.withInitial(() -> false);
+
+    @Override
+    public <T> T execute(Supplier<T> work) {
+        executions.incrementAndGet();
+        boolean outer = !active.get();
+        active.set(true);
+        if (outer) {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+        }
+        try {
+            return work.get();
+        } finally {
+            if (outer) {
+                running.decrementAndGet();
+                active.set(false);
+            }
+        }
+    }
+
+    public boolean isActive() {
+        return active.get();
+    }
+
+    public int executions() {
+        return executions.get();
+    }
+
+    public int maxConcurrentExecutions() {
+        return maxRunning.get();
+    }
+}
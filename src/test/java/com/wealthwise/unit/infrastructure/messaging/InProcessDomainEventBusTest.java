@@ -0,0 +1,100 @@
+package com.wealthwise.unit.infrastructure.messaging;
+
+import com.wealthwise.domain.account.event.AccountCreated;
+import com.wealthwise.domain.account.event.DomainEvent;
+import com.wealthwise.domain.account.model.Account;
+import com.wealthwise.domain.account.model.AccountType;
+import com.wealthwise.domain.shared.Currency;
+import com.wealthwise.domain.shared.DomainEventListener;
+import com.wealthwise.infrastructure.messaging.InProcessDomainEventBus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Bus d'événements en mémoire")
+class InProcessDomainEventBusTest {
+
+    @Test
+    @DisplayName("doit livrer les événements, dans l'ordre, au bon type d'abonné, avant de rendre la main")
+    void shouldDeliverMatchingEventsInOrder() {
+        RecordingListener<AccountCreated> listener = new RecordingListener<>(AccountCreated.class);
+        InProcessDomainEventBus bus = new InProcessDomainEventBus(List.of(listener));
+        bus.start();
+
+        List<AccountCreated> events = List.of(accountCreated("A"), accountCreated("B"), accountCreated("C"));
+        bus.dispatch(events);
+
+        assertThat(listener.received).containsExactlyElementsOf(events);
+        assertThat(listener.threads).containsOnly(Thread.currentThread().getName());
+    }
+
+    @Test
+    @DisplayName("doit relancer l'échec d'un abonné sans livrer les suivants")
+    void shouldPropagateListenerFailure() {
+        DomainEventListener<AccountCreated> failing = new DomainEventListener<>() {
+            @Override
+            public Class<AccountCreated> eventType() {
+                return AccountCreated.class;
+            }
+
+            @Override
+            public void onEvents(List<AccountCreated> events) {
+                throw new IllegalStateException("boom");
+            }
+        };
+        RecordingListener<AccountCreated> next = new RecordingListener<>(AccountCreated.class);
+        InProcessDomainEventBus bus = new InProcessDomainEventBus(List.of(failing, next));
+        bus.start();
+
+        assertThatThrownBy(() -> bus.dispatch(List.of(accountCreated("A"))))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("boom");
+        assertThat(next.received).isEmpty();
+    }
+
+    @Test
+    @DisplayName("doit refuser de livrer tant que le bus n'est pas démarré, ou une fois arrêté")
+    void shouldRejectDispatchWhenNotRunning() {
+        InProcessDomainEventBus bus = new InProcessDomainEventBus(List.of());
+
+        assertThatThrownBy(() -> bus.dispatch(List.of(accountCreated("A"))))
+                .isInstanceOf(IllegalStateException.class);
+
+        bus.start();
+        bus.stop();
+
+        assertThatThrownBy(() -> bus.dispatch(List.of(accountCreated("A"))))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private static AccountCreated accountCreated(String name) {
+        Account account = Account.create(name, AccountType.CHECKING, Currency.EUR);
+        return (AccountCreated) account.getDomainEvents().get(0);
+    }
+
+    private static final class RecordingListener<E extends DomainEvent> implements DomainEventListener<E> {
+        private final Class<E> type;
+        final List<E> received = new ArrayList<>();
+        final List<String> threads = new ArrayList<>();
+
+        RecordingListener(Class<E> type) {
+            this.type = type;
+        }
+
+        @Override
+        public Class<E> eventType() {
+            return type;
+        }
+
+        @Override
+        public void onEvents(List<E> events) {
+            received.addAll(events);
+            threads.add(Thread.currentThread().getName());
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.wealthwise.unit.infrastructure.parser;
+
+import com.wealthwise.application.usecase.StatementLine;
+import com.wealthwise.domain.account.model.AccountId;
+import com.wealthwise.domain.shared.Currency;
+import com.wealthwise.domain.transaction.model.TransactionType;
+import com.wealthwise.infrastructure.parser.CsvBankStatementParser;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Parseur CSV de relevés")
+class CsvBankStatementParserTest {
+
+    private static final AccountId ACCOUNT = AccountId.generate();
+
+    private final CsvBankStatementParser parser = new CsvBankStatementParser();
+
+    @Test
+    @DisplayName("doit trouver les colonnes par leur nom dans l'en-tête")
+    void shouldUseHeaderColumns() {
+        List<StatementLine> lines = parse("""
+                Montant;Date opération;Libellé
+                -12,90;05/01/2026;Cinéma
+                """);
+
+        assertThat(lines).hasSize(1);
+        StatementLine line = lines.get(0);
+        assertThat(line.isRejected()).isFalse();
+        assertThat(line.rowNumber()).isEqualTo(2);
+        assertThat(line.command().amount()).isEqualTo(12.90);
+        assertThat(line.command().type()).isEqualTo(TransactionType.EXPENSE);
+        assertThat(line.command().date()).isEqualTo(LocalDate.of(2026, 1, 5));
+        assertThat(line.command().description()).isEqualTo("Cinéma");
+    }
+
+    @Test
+    @DisplayName("doit accepter un fichier sans en-tête séparé par des virgules")
+    void shouldParseCommaSeparatedWithoutHeader() {
+        List<StatementLine> lines = parse("""
+                2026-01-01,"Salaire, janvier",2500.00
+                2026-01-02,Courses,-1 234.56
+                """);
+
+        assertThat(lines).extracting(l -> l.command().description())
+                .containsExactly("Salaire, janvier", "Courses");
+        assertThat(lines.get(0).command().type()).isEqualTo(TransactionType.INCOME);
+        assertThat(lines.get(1).command().amount()).isEqualTo(1234.56);
+    }
+
+    @Test
+    @DisplayName("doit signaler une ligne illisible sans arrêter la lecture")
+    void shouldRejectUnreadableLine() {
+        List<StatementLine> lines = parse("""
+                2026-01-01;Salaire;abc
+
+                2026-01-02;Courses
+                2026-01-03;Café;-2,50
+                """);
+
+        assertThat(lines).hasSize(3);
+        assertThat(lines).extracting(StatementLine::isRejected).containsExactly(true, true, false);
+        assertThat(lines).extracting(StatementLine::rowNumber).containsExactly(1L, 3L, 4L);
+    }
+
+    private List<StatementLine> parse(String csv) {
+        try (Stream<StatementLine> lines = parser.parse(new StringReader(csv), ACCOUNT, Currency.EUR)) {
+            return lines.toList();
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.wealthwise.unit.infrastructure.parser;
+
+import com.wealthwise.application.usecase.StatementLine;
+import com.wealthwise.domain.account.model.AccountId;
+import com.wealthwise.domain.shared.Currency;
+import com.wealthwise.domain.transaction.model.TransactionType;
+import com.wealthwise.infrastructure.parser.OfxBankStatementParser;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Parseur OFX de relevés")
+class OfxBankStatementParserTest {
+
+    private static final AccountId ACCOUNT = AccountId.generate();
+
+    private final OfxBankStatementParser parser = new OfxBankStatementParser();
+
+    @Test
+    @DisplayName("doit lire un relevé OFX 1.x (balises feuilles non fermées)")
+    void shouldParseSgmlStatement() {
+        List<StatementLine> lines = parse("""
+                OFXHEADER:100
+                DATA:OFXSGML
+
+                <OFX>
+                <BANKMSGSRSV1><STMTTRNRS><STMTRS>
+                <CURDEF>EUR
+                <BANKTRANLIST>
+                <STMTTRN>
+                <TRNTYPE>DEBIT
+                <DTPOSTED>20260105120000[+1:CET]
+                <TRNAMT>-800,00
+                <NAME>Loyer
+                </STMTTRN>
+                <STMTTRN>
+                <TRNTYPE>CREDIT
+                <DTPOSTED>20260101
+                <TRNAMT>2500.00
+                <MEMO>Salaire &amp; prime
+                </STMTTRN>
+                </BANKTRANLIST>
+                </STMTRS></STMTTRNRS></BANKMSGSRSV1>
+                </OFX>
+                """);
+
+        assertThat(lines).hasSize(2);
+        assertThat(lines.get(0).command().type()).isEqualTo(TransactionType.EXPENSE);
+        assertThat(lines.get(0).command().amount()).isEqualTo(800.0);
+        assertThat(lines.get(0).command().date()).isEqualTo(LocalDate.of(2026, 1, 5));
+        assertThat(lines.get(0).command().description()).isEqualTo("Loyer");
+        // Sans NAME, le libellé vient de MEMO
+        assertThat(lines.get(1).command().description()).isEqualTo("Salaire & prime");
+        assertThat(lines.get(1).command().type()).isEqualTo(TransactionType.INCOME);
+    }
+
+    @Test
+    @DisplayName("doit lire un relevé OFX 2.x (XML)")
+    void shouldParseXmlStatement() {
+        List<StatementLine> lines = parse("""
+                <?xml version="1.0" encoding="UTF-8"?>
+                <?OFX OFXHEADER="200" VERSION="220"?>
+                <OFX><BANKTRANLIST>
+                  <STMTTRN><DTPOSTED>20260110</DTPOSTED><TRNAMT>-15.99</TRNAMT><NAME>Streaming</NAME></STMTTRN>
+                </BANKTRANLIST></OFX>
+                """);
+
+        assertThat(lines).hasSize(1);
+        assertThat(lines.get(0).command().description()).isEqualTo("Streaming");
+        assertThat(lines.get(0).command().amount()).isEqualTo(15.99);
+    }
+
+    @Test
+    @DisplayName("doit rejeter une opération incomplète et continuer")
+    void shouldRejectIncompleteTransaction() {
+        List<StatementLine> lines = parse("""
+                <OFX><BANKTRANLIST>
+                <STMTTRN><NAME>Sans montant<DTPOSTED>20260101</STMTTRN>
+                <STMTTRN><DTPOSTED>20260102<TRNAMT>10<NAME>Ok</STMTTRN>
+                </BANKTRANLIST></OFX>
+                """);
+
+        assertThat(lines).extracting(StatementLine::isRejected).containsExactly(true, false);
+        assertThat(lines).extracting(StatementLine::rowNumber).containsExactly(1L, 2L);
+    }
+
+    private List<StatementLine> parse(String ofx) {
+        try (Stream<StatementLine> lines = parser.parse(new StringReader(ofx), ACCOUNT, Currency.EUR)) {
+            return lines.toList();
+        }
+    }
+}
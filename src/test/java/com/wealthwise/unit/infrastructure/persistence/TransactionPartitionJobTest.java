@@ -0,0 +1,83 @@
+package com.wealthwise.unit.infrastructure.persistence;
+
+import com.wealthwise.infrastructure.persistence.partition.TransactionPartitionJob;
+import com.wealthwise.infrastructure.persistence.partition.TransactionPartitionManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TransactionPartitionJob - Partitions mensuelles des transactions")
+class TransactionPartitionJobTest {
+
+    private static final Clock MARCH_2026 = Clock.fixed(Instant.parse("2026-03-15T03:00:00Z"), ZoneOffset.UTC);
+
+    private final RecordingPartitionManager manager = new RecordingPartitionManager();
+
+    @Test
+    @DisplayName("doit créer les partitions du mois courant et des mois suivants")
+    void shouldCreateUpcomingPartitions() {
+        new TransactionPartitionJob(manager, true, 3, 0, MARCH_2026).maintain();
+
+        assertThat(manager.created).containsExactly(YearMonth.of(2026, 3), YearMonth.of(2026, 6));
+        assertThat(manager.archivedBefore).isEmpty();
+    }
+
+    @Test
+    @DisplayName("doit archiver les partitions plus anciennes que la durée de rétention")
+    void shouldArchiveOldPartitions() {
+        new TransactionPartitionJob(manager, true, 3, 2, MARCH_2026).maintain();
+
+        assertThat(manager.archivedBefore).containsExactly(YearMonth.of(2024, 3));
+    }
+
+    @Test
+    @DisplayName("ne doit rien faire quand le partitionnement est désactivé")
+    void shouldDoNothingWhenDisabled() {
+        new TransactionPartitionJob(manager, false, 3, 2, MARCH_2026).maintain();
+
+        assertThat(manager.created).isEmpty();
+        assertThat(manager.archivedBefore).isEmpty();
+    }
+
+    @Test
+    @DisplayName("doit nommer les partitions par année et par mois")
+    void shouldNamePartitionsByYearAndMonth() {
+        assertThat(TransactionPartitionManager.partitionName(YearMonth.of(2026, 3))).isEqualTo("transactions_y2026m03");
+        assertThat(TransactionPartitionManager.monthOf("transactions_y2026m03")).contains(YearMonth.of(2026, 3));
+        assertThat(TransactionPartitionManager.monthOf("transactions_default")).isEmpty();
+    }
+
+    /**
+     * Enregistre les bornes demandées au lieu d'exécuter le SQL.
+     */
+    private static class RecordingPartitionManager extends TransactionPartitionManager {
+
+        private final List<YearMonth> created = new ArrayList<>();
+        private final List<YearMonth> archivedBefore = new ArrayList<>();
+
+        RecordingPartitionManager() {
+            super(null, null, "transactions_archive", "");
+        }
+
+        @Override
+        public List<YearMonth> createPartitions(YearMonth from, YearMonth to) {
+            created.add(from);
+            created.add(to);
+            return List.of();
+        }
+
+        @Override
+        public List<String> archivePartitionsBefore(YearMonth cutoff) {
+            archivedBefore.add(cutoff);
+            return List.of();
+        }
+    }
+}
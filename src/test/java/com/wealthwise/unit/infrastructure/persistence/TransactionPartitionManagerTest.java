@@ -0,0 +1,39 @@
+package com.wealthwise.unit.infrastructure.persistence;
+
+import com.wealthwise.infrastructure.persistence.partition.TransactionPartitionManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.YearMonth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Le SQL des partitions est testé sur PostgreSQL (TransactionPartitionManagerIntegrationTest) ;
+ * ici, ce qui ne demande pas de base.
+ */
+@DisplayName("TransactionPartitionManager - Noms et configuration")
+class TransactionPartitionManagerTest {
+
+    @Test
+    @DisplayName("doit nommer la partition d'un mois et retrouver le mois d'après le nom")
+    void shouldRoundTripPartitionName() {
+        String name = TransactionPartitionManager.partitionName(YearMonth.of(2026, 3));
+
+        assertThat(name).isEqualTo("transactions_y2026m03");
+        assertThat(TransactionPartitionManager.monthOf(name)).contains(YearMonth.of(2026, 3));
+        assertThat(TransactionPartitionManager.monthOf("transactions_default")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("doit refuser au démarrage un schéma ou un tablespace d'archive qui n'est pas un identifiant simple")
+    void shouldRejectInvalidArchiveNames() {
+        assertThatThrownBy(() -> new TransactionPartitionManager(null, null, "archive; DROP TABLE transactions", ""))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("schema");
+        assertThatThrownBy(() -> new TransactionPartitionManager(null, null, "transactions_archive", "cold storage"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("tablespace");
+    }
+}